@@ -0,0 +1,148 @@
+package com.cloudsim.cloudsim.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudbus.cloudsim.core.FutureQueue;
+import org.cloudbus.cloudsim.core.SimEvent;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cloudsim.cloudsim.engine.SimulationListener;
+import com.cloudsim.cloudsim.engine.SimulationPolicy;
+import com.cloudsim.cloudsim.model.EventQueueType;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+import com.cloudsim.cloudsim.policy.HeapFutureQueue;
+
+/**
+ * The kernel's future event queues against each other. {@code hold} is the classic
+ * hold model on the queue alone: take the first event the way the kernel does and
+ * schedule a new one after it, with a fixed number pending. {@code run} is a full
+ * TimeShared run of a million Poisson cloudlets, about 3M events; its {@code events}
+ * counter is in events per second, and the GC profiler's allocation per operation
+ * divided by that count gives bytes per event.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class EventQueueBenchmark {
+
+    private static final MethodHandle NEW_EVENT;
+
+    static {
+        try {
+            // CloudSim only creates events itself; the constructor is package-private
+            NEW_EVENT = MethodHandles.privateLookupIn(SimEvent.class, MethodHandles.lookup())
+                .findConstructor(SimEvent.class, MethodType.methodType(void.class, int.class, double.class,
+                    int.class, int.class, int.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Hold {
+
+        @Param({"TREE_SET", "HEAP"})
+        public EventQueueType queue;
+
+        @Param({"1000", "100000"})
+        public int pending;
+
+        private final SplittableRandom random = new SplittableRandom(1);
+        private FutureQueue future;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws Throwable {
+            future = queue == EventQueueType.HEAP ? new HeapFutureQueue() : new FutureQueue();
+            for (int i = 0; i < pending; i++) {
+                future.addEvent(event(random.nextDouble() * pending));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Run {
+
+        @Param({"TREE_SET", "HEAP"})
+        public EventQueueType queue;
+
+        private SimulationPolicy policy;
+        private SimulationRequest request;
+
+        @Setup
+        public void setUp() {
+            for (SimulationPolicy candidate : ServiceLoader.load(SimulationPolicy.class)) {
+                if (candidate.getName().equals("TimeShared")) {
+                    policy = candidate;
+                }
+            }
+            WorkloadSpec workload = new WorkloadSpec();
+            workload.setArrivalProcess(WorkloadSpec.ArrivalProcess.POISSON);
+            workload.setArrivalRate(150);
+            workload.setLengthDistribution(WorkloadSpec.LengthDistribution.EXPONENTIAL);
+
+            request = new SimulationRequest();
+            request.setNumberOfUsers(1);
+            request.setNumberOfVms(200);
+            request.setNumberOfCloudlets(1_000_000);
+            request.setVmRam(512);
+            request.setSlaThreshold(5);
+            request.setStrategies(List.of("TimeShared"));
+            request.setWorkload(workload);
+            request.setEventQueue(queue);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Events {
+        public long events;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public double hold(Hold state) throws Throwable {
+        FutureQueue future = state.future;
+        SimEvent first = future.iterator().next();
+        future.remove(first);
+        double now = first.eventTime();
+        future.addEvent(event(now - Math.log(1 - state.random.nextDouble()) * state.pending));
+        return now;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1, time = 10)
+    @Measurement(iterations = 3, time = 10)
+    public SimulationResult run(Run state, Events counters) throws Exception {
+        return state.policy.run(state.request, new SimulationListener() {
+            @Override
+            public void simulationCompleted(String strategy, long eventsProcessed, long cloudletsCompleted) {
+                counters.events += eventsProcessed;
+            }
+        });
+    }
+
+    private static SimEvent event(double time) throws Throwable {
+        return (SimEvent) NEW_EVENT.invokeExact(SimEvent.SEND, time, 0, 0, 0, (Object) null);
+    }
+}
@@ -0,0 +1,130 @@
+package com.cloudsim.cloudsim.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudbus.cloudsim.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.Host;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Pe;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.VmAllocationPolicy;
+import org.cloudbus.cloudsim.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.provisioners.BwProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.RamProvisionerSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cloudsim.cloudsim.policy.placement.BestFitVmAllocationPolicy;
+
+/**
+ * Placement throughput of a {@link VmAllocationPolicy} on its own, outside any
+ * simulation: 100k mixed VMs onto 10k heterogeneous hosts, then the same number of
+ * releases and re-placements on the full datacenter. Scores are per placement.
+ * The hosts and VMs are rebuilt before every invocation, so each one starts empty.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PlacementBenchmark {
+
+    private static final int HOSTS = 10_000;
+    private static final int VMS = 100_000;
+
+    static {
+        Log.setDisabled(true);
+    }
+
+    // CloudSim's VmAllocationPolicySimple is the baseline (-p allocation=Simple); it scans every
+    // host per placement and needs minutes per invocation at this size, so it is not run by default
+    @Param({"BestFit"})
+    public String allocation;
+
+    private VmAllocationPolicy policy;
+    private List<Vm> vms;
+    private List<Vm> churn;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Host> hosts = new ArrayList<>(HOSTS);
+        for (int id = 0; id < HOSTS; id++) {
+            // 8 to 64 PEs of 1000 to 3000 MIPS, 4 GB of RAM per PE
+            int pes = 8 << random.nextInt(4);
+            List<Pe> peList = new ArrayList<>(pes);
+            double peMips = 1000 + 500 * random.nextInt(5);
+            for (int pe = 0; pe < pes; pe++) {
+                peList.add(new Pe(pe, new PeProvisionerSimple(peMips)));
+            }
+            hosts.add(new Host(id, new RamProvisionerSimple(pes * 4096), new BwProvisionerSimple(pes * 10000L),
+                pes * 1000000L, peList, new VmSchedulerTimeShared(peList)));
+        }
+        policy = allocation.equals("BestFit")
+            ? new BestFitVmAllocationPolicy(hosts)
+            : new VmAllocationPolicySimple(hosts);
+
+        vms = new ArrayList<>(VMS);
+        for (int id = 0; id < VMS; id++) {
+            vms.add(vm(id, random));
+        }
+        churn = new ArrayList<>(VMS);
+        for (int id = VMS; id < 2 * VMS; id++) {
+            churn.add(vm(id, random));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VMS)
+    public int place() {
+        return placeAll(vms);
+    }
+
+    /** Fills the datacenter, then releases a VM before placing each new one. */
+    @Benchmark
+    @OperationsPerInvocation(2 * VMS)
+    public int placeAndRelease() {
+        int placed = placeAll(vms);
+        for (int i = 0; i < VMS; i++) {
+            policy.deallocateHostForVm(vms.get(i));
+            if (policy.allocateHostForVm(churn.get(i))) {
+                placed++;
+            }
+        }
+        return placed;
+    }
+
+    private int placeAll(List<Vm> list) {
+        int placed = 0;
+        for (Vm vm : list) {
+            if (policy.allocateHostForVm(vm)) {
+                placed++;
+            }
+        }
+        return placed;
+    }
+
+    // 1 to 8 PEs of 500 to 2000 MIPS with 1 to 8 GB of RAM
+    private static Vm vm(int id, SplittableRandom random) {
+        int pes = 1 << random.nextInt(4);
+        return new Vm(id, 0, 500 * (1 + random.nextInt(4)), pes, 1024 * pes * (1 + random.nextInt(2)), 1000, 10000,
+            "Xen", new CloudletSchedulerTimeShared());
+    }
+}
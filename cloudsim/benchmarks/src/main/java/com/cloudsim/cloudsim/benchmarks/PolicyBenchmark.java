@@ -0,0 +1,73 @@
+package com.cloudsim.cloudsim.benchmarks;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cloudsim.cloudsim.engine.SimulationPolicy;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+/**
+ * A full {@link SimulationPolicy#run} per invocation, across scaled VM and cloudlet
+ * counts. Policies run directly on the benchmark's class loader; the kernel
+ * isolation only matters when runs share a JVM, and each JMH fork runs one at a
+ * time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyBenchmark {
+
+    @Param({"BestFit", "RoundRobin", "TimeShared"})
+    public String strategy;
+
+    @Param({"4", "32", "256"})
+    public int vms;
+
+    @Param({"1000", "10000"})
+    public int cloudlets;
+
+    private SimulationPolicy policy;
+    private SimulationRequest request;
+
+    @Setup
+    public void setUp() {
+        for (SimulationPolicy candidate : ServiceLoader.load(SimulationPolicy.class)) {
+            if (candidate.getName().equals(strategy)) {
+                policy = candidate;
+            }
+        }
+        if (policy == null) {
+            throw new IllegalStateException("No policy named " + strategy);
+        }
+
+        request = new SimulationRequest();
+        request.setNumberOfUsers(1);
+        request.setNumberOfVms(vms);
+        request.setNumberOfCloudlets(cloudlets);
+        request.setVmRam(512);
+        request.setSlaThreshold(10);
+        request.setStrategies(List.of(strategy));
+    }
+
+    @Benchmark
+    public SimulationResult run() throws Exception {
+        return policy.run(request);
+    }
+}
@@ -0,0 +1,88 @@
+package com.cloudsim.cloudsim.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import com.cloudsim.cloudsim.model.ResultQuery;
+import com.cloudsim.cloudsim.model.ResultQueryResponse;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.service.ResultStore;
+
+/**
+ * Historical queries on a result store holding {@code records} results spread over
+ * three strategies and a range of VM counts and RAM sizes: "TimeShared runs with 8
+ * to 64 VMs in the last week, grouped by vmRam", which has to scan every record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultStoreBenchmark {
+
+    private static final List<String> STRATEGIES = List.of("TimeShared", "RoundRobin", "BestFit");
+
+    @Param({"1000000", "5000000"})
+    public int records;
+
+    private Path dir;
+    private ResultStore store;
+    private ResultQuery query;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("result-store-benchmark");
+        store = new ResultStore(true, dir.toString(), 1_000_000, Long.MAX_VALUE);
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < records; i += STRATEGIES.size()) {
+            SimulationRequest request = new SimulationRequest();
+            request.setNumberOfUsers(1);
+            request.setNumberOfVms(1 + random.nextInt(128));
+            request.setNumberOfCloudlets(1000);
+            request.setVmRam(512 << random.nextInt(4));
+            request.setSlaThreshold(10);
+            store.append(request, STRATEGIES.stream().map(strategy -> {
+                SimulationResult result = new SimulationResult(strategy, 1, random.nextDouble(), 1, 0);
+                result.setMakespan(random.nextDouble() * 1000);
+                return result;
+            }).toList());
+        }
+
+        query = new ResultQuery();
+        query.setStrategy("TimeShared");
+        query.setNumberOfVms(new ResultQuery.Range(8.0, 64.0));
+        query.setWithinMs(TimeUnit.DAYS.toMillis(7));
+        query.setGroupBy(ResultQuery.GroupBy.VM_RAM);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        FileSystemUtils.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    public ResultQueryResponse query() {
+        return store.query(query);
+    }
+}
@@ -0,0 +1,76 @@
+package com.cloudsim.cloudsim.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writing a {@code List<SimulationResult>} to JSON the way the REST layer does,
+ * with an {@link ObjectMapper} configured like Spring MVC's default one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"3", "1000", "100000"})
+    public int results;
+
+    @Param({"4", "256"})
+    public int vms;
+
+    private ObjectMapper objectMapper;
+    private List<SimulationResult> resultList;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        SplittableRandom random = new SplittableRandom(1);
+        resultList = new ArrayList<>(results);
+        for (int i = 0; i < results; i++) {
+            SimulationResult result = new SimulationResult("Strategy" + i % 3, random.nextDouble(1000),
+                random.nextDouble(10000), random.nextDouble(1000), random.nextDouble());
+            result.setMakespan(result.getExecutionTime());
+            result.setTotalCloudletsProcessed(random.nextInt(1_000_000));
+            result.setAverageExecutionTime(random.nextDouble(10));
+            result.setMeanResponseTime(random.nextDouble(10));
+            result.setP50ResponseTime(random.nextDouble(10));
+            result.setP95ResponseTime(random.nextDouble(50));
+            result.setP99ResponseTime(random.nextDouble(100));
+            result.setMeanWaitTime(random.nextDouble(5));
+            result.setSlaViolationRate(random.nextDouble());
+            double[] utilization = new double[vms];
+            for (int vm = 0; vm < vms; vm++) {
+                utilization[vm] = random.nextDouble();
+            }
+            result.setVmUtilization(utilization);
+            resultList.add(result);
+        }
+    }
+
+    @Benchmark
+    public byte[] writeResults() throws Exception {
+        return objectMapper.writeValueAsBytes(resultList);
+    }
+}
@@ -0,0 +1,68 @@
+package com.cloudsim.cloudsim.benchmarks;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudbus.cloudsim.Datacenter;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cloudsim.cloudsim.policy.topology.DatacenterTemplate;
+import com.cloudsim.cloudsim.policy.topology.VmTemplate;
+
+/**
+ * The per-run setup every policy pays before the first event: {@code CloudSim.init}
+ * on its own, and together with building the datacenter and VMs for a request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetupBenchmark {
+
+    private static final VmTemplate VM = new VmTemplate(1000, 1, 1000, 10000, "Xen");
+
+    static {
+        Log.setDisabled(true);
+    }
+
+    @State(Scope.Thread)
+    public static class Topology {
+        @Param({"8", "64", "512"})
+        public int vms;
+    }
+
+    @Benchmark
+    public Calendar cloudSimInit() {
+        Calendar calendar = Calendar.getInstance();
+        CloudSim.init(1, calendar, false);
+        return calendar;
+    }
+
+    @Benchmark
+    public Datacenter createDatacenter(Topology topology) throws Exception {
+        CloudSim.init(1, Calendar.getInstance(), false);
+        return DatacenterTemplate.DEFAULT.build("Datacenter_0", topology.vms, VM, 512);
+    }
+
+    @Benchmark
+    public List<Vm> createDatacenterAndVms(Topology topology) throws Exception {
+        CloudSim.init(1, Calendar.getInstance(), false);
+        List<Vm> vmList = VM.create(topology.vms, 0, 512);
+        DatacenterTemplate.DEFAULT.build("Datacenter_0", topology.vms, VM, 512);
+        return vmList;
+    }
+}
@@ -2,8 +2,10 @@ package com.cloudsim.cloudsim;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CloudsimApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,153 @@
+package com.cloudsim.cloudsim.config;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+/**
+ * Writes a collection of objects as one JSON object with an array per property,
+ * {@code {"strategy": ["A", "B"], "cost": [1.0, 2.0], ...}}, instead of an array of
+ * objects that repeats every property name in every element. Collections of objects
+ * nested in a property (the tenants of a multi-tenant result) are laid out the same
+ * way, one columnar object per row; anything else is written as Jackson would.
+ * Properties are the ones Jackson would serialize, in its order.
+ *
+ * <p>Values go straight from the objects to the output through a streaming
+ * generator; nothing is built in between. Only collections are written, and only
+ * to clients that name this media type: it is never picked for {@code *}{@code /*}.
+ */
+public class ColumnarJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType("application/vnd.cloudsim.columnar+json");
+
+    private final ObjectMapper objectMapper;
+    private final Map<JavaType, List<Column>> columns = new ConcurrentHashMap<>();
+
+    public ColumnarJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(COLUMNAR_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    // Not offered when the client has not asked for a type, so that it cannot become anyone's default
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return mediaType != null && mediaType.isConcrete() && COLUMNAR_JSON.isCompatibleWith(mediaType)
+            && isRows(objectMapper.constructType(type != null ? type : clazz));
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar JSON is only written", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar JSON is only written", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object rows, Type type, HttpOutputMessage outputMessage) throws IOException {
+        JavaType rowsType = objectMapper.constructType(type != null ? type : rows.getClass());
+        try (JsonGenerator generator = objectMapper.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()),
+                JsonEncoding.UTF8)) {
+            writeRows(generator, (Collection<?>) rows, rowsType.getContentType());
+        }
+    }
+
+    private void writeRows(JsonGenerator generator, Collection<?> rows, JavaType rowType) throws IOException {
+        generator.writeStartObject();
+        for (Column column : columns.computeIfAbsent(rowType, this::columnsOf)) {
+            generator.writeFieldName(column.name);
+            generator.writeStartArray();
+            for (Object row : rows) {
+                Object value = row != null ? column.accessor.getValue(row) : null;
+                if (column.rowType != null && value != null) {
+                    writeRows(generator, (Collection<?>) value, column.rowType);
+                } else {
+                    writeValue(generator, value);
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    // The common cells directly; anything else through its Jackson serializer
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value instanceof Double number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Integer number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Long number) {
+            generator.writeNumber(number);
+        } else if (value instanceof String text) {
+            generator.writeString(text);
+        } else if (value instanceof Boolean bool) {
+            generator.writeBoolean(bool);
+        } else if (value instanceof double[] numbers) {
+            generator.writeArray(numbers, 0, numbers.length);
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    private List<Column> columnsOf(JavaType rowType) {
+        List<Column> result = new ArrayList<>();
+        for (BeanPropertyDefinition property : objectMapper.getSerializationConfig().introspect(rowType)
+                .findProperties()) {
+            AnnotatedMember accessor = property.getAccessor();
+            if (accessor == null) {
+                continue;
+            }
+            JavaType type = property.getPrimaryType();
+            result.add(new Column(property.getName(), accessor, isRows(type) ? type.getContentType() : null));
+        }
+        return result;
+    }
+
+    // Collections of objects with properties of their own, not of plain values
+    private static boolean isRows(JavaType type) {
+        if (!type.isCollectionLikeType()) {
+            return false;
+        }
+        JavaType row = type.getContentType();
+        Class<?> raw = row.getRawClass();
+        return !row.isContainerType() && !row.isPrimitive() && !row.isEnumType() && !row.isJavaLangObject()
+            && !raw.isInterface() && !raw.getName().startsWith("java.");
+    }
+
+    private record Column(String name, AnnotatedMember accessor, JavaType rowType) {}
+}
@@ -0,0 +1,64 @@
+package com.cloudsim.cloudsim.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+
+@Configuration
+public class ExecutorConfig {
+
+    // Fans the strategies of one request out in parallel; 0 = as many as there are kernels
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService strategyExecutor(
+            @Value("${simulation.strategies.parallelism:0}") int parallelism,
+            SimulationEngine simulationEngine) {
+        int threads = parallelism > 0 ? parallelism : simulationEngine.getMaxKernels();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("simulation-strategy-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    // Background simulation jobs, sized separately from the web threads; a full queue rejects new jobs
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor jobExecutor(
+            @Value("${simulation.jobs.workers:4}") int workers,
+            @Value("${simulation.jobs.queue-capacity:100}") int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("simulation-job-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Points of parameter sweeps; each sweep keeps at most this many in flight
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService sweepExecutor(@Value("${simulation.sweeps.parallelism:8}") int parallelism) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("simulation-sweep-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    // Candidates of configuration searches; each search keeps at most this many in flight
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService optimizerExecutor(@Value("${simulation.optimizer.parallelism:8}") int parallelism) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("simulation-optimizer-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    // Estimate validation rounds, off the scheduler thread that cache and job cleanup share
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService validationExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("simulation-validation-");
+        threadFactory.setDaemon(true);
+        return Executors.newSingleThreadExecutor(threadFactory);
+    }
+}
@@ -0,0 +1,314 @@
+package com.cloudsim.cloudsim.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import com.github.luben.zstd.util.Native;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Compresses response bodies as they are written, with zstd or gzip, whichever
+ * the client's {@code Accept-Encoding} prefers (zstd on a tie). Nothing is
+ * buffered beyond the compressor's own window, and a flush of the response flushes
+ * the compressor, so streamed responses such as sweeps still arrive point by point.
+ *
+ * <p>Streamed bodies are written after the request's first dispatch has returned,
+ * so the filter also sees the async dispatch that ends them and only then finishes
+ * the compressed stream. Errors sent with {@code sendError} before any body was
+ * written are rendered uncompressed.
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final int zstdLevel;
+    private final boolean zstdAvailable;
+
+    public ResponseCompressionFilter(int zstdLevel) {
+        this.zstdLevel = zstdLevel;
+        this.zstdAvailable = loadZstd();
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CompressingResponse compressing = WebUtils.getNativeResponse(response, CompressingResponse.class);
+        if (compressing == null) {
+            String coding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (coding == null) {
+                chain.doFilter(request, response);
+                return;
+            }
+            compressing = new CompressingResponse(response, coding, zstdLevel);
+            response = compressing;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (!isAsyncStarted(request)) {
+                compressing.finish();
+            }
+        }
+    }
+
+    /** The coding to use for an {@code Accept-Encoding} header, or null for none. */
+    String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        // Qualities as given, -1 where the header does not name the coding
+        double zstd = -1;
+        double gzip = -1;
+        double any = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] parameters = part.split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("zstd")) {
+                zstd = quality;
+            } else if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = quality;
+            } else if (coding.equals("*")) {
+                any = quality;
+            }
+        }
+        zstd = zstd >= 0 ? zstd : Math.max(0, any);
+        gzip = gzip >= 0 ? gzip : Math.max(0, any);
+        if (zstdAvailable && zstd > 0 && zstd >= gzip) {
+            return "zstd";
+        }
+        return gzip > 0 ? "gzip" : null;
+    }
+
+    private static boolean loadZstd() {
+        try {
+            Native.load();
+            return true;
+        } catch (UnsatisfiedLinkError | RuntimeException e) {
+            // No native library for this platform; gzip still works
+            return false;
+        }
+    }
+
+    /**
+     * Hands out a compressing stream in place of the real one and keeps the
+     * uncompressed length from being declared. The body is only committed to
+     * compression once it is first asked for, so an error sent before then goes out
+     * as it is.
+     */
+    private static final class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final String coding;
+        private final int zstdLevel;
+        private boolean passThrough;
+        private CompressingOutputStream stream;
+        private PrintWriter writer;
+
+        CompressingResponse(HttpServletResponse response, String coding, int zstdLevel) {
+            super(response);
+            this.coding = coding;
+            this.zstdLevel = zstdLevel;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (passThrough) {
+                return super.getOutputStream();
+            }
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+            return compressingStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (passThrough) {
+                return super.getWriter();
+            }
+            if (writer == null) {
+                if (stream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                Charset charset = Charset.forName(getCharacterEncoding());
+                writer = new PrintWriter(new OutputStreamWriter(compressingStream(), charset));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            if (passThrough) {
+                super.setContentLength(length);
+            }
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            if (passThrough) {
+                super.setContentLengthLong(length);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (passThrough || !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (passThrough || !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            if (passThrough || !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            if (passThrough || !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            passThroughErrors();
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            passThroughErrors();
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            } else if (stream != null) {
+                stream.flush();
+            }
+            super.flushBuffer();
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.close();
+            } else if (stream != null) {
+                stream.close();
+            }
+        }
+
+        private void passThroughErrors() {
+            if (stream == null) {
+                passThrough = true;
+            }
+        }
+
+        private CompressingOutputStream compressingStream() throws IOException {
+            if (stream == null) {
+                super.setHeader(HttpHeaders.CONTENT_ENCODING, coding);
+                OutputStream body = StreamUtils.nonClosing(super.getOutputStream());
+                OutputStream compressor = coding.equals("zstd")
+                    ? new ZstdOutputStream(body, zstdLevel)
+                    : new GZIPOutputStream(body, BUFFER_SIZE, true);
+                stream = new CompressingOutputStream(super.getOutputStream(), compressor);
+            }
+            return stream;
+        }
+    }
+
+    private static final class CompressingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream target;
+        private final OutputStream compressor;
+        private boolean closed;
+
+        CompressingOutputStream(ServletOutputStream target, OutputStream compressor) {
+            this.target = target;
+            this.compressor = compressor;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            compressor.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            compressor.write(b, off, len);
+        }
+
+        // Pushes out everything written so far as a complete block, then the response itself
+        @Override
+        public void flush() throws IOException {
+            if (!closed) {
+                compressor.flush();
+                target.flush();
+            }
+        }
+
+        // Ends the compressed stream; the response itself is left for the container to close
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                compressor.close();
+                target.flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            target.setWriteListener(listener);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.cloudsim.cloudsim.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Encodings a client can ask for besides plain JSON: CBOR with
+ * {@code Accept: application/cbor} (Spring MVC's own converter, present once
+ * Jackson's CBOR module is), columnar JSON with
+ * {@code Accept: application/vnd.cloudsim.columnar+json}, and zstd or gzip
+ * compression of any of them through {@code Accept-Encoding}.
+ */
+@Configuration
+public class ResponseEncodingConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Ahead of Jackson's JSON converter, which would otherwise write plain JSON for any application/*+json
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        int jackson = 0;
+        while (jackson < converters.size()
+                && !(converters.get(jackson) instanceof MappingJackson2HttpMessageConverter)) {
+            jackson++;
+        }
+        converters.add(jackson, new ColumnarJsonHttpMessageConverter(objectMapper));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilter(
+            @Value("${simulation.responses.compression.enabled:true}") boolean enabled,
+            @Value("${simulation.responses.compression.zstd-level:3}") int zstdLevel) {
+        FilterRegistrationBean<ResponseCompressionFilter> registration =
+            new FilterRegistrationBean<>(new ResponseCompressionFilter(zstdLevel));
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
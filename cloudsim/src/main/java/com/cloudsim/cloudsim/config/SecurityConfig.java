@@ -29,6 +29,7 @@ public class SecurityConfig {
         config.setAllowedOrigins(Arrays.asList("http://localhost:5173"));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(Arrays.asList("*"));
+        config.setExposedHeaders(Arrays.asList("X-Sweep-Id", "X-Sweep-Points", "Retry-After"));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
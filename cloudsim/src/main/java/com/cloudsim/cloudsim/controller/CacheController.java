@@ -0,0 +1,39 @@
+package com.cloudsim.cloudsim.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cloudsim.cloudsim.model.CacheStats;
+import com.cloudsim.cloudsim.service.ResultCache;
+import com.cloudsim.cloudsim.service.SimulationService;
+
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin(origins = "http://localhost:5173")
+public class CacheController {
+
+    @Autowired
+    private ResultCache resultCache;
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @GetMapping("/stats")
+    public CacheStats stats() {
+        CacheStats stats = resultCache.getStats();
+        stats.setCoalesced(simulationService.getInFlight().getCoalescedCount());
+        stats.setInFlight(simulationService.getInFlight().getInFlightCount());
+        return stats;
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        resultCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.cloudsim.cloudsim.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cloudsim.cloudsim.model.EstimateAccuracy;
+import com.cloudsim.cloudsim.service.EstimateValidator;
+
+@RestController
+@RequestMapping("/api/estimates")
+@CrossOrigin(origins = "http://localhost:5173")
+public class EstimateController {
+
+    @Autowired
+    private EstimateValidator estimateValidator;
+
+    @GetMapping("/accuracy")
+    public List<EstimateAccuracy> accuracy() {
+        return estimateValidator.getAccuracy();
+    }
+}
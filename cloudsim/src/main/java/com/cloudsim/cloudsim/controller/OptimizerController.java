@@ -0,0 +1,33 @@
+package com.cloudsim.cloudsim.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cloudsim.cloudsim.model.OptimizationRequest;
+import com.cloudsim.cloudsim.model.OptimizationResult;
+import com.cloudsim.cloudsim.service.OptimizerService;
+
+@RestController
+@RequestMapping("/api/optimize")
+@CrossOrigin(origins = "http://localhost:5173")
+public class OptimizerController {
+
+    @Autowired
+    private OptimizerService optimizerService;
+
+    // The Pareto front of the configurations simulated, and the cheapest one that keeps the SLA
+    @PostMapping
+    public OptimizationResult optimize(@RequestBody OptimizationRequest request) {
+        try {
+            return optimizerService.optimize(request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
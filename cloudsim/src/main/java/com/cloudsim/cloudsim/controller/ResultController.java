@@ -0,0 +1,26 @@
+package com.cloudsim.cloudsim.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cloudsim.cloudsim.model.ResultQuery;
+import com.cloudsim.cloudsim.model.ResultQueryResponse;
+import com.cloudsim.cloudsim.service.ResultStore;
+
+@RestController
+@RequestMapping("/api/results")
+@CrossOrigin(origins = "http://localhost:5173")
+public class ResultController {
+
+    @Autowired
+    private ResultStore resultStore;
+
+    @PostMapping("/query")
+    public ResultQueryResponse query(@RequestBody ResultQuery query) {
+        return resultStore.query(query);
+    }
+}
@@ -3,16 +3,26 @@ package com.cloudsim.cloudsim.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.ErrorResponseException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.cloudsim.cloudsim.model.SimulationRequest;
 import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.service.AdmissionQueue;
+import com.cloudsim.cloudsim.service.AdmissionRejectedException;
+import com.cloudsim.cloudsim.service.AdmissionService;
 import com.cloudsim.cloudsim.service.SimulationService;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 @RestController
 @RequestMapping("/api/simulate")
 @CrossOrigin(origins = "http://localhost:5173") 
@@ -21,8 +31,32 @@ public class SimulationController {
     @Autowired
     private SimulationService simulationService;
 
+    @Autowired
+    private AdmissionService admissionService;
+
+    // Quotas apply per X-Client-Id when the caller sends one, otherwise per remote address
     @PostMapping
-    public List<SimulationResult> simulate(@RequestBody SimulationRequest request) {
-        return simulationService.runSimulations(request);
+    public List<SimulationResult> simulate(@RequestBody SimulationRequest request,
+            @RequestHeader(name = "X-Client-Id", required = false) String clientId, HttpServletRequest http) {
+        try {
+            simulationService.validate(request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        String client = clientId != null && !clientId.isBlank() ? clientId : http.getRemoteAddr();
+        AdmissionQueue.Permit permit = null;
+        try {
+            permit = admissionService.admit(client, request);
+            return simulationService.runSimulations(request);
+        } catch (AdmissionRejectedException e) {
+            ErrorResponseException rejected = new ErrorResponseException(HttpStatus.TOO_MANY_REQUESTS, e);
+            rejected.setDetail(e.getMessage());
+            rejected.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()));
+            throw rejected;
+        } finally {
+            if (permit != null) {
+                permit.close();
+            }
+        }
     }
 }
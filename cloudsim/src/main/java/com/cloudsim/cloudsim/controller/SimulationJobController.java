@@ -0,0 +1,70 @@
+package com.cloudsim.cloudsim.controller;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cloudsim.cloudsim.model.JobState;
+import com.cloudsim.cloudsim.model.JobStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.service.SimulationJob;
+import com.cloudsim.cloudsim.service.SimulationJobService;
+
+@RestController
+@RequestMapping("/api/jobs")
+@CrossOrigin(origins = "http://localhost:5173")
+public class SimulationJobController {
+
+    @Autowired
+    private SimulationJobService simulationJobService;
+
+    @PostMapping
+    public ResponseEntity<JobStatus> submit(@RequestBody SimulationRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(simulationJobService.submit(request));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Simulation job queue is full");
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public JobStatus status(@PathVariable String jobId) {
+        return findJob(jobId).toStatus();
+    }
+
+    // 200 with the results once completed, otherwise the current status (202 while pending, 409 if it never will be)
+    @GetMapping("/{jobId}/results")
+    public ResponseEntity<?> results(@PathVariable String jobId) {
+        SimulationJob job = findJob(jobId);
+        JobState state = job.getState();
+        if (state == JobState.COMPLETED) {
+            return ResponseEntity.ok(job.getResults());
+        }
+        HttpStatus status = state.isFinished() ? HttpStatus.CONFLICT : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(job.toStatus());
+    }
+
+    @DeleteMapping("/{jobId}")
+    public JobStatus cancel(@PathVariable String jobId) {
+        return simulationJobService.cancel(jobId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown job: " + jobId));
+    }
+
+    private SimulationJob findJob(String jobId) {
+        return simulationJobService.find(jobId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown job: " + jobId));
+    }
+}
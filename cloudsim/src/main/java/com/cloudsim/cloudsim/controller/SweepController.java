@@ -0,0 +1,78 @@
+package com.cloudsim.cloudsim.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.cloudsim.cloudsim.model.SweepRequest;
+import com.cloudsim.cloudsim.service.SweepService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+@RestController
+@RequestMapping("/api/sweeps")
+@CrossOrigin(origins = "http://localhost:5173")
+public class SweepController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    // RFC 8742: CBOR items back to back, needing no separator
+    private static final MediaType CBOR_SEQ = MediaType.parseMediaType("application/cbor-seq");
+
+    private final ObjectMapper cborMapper = new CBORMapper();
+
+    @Autowired
+    private SweepService sweepService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Streams one JSON object (or CBOR item, for Accept: application/cbor-seq) per finished point;
+    // closing the connection or DELETE stops the sweep
+    @PostMapping
+    public ResponseEntity<StreamingResponseBody> sweep(@RequestBody SweepRequest request,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        SweepService.Sweep sweep;
+        try {
+            sweep = sweepService.create(request);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        boolean cbor = accept != null && MediaType.parseMediaTypes(accept).stream()
+            .anyMatch(type -> type.equalsTypeAndSubtype(CBOR_SEQ));
+        StreamingResponseBody body = out -> sweepService.stream(sweep, point -> {
+            if (cbor) {
+                out.write(cborMapper.writeValueAsBytes(point));
+            } else {
+                out.write(objectMapper.writeValueAsBytes(point));
+                out.write('\n');
+            }
+            out.flush();
+        });
+        return ResponseEntity.ok()
+            .contentType(cbor ? CBOR_SEQ : NDJSON)
+            .header("X-Sweep-Id", sweep.getId())
+            .header("X-Sweep-Points", String.valueOf(sweep.getSize()))
+            .body(body);
+    }
+
+    @DeleteMapping("/{sweepId}")
+    public ResponseEntity<Void> cancel(@PathVariable String sweepId) {
+        if (!sweepService.cancel(sweepId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown sweep: " + sweepId);
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
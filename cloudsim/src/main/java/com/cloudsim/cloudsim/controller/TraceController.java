@@ -0,0 +1,71 @@
+package com.cloudsim.cloudsim.controller;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cloudsim.cloudsim.model.TraceFormat;
+import com.cloudsim.cloudsim.model.TraceInfo;
+import com.cloudsim.cloudsim.service.TraceStore;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/traces")
+@CrossOrigin(origins = "http://localhost:5173")
+public class TraceController {
+
+    @Autowired
+    private TraceStore traceStore;
+
+    // The trace is the raw request body (not multipart or a form, which would be buffered), e.g.
+    // curl --data-binary @trace.swf -H 'Content-Type: application/octet-stream' '/api/traces?format=swf'
+    @PostMapping(consumes = { MediaType.APPLICATION_OCTET_STREAM_VALUE, MediaType.TEXT_PLAIN_VALUE, "text/csv" })
+    public ResponseEntity<TraceInfo> upload(@RequestParam(defaultValue = "swf") String format,
+            HttpServletRequest request) throws IOException {
+        TraceFormat traceFormat;
+        try {
+            traceFormat = TraceFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown trace format: " + format);
+        }
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(traceStore.store(request.getInputStream(), traceFormat));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping
+    public List<TraceInfo> list() throws IOException {
+        return traceStore.list();
+    }
+
+    @GetMapping("/{traceId}")
+    public TraceInfo get(@PathVariable String traceId) {
+        return traceStore.find(traceId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown trace: " + traceId));
+    }
+
+    @DeleteMapping("/{traceId}")
+    public ResponseEntity<Void> delete(@PathVariable String traceId) throws IOException {
+        if (!traceStore.delete(traceId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown trace: " + traceId);
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.cloudsim.cloudsim.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cloudsim.cloudsim.model.WhatIfRequest;
+import com.cloudsim.cloudsim.model.WhatIfResult;
+import com.cloudsim.cloudsim.service.WhatIfService;
+
+@RestController
+@RequestMapping("/api/whatif")
+@CrossOrigin(origins = "http://localhost:5173")
+public class WhatIfController {
+
+    @Autowired
+    private WhatIfService whatIfService;
+
+    // One result per strategy, each with every branch's result by name
+    @PostMapping
+    public List<WhatIfResult> whatIf(@RequestBody WhatIfRequest request) {
+        try {
+            return whatIfService.run(request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.cloudsim.cloudsim.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Child-first class loader that gives one simulation worker its own copy of the
+ * CloudSim kernel. CloudSim 3.0.3 keeps the whole simulation (clock, entities,
+ * event queues) in static fields, so every class that touches it is defined again
+ * here instead of being shared with the application class loader. Everything else
+ * (model classes, Spring, the JDK) is delegated to the parent as usual, which is
+ * what lets a {@code SimulationResult} cross the boundary without conversion.
+ */
+class IsolatedKernelClassLoader extends ClassLoader {
+
+    // The kernel itself and every class that links against it
+    private static final String[] ISOLATED_PREFIXES = {
+        "org.cloudbus.cloudsim.",
+        "com.cloudsim.cloudsim.policy."
+    };
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    IsolatedKernelClassLoader(ClassLoader parent) {
+        super("cloudsim-kernel", parent);
+    }
+
+    static boolean isIsolated(String className) {
+        for (String prefix : ISOLATED_PREFIXES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!isIsolated(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                loaded = findClass(name);
+            }
+            if (resolve) {
+                resolveClass(loaded);
+            }
+            return loaded;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        // Read the bytes through the parent so this works the same from an IDE,
+        // the test classpath and the repackaged Spring Boot jar
+        String resource = name.replace('.', '/') + ".class";
+        try (InputStream in = getParent().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new ClassNotFoundException(name);
+            }
+            byte[] bytes = in.readAllBytes();
+            return defineClass(name, bytes, 0, bytes.length);
+        } catch (IOException e) {
+            throw new ClassNotFoundException(name, e);
+        }
+    }
+}
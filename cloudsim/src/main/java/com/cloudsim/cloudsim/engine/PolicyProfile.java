@@ -0,0 +1,73 @@
+package com.cloudsim.cloudsim.engine;
+
+/**
+ * The parameters of a {@link SimulationPolicy} that decide its performance, in
+ * plain values that can leave the policy's kernel. {@link QueueingModel} estimates
+ * results from these alone.
+ */
+public final class PolicyProfile {
+
+    private final String name;
+    private final double vmMips;
+    private final int vmPes;
+    private final int maxInFlightPerVm;
+    private final double costPerSec;
+    private final int vmsPerHost;
+    private final double[] powerCurve;
+    private final double costPerKwh;
+
+    /**
+     * @param powerCurve watts a host draws at evenly spaced utilizations from 0 to 100%
+     */
+    public PolicyProfile(String name, double vmMips, int vmPes, int maxInFlightPerVm, double costPerSec,
+            int vmsPerHost, double[] powerCurve, double costPerKwh) {
+        if (powerCurve.length < 2) {
+            throw new IllegalArgumentException("A power curve needs at least its idle and full power");
+        }
+        this.name = name;
+        this.vmMips = vmMips;
+        this.vmPes = vmPes;
+        this.maxInFlightPerVm = maxInFlightPerVm;
+        this.costPerSec = costPerSec;
+        this.vmsPerHost = vmsPerHost;
+        this.powerCurve = powerCurve.clone();
+        this.costPerKwh = costPerKwh;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getVmMips() {
+        return vmMips;
+    }
+
+    public int getVmPes() {
+        return vmPes;
+    }
+
+    /** Cloudlets the broker lets each VM hold before it queues further arrivals. */
+    public int getMaxInFlightPerVm() {
+        return maxInFlightPerVm;
+    }
+
+    public double getCostPerSec() {
+        return costPerSec;
+    }
+
+    /** VMs the datacenter puts on each host when there is one tenant. */
+    public int getVmsPerHost() {
+        return vmsPerHost;
+    }
+
+    /** Watts a host draws at the given utilization, interpolated along its power curve as CloudSim does. */
+    public double getPower(double utilization) {
+        double position = Math.max(0, Math.min(1, utilization)) * (powerCurve.length - 1);
+        int below = Math.min((int) position, powerCurve.length - 2);
+        return powerCurve[below] + (position - below) * (powerCurve[below + 1] - powerCurve[below]);
+    }
+
+    public double getCostPerKwh() {
+        return costPerKwh;
+    }
+}
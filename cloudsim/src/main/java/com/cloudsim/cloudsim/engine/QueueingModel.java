@@ -0,0 +1,359 @@
+package com.cloudsim.cloudsim.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.cloudsim.cloudsim.model.ExecutionMode;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.TenantResult;
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+
+/**
+ * Closed-form estimate of the result a policy's simulation would produce, from its
+ * {@link PolicyProfile} and the request alone. It mirrors how the policies run:
+ * cloudlets are dealt to the VMs round-robin, so each VM sees every V-th arrival,
+ * and each VM time-shares at most {@code maxInFlightPerVm} of them while the
+ * broker holds the rest back.
+ *
+ * <p>A VM whose arrivals come slower than it can serve them is treated as a
+ * G/G/1 queue: the Allen-Cunneen mean, with an exponential tail on top of the
+ * service time distribution for the percentiles. A VM that is handed work faster
+ * than it can serve it (always the case for batch arrivals) is busy from start to
+ * finish and completes its cloudlets in windows of {@code maxInFlightPerVm}, which
+ * is modelled exactly for equal lengths. Everything is O(1) apart from a few
+ * bisections for percentiles, so an estimate takes microseconds.
+ *
+ * <p>U users share the CPUs of V VMs, each tenant's VM getting its host's fair share,
+ * which is modelled as V VMs serving the pooled arrivals of all users at U times
+ * the window. Tenants are statistically identical, so each gets the same figures.
+ *
+ * <p>The model is an approximation; {@code EstimateValidator} keeps track of how
+ * far it is from full simulations.
+ */
+public final class QueueingModel {
+
+    // Squared coefficient of variation used for Pareto lengths with infinite variance
+    private static final double MAX_LENGTH_SCV = 4;
+    private static final int BISECTIONS = 40;
+    private static final double JOULES_PER_WATT_HOUR = 3600;
+    private static final double WATT_HOURS_PER_KWH = 1000;
+
+    private QueueingModel() {
+    }
+
+    public static SimulationResult estimate(PolicyProfile profile, SimulationRequest request) {
+        WorkloadSpec spec = request.getWorkload() != null ? request.getWorkload() : new WorkloadSpec();
+        int users = Math.max(1, request.getNumberOfUsers());
+        int vms = Math.max(0, request.getNumberOfVms());
+        int perUser = vms > 0 ? Math.max(0, request.getNumberOfCloudlets()) : 0;
+        long cloudlets = (long) perUser * users;
+        // Bounded by simulation.vms.max before it gets here; fails rather than wrapping if not
+        int vmCount = Math.multiplyExact(vms, users);
+
+        SimulationResult result = new SimulationResult(profile.getName(), 0, 0, 0, 0);
+        result.setMode(ExecutionMode.ESTIMATE);
+        result.setVmUtilization(new double[vmCount]);
+        if (cloudlets == 0) {
+            return result;
+        }
+
+        // Seconds per MI of a cloudlet on a VM running flat out
+        double secondsPerMi = spec.getPesPerCloudlet() / (profile.getVmMips() * profile.getVmPes());
+        double service = spec.getMeanLength() * secondsPerMi;
+        boolean batch = spec.getArrivalProcess() == WorkloadSpec.ArrivalProcess.BATCH;
+        // Time between two arrivals at the same VM
+        double interArrival = batch ? 0 : vms / (spec.getArrivalRate() * users);
+
+        Regime regime = interArrival > service
+            ? new Stable(spec, vms, cloudlets, secondsPerMi, service, interArrival)
+            : new Saturated(spec, vms, cloudlets, profile.getMaxInFlightPerVm() * users, service, interArrival);
+
+        double makespan = regime.makespan();
+        double threshold = request.getSlaThreshold();
+        result.setExecutionTime(makespan);
+        result.setMakespan(makespan);
+        double energy = energy(profile, vms, cloudlets * service, makespan);
+        result.setCost(makespan * profile.getCostPerSec() * vms * users
+            + energy / WATT_HOURS_PER_KWH * profile.getCostPerKwh());
+        result.setEnergyConsumption(energy);
+        result.setSlaViolation(threshold > 0 && makespan > threshold ? (makespan - threshold) / threshold : 0.0);
+        result.setTotalCloudletsProcessed((int) Math.min(cloudlets, Integer.MAX_VALUE));
+        result.setMeanResponseTime(regime.meanResponse());
+        result.setMeanWaitTime(regime.meanWait());
+        result.setAverageExecutionTime(regime.meanResponse() - regime.meanWait());
+        result.setP50ResponseTime(regime.percentile(0.50));
+        result.setP95ResponseTime(regime.percentile(0.95));
+        result.setP99ResponseTime(regime.percentile(0.99));
+        result.setSlaViolationRate(threshold > 0 ? regime.fractionAbove(threshold) : 0);
+
+        // Round-robin gives the first (cloudlets mod vms) of each user's VMs one cloudlet more
+        double[] utilization = result.getVmUtilization();
+        int perVm = perUser / vms;
+        int withExtra = perUser % vms;
+        for (int i = 0; i < vmCount; i++) {
+            int assigned = i % vms < withExtra ? perVm + 1 : perVm;
+            utilization[i] = makespan > 0 ? Math.min(1, assigned * service / makespan) : 0;
+        }
+        if (users > 1) {
+            List<TenantResult> tenants = new ArrayList<>(users);
+            for (int t = 0; t < users; t++) {
+                TenantResult tenant = new TenantResult(t);
+                tenant.setCloudletsProcessed(perUser);
+                tenant.setMakespan(makespan);
+                tenant.setCost(makespan * profile.getCostPerSec() * vms);
+                tenant.setMeanResponseTime(result.getMeanResponseTime());
+                tenant.setP50ResponseTime(result.getP50ResponseTime());
+                tenant.setP95ResponseTime(result.getP95ResponseTime());
+                tenant.setP99ResponseTime(result.getP99ResponseTime());
+                tenant.setSlaViolationRate(result.getSlaViolationRate());
+                tenants.add(tenant);
+            }
+            result.setTenants(tenants);
+        }
+        return result;
+    }
+
+    /**
+     * Watt-hours drawn by the hosts of V VMs over the makespan, all at the mean
+     * utilization that {@code work} VM-seconds of cloudlets make: the power curves are
+     * close enough to linear that spreading the load evenly changes little.
+     */
+    private static double energy(PolicyProfile profile, int vms, double work, double makespan) {
+        if (makespan <= 0) {
+            return 0;
+        }
+        int hosts = (vms + profile.getVmsPerHost() - 1) / profile.getVmsPerHost();
+        double utilization = work / (vms * makespan);
+        return hosts * profile.getPower(utilization) * makespan / JOULES_PER_WATT_HOUR;
+    }
+
+    private interface Regime {
+        double makespan();
+
+        double meanResponse();
+
+        double meanWait();
+
+        double percentile(double p);
+
+        double fractionAbove(double responseTime);
+    }
+
+    /** Each VM keeps up with its arrivals; cloudlets wait in the VM's queue only briefly. */
+    private static final class Stable implements Regime {
+        private final WorkloadSpec spec;
+        private final long cloudlets;
+        private final double secondsPerMi;
+        private final double service;
+        private final double queueing;
+        private final double lastArrival;
+
+        Stable(WorkloadSpec spec, int vms, long cloudlets, double secondsPerMi, double service, double interArrival) {
+            this.spec = spec;
+            this.cloudlets = cloudlets;
+            this.secondsPerMi = secondsPerMi;
+            this.service = service;
+            this.lastArrival = (cloudlets - 1) * interArrival / vms;
+
+            double utilization = service / interArrival;
+            // Every V-th arrival of a Poisson stream is Erlang-V; evenly spaced ones do not vary
+            double arrivalScv = spec.getArrivalProcess() == WorkloadSpec.ArrivalProcess.POISSON ? 1.0 / vms : 0;
+            this.queueing = service * (arrivalScv + lengthScv(spec)) / 2 * utilization / (1 - utilization);
+        }
+
+        @Override
+        public double makespan() {
+            // The last arrival plus the longest of the responses
+            return lastArrival + percentile(1 - 1.0 / (cloudlets + 1));
+        }
+
+        @Override
+        public double meanResponse() {
+            return service + queueing;
+        }
+
+        @Override
+        public double meanWait() {
+            // Time-shared VMs start every cloudlet on arrival
+            return 0;
+        }
+
+        @Override
+        public double percentile(double p) {
+            return lengthQuantile(spec, p) * secondsPerMi + queueing * -Math.log(1 - p);
+        }
+
+        @Override
+        public double fractionAbove(double responseTime) {
+            double lo = 0;
+            double hi = 1;
+            for (int i = 0; i < BISECTIONS; i++) {
+                double mid = (lo + hi) / 2;
+                if (percentile(mid) <= responseTime) {
+                    lo = mid;
+                } else {
+                    hi = mid;
+                }
+            }
+            return 1 - lo;
+        }
+    }
+
+    /**
+     * Each VM always has work: it serves its k-th cloudlet as part of window
+     * {@code ceil(k / W)}, all W of which finish together, so the k-th finishes at
+     * {@code min(ceil(k / W) * W, n) * service} on a VM with n cloudlets.
+     */
+    private static final class Saturated implements Regime {
+        private final int vms;
+        private final long cloudlets;
+        private final int window;
+        private final double service;
+        private final double interArrival;
+        private final double lengthScv;
+        // VMs with one cloudlet more than the rest, and how many the rest have
+        private final long withExtra;
+        private final long perVm;
+
+        Saturated(WorkloadSpec spec, int vms, long cloudlets, int window, double service, double interArrival) {
+            this.vms = vms;
+            this.cloudlets = cloudlets;
+            this.window = Math.max(1, window);
+            this.service = service;
+            this.interArrival = interArrival;
+            this.lengthScv = lengthScv(spec);
+            this.withExtra = cloudlets % vms;
+            this.perVm = cloudlets / vms;
+        }
+
+        @Override
+        public double makespan() {
+            long busiest = withExtra > 0 ? perVm + 1 : perVm;
+            double work = busiest * service;
+            // The busiest VM by work, not count, takes longer by about sqrt(2 ln V) standard deviations
+            if (vms > 1) {
+                work += Math.sqrt(2 * Math.log(vms)) * Math.sqrt(lengthScv * busiest) * service;
+            }
+            double lastArrival = (cloudlets - 1) * interArrival / vms;
+            return Math.max(work, lastArrival + service);
+        }
+
+        @Override
+        public double meanResponse() {
+            return (withExtra * totalResponse(perVm + 1) + (vms - withExtra) * totalResponse(perVm)) / cloudlets;
+        }
+
+        @Override
+        public double meanWait() {
+            return (withExtra * totalWait(perVm + 1) + (vms - withExtra) * totalWait(perVm)) / cloudlets;
+        }
+
+        @Override
+        public double percentile(double p) {
+            double lo = 0;
+            double hi = (perVm + 1) * service;
+            for (int i = 0; i < BISECTIONS; i++) {
+                double mid = (lo + hi) / 2;
+                if (1 - fractionAbove(mid) >= p) {
+                    hi = mid;
+                } else {
+                    lo = mid;
+                }
+            }
+            return hi;
+        }
+
+        @Override
+        public double fractionAbove(double responseTime) {
+            double within = withExtra * countWithin(perVm + 1, responseTime)
+                + (double) (vms - withExtra) * countWithin(perVm, responseTime);
+            return 1 - within / cloudlets;
+        }
+
+        private double finish(long k, long n) {
+            return Math.min(ceilDiv(k, window) * window, n) * service;
+        }
+
+        private double response(long k, long n) {
+            return Math.max(service, finish(k, n) - (k - 1) * interArrival);
+        }
+
+        private double totalResponse(long n) {
+            long full = n / window;
+            long rest = n - full * window;
+            double finishes = ((double) window * window * full * (full + 1) / 2 + (double) rest * n) * service;
+            return finishes - interArrival * n * (n - 1) / 2;
+        }
+
+        // The cloudlets beyond the first window start when the one a window ahead finishes
+        private double totalWait(long n) {
+            if (n <= window) {
+                return 0;
+            }
+            long k = n - window;
+            long full = k / window;
+            long rest = k - full * window;
+            double starts = ((double) window * window * full * (full + 1) / 2 + (double) rest * (full + 1) * window)
+                * service;
+            double arrivals = interArrival * ((double) n * (n - 1) / 2 - (double) window * (window - 1) / 2);
+            return Math.max(0, starts - arrivals);
+        }
+
+        // Responses grow with k, so the ones within the time are a prefix
+        private long countWithin(long n, double responseTime) {
+            long lo = 0;
+            long hi = n;
+            while (lo < hi) {
+                long mid = (lo + hi + 1) >>> 1;
+                if (response(mid, n) <= responseTime) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+        private static long ceilDiv(long a, long b) {
+            return (a + b - 1) / b;
+        }
+    }
+
+    /** Variance of the cloudlet lengths over their squared mean. */
+    static double lengthScv(WorkloadSpec spec) {
+        switch (spec.getLengthDistribution()) {
+            case UNIFORM:
+                return spec.getLengthSpread() * spec.getLengthSpread() / 3;
+            case EXPONENTIAL:
+                return 1;
+            case PARETO:
+                double shape = spec.getParetoShape();
+                return shape > 2 ? Math.min(MAX_LENGTH_SCV, 1 / (shape * (shape - 2))) : MAX_LENGTH_SCV;
+            default:
+                return 0;
+        }
+    }
+
+    /** The p-quantile of the cloudlet lengths {@code WorkloadGenerator} draws, in MI. */
+    static double lengthQuantile(WorkloadSpec spec, double p) {
+        double mean = spec.getMeanLength();
+        double length;
+        switch (spec.getLengthDistribution()) {
+            case UNIFORM:
+                length = mean * (1 + spec.getLengthSpread() * (2 * p - 1));
+                break;
+            case EXPONENTIAL:
+                length = -mean * Math.log(1 - p);
+                break;
+            case PARETO:
+                double shape = spec.getParetoShape();
+                length = mean * (shape - 1) / shape / Math.pow(1 - p, 1 / shape);
+                break;
+            default:
+                length = mean;
+                break;
+        }
+        return Math.max(1, length);
+    }
+}
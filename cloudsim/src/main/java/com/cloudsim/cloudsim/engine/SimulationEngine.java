@@ -0,0 +1,145 @@
+package com.cloudsim.cloudsim.engine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.cloudsim.cloudsim.model.EventQueueType;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.WhatIfBranch;
+import com.cloudsim.cloudsim.model.WhatIfResult;
+
+/**
+ * Runs simulations on a pool of isolated CloudSim kernels so that several runs can
+ * execute at the same time in one JVM. Kernels are created lazily, up to
+ * {@code simulation.engine.kernels} (0 means one per available processor), and
+ * reused afterwards; callers beyond that limit wait for a free kernel. The
+ * strategies on offer are the {@link SimulationPolicy} implementations the kernels
+ * discover. Runs use the future event queue their request names, or
+ * {@code simulation.engine.event-queue} if it names none.
+ */
+@Component
+public class SimulationEngine {
+
+    // Bump whenever a policy change alters results, so cached results are not reused
+    public static final String VERSION = "cloudsim-3.0.3/4";
+
+    private final int maxKernels;
+    private final EventQueueType eventQueue;
+    private final Set<String> policyNames;
+    private final Map<String, PolicyProfile> profiles;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<SimulationKernel> idleKernels = new ConcurrentLinkedQueue<>();
+    private volatile SimulationListener listener = SimulationListener.NONE;
+
+    public SimulationEngine(int kernels) {
+        this(kernels, EventQueueType.HEAP);
+    }
+
+    @Autowired
+    public SimulationEngine(@Value("${simulation.engine.kernels:0}") int kernels,
+            @Value("${simulation.engine.event-queue:HEAP}") EventQueueType eventQueue) {
+        this.maxKernels = kernels > 0 ? kernels : Runtime.getRuntime().availableProcessors();
+        this.eventQueue = eventQueue;
+        this.permits = new Semaphore(maxKernels, true);
+
+        // The first kernel is created up front to discover the policies, then pooled like the rest
+        SimulationKernel first = new SimulationKernel(getClass().getClassLoader());
+        this.policyNames = first.getPolicyNames();
+        this.profiles = first.getProfiles();
+        idleKernels.offer(first);
+    }
+
+    public int getMaxKernels() {
+        return maxKernels;
+    }
+
+    public boolean hasPolicy(String strategy) {
+        return policyNames.contains(strategy);
+    }
+
+    public Set<String> getPolicyNames() {
+        return policyNames;
+    }
+
+    /** The strategy's parameters, read once at startup, so asking never touches a kernel. */
+    public PolicyProfile getProfile(String strategy) {
+        PolicyProfile profile = profiles.get(strategy);
+        if (profile == null) {
+            throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+        return profile;
+    }
+
+    public void setListener(SimulationListener listener) {
+        this.listener = listener != null ? listener : SimulationListener.NONE;
+    }
+
+    /** Simulations currently running on a kernel. */
+    public int getActiveCount() {
+        return maxKernels - permits.availablePermits();
+    }
+
+    /** Simulations waiting for a free kernel. */
+    public int getQueuedCount() {
+        return permits.getQueueLength();
+    }
+
+    public SimulationResult run(String strategy, SimulationRequest request) {
+        return onKernel(strategy, request, (kernel, kernelRequest) -> kernel.run(strategy, kernelRequest, listener));
+    }
+
+    /**
+     * Runs the request up to {@code forkAt} simulated seconds once and then every
+     * branch from there, all on one kernel.
+     */
+    public WhatIfResult fork(String strategy, SimulationRequest request, double forkAt, List<WhatIfBranch> branches) {
+        return onKernel(strategy, request,
+            (kernel, kernelRequest) -> kernel.fork(strategy, kernelRequest, forkAt, branches, listener));
+    }
+
+    private interface KernelCall<T> {
+        T call(SimulationKernel kernel, SimulationRequest request) throws Exception;
+    }
+
+    private <T> T onKernel(String strategy, SimulationRequest request, KernelCall<T> call) {
+        if (!hasPolicy(strategy)) {
+            throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SimulationException("Interrupted while waiting for a simulation kernel", e);
+        }
+
+        SimulationKernel kernel = idleKernels.poll();
+        try {
+            if (kernel == null) {
+                kernel = new SimulationKernel(getClass().getClassLoader());
+            }
+            if (request.getEventQueue() == null) {
+                request = request.copy();
+                request.setEventQueue(eventQueue);
+            }
+            return call.call(kernel, request);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SimulationException(strategy + " simulation failed", e);
+        } finally {
+            if (kernel != null) {
+                idleKernels.offer(kernel);
+            }
+            permits.release();
+        }
+    }
+}
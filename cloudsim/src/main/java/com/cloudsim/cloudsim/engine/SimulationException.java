@@ -0,0 +1,17 @@
+package com.cloudsim.cloudsim.engine;
+
+/**
+ * Thrown when a simulation could not be run to completion inside a kernel.
+ */
+public class SimulationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SimulationException(String message) {
+        super(message);
+    }
+
+    public SimulationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,69 @@
+package com.cloudsim.cloudsim.engine;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.WhatIfBranch;
+import com.cloudsim.cloudsim.model.WhatIfResult;
+
+/**
+ * One private CloudSim kernel. A kernel is only ever used by one thread at a time;
+ * {@link SimulationEngine} hands it out and takes it back.
+ */
+class SimulationKernel {
+
+    private final IsolatedKernelClassLoader classLoader;
+    private final Map<String, SimulationPolicy> policies = new HashMap<>();
+
+    SimulationKernel(ClassLoader parent) {
+        this.classLoader = new IsolatedKernelClassLoader(parent);
+        try {
+            // Each kernel has its own Log too; parallel runs would only interleave it
+            classLoader.loadClass("org.cloudbus.cloudsim.Log")
+                .getMethod("setDisabled", boolean.class)
+                .invoke(null, true);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not load the CloudSim kernel", e);
+        }
+
+        // Loaded through the kernel, so every policy links against this kernel's CloudSim
+        for (SimulationPolicy policy : ServiceLoader.load(SimulationPolicy.class, classLoader)) {
+            if (policies.putIfAbsent(policy.getName(), policy) != null) {
+                throw new IllegalStateException("Duplicate simulation policy: " + policy.getName());
+            }
+        }
+    }
+
+    Set<String> getPolicyNames() {
+        return Collections.unmodifiableSet(policies.keySet());
+    }
+
+    Map<String, PolicyProfile> getProfiles() {
+        Map<String, PolicyProfile> profiles = new HashMap<>();
+        policies.forEach((name, policy) -> profiles.put(name, policy.getProfile()));
+        return Collections.unmodifiableMap(profiles);
+    }
+
+    SimulationResult run(String strategy, SimulationRequest request, SimulationListener listener) throws Exception {
+        return policy(strategy).run(request, listener);
+    }
+
+    WhatIfResult fork(String strategy, SimulationRequest request, double forkAt, List<WhatIfBranch> branches,
+            SimulationListener listener) throws Exception {
+        return policy(strategy).fork(request, forkAt, branches, listener);
+    }
+
+    private SimulationPolicy policy(String strategy) {
+        SimulationPolicy policy = policies.get(strategy);
+        if (policy == null) {
+            throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+        return policy;
+    }
+}
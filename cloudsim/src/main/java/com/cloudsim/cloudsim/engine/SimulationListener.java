@@ -0,0 +1,19 @@
+package com.cloudsim.cloudsim.engine;
+
+/**
+ * Receives measurements from policy runs. Calls arrive on the simulating thread a
+ * handful of times per run, never per event, so implementations only need to be
+ * thread-safe and cheap.
+ */
+public interface SimulationListener {
+
+    SimulationListener NONE = new SimulationListener() {
+    };
+
+    default void phaseCompleted(String strategy, SimulationPhase phase, long nanos) {
+    }
+
+    /** Called once a run has completed; runs that fail or are cancelled only report their phases. */
+    default void simulationCompleted(String strategy, long eventsProcessed, long cloudletsCompleted) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.cloudsim.cloudsim.engine;
+
+/**
+ * The stages of one policy run, in order, as reported to a {@link SimulationListener}.
+ */
+public enum SimulationPhase {
+    // CloudSim.init
+    INIT,
+    // Building hosts and the datacenter
+    CREATE_DATACENTER,
+    // Creating the broker and VMs and handing them to the kernel
+    SUBMIT,
+    // The event loop, which includes running the cloudlets
+    RUN,
+    // Copying a paused simulation for a what-if branch
+    SNAPSHOT,
+    // Turning the aggregated cloudlets into a result
+    RESULT
+}
@@ -0,0 +1,41 @@
+package com.cloudsim.cloudsim.engine;
+
+import java.util.List;
+
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.WhatIfBranch;
+import com.cloudsim.cloudsim.model.WhatIfResult;
+
+/**
+ * A scheduling strategy that {@link SimulationEngine} can run. Implementations are
+ * found with {@link java.util.ServiceLoader} through
+ * {@code META-INF/services/com.cloudsim.cloudsim.engine.SimulationPolicy}, once per
+ * kernel, so adding a strategy means adding a class and a line there. They must
+ * live under {@code com.cloudsim.cloudsim.policy} so that each kernel loads its own
+ * copy against its own CloudSim.
+ *
+ * <p>A kernel creates one instance of each policy and runs it on one thread at a
+ * time.
+ */
+public interface SimulationPolicy {
+
+    /** The strategy name clients put in {@link SimulationRequest#getStrategies()}. */
+    String getName();
+
+    /** The parameters behind this policy's results, for estimates that skip the simulation. */
+    PolicyProfile getProfile();
+
+    default SimulationResult run(SimulationRequest request) throws Exception {
+        return run(request, SimulationListener.NONE);
+    }
+
+    SimulationResult run(SimulationRequest request, SimulationListener listener) throws Exception;
+
+    /**
+     * Runs the request until {@code forkAt} simulated seconds, then each branch to
+     * completion from that point, paying for the prefix only once.
+     */
+    WhatIfResult fork(SimulationRequest request, double forkAt, List<WhatIfBranch> branches,
+            SimulationListener listener) throws Exception;
+}
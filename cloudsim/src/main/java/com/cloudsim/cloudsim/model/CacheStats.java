@@ -0,0 +1,52 @@
+package com.cloudsim.cloudsim.model;
+
+public class CacheStats {
+    private long hits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private int memoryEntries;
+    private int diskEntries;
+    private long coalesced;
+    private int inFlight;
+
+    public CacheStats() {}
+
+    public CacheStats(long hits, long diskHits, long misses, long evictions, long expirations, int memoryEntries, int diskEntries) {
+        this.hits = hits;
+        this.diskHits = diskHits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.memoryEntries = memoryEntries;
+        this.diskEntries = diskEntries;
+    }
+
+    public long getHits() { return hits; }
+    public void setHits(long hits) { this.hits = hits; }
+
+    public long getDiskHits() { return diskHits; }
+    public void setDiskHits(long diskHits) { this.diskHits = diskHits; }
+
+    public long getMisses() { return misses; }
+    public void setMisses(long misses) { this.misses = misses; }
+
+    public long getEvictions() { return evictions; }
+    public void setEvictions(long evictions) { this.evictions = evictions; }
+
+    public long getExpirations() { return expirations; }
+    public void setExpirations(long expirations) { this.expirations = expirations; }
+
+    public int getMemoryEntries() { return memoryEntries; }
+    public void setMemoryEntries(int memoryEntries) { this.memoryEntries = memoryEntries; }
+
+    public int getDiskEntries() { return diskEntries; }
+    public void setDiskEntries(int diskEntries) { this.diskEntries = diskEntries; }
+
+    public long getCoalesced() { return coalesced; }
+    public void setCoalesced(long coalesced) { this.coalesced = coalesced; }
+
+    public int getInFlight() { return inFlight; }
+    public void setInFlight(int inFlight) { this.inFlight = inFlight; }
+}
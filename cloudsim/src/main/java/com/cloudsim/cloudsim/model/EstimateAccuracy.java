@@ -0,0 +1,43 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * How far estimates for one strategy were from full simulations of the same
+ * requests. Errors are relative to the simulated value, e.g. 0.05 means 5% off.
+ */
+public class EstimateAccuracy {
+    private String strategy;
+    private long samples;
+    private double meanMakespanError;
+    private double maxMakespanError;
+    private double meanResponseTimeError;
+    private double p95ResponseTimeError;
+    private long lastValidatedAt;
+
+    public EstimateAccuracy() {}
+
+    public EstimateAccuracy(String strategy) {
+        this.strategy = strategy;
+    }
+
+    public String getStrategy() { return strategy; }
+    public void setStrategy(String strategy) { this.strategy = strategy; }
+
+    public long getSamples() { return samples; }
+    public void setSamples(long samples) { this.samples = samples; }
+
+    public double getMeanMakespanError() { return meanMakespanError; }
+    public void setMeanMakespanError(double meanMakespanError) { this.meanMakespanError = meanMakespanError; }
+
+    public double getMaxMakespanError() { return maxMakespanError; }
+    public void setMaxMakespanError(double maxMakespanError) { this.maxMakespanError = maxMakespanError; }
+
+    public double getMeanResponseTimeError() { return meanResponseTimeError; }
+    public void setMeanResponseTimeError(double meanResponseTimeError) { this.meanResponseTimeError = meanResponseTimeError; }
+
+    public double getP95ResponseTimeError() { return p95ResponseTimeError; }
+    public void setP95ResponseTimeError(double p95ResponseTimeError) { this.p95ResponseTimeError = p95ResponseTimeError; }
+
+    // Epoch millis of the last comparison
+    public long getLastValidatedAt() { return lastValidatedAt; }
+    public void setLastValidatedAt(long lastValidatedAt) { this.lastValidatedAt = lastValidatedAt; }
+}
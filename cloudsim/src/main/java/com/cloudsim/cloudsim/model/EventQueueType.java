@@ -0,0 +1,12 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * The kernel's future event queue for a run. Every type hands out events in the
+ * same order, so the choice changes how fast a run goes, never its result.
+ */
+public enum EventQueueType {
+    // CloudSim's own TreeSet-based queue
+    TREE_SET,
+    // A 4-ary heap over primitive keys that does not allocate per event
+    HEAP
+}
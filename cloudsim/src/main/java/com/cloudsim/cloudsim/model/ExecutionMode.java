@@ -0,0 +1,11 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * How a request is answered, and on results, how it was answered.
+ */
+public enum ExecutionMode {
+    // A full CloudSim run
+    SIMULATE,
+    // A queueing-model estimate from the strategy's parameters, without a kernel
+    ESTIMATE
+}
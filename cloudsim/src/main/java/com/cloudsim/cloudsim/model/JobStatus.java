@@ -0,0 +1,41 @@
+package com.cloudsim.cloudsim.model;
+
+import java.time.Instant;
+
+public class JobStatus {
+    private String jobId;
+    private JobState state;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+
+    public JobStatus() {}
+
+    public JobStatus(String jobId, JobState state, Instant submittedAt, Instant startedAt, Instant finishedAt, String error) {
+        this.jobId = jobId;
+        this.state = state;
+        this.submittedAt = submittedAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.error = error;
+    }
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public JobState getState() { return state; }
+    public void setState(JobState state) { this.state = state; }
+
+    public Instant getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(Instant submittedAt) { this.submittedAt = submittedAt; }
+
+    public Instant getStartedAt() { return startedAt; }
+    public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,39 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * Sample statistics of one metric over the replicas of a run, with a 95%
+ * Student-t confidence interval for its mean.
+ */
+public class MetricStatistics {
+    private double mean;
+    private double variance;
+    private double stdDev;
+    private double ciLower;
+    private double ciUpper;
+
+    public MetricStatistics() {}
+
+    public MetricStatistics(double mean, double variance, double halfWidth) {
+        this.mean = mean;
+        this.variance = variance;
+        this.stdDev = Math.sqrt(variance);
+        this.ciLower = mean - halfWidth;
+        this.ciUpper = mean + halfWidth;
+    }
+
+    public double getMean() { return mean; }
+    public void setMean(double mean) { this.mean = mean; }
+
+    // Unbiased sample variance
+    public double getVariance() { return variance; }
+    public void setVariance(double variance) { this.variance = variance; }
+
+    public double getStdDev() { return stdDev; }
+    public void setStdDev(double stdDev) { this.stdDev = stdDev; }
+
+    public double getCiLower() { return ciLower; }
+    public void setCiLower(double ciLower) { this.ciLower = ciLower; }
+
+    public double getCiUpper() { return ciUpper; }
+    public void setCiUpper(double ciUpper) { this.ciUpper = ciUpper; }
+}
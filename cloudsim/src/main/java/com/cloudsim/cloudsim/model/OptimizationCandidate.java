@@ -0,0 +1,37 @@
+package com.cloudsim.cloudsim.model;
+
+/** One configuration simulated in full by an optimization, with its result. */
+public class OptimizationCandidate {
+    private String strategy;
+    private int numberOfVms;
+    private int vmRam;
+    // Completed with an SLA violation rate within the request's limit
+    private boolean feasible;
+    private SimulationResult result;
+
+    public OptimizationCandidate() {}
+
+    public OptimizationCandidate(String strategy, int numberOfVms, int vmRam, boolean feasible,
+            SimulationResult result) {
+        this.strategy = strategy;
+        this.numberOfVms = numberOfVms;
+        this.vmRam = vmRam;
+        this.feasible = feasible;
+        this.result = result;
+    }
+
+    public String getStrategy() { return strategy; }
+    public void setStrategy(String strategy) { this.strategy = strategy; }
+
+    public int getNumberOfVms() { return numberOfVms; }
+    public void setNumberOfVms(int numberOfVms) { this.numberOfVms = numberOfVms; }
+
+    public int getVmRam() { return vmRam; }
+    public void setVmRam(int vmRam) { this.vmRam = vmRam; }
+
+    public boolean isFeasible() { return feasible; }
+    public void setFeasible(boolean feasible) { this.feasible = feasible; }
+
+    public SimulationResult getResult() { return result; }
+    public void setResult(SimulationResult result) { this.result = result; }
+}
@@ -0,0 +1,45 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * A search for the cheapest configuration of one workload that keeps its SLA. The
+ * base request fixes the workload and the SLA threshold and lists the strategies to
+ * choose from; the number of VMs and their RAM are searched over the given ranges.
+ */
+public class OptimizationRequest {
+    private SimulationRequest base;
+    private SweepRange numberOfVms;
+    // Defaults to the base request's vmRam
+    private SweepRange vmRam;
+    // Largest fraction of cloudlets allowed to miss the SLA threshold for a configuration to be feasible
+    private double maxSlaViolationRate;
+    // Candidates bred per generation, and the most configurations simulated in full
+    private int populationSize = 16;
+    private int maxEvaluations = 64;
+    // Share of the cloudlets candidates are first screened on (1 = no screening)
+    private double screeningFraction = 0.1;
+    private long seed = 1;
+
+    public SimulationRequest getBase() { return base; }
+    public void setBase(SimulationRequest base) { this.base = base; }
+
+    public SweepRange getNumberOfVms() { return numberOfVms; }
+    public void setNumberOfVms(SweepRange numberOfVms) { this.numberOfVms = numberOfVms; }
+
+    public SweepRange getVmRam() { return vmRam; }
+    public void setVmRam(SweepRange vmRam) { this.vmRam = vmRam; }
+
+    public double getMaxSlaViolationRate() { return maxSlaViolationRate; }
+    public void setMaxSlaViolationRate(double maxSlaViolationRate) { this.maxSlaViolationRate = maxSlaViolationRate; }
+
+    public int getPopulationSize() { return populationSize; }
+    public void setPopulationSize(int populationSize) { this.populationSize = populationSize; }
+
+    public int getMaxEvaluations() { return maxEvaluations; }
+    public void setMaxEvaluations(int maxEvaluations) { this.maxEvaluations = maxEvaluations; }
+
+    public double getScreeningFraction() { return screeningFraction; }
+    public void setScreeningFraction(double screeningFraction) { this.screeningFraction = screeningFraction; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+}
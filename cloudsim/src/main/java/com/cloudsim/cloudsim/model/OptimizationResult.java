@@ -0,0 +1,48 @@
+package com.cloudsim.cloudsim.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What an optimization found: the configurations no other simulated configuration
+ * beats on cost, energy and SLA violation rate all at once, cheapest first, and
+ * the cheapest feasible one among them.
+ */
+public class OptimizationResult {
+    private List<OptimizationCandidate> paretoFront = new ArrayList<>();
+    // Null when no configuration kept the SLA
+    private OptimizationCandidate best;
+    private int generations;
+    // Configurations simulated in full, and on the screening horizon only
+    private int evaluations;
+    private int screenings;
+    // Screened configurations never simulated in full
+    private int pruned;
+    // Bred configurations that had already been simulated and were not run again
+    private int memoHits;
+    private long elapsedMs;
+
+    public List<OptimizationCandidate> getParetoFront() { return paretoFront; }
+    public void setParetoFront(List<OptimizationCandidate> paretoFront) { this.paretoFront = paretoFront; }
+
+    public OptimizationCandidate getBest() { return best; }
+    public void setBest(OptimizationCandidate best) { this.best = best; }
+
+    public int getGenerations() { return generations; }
+    public void setGenerations(int generations) { this.generations = generations; }
+
+    public int getEvaluations() { return evaluations; }
+    public void setEvaluations(int evaluations) { this.evaluations = evaluations; }
+
+    public int getScreenings() { return screenings; }
+    public void setScreenings(int screenings) { this.screenings = screenings; }
+
+    public int getPruned() { return pruned; }
+    public void setPruned(int pruned) { this.pruned = pruned; }
+
+    public int getMemoHits() { return memoHits; }
+    public void setMemoHits(int memoHits) { this.memoHits = memoHits; }
+
+    public long getElapsedMs() { return elapsedMs; }
+    public void setElapsedMs(long elapsedMs) { this.elapsedMs = elapsedMs; }
+}
@@ -0,0 +1,42 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * How a replicated run went: replica {@code i} simulates the request with seed
+ * {@code baseSeed + i}, and the result's metrics are the means over the replicas
+ * that completed.
+ */
+public class ReplicationSummary {
+    private int requested;
+    private int completed;
+    private long baseSeed;
+    // True when the confidence intervals got within the tolerance before all replicas ran
+    private boolean stoppedEarly;
+    private MetricStatistics executionTime;
+    private MetricStatistics cost;
+    private MetricStatistics energyConsumption;
+    private MetricStatistics slaViolation;
+
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+
+    public int getCompleted() { return completed; }
+    public void setCompleted(int completed) { this.completed = completed; }
+
+    public long getBaseSeed() { return baseSeed; }
+    public void setBaseSeed(long baseSeed) { this.baseSeed = baseSeed; }
+
+    public boolean isStoppedEarly() { return stoppedEarly; }
+    public void setStoppedEarly(boolean stoppedEarly) { this.stoppedEarly = stoppedEarly; }
+
+    public MetricStatistics getExecutionTime() { return executionTime; }
+    public void setExecutionTime(MetricStatistics executionTime) { this.executionTime = executionTime; }
+
+    public MetricStatistics getCost() { return cost; }
+    public void setCost(MetricStatistics cost) { this.cost = cost; }
+
+    public MetricStatistics getEnergyConsumption() { return energyConsumption; }
+    public void setEnergyConsumption(MetricStatistics energyConsumption) { this.energyConsumption = energyConsumption; }
+
+    public MetricStatistics getSlaViolation() { return slaViolation; }
+    public void setSlaViolation(MetricStatistics slaViolation) { this.slaViolation = slaViolation; }
+}
@@ -0,0 +1,67 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * Aggregates of the stored results that share one value of the query's
+ * {@code groupBy}: {@code key} is that value (a strategy name, a number, or a day's
+ * first millisecond), or null when the query does not group.
+ */
+public class ResultGroup {
+    private Object key;
+    private long count;
+    private long firstRecordedAt;
+    private long lastRecordedAt;
+    private double meanMakespan;
+    private double minMakespan;
+    private double maxMakespan;
+    private double meanCost;
+    private double meanEnergyConsumption;
+    private double meanResponseTime;
+    private double meanP95ResponseTime;
+    private double maxP99ResponseTime;
+    private double meanSlaViolationRate;
+
+    public ResultGroup() {}
+
+    public ResultGroup(Object key) {
+        this.key = key;
+    }
+
+    public Object getKey() { return key; }
+    public void setKey(Object key) { this.key = key; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public long getFirstRecordedAt() { return firstRecordedAt; }
+    public void setFirstRecordedAt(long firstRecordedAt) { this.firstRecordedAt = firstRecordedAt; }
+
+    public long getLastRecordedAt() { return lastRecordedAt; }
+    public void setLastRecordedAt(long lastRecordedAt) { this.lastRecordedAt = lastRecordedAt; }
+
+    public double getMeanMakespan() { return meanMakespan; }
+    public void setMeanMakespan(double meanMakespan) { this.meanMakespan = meanMakespan; }
+
+    public double getMinMakespan() { return minMakespan; }
+    public void setMinMakespan(double minMakespan) { this.minMakespan = minMakespan; }
+
+    public double getMaxMakespan() { return maxMakespan; }
+    public void setMaxMakespan(double maxMakespan) { this.maxMakespan = maxMakespan; }
+
+    public double getMeanCost() { return meanCost; }
+    public void setMeanCost(double meanCost) { this.meanCost = meanCost; }
+
+    public double getMeanEnergyConsumption() { return meanEnergyConsumption; }
+    public void setMeanEnergyConsumption(double meanEnergyConsumption) { this.meanEnergyConsumption = meanEnergyConsumption; }
+
+    public double getMeanResponseTime() { return meanResponseTime; }
+    public void setMeanResponseTime(double meanResponseTime) { this.meanResponseTime = meanResponseTime; }
+
+    public double getMeanP95ResponseTime() { return meanP95ResponseTime; }
+    public void setMeanP95ResponseTime(double meanP95ResponseTime) { this.meanP95ResponseTime = meanP95ResponseTime; }
+
+    public double getMaxP99ResponseTime() { return maxP99ResponseTime; }
+    public void setMaxP99ResponseTime(double maxP99ResponseTime) { this.maxP99ResponseTime = maxP99ResponseTime; }
+
+    public double getMeanSlaViolationRate() { return meanSlaViolationRate; }
+    public void setMeanSlaViolationRate(double meanSlaViolationRate) { this.meanSlaViolationRate = meanSlaViolationRate; }
+}
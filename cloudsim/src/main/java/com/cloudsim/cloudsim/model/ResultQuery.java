@@ -0,0 +1,89 @@
+package com.cloudsim.cloudsim.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A query over stored results (see {@code /api/results/query}). Every filter is
+ * optional: {@code from} and {@code to} bound the time a result was recorded, in
+ * epoch milliseconds ({@code withinMs} is shorthand for "the last withinMs"), and
+ * the ranges bound request parameters inclusively. Matching results are aggregated
+ * per value of {@code groupBy}, or into a single group.
+ */
+public class ResultQuery {
+
+    public enum GroupBy {
+        @JsonProperty("none") NONE,
+        @JsonProperty("strategy") STRATEGY,
+        @JsonProperty("numberOfUsers") NUMBER_OF_USERS,
+        @JsonProperty("numberOfVms") NUMBER_OF_VMS,
+        @JsonProperty("numberOfCloudlets") NUMBER_OF_CLOUDLETS,
+        @JsonProperty("vmRam") VM_RAM,
+        @JsonProperty("slaThreshold") SLA_THRESHOLD,
+        // UTC days since the epoch, reported as the day's first millisecond
+        @JsonProperty("day") DAY
+    }
+
+    /** Inclusive bounds; either may be left out. */
+    public static class Range {
+        private Double min;
+        private Double max;
+
+        public Range() {}
+
+        public Range(Double min, Double max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        public Double getMin() { return min; }
+        public void setMin(Double min) { this.min = min; }
+
+        public Double getMax() { return max; }
+        public void setMax(Double max) { this.max = max; }
+    }
+
+    private String strategy;
+    private ExecutionMode mode;
+    private Long from;
+    private Long to;
+    private Long withinMs;
+    private Range numberOfUsers;
+    private Range numberOfVms;
+    private Range numberOfCloudlets;
+    private Range vmRam;
+    private Range slaThreshold;
+    private GroupBy groupBy = GroupBy.NONE;
+
+    public String getStrategy() { return strategy; }
+    public void setStrategy(String strategy) { this.strategy = strategy; }
+
+    public ExecutionMode getMode() { return mode; }
+    public void setMode(ExecutionMode mode) { this.mode = mode; }
+
+    public Long getFrom() { return from; }
+    public void setFrom(Long from) { this.from = from; }
+
+    public Long getTo() { return to; }
+    public void setTo(Long to) { this.to = to; }
+
+    public Long getWithinMs() { return withinMs; }
+    public void setWithinMs(Long withinMs) { this.withinMs = withinMs; }
+
+    public Range getNumberOfUsers() { return numberOfUsers; }
+    public void setNumberOfUsers(Range numberOfUsers) { this.numberOfUsers = numberOfUsers; }
+
+    public Range getNumberOfVms() { return numberOfVms; }
+    public void setNumberOfVms(Range numberOfVms) { this.numberOfVms = numberOfVms; }
+
+    public Range getNumberOfCloudlets() { return numberOfCloudlets; }
+    public void setNumberOfCloudlets(Range numberOfCloudlets) { this.numberOfCloudlets = numberOfCloudlets; }
+
+    public Range getVmRam() { return vmRam; }
+    public void setVmRam(Range vmRam) { this.vmRam = vmRam; }
+
+    public Range getSlaThreshold() { return slaThreshold; }
+    public void setSlaThreshold(Range slaThreshold) { this.slaThreshold = slaThreshold; }
+
+    public GroupBy getGroupBy() { return groupBy; }
+    public void setGroupBy(GroupBy groupBy) { this.groupBy = groupBy; }
+}
@@ -0,0 +1,32 @@
+package com.cloudsim.cloudsim.model;
+
+import java.util.List;
+
+/** Groups in ascending key order, plus how much of the store the query had to read. */
+public class ResultQueryResponse {
+    private long scanned;
+    private long matched;
+    private double elapsedMs;
+    private List<ResultGroup> groups;
+
+    public ResultQueryResponse() {}
+
+    public ResultQueryResponse(long scanned, long matched, double elapsedMs, List<ResultGroup> groups) {
+        this.scanned = scanned;
+        this.matched = matched;
+        this.elapsedMs = elapsedMs;
+        this.groups = groups;
+    }
+
+    public long getScanned() { return scanned; }
+    public void setScanned(long scanned) { this.scanned = scanned; }
+
+    public long getMatched() { return matched; }
+    public void setMatched(long matched) { this.matched = matched; }
+
+    public double getElapsedMs() { return elapsedMs; }
+    public void setElapsedMs(double elapsedMs) { this.elapsedMs = elapsedMs; }
+
+    public List<ResultGroup> getGroups() { return groups; }
+    public void setGroups(List<ResultGroup> groups) { this.groups = groups; }
+}
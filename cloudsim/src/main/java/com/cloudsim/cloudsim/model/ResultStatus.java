@@ -0,0 +1,7 @@
+package com.cloudsim.cloudsim.model;
+
+public enum ResultStatus {
+    COMPLETED,
+    TIMED_OUT,
+    FAILED
+}
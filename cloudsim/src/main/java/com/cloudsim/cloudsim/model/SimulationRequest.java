@@ -9,6 +9,37 @@ public class SimulationRequest {
     private int vmRam;
     private double slaThreshold;
     private List<String> strategies;
+    private WorkloadSpec workload;
+    // Replaces the workload when set; numberOfCloudlets then caps the replay (0 = no cap)
+    private TraceSpec trace;
+    // SIMULATE unless the caller settles for a queueing-model estimate
+    private ExecutionMode mode = ExecutionMode.SIMULATE;
+    // More than one runs each strategy that many times with seeds baseSeed, baseSeed + 1, ...
+    private int replicas = 1;
+    // Defaults to the seed of the workload (or of the trace sampling)
+    private Long baseSeed;
+    // Stop replicating once every 95% CI half-width is within this fraction of its mean (0 = never)
+    private double ciTolerance;
+    // The kernel's event queue; results do not depend on it. Defaults to simulation.engine.event-queue
+    private EventQueueType eventQueue;
+
+    public SimulationRequest copy() {
+        SimulationRequest copy = new SimulationRequest();
+        copy.numberOfUsers = numberOfUsers;
+        copy.numberOfVms = numberOfVms;
+        copy.numberOfCloudlets = numberOfCloudlets;
+        copy.vmRam = vmRam;
+        copy.slaThreshold = slaThreshold;
+        copy.strategies = strategies;
+        copy.workload = workload;
+        copy.trace = trace;
+        copy.mode = mode;
+        copy.replicas = replicas;
+        copy.baseSeed = baseSeed;
+        copy.ciTolerance = ciTolerance;
+        copy.eventQueue = eventQueue;
+        return copy;
+    }
 
     // Getters and Setters
     public int getNumberOfUsers() {
@@ -58,4 +89,60 @@ public class SimulationRequest {
     public void setStrategies(List<String> strategies) {
         this.strategies = strategies;
     }
+
+    public WorkloadSpec getWorkload() {
+        return workload;
+    }
+
+    public void setWorkload(WorkloadSpec workload) {
+        this.workload = workload;
+    }
+
+    public TraceSpec getTrace() {
+        return trace;
+    }
+
+    public void setTrace(TraceSpec trace) {
+        this.trace = trace;
+    }
+
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    public void setMode(ExecutionMode mode) {
+        this.mode = mode != null ? mode : ExecutionMode.SIMULATE;
+    }
+
+    public int getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(int replicas) {
+        this.replicas = replicas;
+    }
+
+    public Long getBaseSeed() {
+        return baseSeed;
+    }
+
+    public void setBaseSeed(Long baseSeed) {
+        this.baseSeed = baseSeed;
+    }
+
+    public double getCiTolerance() {
+        return ciTolerance;
+    }
+
+    public void setCiTolerance(double ciTolerance) {
+        this.ciTolerance = ciTolerance;
+    }
+
+    public EventQueueType getEventQueue() {
+        return eventQueue;
+    }
+
+    public void setEventQueue(EventQueueType eventQueue) {
+        this.eventQueue = eventQueue;
+    }
 }
@@ -1,10 +1,13 @@
     package com.cloudsim.cloudsim.model;
 
+    import java.util.List;
+
     public class SimulationResult {
 
         private String strategy;
         private double executionTime;
         private double cost;
+        // Watt-hours the hosts drew
         private double energyConsumption;
         private double slaViolation;
 
@@ -19,6 +22,35 @@
         }
         private int totalCloudletsProcessed;
         private double averageExecutionTime;
+
+        // Measured from the finished cloudlets; times are in simulated seconds
+        private double makespan;
+        private double meanResponseTime;
+        private double p50ResponseTime;
+        private double p95ResponseTime;
+        private double p99ResponseTime;
+        private double meanWaitTime;
+        // Share of cloudlets whose response time exceeded the SLA threshold
+        private double slaViolationRate;
+        // Busy fraction of each requested VM over the makespan, in VM order
+        private double[] vmUtilization = new double[0];
+
+        // COMPLETED unless the strategy timed out or failed, in which case the metrics are partial
+        private ResultStatus status = ResultStatus.COMPLETED;
+        private String error;
+        // ESTIMATE when the metrics come from the queueing model rather than a CloudSim run
+        private ExecutionMode mode = ExecutionMode.SIMULATE;
+        // Set for replicated runs, whose metrics are then means over the replicas
+        private ReplicationSummary replication;
+        // Set when numberOfUsers > 1: one entry per tenant, in tenant order
+        private List<TenantResult> tenants;
+
+        public static SimulationResult partial(String strategy, ResultStatus status, String error) {
+            SimulationResult result = new SimulationResult(strategy, 0, 0, 0, 0);
+            result.setStatus(status);
+            result.setError(error);
+            return result;
+        }
         
         public int getTotalCloudletsProcessed() {
             return totalCloudletsProcessed;
@@ -48,4 +80,43 @@
 
         public double getSlaViolation() { return slaViolation; }
         public void setSlaViolation(double slaViolation) { this.slaViolation = slaViolation; }
+
+        public double getMakespan() { return makespan; }
+        public void setMakespan(double makespan) { this.makespan = makespan; }
+
+        public double getMeanResponseTime() { return meanResponseTime; }
+        public void setMeanResponseTime(double meanResponseTime) { this.meanResponseTime = meanResponseTime; }
+
+        public double getP50ResponseTime() { return p50ResponseTime; }
+        public void setP50ResponseTime(double p50ResponseTime) { this.p50ResponseTime = p50ResponseTime; }
+
+        public double getP95ResponseTime() { return p95ResponseTime; }
+        public void setP95ResponseTime(double p95ResponseTime) { this.p95ResponseTime = p95ResponseTime; }
+
+        public double getP99ResponseTime() { return p99ResponseTime; }
+        public void setP99ResponseTime(double p99ResponseTime) { this.p99ResponseTime = p99ResponseTime; }
+
+        public double getMeanWaitTime() { return meanWaitTime; }
+        public void setMeanWaitTime(double meanWaitTime) { this.meanWaitTime = meanWaitTime; }
+
+        public double getSlaViolationRate() { return slaViolationRate; }
+        public void setSlaViolationRate(double slaViolationRate) { this.slaViolationRate = slaViolationRate; }
+
+        public double[] getVmUtilization() { return vmUtilization; }
+        public void setVmUtilization(double[] vmUtilization) { this.vmUtilization = vmUtilization; }
+
+        public ResultStatus getStatus() { return status; }
+        public void setStatus(ResultStatus status) { this.status = status; }
+
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+
+        public ExecutionMode getMode() { return mode; }
+        public void setMode(ExecutionMode mode) { this.mode = mode; }
+
+        public ReplicationSummary getReplication() { return replication; }
+        public void setReplication(ReplicationSummary replication) { this.replication = replication; }
+
+        public List<TenantResult> getTenants() { return tenants; }
+        public void setTenants(List<TenantResult> tenants) { this.tenants = tenants; }
     }
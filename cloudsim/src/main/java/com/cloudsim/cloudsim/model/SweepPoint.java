@@ -0,0 +1,28 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * One finished point of a sweep, streamed to the client as soon as it is done.
+ * {@code index} is the point's position in the grid, since points finish out of order.
+ */
+public class SweepPoint {
+    private long index;
+    private SimulationRequest request;
+    private SimulationResult result;
+
+    public SweepPoint() {}
+
+    public SweepPoint(long index, SimulationRequest request, SimulationResult result) {
+        this.index = index;
+        this.request = request;
+        this.result = result;
+    }
+
+    public long getIndex() { return index; }
+    public void setIndex(long index) { this.index = index; }
+
+    public SimulationRequest getRequest() { return request; }
+    public void setRequest(SimulationRequest request) { this.request = request; }
+
+    public SimulationResult getResult() { return result; }
+    public void setResult(SimulationResult result) { this.result = result; }
+}
@@ -0,0 +1,70 @@
+package com.cloudsim.cloudsim.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Values of one swept parameter: either an explicit {@code values} list, or a range
+ * from {@code from} to {@code to} (inclusive) advanced by adding {@code step} or,
+ * for geometric grids such as 512..8192, by multiplying with {@code factor}.
+ */
+public class SweepRange {
+    private List<Double> values;
+    private Double from;
+    private Double to;
+    private Double step;
+    private Double factor;
+
+    public SweepRange() {}
+
+    public static SweepRange of(double value) {
+        SweepRange range = new SweepRange();
+        range.setValues(List.of(value));
+        return range;
+    }
+
+    public double[] expand(int maxValues) {
+        if (values != null && !values.isEmpty()) {
+            if (values.size() > maxValues) {
+                throw new IllegalArgumentException("Too many values in sweep range: " + values.size());
+            }
+            return values.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+        if (from == null) {
+            throw new IllegalArgumentException("A sweep range needs either values or from/to");
+        }
+        double end = to != null ? to : from;
+        boolean geometric = factor != null;
+        if (geometric ? factor <= 1 || from <= 0 : step != null && step <= 0) {
+            throw new IllegalArgumentException("A sweep range must advance from " + from + " to " + end);
+        }
+
+        double[] expanded = new double[16];
+        int count = 0;
+        for (double value = from; value <= end; value = geometric ? value * factor : value + (step != null ? step : 1)) {
+            if (count == maxValues) {
+                throw new IllegalArgumentException("Too many values in sweep range from " + from + " to " + end);
+            }
+            if (count == expanded.length) {
+                expanded = Arrays.copyOf(expanded, count * 2);
+            }
+            expanded[count++] = value;
+        }
+        return Arrays.copyOf(expanded, count);
+    }
+
+    public List<Double> getValues() { return values; }
+    public void setValues(List<Double> values) { this.values = values; }
+
+    public Double getFrom() { return from; }
+    public void setFrom(Double from) { this.from = from; }
+
+    public Double getTo() { return to; }
+    public void setTo(Double to) { this.to = to; }
+
+    public Double getStep() { return step; }
+    public void setStep(Double step) { this.step = step; }
+
+    public Double getFactor() { return factor; }
+    public void setFactor(Double factor) { this.factor = factor; }
+}
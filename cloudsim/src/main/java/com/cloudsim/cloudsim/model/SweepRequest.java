@@ -0,0 +1,34 @@
+package com.cloudsim.cloudsim.model;
+
+import java.util.List;
+
+/**
+ * A grid of simulation requests: the cross product of every swept parameter and
+ * every strategy. Parameters that are left out take a single default value.
+ */
+public class SweepRequest {
+    private SweepRange numberOfUsers;
+    private SweepRange numberOfVms;
+    private SweepRange numberOfCloudlets;
+    private SweepRange vmRam;
+    private SweepRange slaThreshold;
+    private List<String> strategies;
+
+    public SweepRange getNumberOfUsers() { return numberOfUsers; }
+    public void setNumberOfUsers(SweepRange numberOfUsers) { this.numberOfUsers = numberOfUsers; }
+
+    public SweepRange getNumberOfVms() { return numberOfVms; }
+    public void setNumberOfVms(SweepRange numberOfVms) { this.numberOfVms = numberOfVms; }
+
+    public SweepRange getNumberOfCloudlets() { return numberOfCloudlets; }
+    public void setNumberOfCloudlets(SweepRange numberOfCloudlets) { this.numberOfCloudlets = numberOfCloudlets; }
+
+    public SweepRange getVmRam() { return vmRam; }
+    public void setVmRam(SweepRange vmRam) { this.vmRam = vmRam; }
+
+    public SweepRange getSlaThreshold() { return slaThreshold; }
+    public void setSlaThreshold(SweepRange slaThreshold) { this.slaThreshold = slaThreshold; }
+
+    public List<String> getStrategies() { return strategies; }
+    public void setStrategies(List<String> strategies) { this.strategies = strategies; }
+}
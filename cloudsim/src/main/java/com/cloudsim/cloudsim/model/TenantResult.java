@@ -0,0 +1,52 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * One tenant's share of a multi-tenant run: how its own cloudlets fared on its own
+ * VMs while the other tenants competed for the same hosts. Times are in simulated
+ * seconds, from the tenant's first arrival to its last completion.
+ */
+public class TenantResult {
+    private int tenant;
+    private int cloudletsProcessed;
+    private double makespan;
+    // The tenant's VMs, for its own makespan
+    private double cost;
+    private double meanResponseTime;
+    private double p50ResponseTime;
+    private double p95ResponseTime;
+    private double p99ResponseTime;
+    private double slaViolationRate;
+
+    public TenantResult() {}
+
+    public TenantResult(int tenant) {
+        this.tenant = tenant;
+    }
+
+    public int getTenant() { return tenant; }
+    public void setTenant(int tenant) { this.tenant = tenant; }
+
+    public int getCloudletsProcessed() { return cloudletsProcessed; }
+    public void setCloudletsProcessed(int cloudletsProcessed) { this.cloudletsProcessed = cloudletsProcessed; }
+
+    public double getMakespan() { return makespan; }
+    public void setMakespan(double makespan) { this.makespan = makespan; }
+
+    public double getCost() { return cost; }
+    public void setCost(double cost) { this.cost = cost; }
+
+    public double getMeanResponseTime() { return meanResponseTime; }
+    public void setMeanResponseTime(double meanResponseTime) { this.meanResponseTime = meanResponseTime; }
+
+    public double getP50ResponseTime() { return p50ResponseTime; }
+    public void setP50ResponseTime(double p50ResponseTime) { this.p50ResponseTime = p50ResponseTime; }
+
+    public double getP95ResponseTime() { return p95ResponseTime; }
+    public void setP95ResponseTime(double p95ResponseTime) { this.p95ResponseTime = p95ResponseTime; }
+
+    public double getP99ResponseTime() { return p99ResponseTime; }
+    public void setP99ResponseTime(double p99ResponseTime) { this.p99ResponseTime = p99ResponseTime; }
+
+    public double getSlaViolationRate() { return slaViolationRate; }
+    public void setSlaViolationRate(double slaViolationRate) { this.slaViolationRate = slaViolationRate; }
+}
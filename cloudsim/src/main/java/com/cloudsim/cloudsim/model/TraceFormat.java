@@ -0,0 +1,25 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * Job trace formats that can be uploaded and replayed.
+ */
+public enum TraceFormat {
+    // Standard Workload Format: whitespace-separated fields, ';' comments
+    SWF,
+    // Comma-separated with a header row naming the columns
+    CSV;
+
+    public String extension() {
+        return "." + name().toLowerCase();
+    }
+
+    /** The format a stored trace file was saved as, from its extension. */
+    public static TraceFormat ofFile(String fileName) {
+        for (TraceFormat format : values()) {
+            if (fileName.endsWith(format.extension())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Not a trace file: " + fileName);
+    }
+}
@@ -0,0 +1,31 @@
+package com.cloudsim.cloudsim.model;
+
+public class TraceInfo {
+    private String id;
+    private TraceFormat format;
+    private long sizeBytes;
+    private long uploadedAt;
+
+    public TraceInfo() {}
+
+    public TraceInfo(String id, TraceFormat format, long sizeBytes, long uploadedAt) {
+        this.id = id;
+        this.format = format;
+        this.sizeBytes = sizeBytes;
+        this.uploadedAt = uploadedAt;
+    }
+
+    // SHA-256 of the content, so uploading the same trace twice yields the same id
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public TraceFormat getFormat() { return format; }
+    public void setFormat(TraceFormat format) { this.format = format; }
+
+    public long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(long sizeBytes) { this.sizeBytes = sizeBytes; }
+
+    // Epoch millis
+    public long getUploadedAt() { return uploadedAt; }
+    public void setUploadedAt(long uploadedAt) { this.uploadedAt = uploadedAt; }
+}
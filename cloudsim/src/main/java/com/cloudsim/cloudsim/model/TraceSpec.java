@@ -0,0 +1,80 @@
+package com.cloudsim.cloudsim.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Replays an uploaded job trace instead of a synthetic workload. Records are
+ * read in file order, which both formats expect to be submit-time order.
+ * {@code startTime} and {@code endTime} select a window of the trace in its own
+ * seconds (open-ended when left out) and the first replayed cloudlet arrives at
+ * the window start; {@code samplingRate} keeps that fraction of the records,
+ * chosen reproducibly from {@code seed}. Run times become lengths at
+ * {@code referenceMips}, the speed of one processor of the traced machine.
+ */
+public class TraceSpec {
+    private String id;
+    private Double startTime;
+    private Double endTime;
+    private double samplingRate = 1.0;
+    private double referenceMips = 1000;
+    private long seed = 42;
+    // Resolved from the id by the service; never taken from clients
+    @JsonIgnore
+    private String path;
+
+    public void validate() {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("trace.id is required");
+        }
+        if (startTime != null && endTime != null && endTime <= startTime) {
+            throw new IllegalArgumentException("trace.endTime must be after trace.startTime");
+        }
+        if (!(samplingRate > 0 && samplingRate <= 1)) {
+            throw new IllegalArgumentException("trace.samplingRate must be in (0, 1]");
+        }
+        if (!(referenceMips > 0)) {
+            throw new IllegalArgumentException("trace.referenceMips must be positive");
+        }
+    }
+
+    public TraceSpec copy() {
+        TraceSpec copy = new TraceSpec();
+        copy.id = id;
+        copy.startTime = startTime;
+        copy.endTime = endTime;
+        copy.samplingRate = samplingRate;
+        copy.referenceMips = referenceMips;
+        copy.seed = seed;
+        copy.path = path;
+        return copy;
+    }
+
+    public String canonical() {
+        return id + "," + (startTime != null ? Double.doubleToLongBits(startTime) : "-")
+            + "," + (endTime != null ? Double.doubleToLongBits(endTime) : "-")
+            + "," + Double.doubleToLongBits(samplingRate) + "," + Double.doubleToLongBits(referenceMips) + "," + seed;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Double getStartTime() { return startTime; }
+    public void setStartTime(Double startTime) { this.startTime = startTime; }
+
+    public Double getEndTime() { return endTime; }
+    public void setEndTime(Double endTime) { this.endTime = endTime; }
+
+    public double getSamplingRate() { return samplingRate; }
+    public void setSamplingRate(double samplingRate) { this.samplingRate = samplingRate; }
+
+    public double getReferenceMips() { return referenceMips; }
+    public void setReferenceMips(double referenceMips) { this.referenceMips = referenceMips; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    @JsonIgnore
+    public String getPath() { return path; }
+    @JsonIgnore
+    public void setPath(String path) { this.path = path; }
+}
@@ -0,0 +1,18 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * One variant of a what-if run: what changes once the shared prefix has run.
+ * Parameters left out keep the base request's value, so a branch with only a name
+ * carries on exactly as the base request would.
+ */
+public class WhatIfBranch {
+    private String name;
+    // VMs per user from the fork on; surplus VMs finish the cloudlets they already have
+    private Integer numberOfVms;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public Integer getNumberOfVms() { return numberOfVms; }
+    public void setNumberOfVms(Integer numberOfVms) { this.numberOfVms = numberOfVms; }
+}
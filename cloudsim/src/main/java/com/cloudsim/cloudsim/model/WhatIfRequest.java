@@ -0,0 +1,23 @@
+package com.cloudsim.cloudsim.model;
+
+import java.util.List;
+
+/**
+ * Runs {@code base} once per strategy up to {@code forkAt} simulated seconds, then
+ * every branch from that point on its own copy of the paused simulation, so the
+ * shared prefix is only simulated once.
+ */
+public class WhatIfRequest {
+    private SimulationRequest base;
+    private double forkAt;
+    private List<WhatIfBranch> branches;
+
+    public SimulationRequest getBase() { return base; }
+    public void setBase(SimulationRequest base) { this.base = base; }
+
+    public double getForkAt() { return forkAt; }
+    public void setForkAt(double forkAt) { this.forkAt = forkAt; }
+
+    public List<WhatIfBranch> getBranches() { return branches; }
+    public void setBranches(List<WhatIfBranch> branches) { this.branches = branches; }
+}
@@ -0,0 +1,41 @@
+package com.cloudsim.cloudsim.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One strategy's what-if run. Each branch's result covers the whole run, prefix
+ * included, as if it had been simulated from the start with its changes made at
+ * {@code forkAt}.
+ */
+public class WhatIfResult {
+    private String strategy;
+    private double forkAt;
+    // Wall-clock time of the shared prefix, and of all the branches after it
+    private long prefixMs;
+    private long branchesMs;
+    // By branch name, in request order
+    private Map<String, SimulationResult> branches = new LinkedHashMap<>();
+
+    public WhatIfResult() {}
+
+    public WhatIfResult(String strategy, double forkAt) {
+        this.strategy = strategy;
+        this.forkAt = forkAt;
+    }
+
+    public String getStrategy() { return strategy; }
+    public void setStrategy(String strategy) { this.strategy = strategy; }
+
+    public double getForkAt() { return forkAt; }
+    public void setForkAt(double forkAt) { this.forkAt = forkAt; }
+
+    public long getPrefixMs() { return prefixMs; }
+    public void setPrefixMs(long prefixMs) { this.prefixMs = prefixMs; }
+
+    public long getBranchesMs() { return branchesMs; }
+    public void setBranchesMs(long branchesMs) { this.branchesMs = branchesMs; }
+
+    public Map<String, SimulationResult> getBranches() { return branches; }
+    public void setBranches(Map<String, SimulationResult> branches) { this.branches = branches; }
+}
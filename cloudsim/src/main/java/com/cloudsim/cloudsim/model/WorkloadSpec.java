@@ -0,0 +1,95 @@
+package com.cloudsim.cloudsim.model;
+
+/**
+ * How the {@code numberOfCloudlets} cloudlets of a request are generated. The same
+ * spec and seed always produce the same workload. Leaving it out of a request
+ * means constant 1000 MI cloudlets that all arrive at time zero.
+ */
+public class WorkloadSpec {
+
+    public enum LengthDistribution {
+        CONSTANT,
+        UNIFORM,
+        EXPONENTIAL,
+        PARETO
+    }
+
+    public enum ArrivalProcess {
+        // Everything arrives at time zero
+        BATCH,
+        // Exponential inter-arrival times at arrivalRate
+        POISSON,
+        // Evenly spaced at arrivalRate
+        UNIFORM
+    }
+
+    private LengthDistribution lengthDistribution = LengthDistribution.CONSTANT;
+    private double meanLength = 1000;      // MI
+    private double lengthSpread = 0.5;     // UNIFORM: half-width relative to the mean
+    private double paretoShape = 2.5;      // PARETO: tail index, must be > 1
+    private ArrivalProcess arrivalProcess = ArrivalProcess.BATCH;
+    private double arrivalRate = 100;      // cloudlets per simulated second
+    private int pesPerCloudlet = 1;
+    private long seed = 42;
+
+    public void validate() {
+        if (meanLength < 1) {
+            throw new IllegalArgumentException("meanLength must be at least 1 MI");
+        }
+        if (lengthSpread < 0 || lengthSpread > 1) {
+            throw new IllegalArgumentException("lengthSpread must be between 0 and 1");
+        }
+        if (lengthDistribution == LengthDistribution.PARETO && paretoShape <= 1) {
+            throw new IllegalArgumentException("paretoShape must be greater than 1");
+        }
+        if (arrivalProcess != ArrivalProcess.BATCH && arrivalRate <= 0) {
+            throw new IllegalArgumentException("arrivalRate must be positive");
+        }
+        if (pesPerCloudlet < 1) {
+            throw new IllegalArgumentException("pesPerCloudlet must be at least 1");
+        }
+    }
+
+    public WorkloadSpec copy() {
+        WorkloadSpec copy = new WorkloadSpec();
+        copy.lengthDistribution = lengthDistribution;
+        copy.meanLength = meanLength;
+        copy.lengthSpread = lengthSpread;
+        copy.paretoShape = paretoShape;
+        copy.arrivalProcess = arrivalProcess;
+        copy.arrivalRate = arrivalRate;
+        copy.pesPerCloudlet = pesPerCloudlet;
+        copy.seed = seed;
+        return copy;
+    }
+
+    public String canonical() {
+        return lengthDistribution + "," + Double.doubleToLongBits(meanLength) + "," + Double.doubleToLongBits(lengthSpread)
+            + "," + Double.doubleToLongBits(paretoShape) + "," + arrivalProcess + "," + Double.doubleToLongBits(arrivalRate)
+            + "," + pesPerCloudlet + "," + seed;
+    }
+
+    public LengthDistribution getLengthDistribution() { return lengthDistribution; }
+    public void setLengthDistribution(LengthDistribution lengthDistribution) { this.lengthDistribution = lengthDistribution; }
+
+    public double getMeanLength() { return meanLength; }
+    public void setMeanLength(double meanLength) { this.meanLength = meanLength; }
+
+    public double getLengthSpread() { return lengthSpread; }
+    public void setLengthSpread(double lengthSpread) { this.lengthSpread = lengthSpread; }
+
+    public double getParetoShape() { return paretoShape; }
+    public void setParetoShape(double paretoShape) { this.paretoShape = paretoShape; }
+
+    public ArrivalProcess getArrivalProcess() { return arrivalProcess; }
+    public void setArrivalProcess(ArrivalProcess arrivalProcess) { this.arrivalProcess = arrivalProcess; }
+
+    public double getArrivalRate() { return arrivalRate; }
+    public void setArrivalRate(double arrivalRate) { this.arrivalRate = arrivalRate; }
+
+    public int getPesPerCloudlet() { return pesPerCloudlet; }
+    public void setPesPerCloudlet(int pesPerCloudlet) { this.pesPerCloudlet = pesPerCloudlet; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+}
@@ -0,0 +1,269 @@
+package com.cloudsim.cloudsim.policy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudbus.cloudsim.Host;
+import org.cloudbus.cloudsim.VmAllocationPolicy;
+import org.cloudbus.cloudsim.core.CloudSim;
+
+import com.cloudsim.cloudsim.engine.PolicyProfile;
+import com.cloudsim.cloudsim.engine.SimulationListener;
+import com.cloudsim.cloudsim.engine.SimulationPhase;
+import com.cloudsim.cloudsim.engine.SimulationPolicy;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.WhatIfBranch;
+import com.cloudsim.cloudsim.model.WhatIfResult;
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+import com.cloudsim.cloudsim.policy.metrics.ResultAggregator;
+import com.cloudsim.cloudsim.policy.topology.BatchDatacenter;
+import com.cloudsim.cloudsim.policy.topology.DatacenterTemplate;
+import com.cloudsim.cloudsim.policy.topology.ExpandableVmAllocationPolicySimple;
+import com.cloudsim.cloudsim.policy.topology.VmTemplate;
+import com.cloudsim.cloudsim.policy.workload.CloudletSource;
+import com.cloudsim.cloudsim.policy.workload.TraceCloudletSource;
+import com.cloudsim.cloudsim.policy.workload.WorkloadBroker;
+import com.cloudsim.cloudsim.policy.workload.WorkloadGenerator;
+
+/**
+ * The run every policy shares: set up the kernel, build a datacenter sized for the
+ * request, create the VMs from the policy's template, stream the request's workload (or
+ * trace) through a {@link WorkloadBroker} and measure what comes back. Policies differ only
+ * in their templates, rates and VM placement. Each phase is reported to the
+ * {@link SimulationListener}.
+ *
+ * <p>Every one of the request's users is a tenant with {@code numberOfVms} VMs and
+ * {@code numberOfCloudlets} cloudlets of its own, drawn from the workload with a seed
+ * of its own. The datacenter's CPUs are sized for a single tenant and shared by all
+ * of them, so adding users adds contention rather than capacity.
+ *
+ * <p>A run can also be {@linkplain #fork forked}: paused part way, copied with a
+ * {@link KernelSnapshot}, and carried on in several branches that each change the
+ * tenants' VM counts from then on.
+ */
+public abstract class AbstractSimulationPolicy implements SimulationPolicy {
+
+    // Cloudlets a VM may have in flight before the broker holds further arrivals back
+    private static final int MAX_IN_FLIGHT_PER_VM = 16;
+    private static final double JOULES_PER_WATT_HOUR = 3600;
+
+    private final String name;
+    private final VmTemplate vmTemplate;
+    private final DatacenterTemplate datacenterTemplate;
+
+    protected AbstractSimulationPolicy(String name, VmTemplate vmTemplate, DatacenterTemplate datacenterTemplate) {
+        this.name = name;
+        this.vmTemplate = vmTemplate;
+        this.datacenterTemplate = datacenterTemplate;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public PolicyProfile getProfile() {
+        return new PolicyProfile(name, vmTemplate.getMips(), vmTemplate.getPes(), MAX_IN_FLIGHT_PER_VM,
+            datacenterTemplate.getCostPerSec(), datacenterTemplate.getVmsPerHost(), datacenterTemplate.getPowerCurve(),
+            datacenterTemplate.getCostPerKwh());
+    }
+
+    @Override
+    public SimulationResult run(SimulationRequest request, SimulationListener listener) throws Exception {
+        long start = System.nanoTime();
+        Run run = new Run();
+        try {
+            start = setUp(run, request, listener, start);
+
+            long events;
+            try {
+                events = SimulationLoop.run();
+                CloudSim.stopSimulation();
+            } finally {
+                // Recorded for cancelled runs too, since those are the slow ones
+                start = phaseCompleted(listener, SimulationPhase.RUN, start);
+            }
+
+            SimulationResult result = toResult(run);
+            phaseCompleted(listener, SimulationPhase.RESULT, start);
+            listener.simulationCompleted(name, events, run.aggregator.getProcessed());
+            return result;
+        } finally {
+            run.close();
+        }
+    }
+
+    /**
+     * Runs the request up to {@code forkAt} once and pauses it there. The first
+     * branch carries on with the paused simulation itself, the last one with a
+     * snapshot taken at the pause, and only the ones in between need a copy of their
+     * own; each makes its changes at the pause and then runs to completion.
+     * Listeners see the prefix as one run's phases and every branch as a run of its
+     * own, counting only the events and cloudlets after the pause.
+     */
+    @Override
+    public WhatIfResult fork(SimulationRequest request, double forkAt, List<WhatIfBranch> branches,
+            SimulationListener listener) throws Exception {
+        if (request.getTrace() != null) {
+            // Trace sources read from an open file, which a copy could not share
+            throw new IllegalArgumentException("Traces cannot be forked; use a synthetic workload");
+        }
+        long began = System.nanoTime();
+        long start = began;
+        Run prefix = new Run();
+        try {
+            start = setUp(prefix, request, listener, start);
+            prefix.broker.markPause(forkAt);
+            try {
+                SimulationLoop.runUntil(forkAt);
+            } finally {
+                start = phaseCompleted(listener, SimulationPhase.RUN, start);
+            }
+            long prefixProcessed = prefix.aggregator.getProcessed();
+            WhatIfResult result = new WhatIfResult(name, CloudSim.clock());
+
+            KernelSnapshot snapshot = null;
+            if (branches.size() > 1) {
+                snapshot = KernelSnapshot.take(prefix);
+                start = phaseCompleted(listener, SimulationPhase.SNAPSHOT, start);
+            }
+            long forked = System.nanoTime();
+            result.setPrefixMs(TimeUnit.NANOSECONDS.toMillis(forked - began));
+
+            for (int i = 0; i < branches.size(); i++) {
+                Run run = prefix;
+                if (i == branches.size() - 1 && snapshot != null) {
+                    run = (Run) snapshot.restoreLast()[0];
+                } else if (i > 0) {
+                    run = (Run) snapshot.restore()[0];
+                    start = phaseCompleted(listener, SimulationPhase.SNAPSHOT, start);
+                }
+                applyBranch(run, branches.get(i), result.getForkAt());
+
+                long events;
+                try {
+                    events = SimulationLoop.resume();
+                    CloudSim.stopSimulation();
+                } finally {
+                    start = phaseCompleted(listener, SimulationPhase.RUN, start);
+                }
+                result.getBranches().put(branches.get(i).getName(), toResult(run));
+                start = phaseCompleted(listener, SimulationPhase.RESULT, start);
+                listener.simulationCompleted(name, events, run.aggregator.getProcessed() - prefixProcessed);
+            }
+            result.setBranchesMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - forked));
+            return result;
+        } finally {
+            // Copies share nothing that needs closing: synthetic workloads hold no files
+            prefix.close();
+        }
+    }
+
+    // CloudSim.init up to handing the VMs to the kernel; returns when the last phase ended
+    private long setUp(Run run, SimulationRequest request, SimulationListener listener, long start)
+            throws Exception {
+        run.users = Math.max(1, request.getNumberOfUsers());
+        run.vmsPerUser = Math.max(0, request.getNumberOfVms());
+        run.vmRam = request.getVmRam();
+        CloudSim.init(run.users, Calendar.getInstance(), false);
+        KernelQueues.install(request.getEventQueue());
+        start = phaseCompleted(listener, SimulationPhase.INIT, start);
+
+        run.datacenter = datacenterTemplate.build("Datacenter_0", run.vmsPerUser, vmTemplate, run.vmRam, run.users,
+            this::createVmAllocationPolicy);
+        start = phaseCompleted(listener, SimulationPhase.CREATE_DATACENTER, start);
+
+        // Cloudlets are generated lazily from the request's workload (or read from its trace),
+        // submitted as they arrive and folded into the result as they finish
+        run.aggregator = new ResultAggregator(request.getSlaThreshold(), run.users, run.vmsPerUser);
+        for (int user = 0; user < run.users; user++) {
+            run.sources.add(createCloudletSource(request, user));
+        }
+        // One broker serves every tenant; VM ids are handed out in tenant order
+        run.broker = new WorkloadBroker("Broker", run.sources, run.vmsPerUser,
+            WorkloadBroker.DEFAULT_BATCH_SIZE, MAX_IN_FLIGHT_PER_VM, run.aggregator);
+        int vmCount = Math.multiplyExact(run.users, run.vmsPerUser);
+        run.broker.submitVmList(vmTemplate.create(vmCount, run.broker.getId(), run.vmRam));
+        return phaseCompleted(listener, SimulationPhase.SUBMIT, start);
+    }
+
+    // Makes a branch's changes to a simulation paused at the fork; a run that already finished has nothing to change
+    private void applyBranch(Run run, WhatIfBranch branch, double forkAt) {
+        Integer vmsPerUser = branch.getNumberOfVms();
+        if (vmsPerUser == null || vmsPerUser == run.vmsPerUser || run.broker.isFinished()) {
+            return;
+        }
+        int[] before = run.broker.getTenantVmsCreatedCounts();
+        // Up to the fork the hosts ran as they were
+        run.datacenter.meter(forkAt);
+        if (vmsPerUser > run.vmsPerUser) {
+            datacenterTemplate.extend(run.datacenter, vmsPerUser - run.vmsPerUser, vmTemplate, run.vmRam, run.users);
+        }
+        int brokerId = run.broker.getId();
+        run.broker.rescale(vmsPerUser, id -> vmTemplate.createVm(id, brokerId, run.vmRam));
+        run.aggregator.rescaled(forkAt, before);
+    }
+
+    // Metrics come from the cloudlets that actually ran, energy from the hosts up to the last of them finishing
+    private SimulationResult toResult(Run run) {
+        double joules = run.datacenter.meter(run.aggregator.getLastFinish());
+        return run.aggregator.toResult(name, run.broker.getVmList(), run.broker.getTenantVmsCreatedCounts(),
+            datacenterTemplate.getCostPerSec(), joules / JOULES_PER_WATT_HOUR, datacenterTemplate.getCostPerKwh());
+    }
+
+    private static CloudletSource createCloudletSource(SimulationRequest request, int user) throws IOException {
+        if (request.getTrace() != null) {
+            return new TraceCloudletSource(request.getTrace(), request.getNumberOfCloudlets());
+        }
+        if (user == 0) {
+            return new WorkloadGenerator(request.getWorkload(), request.getNumberOfCloudlets());
+        }
+        // The same workload shape, but every other user draws different cloudlets
+        WorkloadSpec spec = (request.getWorkload() != null ? request.getWorkload() : new WorkloadSpec()).copy();
+        spec.setSeed(tenantSeed(spec.getSeed(), user));
+        return new WorkloadGenerator(spec, request.getNumberOfCloudlets());
+    }
+
+    // SplitMix64's finalizer, so that neighbouring users get unrelated seeds
+    private static long tenantSeed(long seed, int user) {
+        long z = seed + user * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** How the datacenter places VMs on its hosts; CloudSim's first-fit-by-free-PEs unless overridden. */
+    protected VmAllocationPolicy createVmAllocationPolicy(List<Host> hosts) {
+        return new ExpandableVmAllocationPolicySimple(hosts);
+    }
+
+    private long phaseCompleted(SimulationListener listener, SimulationPhase phase, long start) {
+        long now = System.nanoTime();
+        listener.phaseCompleted(name, phase, now - start);
+        return now;
+    }
+
+    /** What one run keeps outside the kernel; a snapshot copies it along with the kernel. */
+    private static final class Run implements Closeable {
+        int users;
+        int vmsPerUser;
+        int vmRam;
+        BatchDatacenter datacenter;
+        ResultAggregator aggregator;
+        final List<CloudletSource> sources = new ArrayList<>();
+        WorkloadBroker broker;
+
+        @Override
+        public void close() throws IOException {
+            for (CloudletSource source : sources) {
+                source.close();
+            }
+        }
+    }
+}
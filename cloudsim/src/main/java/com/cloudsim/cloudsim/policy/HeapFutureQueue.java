@@ -0,0 +1,305 @@
+package com.cloudsim.cloudsim.policy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.cloudbus.cloudsim.core.FutureQueue;
+import org.cloudbus.cloudsim.core.SimEvent;
+
+/**
+ * Drop-in replacement for CloudSim's {@link FutureQueue} backed by a 4-ary heap over
+ * primitive keys instead of a {@code TreeSet}, so queueing an event allocates
+ * nothing once the arrays have grown. Events come out in exactly the stock order:
+ * by time, then by serial ({@link #addEventFirst} uses serial 0 like the stock
+ * queue), then by insertion. The one exception is two serial-0 events at the same
+ * time, which the stock queue's comparator cannot tell apart; only
+ * {@code sendFirst} creates those, and nothing here calls it.
+ *
+ * <p>The kernel reads the queue through its iterator: it takes the first event,
+ * removes it, then walks the events at the same time and removes those. Iterating
+ * therefore pops events off the heap into a sorted run at the front, which stays
+ * ahead of everything still in the heap, and removals are taken from the head of
+ * that run. Events added while the run holds later ones are rare (the kernel never
+ * does it while iterating) and put the run back into the heap.
+ */
+public final class HeapFutureQueue extends FutureQueue {
+
+    private static final int ARITY = 4;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private double[] times = new double[INITIAL_CAPACITY];
+    private long[] serials = new long[INITIAL_CAPACITY];
+    private long[] orders = new long[INITIAL_CAPACITY];
+    private SimEvent[] events = new SimEvent[INITIAL_CAPACITY];
+    private int heapSize;
+
+    // Sorted run popped off the heap, from runStart to runEnd
+    private double[] runTimes = new double[INITIAL_CAPACITY];
+    private long[] runSerials = new long[INITIAL_CAPACITY];
+    private long[] runOrders = new long[INITIAL_CAPACITY];
+    private SimEvent[] runEvents = new SimEvent[INITIAL_CAPACITY];
+    private int runStart;
+    private int runEnd;
+
+    private long serial;
+    private long order;
+    private int modifications;
+
+    @Override
+    public void addEvent(SimEvent newEvent) {
+        add(newEvent, serial++);
+    }
+
+    @Override
+    public void addEventFirst(SimEvent newEvent) {
+        add(newEvent, 0);
+    }
+
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return new InOrder();
+    }
+
+    @Override
+    public int size() {
+        return heapSize + runEnd - runStart;
+    }
+
+    @Override
+    public boolean remove(SimEvent event) {
+        for (int i = runStart; i < runEnd; i++) {
+            if (runEvents[i] == event) {
+                removeFromRun(i);
+                return true;
+            }
+        }
+        for (int i = 0; i < heapSize; i++) {
+            if (events[i] == event) {
+                removeFromHeap(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeAll(Collection<SimEvent> toRemove) {
+        boolean changed = false;
+        for (SimEvent event : toRemove) {
+            changed |= remove(event);
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(events, 0, heapSize, null);
+        Arrays.fill(runEvents, runStart, runEnd, null);
+        heapSize = 0;
+        runStart = 0;
+        runEnd = 0;
+        modifications++;
+    }
+
+    private void add(SimEvent event, long eventSerial) {
+        double time = event.eventTime();
+        long eventOrder = order++;
+        if (runEnd > runStart && before(time, eventSerial, eventOrder,
+                runTimes[runEnd - 1], runSerials[runEnd - 1], runOrders[runEnd - 1])) {
+            // The new event belongs inside the run, so the run goes back into the heap
+            for (int i = runStart; i < runEnd; i++) {
+                push(runTimes[i], runSerials[i], runOrders[i], runEvents[i]);
+                runEvents[i] = null;
+            }
+            runStart = 0;
+            runEnd = 0;
+        }
+        push(time, eventSerial, eventOrder, event);
+        modifications++;
+    }
+
+    private static boolean before(double time, long serial, long order, double otherTime, long otherSerial,
+            long otherOrder) {
+        if (time != otherTime) {
+            return time < otherTime;
+        }
+        if (serial != otherSerial) {
+            return serial < otherSerial;
+        }
+        return order < otherOrder;
+    }
+
+    private boolean before(int a, int b) {
+        return before(times[a], serials[a], orders[a], times[b], serials[b], orders[b]);
+    }
+
+    private void push(double time, long eventSerial, long eventOrder, SimEvent event) {
+        if (heapSize == events.length) {
+            int capacity = events.length * 2;
+            times = Arrays.copyOf(times, capacity);
+            serials = Arrays.copyOf(serials, capacity);
+            orders = Arrays.copyOf(orders, capacity);
+            events = Arrays.copyOf(events, capacity);
+        }
+        int position = heapSize++;
+        set(position, time, eventSerial, eventOrder, event);
+        siftUp(position);
+    }
+
+    // Moves the heap's first event to the end of the run
+    private void popIntoRun() {
+        if (runEnd == runEvents.length) {
+            if (runStart > 0) {
+                int length = runEnd - runStart;
+                System.arraycopy(runTimes, runStart, runTimes, 0, length);
+                System.arraycopy(runSerials, runStart, runSerials, 0, length);
+                System.arraycopy(runOrders, runStart, runOrders, 0, length);
+                System.arraycopy(runEvents, runStart, runEvents, 0, length);
+                Arrays.fill(runEvents, length, runEnd, null);
+                runStart = 0;
+                runEnd = length;
+            } else {
+                int capacity = runEvents.length * 2;
+                runTimes = Arrays.copyOf(runTimes, capacity);
+                runSerials = Arrays.copyOf(runSerials, capacity);
+                runOrders = Arrays.copyOf(runOrders, capacity);
+                runEvents = Arrays.copyOf(runEvents, capacity);
+            }
+        }
+        runTimes[runEnd] = times[0];
+        runSerials[runEnd] = serials[0];
+        runOrders[runEnd] = orders[0];
+        runEvents[runEnd] = events[0];
+        runEnd++;
+        removeFromHeap(0);
+    }
+
+    private void removeFromRun(int index) {
+        if (index == runStart) {
+            runEvents[runStart++] = null;
+        } else {
+            int tail = runEnd - index - 1;
+            System.arraycopy(runTimes, index + 1, runTimes, index, tail);
+            System.arraycopy(runSerials, index + 1, runSerials, index, tail);
+            System.arraycopy(runOrders, index + 1, runOrders, index, tail);
+            System.arraycopy(runEvents, index + 1, runEvents, index, tail);
+            runEvents[--runEnd] = null;
+        }
+        if (runStart == runEnd) {
+            runStart = 0;
+            runEnd = 0;
+        }
+        modifications++;
+    }
+
+    private void removeFromHeap(int position) {
+        int last = --heapSize;
+        if (position != last) {
+            set(position, times[last], serials[last], orders[last], events[last]);
+            events[last] = null;
+            siftDown(position);
+            siftUp(position);
+        } else {
+            events[last] = null;
+        }
+        modifications++;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / ARITY;
+            if (!before(position, parent)) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int first = position * ARITY + 1;
+            if (first >= heapSize) {
+                break;
+            }
+            int smallest = first;
+            int end = Math.min(first + ARITY, heapSize);
+            for (int child = first + 1; child < end; child++) {
+                if (before(child, smallest)) {
+                    smallest = child;
+                }
+            }
+            if (!before(smallest, position)) {
+                break;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void set(int position, double time, long eventSerial, long eventOrder, SimEvent event) {
+        times[position] = time;
+        serials[position] = eventSerial;
+        orders[position] = eventOrder;
+        events[position] = event;
+    }
+
+    private void swap(int a, int b) {
+        double time = times[a];
+        long eventSerial = serials[a];
+        long eventOrder = orders[a];
+        SimEvent event = events[a];
+        set(a, times[b], serials[b], orders[b], events[b]);
+        set(b, time, eventSerial, eventOrder, event);
+    }
+
+    /** Walks the run, extending it from the heap as it goes; fails fast like the stock iterator. */
+    private final class InOrder implements Iterator<SimEvent> {
+        // Offset into the run, which stays valid while the run's start does not move
+        private int offset;
+        private int lastReturned = -1;
+        private int expectedModifications = modifications;
+
+        @Override
+        public boolean hasNext() {
+            return runStart + offset < runEnd || heapSize > 0;
+        }
+
+        @Override
+        public SimEvent next() {
+            checkForComodification();
+            if (runStart + offset == runEnd) {
+                if (heapSize == 0) {
+                    throw new NoSuchElementException();
+                }
+                // Compacting the run moves its start, not the iterator's offset into it
+                popIntoRun();
+                expectedModifications = modifications;
+            }
+            lastReturned = offset;
+            return runEvents[runStart + offset++];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            // Either the start advances or the tail shifts down; the next event is one offset closer
+            removeFromRun(runStart + lastReturned);
+            offset--;
+            lastReturned = -1;
+            expectedModifications = modifications;
+        }
+
+        private void checkForComodification() {
+            if (modifications != expectedModifications) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.cloudsim.cloudsim.policy;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+
+import com.cloudsim.cloudsim.model.EventQueueType;
+
+/**
+ * Access to the kernel's event queues, which CloudSim only exposes to subclasses.
+ */
+final class KernelQueues extends CloudSim {
+
+    private KernelQueues() {
+    }
+
+    /**
+     * Swaps in the given future queue. Must be called between {@code CloudSim.init}
+     * and the first event, while the queue CloudSim created is still empty.
+     */
+    static void install(EventQueueType type) {
+        if (type == EventQueueType.HEAP) {
+            future = new HeapFutureQueue();
+        }
+    }
+
+    /** Events moved out of the future queue and waiting to be handled by their entities. */
+    static int deferredSize() {
+        return deferred.size();
+    }
+}
@@ -0,0 +1,313 @@
+package com.cloudsim.cloudsim.policy;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.Format;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.springframework.objenesis.ObjenesisException;
+import org.springframework.objenesis.SpringObjenesis;
+
+/**
+ * A paused simulation, frozen so that it can be resumed more than once. Taking a
+ * snapshot deep-copies every mutable static of {@link CloudSim} (its entities, both
+ * event queues, the clock and so on) together with the given roots, which hold
+ * whatever the policy keeps outside the kernel; {@link #restore()} writes a fresh
+ * copy of all of it back into CloudSim and returns the roots' copies. Objects
+ * reachable from several places stay shared in every copy.
+ *
+ * <p>Objects are copied field by field unless their class belongs to the JDK, which
+ * covers CloudSim, the policies and the models. Of the JDK, a run only holds a few
+ * kinds of object: collections, rebuilt through their public methods in iteration
+ * order (which keeps a {@code PriorityQueue}'s heap layout as it was); calendars and
+ * formats, which clone themselves; and immutable values, enum constants and the
+ * JDK's own lambdas (comparators), which are shared. Anything else fails the
+ * snapshot rather than being shared by accident.
+ */
+final class KernelSnapshot {
+
+    private static final Field[] STATICS = mutableStatics(CloudSim.class);
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            return instanceFields(type);
+        }
+    };
+
+    // Allocates without running any constructor but Object's; every field is filled in from the original
+    private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+    private Object[] statics;
+    private Object[] roots;
+
+    private KernelSnapshot(Object[] statics, Object[] roots) {
+        this.statics = statics;
+        this.roots = roots;
+    }
+
+    /** Copies the paused kernel and the given roots; the originals carry on untouched. */
+    static KernelSnapshot take(Object... roots) {
+        Object[] statics = new Object[STATICS.length];
+        for (int i = 0; i < STATICS.length; i++) {
+            statics[i] = read(STATICS[i]);
+        }
+        Copier copier = new Copier();
+        Object[] copies = copier.copy(new Object[][] {statics, roots});
+        copier.finish();
+        return new KernelSnapshot((Object[]) copies[0], (Object[]) copies[1]);
+    }
+
+    /** Puts a copy of the snapshot into the kernel and returns the copies of its roots. */
+    Object[] restore() {
+        Copier copier = new Copier();
+        Object[] copies = copier.copy(new Object[][] {statics, roots});
+        copier.finish();
+        install((Object[]) copies[0]);
+        return (Object[]) copies[1];
+    }
+
+    /** As {@link #restore()} for the last time: the snapshot itself goes into the kernel, uncopied. */
+    Object[] restoreLast() {
+        install(statics);
+        Object[] last = roots;
+        statics = null;
+        roots = null;
+        return last;
+    }
+
+    private static void install(Object[] values) {
+        for (int i = 0; i < STATICS.length; i++) {
+            try {
+                STATICS[i].set(null, values[i]);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static Object read(Field field) {
+        try {
+            return field.get(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Field[] mutableStatics(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    private static Field[] instanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (c.getModule().isNamed()) {
+                    throw new IllegalStateException("Cannot snapshot " + type.getName() + ": it extends " + c.getName());
+                }
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    /**
+     * One deep copy. Objects are allocated as they are first reached and filled in
+     * breadth first, so long chains of references do not recurse; collections are
+     * filled last, once every element is complete, since sets and maps hash and
+     * compare their elements as they go in.
+     */
+    private static final class Copier {
+
+        private static final Set<Class<?>> IMMUTABLE = Set.of(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class,
+            BigDecimal.class, Class.class, Collections.emptyList().getClass(), Collections.emptySet().getClass(),
+            Collections.emptyMap().getClass());
+
+        private final IdentityHashMap<Object, Object> copies = new IdentityHashMap<>();
+        // Originals whose copies still have to be filled in
+        private final ArrayDeque<Object> unfilled = new ArrayDeque<>();
+        private final List<Runnable> collections = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        <T> T copy(T original) {
+            if (original == null) {
+                return null;
+            }
+            Object copy = copies.get(original);
+            if (copy != null) {
+                return (T) copy;
+            }
+            Class<?> type = original.getClass();
+            if (isShared(type)) {
+                return original;
+            }
+            if (type.isArray()) {
+                int length = Array.getLength(original);
+                copy = Array.newInstance(type.getComponentType(), length);
+                if (type.getComponentType().isPrimitive()) {
+                    System.arraycopy(original, 0, copy, 0, length);
+                    copies.put(original, copy);
+                    return (T) copy;
+                }
+            } else if (!type.getModule().isNamed()) {
+                copy = allocate(type);
+            } else if (original instanceof Calendar calendar) {
+                copy = calendar.clone();
+                copies.put(original, copy);
+                return (T) copy;
+            } else if (original instanceof Format format) {
+                copy = format.clone();
+                copies.put(original, copy);
+                return (T) copy;
+            } else if (type == Object.class) {
+                copy = new Object();
+                copies.put(original, copy);
+                return (T) copy;
+            } else {
+                copy = emptyCollection(original);
+            }
+            copies.put(original, copy);
+            unfilled.add(original);
+            return (T) copy;
+        }
+
+        void finish() {
+            Object original;
+            while ((original = unfilled.poll()) != null) {
+                fill(original, copies.get(original));
+            }
+            for (Runnable collection : collections) {
+                collection.run();
+            }
+        }
+
+        private void fill(Object original, Object copy) {
+            Class<?> type = original.getClass();
+            if (type.isArray()) {
+                Object[] from = (Object[]) original;
+                Object[] to = (Object[]) copy;
+                for (int i = 0; i < from.length; i++) {
+                    to[i] = copy(from[i]);
+                }
+            } else if (original instanceof Map<?, ?> map) {
+                List<Object> entries = new ArrayList<>(map.size() * 2);
+                map.forEach((key, value) -> {
+                    entries.add(copy(key));
+                    entries.add(copy(value));
+                });
+                @SuppressWarnings("unchecked")
+                Map<Object, Object> target = (Map<Object, Object>) copy;
+                collections.add(() -> {
+                    for (int i = 0; i < entries.size(); i += 2) {
+                        target.put(entries.get(i), entries.get(i + 1));
+                    }
+                });
+            } else if (original instanceof Collection<?> collection) {
+                List<Object> elements = new ArrayList<>(collection.size());
+                for (Object element : collection) {
+                    elements.add(copy(element));
+                }
+                @SuppressWarnings("unchecked")
+                Collection<Object> target = (Collection<Object>) copy;
+                collections.add(() -> target.addAll(elements));
+            } else {
+                for (Field field : FIELDS.get(type)) {
+                    try {
+                        if (field.getType().isPrimitive()) {
+                            field.set(copy, field.get(original));
+                        } else {
+                            field.set(copy, copy(field.get(original)));
+                        }
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+
+        private static Object allocate(Class<?> type) {
+            if (type.isHidden()) {
+                throw new IllegalStateException("Cannot snapshot a lambda that captures state: " + type.getName());
+            }
+            try {
+                return OBJENESIS.newInstance(type);
+            } catch (ObjenesisException e) {
+                throw new IllegalStateException("Cannot snapshot " + type.getName(), e);
+            }
+        }
+
+        // Exact classes only: a subclass may hold state these constructors would not carry over
+        private static Object emptyCollection(Object original) {
+            Class<?> type = original.getClass();
+            if (type == ArrayList.class) {
+                return new ArrayList<>(((ArrayList<?>) original).size());
+            } else if (type == LinkedList.class) {
+                return new LinkedList<>();
+            } else if (type == ArrayDeque.class) {
+                return new ArrayDeque<>();
+            } else if (type == HashMap.class) {
+                return new HashMap<>();
+            } else if (type == LinkedHashMap.class) {
+                return new LinkedHashMap<>();
+            } else if (type == IdentityHashMap.class) {
+                return new IdentityHashMap<>();
+            } else if (type == HashSet.class) {
+                return new HashSet<>();
+            } else if (type == LinkedHashSet.class) {
+                return new LinkedHashSet<>();
+            } else if (type == TreeMap.class) {
+                return new TreeMap<>(((TreeMap<?, ?>) original).comparator());
+            } else if (type == TreeSet.class) {
+                return new TreeSet<>(((TreeSet<?>) original).comparator());
+            } else if (type == PriorityQueue.class) {
+                PriorityQueue<?> queue = (PriorityQueue<?>) original;
+                return new PriorityQueue<>(Math.max(1, queue.size()), queue.comparator());
+            }
+            throw new IllegalStateException("Cannot snapshot a " + type.getName());
+        }
+
+        private static boolean isShared(Class<?> type) {
+            if (type.isHidden()) {
+                // The JDK's comparator combinators only capture other functions; ours must capture nothing
+                return type.getModule().isNamed() || Arrays.stream(type.getDeclaredFields())
+                    .allMatch(field -> Modifier.isStatic(field.getModifiers()));
+            }
+            return type.isEnum() || (type.getSuperclass() != null && type.getSuperclass().isEnum())
+                || IMMUTABLE.contains(type);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.cloudsim.cloudsim.policy;
+
+import java.util.concurrent.CancellationException;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+
+/**
+ * Drives the CloudSim event loop in place of {@link CloudSim#startSimulation()}.
+ * The stock loop never looks at the calling thread, so a run that timed out or was
+ * cancelled would keep its kernel busy until the last event; this one checks for
+ * interruption between clock ticks and tears the kernel down early. It can also
+ * stop part way, so that a paused simulation can be copied and resumed.
+ */
+public final class SimulationLoop {
+
+    private SimulationLoop() {
+    }
+
+    /**
+     * Runs the initialised simulation to completion and returns the number of events
+     * processed.
+     *
+     * @throws CancellationException if the calling thread was interrupted
+     */
+    public static long run() {
+        CloudSim.runStart();
+        return resume();
+    }
+
+    /**
+     * Starts the initialised simulation and runs it until the clock reaches
+     * {@code time}, or until it runs out of events if that comes first. Events due
+     * at {@code time} have been taken off the future queue but not yet handled.
+     *
+     * @throws CancellationException if the calling thread was interrupted
+     */
+    public static long runUntil(double time) {
+        CloudSim.runStart();
+        return advance(time);
+    }
+
+    /**
+     * Runs a simulation paused by {@link #runUntil} to completion.
+     *
+     * @throws CancellationException if the calling thread was interrupted
+     */
+    public static long resume() {
+        long events = advance(Double.POSITIVE_INFINITY);
+        CloudSim.finishSimulation();
+        return events;
+    }
+
+    private static long advance(double time) {
+        long events = 0;
+        // Events a tick moves to the deferred queue are handled by the entities in the next one
+        while (CloudSim.clock() < time && !CloudSim.runClockTick()) {
+            events += KernelQueues.deferredSize();
+            if (Thread.currentThread().isInterrupted()) {
+                double clock = CloudSim.clock();
+                CloudSim.abruptallyTerminate();
+                CloudSim.finishSimulation();
+                throw new CancellationException("Simulation interrupted at clock " + clock);
+            }
+        }
+        return events;
+    }
+}
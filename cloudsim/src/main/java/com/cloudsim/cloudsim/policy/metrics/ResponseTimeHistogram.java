@@ -0,0 +1,119 @@
+package com.cloudsim.cloudsim.policy.metrics;
+
+/**
+ * Bounded histogram of non-negative times with logarithmic buckets, so
+ * percentiles can be read after any number of samples without keeping them.
+ * Buckets are 1% wide from a microsecond up to about thirty years; a reported
+ * percentile is within half a bucket (0.5%) of the exact value. Only the range of
+ * buckets that has been hit is allocated, typically a few hundred, which keeps
+ * one histogram per tenant affordable.
+ */
+public class ResponseTimeHistogram {
+
+    private static final double MIN_VALUE = 1e-6;
+    private static final double MAX_VALUE = 1e9;
+    private static final double GROWTH = 1.01;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+
+    // Bucket 0 holds everything below MIN_VALUE, the last one everything from MAX_VALUE up
+    private static final int BUCKETS = (int) Math.ceil(Math.log(MAX_VALUE / MIN_VALUE) / LOG_GROWTH) + 2;
+
+    // counts[i] is bucket offset + i
+    private long[] counts = new long[0];
+    private int offset;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max;
+
+    public void record(double value) {
+        if (value < 0 || Double.isNaN(value)) {
+            throw new IllegalArgumentException("Times must be non-negative: " + value);
+        }
+        int bucket = bucketOf(value);
+        if (bucket < offset || bucket >= offset + counts.length) {
+            grow(bucket);
+        }
+        counts[bucket - offset]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    public double getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /** The value below which {@code percentile} percent of the samples fall, 0 if there are none. */
+    public double getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        if (rank >= count) {
+            return max;
+        }
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // The exact extremes are known, so never report beyond them
+                return Math.min(max, Math.max(min, midpointOf(offset + i)));
+            }
+        }
+        return max;
+    }
+
+    // At least doubles the allocated range, so growing costs amortized constant time per sample
+    private void grow(int bucket) {
+        int from;
+        int to;
+        if (counts.length == 0) {
+            from = bucket;
+            to = bucket + 1;
+        } else {
+            from = Math.min(offset, bucket);
+            to = Math.max(offset + counts.length, bucket + 1);
+        }
+        int slack = Math.max(counts.length, 32);
+        if (bucket < offset) {
+            from = Math.max(0, from - slack);
+        } else {
+            to = Math.min(BUCKETS, to + slack);
+        }
+        long[] grown = new long[to - from];
+        if (counts.length > 0) {
+            System.arraycopy(counts, 0, grown, offset - from, counts.length);
+        }
+        counts = grown;
+        offset = from;
+    }
+
+    private static int bucketOf(double value) {
+        if (value < MIN_VALUE) {
+            return 0;
+        }
+        int bucket = 1 + (int) (Math.log(value / MIN_VALUE) / LOG_GROWTH);
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    private static double midpointOf(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+        return MIN_VALUE * Math.pow(GROWTH, bucket - 0.5);
+    }
+}
@@ -0,0 +1,237 @@
+package com.cloudsim.cloudsim.policy.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.TenantResult;
+import com.cloudsim.cloudsim.policy.workload.WorkloadCloudlet;
+
+/**
+ * Turns finished cloudlets into a {@link SimulationResult} in one pass. Each
+ * cloudlet is folded into running sums, a {@link ResponseTimeHistogram} and a
+ * per-VM counter and then forgotten, so memory depends on the number of VMs but
+ * not on the number of cloudlets.
+ *
+ * <p>With several tenants, each tenant's cloudlets are also folded into the same
+ * sums of its own. A {@link WorkloadCloudlet} says which tenant it belongs to; any
+ * other cloudlet is told apart by VM id: tenant t owns the VMs with ids
+ * {@code t * vmsPerTenant} up to {@code (t + 1) * vmsPerTenant - 1}.
+ */
+public class ResultAggregator implements Consumer<Cloudlet> {
+
+    private static final double WATT_HOURS_PER_KWH = 1000;
+
+    private final double slaThreshold;
+    // Instructions executed per VM id; ids are small and dense, so this stays tiny
+    private double[] vmBusyLength = new double[0];
+
+    private final ResponseTimeHistogram responseTimes = new ResponseTimeHistogram();
+    private long processed;
+    private long slaViolations;
+    private double cpuTimeSum;
+    private double waitTimeSum;
+    private double firstArrival = Double.POSITIVE_INFINITY;
+    private double lastFinish;
+
+    private final int tenants;
+    private final int vmsPerTenant;
+    // Per tenant, only kept when there is more than one
+    private final long[] tenantProcessed;
+    private final long[] tenantSlaViolations;
+    private final double[] tenantFirstArrival;
+    private final double[] tenantLastFinish;
+    private final ResponseTimeHistogram[] tenantResponseTimes;
+
+    // Set when the tenants' VM counts changed part way through the run
+    private double rescaledAt = Double.NaN;
+    private int[] tenantVmsBeforeRescale;
+
+    /**
+     * @param slaThreshold response time in seconds above which a cloudlet counts as
+     *            an SLA violation, or 0 for no SLA
+     */
+    public ResultAggregator(double slaThreshold) {
+        this(slaThreshold, 1, 1);
+    }
+
+    public ResultAggregator(double slaThreshold, int tenants, int vmsPerTenant) {
+        this.slaThreshold = slaThreshold;
+        this.tenants = tenants > 1 && vmsPerTenant > 0 ? tenants : 1;
+        this.vmsPerTenant = Math.max(1, vmsPerTenant);
+        int tracked = this.tenants > 1 ? this.tenants : 0;
+        this.tenantProcessed = new long[tracked];
+        this.tenantSlaViolations = new long[tracked];
+        this.tenantFirstArrival = new double[tracked];
+        this.tenantLastFinish = new double[tracked];
+        Arrays.fill(tenantFirstArrival, Double.POSITIVE_INFINITY);
+        // Histograms allocate their buckets lazily, so thousands of them stay cheap
+        this.tenantResponseTimes = new ResponseTimeHistogram[tracked];
+        for (int t = 0; t < tracked; t++) {
+            tenantResponseTimes[t] = new ResponseTimeHistogram();
+        }
+    }
+
+    @Override
+    public void accept(Cloudlet cloudlet) {
+        if (cloudlet.getCloudletStatus() != Cloudlet.SUCCESS) {
+            return;
+        }
+        WorkloadCloudlet workloadCloudlet = cloudlet instanceof WorkloadCloudlet
+            ? (WorkloadCloudlet) cloudlet
+            : null;
+        double arrival = workloadCloudlet != null ? workloadCloudlet.getArrivalTime() : cloudlet.getSubmissionTime();
+        double finish = cloudlet.getFinishTime();
+        double responseTime = Math.max(0, finish - arrival);
+
+        processed++;
+        responseTimes.record(responseTime);
+        cpuTimeSum += cloudlet.getActualCPUTime();
+        waitTimeSum += Math.max(0, cloudlet.getExecStartTime() - arrival);
+        firstArrival = Math.min(firstArrival, arrival);
+        lastFinish = Math.max(lastFinish, finish);
+        boolean violated = slaThreshold > 0 && responseTime > slaThreshold;
+        if (violated) {
+            slaViolations++;
+        }
+
+        int vmId = cloudlet.getVmId();
+        if (tenants > 1) {
+            int tenant = workloadCloudlet != null ? workloadCloudlet.getTenant() : vmId / vmsPerTenant;
+            tenantProcessed[tenant]++;
+            tenantResponseTimes[tenant].record(responseTime);
+            tenantFirstArrival[tenant] = Math.min(tenantFirstArrival[tenant], arrival);
+            tenantLastFinish[tenant] = Math.max(tenantLastFinish[tenant], finish);
+            if (violated) {
+                tenantSlaViolations[tenant]++;
+            }
+        }
+        if (vmId >= vmBusyLength.length) {
+            vmBusyLength = Arrays.copyOf(vmBusyLength, Math.max(vmId + 1, vmBusyLength.length * 2));
+        }
+        vmBusyLength[vmId] += cloudlet.getCloudletTotalLength();
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    /** Time from the first arrival to the last completion, 0 if nothing finished. */
+    public double getMakespan() {
+        return processed == 0 ? 0 : lastFinish - firstArrival;
+    }
+
+    /** Completion time of the last cloudlet to finish, 0 if nothing finished. */
+    public double getLastFinish() {
+        return lastFinish;
+    }
+
+    /**
+     * Records that from {@code time} on the tenants ran with the VMs later passed to
+     * {@link #toResult} rather than with {@code tenantVmsBefore}, in tenant order.
+     * VM-time cost then charges each part of a makespan for the VMs it had.
+     */
+    public void rescaled(double time, int[] tenantVmsBefore) {
+        this.rescaledAt = time;
+        this.tenantVmsBeforeRescale = tenantVmsBefore.clone();
+    }
+
+    /**
+     * Builds the result. Each created VM is charged for the whole makespan at the
+     * given rate, whether or not it was busy, and the energy the hosts drew, in
+     * watt-hours, at {@code costPerKwh} on top; utilization is reported for every
+     * requested VM, so ones that never came up show 0.
+     */
+    public SimulationResult toResult(String strategy, List<Vm> vms, int vmsCreated, double costPerSec,
+            double energy, double costPerKwh) {
+        return toResult(strategy, vms, new int[] {vmsCreated}, costPerSec, energy, costPerKwh);
+    }
+
+    /** As above, with the VMs each tenant got created, in tenant order. */
+    public SimulationResult toResult(String strategy, List<Vm> vms, int[] tenantVmsCreated, double costPerSec,
+            double energy, double costPerKwh) {
+        int vmsCreated = 0;
+        for (int created : tenantVmsCreated) {
+            vmsCreated += created;
+        }
+        double makespan = getMakespan();
+        double slaViolation = slaThreshold > 0 && makespan > slaThreshold
+            ? (makespan - slaThreshold) / slaThreshold
+            : 0.0;
+
+        double vmSeconds;
+        if (Double.isNaN(rescaledAt)) {
+            vmSeconds = makespan * vmsCreated;
+        } else {
+            int vmsBefore = 0;
+            for (int before : tenantVmsBeforeRescale) {
+                vmsBefore += before;
+            }
+            vmSeconds = processed == 0 ? 0 : vmSeconds(firstArrival, lastFinish, vmsBefore, vmsCreated);
+        }
+        SimulationResult result = new SimulationResult(strategy, makespan,
+            vmSeconds * costPerSec + energy / WATT_HOURS_PER_KWH * costPerKwh, energy, slaViolation);
+        result.setMakespan(makespan);
+        result.setTotalCloudletsProcessed((int) processed);
+        result.setAverageExecutionTime(processed == 0 ? 0 : cpuTimeSum / processed);
+        result.setMeanWaitTime(processed == 0 ? 0 : waitTimeSum / processed);
+        result.setMeanResponseTime(responseTimes.getMean());
+        result.setP50ResponseTime(responseTimes.getPercentile(50));
+        result.setP95ResponseTime(responseTimes.getPercentile(95));
+        result.setP99ResponseTime(responseTimes.getPercentile(99));
+        result.setSlaViolationRate(processed == 0 ? 0 : (double) slaViolations / processed);
+
+        double[] utilization = new double[vms.size()];
+        for (int i = 0; i < vms.size(); i++) {
+            Vm vm = vms.get(i);
+            double busy = vm.getId() < vmBusyLength.length ? vmBusyLength[vm.getId()] : 0;
+            double capacity = vm.getMips() * vm.getNumberOfPes() * makespan;
+            utilization[i] = capacity > 0 ? Math.min(1, busy / capacity) : 0;
+        }
+        result.setVmUtilization(utilization);
+        if (tenants > 1) {
+            result.setTenants(tenantResults(tenantVmsCreated, costPerSec));
+        }
+        return result;
+    }
+
+    // A tenant pays for its own created VMs over its own makespan; the shared hosts' energy stays with the total
+    private List<TenantResult> tenantResults(int[] created, double costPerSec) {
+        List<TenantResult> results = new ArrayList<>(tenants);
+        for (int t = 0; t < tenants; t++) {
+            long count = tenantProcessed[t];
+            double makespan = count == 0 ? 0 : tenantLastFinish[t] - tenantFirstArrival[t];
+            ResponseTimeHistogram histogram = tenantResponseTimes[t];
+
+            TenantResult tenant = new TenantResult(t);
+            tenant.setCloudletsProcessed((int) count);
+            tenant.setMakespan(makespan);
+            int vms = t < created.length ? created[t] : 0;
+            if (Double.isNaN(rescaledAt)) {
+                tenant.setCost(makespan * costPerSec * vms);
+            } else {
+                double vmSeconds = count == 0 ? 0
+                    : vmSeconds(tenantFirstArrival[t], tenantLastFinish[t], tenantVmsBeforeRescale[t], vms);
+                tenant.setCost(vmSeconds * costPerSec);
+            }
+            tenant.setMeanResponseTime(histogram.getMean());
+            tenant.setP50ResponseTime(histogram.getPercentile(50));
+            tenant.setP95ResponseTime(histogram.getPercentile(95));
+            tenant.setP99ResponseTime(histogram.getPercentile(99));
+            tenant.setSlaViolationRate(count == 0 ? 0 : (double) tenantSlaViolations[t] / count);
+            results.add(tenant);
+        }
+        return results;
+    }
+
+    // The VMs before the rescale up to it and the ones after from then on, between first and last
+    private double vmSeconds(double first, double last, int before, int after) {
+        double split = Math.max(first, Math.min(last, rescaledAt));
+        return (split - first) * before + (last - split) * after;
+    }
+}
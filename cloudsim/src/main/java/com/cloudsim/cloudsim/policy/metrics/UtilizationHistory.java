@@ -0,0 +1,78 @@
+package com.cloudsim.cloudsim.policy.metrics;
+
+/**
+ * Mean utilization of one host over each of its last {@code length} windows of
+ * {@code window} simulated seconds, in a ring of primitive doubles: memory stays the
+ * same however long the run, and recording an interval costs a few arithmetic
+ * operations however many windows it spans. The window being filled is kept apart
+ * and only enters the ring once time moves past its end.
+ */
+public final class UtilizationHistory {
+
+    private final double window;
+    private final double[] ring;
+    // Slot the next completed window goes into, and how many slots hold one
+    private int next;
+    private int size;
+
+    private long current;
+    // Utilization times seconds recorded in the current window so far
+    private double busy;
+
+    public UtilizationHistory(int length, double window) {
+        if (length < 1 || !(window > 0)) {
+            throw new IllegalArgumentException("A history needs a positive length and window");
+        }
+        this.window = window;
+        this.ring = new double[length];
+    }
+
+    /** Records that the host ran at {@code utilization} from {@code from} to {@code to}. */
+    public void add(double from, double to, double utilization) {
+        if (!(to > from)) {
+            return;
+        }
+        long first = index(from);
+        if (first != current) {
+            // Nothing was recorded between the current window and this one
+            complete(busy / window, 1);
+            complete(0, first - current - 1);
+            current = first;
+            busy = 0;
+        }
+        long last = index(to);
+        if (last == first) {
+            busy += utilization * (to - from);
+            return;
+        }
+        busy += utilization * ((first + 1) * window - from);
+        complete(busy / window, 1);
+        complete(utilization, last - first - 1);
+        current = last;
+        busy = utilization * (to - last * window);
+    }
+
+    /** Completed windows, most recent first, as {@code PowerHostUtilizationHistory} returns them. */
+    public double[] getUtilizationHistory() {
+        double[] history = new double[size];
+        for (int i = 0; i < size; i++) {
+            history[i] = ring[Math.floorMod(next - 1 - i, ring.length)];
+        }
+        return history;
+    }
+
+    private long index(double time) {
+        long index = (long) Math.floor(time / window);
+        // Rounding can put a time just past a boundary into the window before it
+        return (index + 1) * window <= time ? index + 1 : index;
+    }
+
+    private void complete(double utilization, long windows) {
+        // Only the last ring's worth of a long stretch survives
+        for (long i = Math.min(windows, ring.length); i > 0; i--) {
+            ring[next] = utilization;
+            next = (next + 1) % ring.length;
+            size = Math.min(size + 1, ring.length);
+        }
+    }
+}
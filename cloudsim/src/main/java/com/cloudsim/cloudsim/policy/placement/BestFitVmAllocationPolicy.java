@@ -0,0 +1,138 @@
+package com.cloudsim.cloudsim.policy.placement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.cloudbus.cloudsim.Host;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.VmAllocationPolicy;
+
+import com.cloudsim.cloudsim.policy.topology.ExpandableAllocationPolicy;
+import com.cloudsim.cloudsim.policy.topology.SharedHost;
+
+/**
+ * Places each VM on the host that has the least free MIPS left that can still
+ * hold it, which packs VMs onto as few hosts as possible.
+ *
+ * <p>Hosts are grouped by PE capacity, since a VM's PEs can only go to hosts whose
+ * PEs are at least as fast, and each group keeps a {@link CapacityIndex} of free
+ * MIPS and RAM. A placement queries the few groups that are fast enough and a
+ * release re-indexes one host, both in logarithmic time instead of the linear
+ * scans of {@code VmAllocationPolicySimple}. Bandwidth and storage are not
+ * indexed; a host that turns out to lack them is skipped and the next best one
+ * tried.
+ *
+ * <p>Hosts shared by several tenants ({@link SharedHost}) take VMs beyond their
+ * MIPS; once no host has room left, a VM goes to the least loaded one.
+ */
+public class BestFitVmAllocationPolicy extends VmAllocationPolicy implements ExpandableAllocationPolicy {
+
+    private final TreeMap<Double, CapacityIndex> indexesByPeCapacity = new TreeMap<>();
+    private final Map<Host, CapacityIndex.Entry> entries = new HashMap<>();
+    private final Map<Host, CapacityIndex> indexes = new HashMap<>();
+    private final Map<String, Host> vmTable = new HashMap<>();
+    private final boolean oversubscribed;
+
+    public BestFitVmAllocationPolicy(List<? extends Host> list) {
+        super(list);
+        hostsAdded(getHostList());
+        this.oversubscribed = !getHostList().isEmpty() && getHostList().get(0) instanceof SharedHost;
+    }
+
+    @Override
+    public void hostsAdded(List<? extends Host> hosts) {
+        for (Host host : hosts) {
+            CapacityIndex index = indexesByPeCapacity.computeIfAbsent(
+                host.getVmScheduler().getPeCapacity(), capacity -> new CapacityIndex());
+            entries.put(host, index.add(host));
+            indexes.put(host, index);
+        }
+    }
+
+    @Override
+    public boolean allocateHostForVm(Vm vm) {
+        if (vmTable.containsKey(vm.getUid())) {
+            return false;
+        }
+        double mips = vm.getCurrentRequestedTotalMips();
+        int ram = vm.getCurrentRequestedRam();
+
+        List<CapacityIndex.Entry> skipped = new ArrayList<>(0);
+        try {
+            while (true) {
+                CapacityIndex.Entry best = null;
+                for (CapacityIndex index : indexesByPeCapacity.tailMap(vm.getCurrentRequestedMaxMips(), true).values()) {
+                    CapacityIndex.Entry candidate = index.bestFit(mips, ram);
+                    if (candidate != null && (best == null || CapacityIndex.compare(candidate, best) < 0)) {
+                        best = candidate;
+                    }
+                }
+                if (best == null && oversubscribed) {
+                    for (CapacityIndex index : indexesByPeCapacity.tailMap(vm.getCurrentRequestedMaxMips(), true).values()) {
+                        CapacityIndex.Entry candidate = index.leastLoaded(ram);
+                        if (candidate != null && (best == null || CapacityIndex.compare(candidate, best) > 0)) {
+                            best = candidate;
+                        }
+                    }
+                }
+                if (best == null) {
+                    return false;
+                }
+                if (allocateHostForVm(vm, best.getHost())) {
+                    return true;
+                }
+                // Not enough bandwidth or storage; keep it out of the way until this VM is placed
+                indexes.get(best.getHost()).remove(best);
+                skipped.add(best);
+            }
+        } finally {
+            for (CapacityIndex.Entry entry : skipped) {
+                indexes.get(entry.getHost()).restore(entry);
+            }
+        }
+    }
+
+    @Override
+    public boolean allocateHostForVm(Vm vm, Host host) {
+        if (!host.vmCreate(vm)) {
+            return false;
+        }
+        vmTable.put(vm.getUid(), host);
+        reindex(host);
+        return true;
+    }
+
+    @Override
+    public void deallocateHostForVm(Vm vm) {
+        Host host = vmTable.remove(vm.getUid());
+        if (host != null) {
+            host.vmDestroy(vm);
+            reindex(host);
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> optimizeAllocation(List<? extends Vm> vmList) {
+        return null;
+    }
+
+    @Override
+    public Host getHost(Vm vm) {
+        return vmTable.get(vm.getUid());
+    }
+
+    @Override
+    public Host getHost(int vmId, int userId) {
+        return vmTable.get(Vm.getUid(userId, vmId));
+    }
+
+    private void reindex(Host host) {
+        CapacityIndex index = indexes.get(host);
+        if (index != null) {
+            index.update(entries.get(host));
+        }
+    }
+}
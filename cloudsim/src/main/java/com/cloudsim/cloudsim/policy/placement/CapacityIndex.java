@@ -0,0 +1,183 @@
+package com.cloudsim.cloudsim.policy.placement;
+
+import org.cloudbus.cloudsim.Host;
+
+import com.cloudsim.cloudsim.policy.SplitMixRandom;
+
+/**
+ * Hosts ordered by free MIPS in a treap whose nodes also carry the largest free
+ * RAM of their subtree. That extra field lets {@link #bestFit} skip every subtree
+ * without enough RAM, so finding the host with the least free MIPS that still has
+ * room for a VM is O(log n) expected, as are {@link #add} and {@link #update}.
+ */
+class CapacityIndex {
+
+    static final class Entry {
+        final Host host;
+        final long priority;
+        double freeMips;
+        int freeRam;
+        int maxRam;
+        Entry left;
+        Entry right;
+
+        Entry(Host host, long priority) {
+            this.host = host;
+            this.priority = priority;
+        }
+
+        Host getHost() {
+            return host;
+        }
+
+        double getFreeMips() {
+            return freeMips;
+        }
+    }
+
+    private final SplitMixRandom random = new SplitMixRandom(0);
+    private Entry root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    Entry add(Host host) {
+        Entry entry = new Entry(host, random.nextLong());
+        refresh(entry);
+        insert(entry);
+        return entry;
+    }
+
+    /** Re-reads the host's free capacity after a VM was placed on or removed from it. */
+    void update(Entry entry) {
+        remove(entry);
+        refresh(entry);
+        insert(entry);
+    }
+
+    /** Takes a host out of consideration until it is {@link #restore restored}. */
+    void remove(Entry entry) {
+        Entry[] lower = split(root, entry, false);
+        Entry[] upper = split(lower[1], entry, true);
+        root = merge(lower[0], upper[1]);
+        entry.left = null;
+        entry.right = null;
+        size--;
+    }
+
+    void restore(Entry entry) {
+        insert(entry);
+    }
+
+    /** The host with the least free MIPS among those with at least {@code mips} and {@code ram} free. */
+    Entry bestFit(double mips, int ram) {
+        return find(root, mips, ram);
+    }
+
+    /** The host with the most free MIPS among those with at least {@code ram} free. */
+    Entry leastLoaded(int ram) {
+        return findMost(root, ram);
+    }
+
+    private static Entry findMost(Entry node, int ram) {
+        if (node == null || node.maxRam < ram) {
+            return null;
+        }
+        Entry right = findMost(node.right, ram);
+        if (right != null) {
+            return right;
+        }
+        if (node.freeRam >= ram) {
+            return node;
+        }
+        return findMost(node.left, ram);
+    }
+
+    private static Entry find(Entry node, double mips, int ram) {
+        if (node == null || node.maxRam < ram) {
+            return null;
+        }
+        if (node.freeMips < mips) {
+            return find(node.right, mips, ram);
+        }
+        Entry left = find(node.left, mips, ram);
+        if (left != null) {
+            return left;
+        }
+        if (node.freeRam >= ram) {
+            return node;
+        }
+        return find(node.right, mips, ram);
+    }
+
+    private static void refresh(Entry entry) {
+        entry.freeMips = entry.host.getVmScheduler().getAvailableMips();
+        entry.freeRam = entry.host.getRamProvisioner().getAvailableRam();
+        entry.maxRam = entry.freeRam;
+    }
+
+    private void insert(Entry entry) {
+        Entry[] parts = split(root, entry, false);
+        root = merge(merge(parts[0], entry), parts[1]);
+        size++;
+    }
+
+    // Orders by free MIPS, then by host id so that every entry has a distinct key
+    static int compare(Entry a, Entry b) {
+        int byMips = Double.compare(a.freeMips, b.freeMips);
+        return byMips != 0 ? byMips : Integer.compare(a.host.getId(), b.host.getId());
+    }
+
+    /**
+     * Splits into entries before {@code key} and the rest; with {@code inclusive},
+     * {@code key} itself goes to the first part.
+     */
+    private static Entry[] split(Entry node, Entry key, boolean inclusive) {
+        if (node == null) {
+            return new Entry[2];
+        }
+        int cmp = compare(node, key);
+        if (cmp < 0 || (inclusive && cmp == 0)) {
+            Entry[] parts = split(node.right, key, inclusive);
+            node.right = parts[0];
+            pull(node);
+            parts[0] = node;
+            return parts;
+        }
+        Entry[] parts = split(node.left, key, inclusive);
+        node.left = parts[1];
+        pull(node);
+        parts[1] = node;
+        return parts;
+    }
+
+    private static Entry merge(Entry a, Entry b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            pull(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        pull(b);
+        return b;
+    }
+
+    private static void pull(Entry node) {
+        int maxRam = node.freeRam;
+        if (node.left != null) {
+            maxRam = Math.max(maxRam, node.left.maxRam);
+        }
+        if (node.right != null) {
+            maxRam = Math.max(maxRam, node.right.maxRam);
+        }
+        node.maxRam = maxRam;
+    }
+}
@@ -0,0 +1,157 @@
+package com.cloudsim.cloudsim.policy.topology;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Datacenter;
+import org.cloudbus.cloudsim.DatacenterCharacteristics;
+import org.cloudbus.cloudsim.Host;
+import org.cloudbus.cloudsim.Storage;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.VmAllocationPolicy;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEvent;
+
+/**
+ * Datacenter that also accepts cloudlets in batches. A {@link #CLOUDLET_SUBMIT_BATCH}
+ * event carries a list of cloudlets, which are all placed on their VMs after one
+ * update of the hosts, with a single wake-up scheduled for the earliest of them to
+ * finish; plain {@code CLOUDLET_SUBMIT} would cost an event, a host update and a
+ * completion scan per cloudlet. Users that submit batches get their finished
+ * cloudlets back the same way, one {@link #CLOUDLET_RETURN_BATCH} per completion
+ * check; everyone else still gets one {@code CLOUDLET_RETURN} per cloudlet.
+ */
+public class BatchDatacenter extends Datacenter {
+
+    /** Data: a {@code List<Cloudlet>}, each already bound to a VM of this datacenter. */
+    public static final int CLOUDLET_SUBMIT_BATCH = 8_702;
+
+    /** Data: the {@code List<Cloudlet>} that finished at this time. */
+    public static final int CLOUDLET_RETURN_BATCH = 8_703;
+
+    private final Set<Integer> batchUsers = new HashSet<>();
+
+    public BatchDatacenter(String name, DatacenterCharacteristics characteristics,
+            VmAllocationPolicy vmAllocationPolicy, List<Storage> storageList, double schedulingInterval)
+            throws Exception {
+        super(name, characteristics, vmAllocationPolicy, storageList, schedulingInterval);
+    }
+
+    /**
+     * Brings more hosts online, as if they had been there from the start. The
+     * allocation policy has to be an {@link ExpandableAllocationPolicy}.
+     */
+    public void addHosts(List<? extends Host> hosts) {
+        if (!(getVmAllocationPolicy() instanceof ExpandableAllocationPolicy policy)) {
+            throw new IllegalStateException(getVmAllocationPolicy().getClass().getSimpleName() + " cannot take more hosts");
+        }
+        for (Host host : hosts) {
+            host.setDatacenter(this);
+        }
+        // The characteristics and the allocation policy share one host list
+        getCharacteristics().<Host>getHostList().addAll(hosts);
+        policy.hostsAdded(hosts);
+    }
+
+    /**
+     * Meters every {@link MeteredHost} up to {@code time}, which must not be earlier
+     * than the last event, and returns the energy they drew so far, in joules.
+     */
+    public double meter(double time) {
+        double energy = 0;
+        for (Host host : getHostList()) {
+            if (host instanceof MeteredHost metered) {
+                metered.meter(time);
+                energy += metered.getEnergy();
+            }
+        }
+        return energy;
+    }
+
+    @Override
+    protected void processOtherEvent(SimEvent ev) {
+        if (ev != null && ev.getTag() == CLOUDLET_SUBMIT_BATCH) {
+            @SuppressWarnings("unchecked")
+            List<Cloudlet> cloudlets = (List<Cloudlet>) ev.getData();
+            processCloudletSubmitBatch(cloudlets);
+            return;
+        }
+        super.processOtherEvent(ev);
+    }
+
+    private void processCloudletSubmitBatch(List<Cloudlet> cloudlets) {
+        updateCloudletProcessing();
+
+        double costPerSec = getCharacteristics().getCostPerSecond();
+        double costPerBw = getCharacteristics().getCostPerBw();
+        double nextFinish = Double.MAX_VALUE;
+        Set<SharedHost> sharedHosts = null;
+        for (Cloudlet cloudlet : cloudlets) {
+            batchUsers.add(cloudlet.getUserId());
+            cloudlet.setResourceParameter(getId(), costPerSec, costPerBw);
+            double fileTransferTime = predictFileTransferTime(cloudlet.getRequiredFiles());
+
+            Host host = getVmAllocationPolicy().getHost(cloudlet.getVmId(), cloudlet.getUserId());
+            Vm vm = host.getVm(cloudlet.getVmId(), cloudlet.getUserId());
+            double estimatedFinishTime = vm.getCloudletScheduler().cloudletSubmit(cloudlet, fileTransferTime);
+            if (estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime)) {
+                nextFinish = Math.min(nextFinish, estimatedFinishTime + fileTransferTime);
+            }
+            if (host instanceof SharedHost) {
+                if (sharedHosts == null) {
+                    sharedHosts = Collections.newSetFromMap(new IdentityHashMap<>());
+                }
+                sharedHosts.add((SharedHost) host);
+            }
+        }
+        // VMs that just got work now compete for their host's CPUs; estimates above are delays, these are times
+        if (sharedHosts != null) {
+            double now = CloudSim.clock();
+            for (SharedHost host : sharedHosts) {
+                double next = host.reshare(now);
+                if (next != Double.MAX_VALUE) {
+                    nextFinish = Math.min(nextFinish, next - now);
+                }
+            }
+        }
+        if (nextFinish != Double.MAX_VALUE) {
+            send(getId(), nextFinish, CloudSimTags.VM_DATACENTER_EVENT);
+        }
+
+        checkCloudletCompletion();
+    }
+
+    @Override
+    protected void checkCloudletCompletion() {
+        Map<Integer, List<Cloudlet>> finishedByUser = null;
+        for (Host host : getVmAllocationPolicy().<Host>getHostList()) {
+            for (Vm vm : host.getVmList()) {
+                while (vm.getCloudletScheduler().isFinishedCloudlets()) {
+                    Cloudlet cloudlet = vm.getCloudletScheduler().getNextFinishedCloudlet();
+                    if (cloudlet == null) {
+                        continue;
+                    }
+                    if (!batchUsers.contains(cloudlet.getUserId())) {
+                        sendNow(cloudlet.getUserId(), CloudSimTags.CLOUDLET_RETURN, cloudlet);
+                        continue;
+                    }
+                    if (finishedByUser == null) {
+                        finishedByUser = new HashMap<>();
+                    }
+                    finishedByUser.computeIfAbsent(cloudlet.getUserId(), user -> new ArrayList<>()).add(cloudlet);
+                }
+            }
+        }
+        if (finishedByUser != null) {
+            finishedByUser.forEach((user, finished) -> sendNow(user, CLOUDLET_RETURN_BATCH, finished));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.cloudsim.cloudsim.policy.topology;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.cloudbus.cloudsim.DatacenterCharacteristics;
+import org.cloudbus.cloudsim.Host;
+import org.cloudbus.cloudsim.Pe;
+import org.cloudbus.cloudsim.VmAllocationPolicy;
+import org.cloudbus.cloudsim.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.power.models.PowerModel;
+import org.cloudbus.cloudsim.power.models.PowerModelSpecPowerHpProLiantMl110G4Xeon3040;
+import org.cloudbus.cloudsim.provisioners.BwProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.RamProvisionerSimple;
+
+/**
+ * Immutable description of a datacenter whose hosts are sized to the VMs placed
+ * on it. Templates are built once per policy and shared by every run; only the
+ * CloudSim entities themselves are created per run, since they belong to one
+ * {@code CloudSim.init}.
+ *
+ * <p>Hosts hold {@code vmsPerHost} VMs each, one PE per VM PE, so every requested
+ * VM can be placed and runs at its full MIPS. A datacenter shared by several
+ * tenants keeps the PEs of one tenant's VMs but has memory, bandwidth and storage
+ * for all of them, on {@link SharedHost}s: every tenant's VMs are placed, and they
+ * contend for the CPUs.
+ *
+ * <p>Every host is a {@link MeteredHost} drawing power as {@code powerModel} says
+ * for its utilization; the energy it draws is charged at {@code costPerKwh} on
+ * top of the VM-time cost.
+ */
+public final class DatacenterTemplate {
+
+    public static final DatacenterTemplate DEFAULT = new DatacenterTemplate(8, 1000, 2048, 1000000, 10000,
+        "x86", "Linux", "Xen", 10.0, 3.0, 0.05, 0.001, 0.0,
+        new PowerModelSpecPowerHpProLiantMl110G4Xeon3040(), 0.15);
+
+    // Points of the power curve a profile carries: 0%, 10%, ..., 100% utilization
+    private static final int POWER_CURVE_POINTS = 11;
+
+    private final int vmsPerHost;
+    private final double minPeMips;
+    private final int minRamPerVm;
+    private final long storagePerVm;
+    private final long bwPerVm;
+    private final String arch;
+    private final String os;
+    private final String vmm;
+    private final double timeZone;
+    private final double costPerSec;
+    private final double costPerMem;
+    private final double costPerStorage;
+    private final double costPerBw;
+    private final PowerModel powerModel;
+    private final double costPerKwh;
+
+    public DatacenterTemplate(int vmsPerHost, double minPeMips, int minRamPerVm, long storagePerVm, long bwPerVm,
+            String arch, String os, String vmm, double timeZone,
+            double costPerSec, double costPerMem, double costPerStorage, double costPerBw,
+            PowerModel powerModel, double costPerKwh) {
+        this.vmsPerHost = vmsPerHost;
+        this.minPeMips = minPeMips;
+        this.minRamPerVm = minRamPerVm;
+        this.storagePerVm = storagePerVm;
+        this.bwPerVm = bwPerVm;
+        this.arch = arch;
+        this.os = os;
+        this.vmm = vmm;
+        this.timeZone = timeZone;
+        this.costPerSec = costPerSec;
+        this.costPerMem = costPerMem;
+        this.costPerStorage = costPerStorage;
+        this.costPerBw = costPerBw;
+        this.powerModel = powerModel;
+        this.costPerKwh = costPerKwh;
+    }
+
+    /** This template with hosts of another type. CloudSim's power models are stateless, so hosts can share one. */
+    public DatacenterTemplate withPowerModel(PowerModel powerModel) {
+        return new DatacenterTemplate(vmsPerHost, minPeMips, minRamPerVm, storagePerVm, bwPerVm, arch, os, vmm,
+            timeZone, costPerSec, costPerMem, costPerStorage, costPerBw, powerModel, costPerKwh);
+    }
+
+    public int getVmsPerHost() {
+        return vmsPerHost;
+    }
+
+    public double getCostPerSec() {
+        return costPerSec;
+    }
+
+    public double getCostPerKwh() {
+        return costPerKwh;
+    }
+
+    /** Watts a host draws at 0%, 10%, ..., 100% utilization. */
+    public double[] getPowerCurve() {
+        double[] watts = new double[POWER_CURVE_POINTS];
+        for (int i = 0; i < POWER_CURVE_POINTS; i++) {
+            watts[i] = powerModel.getPower((double) i / (POWER_CURVE_POINTS - 1));
+        }
+        return watts;
+    }
+
+    /** Builds and registers a {@link BatchDatacenter} with room for {@code vmCount} VMs of the given shape. */
+    public BatchDatacenter build(String name, int vmCount, VmTemplate vm, int vmRam) throws Exception {
+        return build(name, vmCount, vm, vmRam, ExpandableVmAllocationPolicySimple::new);
+    }
+
+    /** As {@link #build(String, int, VmTemplate, int)}, placing VMs with the given allocation policy. */
+    public BatchDatacenter build(String name, int vmCount, VmTemplate vm, int vmRam,
+            Function<List<Host>, VmAllocationPolicy> allocationPolicy) throws Exception {
+        return build(name, vmCount, vm, vmRam, 1, allocationPolicy);
+    }
+
+    /**
+     * As {@link #build(String, int, VmTemplate, int, Function)}, for {@code tenants}
+     * tenants with {@code vmCount} VMs each sharing the CPUs sized for one of them.
+     */
+    public BatchDatacenter build(String name, int vmCount, VmTemplate vm, int vmRam, int tenants,
+            Function<List<Host>, VmAllocationPolicy> allocationPolicy) throws Exception {
+        List<Host> hostList = createHosts(0, vmCount, vm, vmRam, tenants);
+        DatacenterCharacteristics characteristics = new DatacenterCharacteristics(
+            arch, os, vmm, hostList, timeZone, costPerSec, costPerMem, costPerStorage, costPerBw
+        );
+        return new BatchDatacenter(name, characteristics, allocationPolicy.apply(hostList), new LinkedList<>(), 0);
+    }
+
+    /**
+     * Adds hosts to a datacenter built from this template with room for
+     * {@code vmCount} more VMs per tenant, sized as {@link #build} sizes them.
+     */
+    public void extend(BatchDatacenter datacenter, int vmCount, VmTemplate vm, int vmRam, int tenants) {
+        int firstId = datacenter.getHostList().size();
+        datacenter.addHosts(createHosts(firstId, vmCount, vm, vmRam, tenants));
+    }
+
+    private List<Host> createHosts(int firstId, int vmCount, VmTemplate vm, int vmRam, int tenants) {
+        int hostCount = (vmCount + vmsPerHost - 1) / vmsPerHost;
+        double peMips = Math.max(minPeMips, vm.getMips());
+        int ram = Math.max(minRamPerVm, vmRam);
+        long bw = Math.max(bwPerVm, vm.getBw());
+        long storage = Math.max(storagePerVm, vm.getSize());
+
+        List<Host> hostList = new ArrayList<>(hostCount);
+        for (int i = 0; i < hostCount; i++) {
+            int id = firstId + i;
+            int vmsOnHost = Math.min(vmsPerHost, vmCount - i * vmsPerHost);
+            List<Pe> peList = new ArrayList<>(vmsOnHost * vm.getPes());
+            for (int pe = 0; pe < vmsOnHost * vm.getPes(); pe++) {
+                peList.add(new Pe(pe, new PeProvisionerSimple(peMips)));
+            }
+            // Exact, since a wrapped-around RAM size would silently fail every placement
+            if (tenants > 1) {
+                int vmsOfAllTenants = Math.multiplyExact(vmsOnHost, tenants);
+                hostList.add(new SharedHost(
+                    id,
+                    new RamProvisionerSimple(Math.multiplyExact(ram, vmsOfAllTenants)),
+                    new BwProvisionerSimple(bw * vmsOfAllTenants),
+                    storage * vmsOfAllTenants,
+                    peList,
+                    powerModel
+                ));
+                continue;
+            }
+            hostList.add(new MeteredHost(
+                id,
+                new RamProvisionerSimple(Math.multiplyExact(ram, vmsOnHost)),
+                new BwProvisionerSimple(bw * vmsOnHost),
+                storage * vmsOnHost,
+                peList,
+                new VmSchedulerTimeShared(peList),
+                powerModel
+            ));
+        }
+        return hostList;
+    }
+}
@@ -0,0 +1,16 @@
+package com.cloudsim.cloudsim.policy.topology;
+
+import java.util.List;
+
+import org.cloudbus.cloudsim.Host;
+
+/**
+ * A VM allocation policy that can take hosts added to its datacenter after it was
+ * created, as {@link BatchDatacenter#addHosts} does when a paused simulation is
+ * scaled out.
+ */
+public interface ExpandableAllocationPolicy {
+
+    /** Called once the hosts have been appended to the policy's host list. */
+    void hostsAdded(List<? extends Host> hosts);
+}
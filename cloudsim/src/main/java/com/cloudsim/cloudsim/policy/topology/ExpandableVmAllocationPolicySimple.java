@@ -0,0 +1,26 @@
+package com.cloudsim.cloudsim.policy.topology;
+
+import java.util.List;
+
+import org.cloudbus.cloudsim.Host;
+import org.cloudbus.cloudsim.VmAllocationPolicySimple;
+
+/**
+ * CloudSim's first-fit-by-free-PEs placement, unchanged, except that it can take
+ * more hosts: it counts free PEs in a list parallel to the host list, which has to
+ * grow with it.
+ */
+public class ExpandableVmAllocationPolicySimple extends VmAllocationPolicySimple
+        implements ExpandableAllocationPolicy {
+
+    public ExpandableVmAllocationPolicySimple(List<? extends Host> hosts) {
+        super(hosts);
+    }
+
+    @Override
+    public void hostsAdded(List<? extends Host> hosts) {
+        for (Host host : hosts) {
+            getFreePes().add(host.getNumberOfPes());
+        }
+    }
+}
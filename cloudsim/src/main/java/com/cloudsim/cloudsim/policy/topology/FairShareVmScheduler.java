@@ -0,0 +1,45 @@
+package com.cloudsim.cloudsim.policy.topology;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cloudbus.cloudsim.Pe;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.VmScheduler;
+
+/**
+ * Admits every VM whatever MIPS are left, recording what each one asked for (capped
+ * at one PE per requested PE). Available MIPS go negative once the host is
+ * oversubscribed; how much each VM actually gets is decided while the host runs,
+ * by {@link SharedHost}.
+ */
+class FairShareVmScheduler extends VmScheduler {
+
+    FairShareVmScheduler(List<? extends Pe> peList) {
+        super(peList);
+    }
+
+    @Override
+    public boolean allocatePesForVm(Vm vm, List<Double> mipsShare) {
+        double peMips = getPeCapacity();
+        List<Double> requested = new ArrayList<>(mipsShare.size());
+        double total = 0;
+        for (double mips : mipsShare) {
+            requested.add(Math.min(mips, peMips));
+            total += Math.min(mips, peMips);
+        }
+        getMipsMap().put(vm.getUid(), requested);
+        setAvailableMips(getAvailableMips() - total);
+        return true;
+    }
+
+    @Override
+    public void deallocatePesForVm(Vm vm) {
+        List<Double> requested = getMipsMap().remove(vm.getUid());
+        if (requested != null) {
+            for (double mips : requested) {
+                setAvailableMips(getAvailableMips() + mips);
+            }
+        }
+    }
+}
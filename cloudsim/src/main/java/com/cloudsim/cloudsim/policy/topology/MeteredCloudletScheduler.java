@@ -0,0 +1,30 @@
+package com.cloudsim.cloudsim.policy.topology;
+
+import java.util.List;
+
+import org.cloudbus.cloudsim.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.ResCloudlet;
+
+/**
+ * CloudSim's time-shared scheduler, also saying how much of its VM's share the
+ * running cloudlets use, for {@link MeteredHost}. Scheduling is unchanged.
+ */
+public class MeteredCloudletScheduler extends CloudletSchedulerTimeShared {
+
+    /**
+     * MIPS in use: each running cloudlet PE gets its share of the VM's MIPS, and
+     * together they use all of them once there are at least as many as the VM has PEs.
+     */
+    public double getBusyMips() {
+        List<Double> share = getCurrentMipsShare();
+        List<ResCloudlet> running = getCloudletExecList();
+        if (share == null || running.isEmpty()) {
+            return 0;
+        }
+        int pes = 0;
+        for (ResCloudlet cloudlet : running) {
+            pes += cloudlet.getNumberOfPes();
+        }
+        return getCapacity(share) * pes;
+    }
+}
@@ -0,0 +1,97 @@
+package com.cloudsim.cloudsim.policy.topology;
+
+import java.util.List;
+
+import org.cloudbus.cloudsim.Host;
+import org.cloudbus.cloudsim.HostDynamicWorkload;
+import org.cloudbus.cloudsim.Pe;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.VmScheduler;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.power.PowerHost;
+import org.cloudbus.cloudsim.power.models.PowerModel;
+import org.cloudbus.cloudsim.provisioners.BwProvisioner;
+import org.cloudbus.cloudsim.provisioners.RamProvisioner;
+
+import com.cloudsim.cloudsim.policy.metrics.UtilizationHistory;
+
+/**
+ * Power-aware host that meters its own energy. Like any {@link PowerHost} it draws
+ * what its {@link PowerModel} says for its CPU utilization, but it processes its VMs
+ * as a plain {@link Host} does: {@link HostDynamicWorkload} would re-provision
+ * every VM's PEs on each update, changing how cloudlets are scheduled, and append
+ * to state histories that grow for as long as the run. Instead this host keeps a
+ * running energy total and a fixed-size {@link UtilizationHistory}.
+ *
+ * <p>Utilization only changes at events, and each event that can change it brings
+ * the hosts up to date first, so the utilization found at an update is the one the
+ * host ran at since the previous update. Energy is the power at that utilization
+ * times the interval. Utilization counts the MIPS that running cloudlets use out of
+ * the host's total; a host without VMs is taken to be switched off and draws nothing.
+ */
+public class MeteredHost extends PowerHost {
+
+    // As many windows as PowerVm keeps, each as long as CloudSim's power examples' scheduling interval
+    public static final int HISTORY_LENGTH = 30;
+    public static final double HISTORY_WINDOW = 300;
+
+    private final UtilizationHistory history = new UtilizationHistory(HISTORY_LENGTH, HISTORY_WINDOW);
+    private double meteredUntil;
+    private double energy;
+
+    public MeteredHost(int id, RamProvisioner ramProvisioner, BwProvisioner bwProvisioner, long storage,
+            List<? extends Pe> peList, VmScheduler vmScheduler, PowerModel powerModel) {
+        super(id, ramProvisioner, bwProvisioner, storage, peList, vmScheduler, powerModel);
+        // Hosts added to a running simulation start drawing power when they come online
+        this.meteredUntil = CloudSim.clock();
+    }
+
+    @Override
+    public final double updateVmsProcessing(double currentTime) {
+        meter(currentTime);
+        return processVms(currentTime);
+    }
+
+    /** What {@link Host#updateVmsProcessing} does: runs each VM on its allocated MIPS. */
+    protected double processVms(double currentTime) {
+        double smallest = Double.MAX_VALUE;
+        for (Vm vm : getVmList()) {
+            double time = vm.updateVmProcessing(currentTime, getVmScheduler().getAllocatedMipsForVm(vm));
+            if (time > 0.0 && time < smallest) {
+                smallest = time;
+            }
+        }
+        return smallest;
+    }
+
+    /** Charges the time since the host was last metered, up to {@code time}, at its current utilization. */
+    public void meter(double time) {
+        if (!(time > meteredUntil)) {
+            return;
+        }
+        double busyMips = 0;
+        for (Vm vm : getVmList()) {
+            if (vm.getCloudletScheduler() instanceof MeteredCloudletScheduler scheduler) {
+                busyMips += scheduler.getBusyMips();
+            }
+        }
+        double utilization = Math.max(0, Math.min(1, busyMips / getTotalMips()));
+        if (!getVmList().isEmpty()) {
+            energy += getPowerModel().getPower(utilization) * (time - meteredUntil);
+        }
+        history.add(meteredUntil, time, utilization);
+        setPreviousUtilizationMips(getUtilizationMips());
+        setUtilizationMips(busyMips);
+        meteredUntil = time;
+    }
+
+    /** Energy drawn up to the last time the host was metered, in joules. */
+    public double getEnergy() {
+        return energy;
+    }
+
+    /** Mean utilization over each of the last {@link #HISTORY_LENGTH} windows, most recent first. */
+    public double[] getUtilizationHistory() {
+        return history.getUtilizationHistory();
+    }
+}
@@ -0,0 +1,129 @@
+package com.cloudsim.cloudsim.policy.topology;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.cloudbus.cloudsim.Pe;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.lists.PeList;
+import org.cloudbus.cloudsim.power.models.PowerModel;
+import org.cloudbus.cloudsim.provisioners.BwProvisioner;
+import org.cloudbus.cloudsim.provisioners.RamProvisioner;
+
+/**
+ * Host shared by the VMs of several tenants, with more VMs than its PEs can run
+ * at full speed. Only VMs that have cloudlets running compete: while their total
+ * demand fits they all run at full speed, beyond that each gets the same fraction
+ * of what it asked for, and idle VMs take nothing. Shares are re-split whenever
+ * the set of busy VMs may have changed, so a tenant's latency depends on how busy
+ * the other tenants actually are.
+ *
+ * <p>CloudSim's time-shared schedulers charge the elapsed interval at the share
+ * they are handed, so every VM is first brought up to date at the share it had,
+ * and only then given its new one.
+ */
+public class SharedHost extends MeteredHost {
+
+    private final double capacity;
+    // Fraction of its requested MIPS each VM currently runs at; absent means all of it
+    private final Map<Vm, Double> scales = new IdentityHashMap<>();
+    private double[] nextEvents = new double[0];
+
+    public SharedHost(int id, RamProvisioner ramProvisioner, BwProvisioner bwProvisioner, long storage,
+            List<? extends Pe> peList, PowerModel powerModel) {
+        super(id, ramProvisioner, bwProvisioner, storage, peList, new FairShareVmScheduler(peList), powerModel);
+        this.capacity = PeList.getTotalMips(peList);
+    }
+
+    @Override
+    protected double processVms(double currentTime) {
+        List<Vm> vms = getVmList();
+        if (nextEvents.length < vms.size()) {
+            nextEvents = new double[Math.max(vms.size(), nextEvents.length * 2)];
+        }
+        for (int i = 0; i < vms.size(); i++) {
+            Vm vm = vms.get(i);
+            nextEvents[i] = vm.updateVmProcessing(currentTime, share(vm, scales.getOrDefault(vm, 1.0)));
+        }
+        reshare(currentTime, nextEvents);
+
+        double smallest = Double.MAX_VALUE;
+        for (int i = 0; i < vms.size(); i++) {
+            if (nextEvents[i] > 0.0 && nextEvents[i] < smallest) {
+                smallest = nextEvents[i];
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * Re-splits the host after cloudlets were submitted to its VMs at the current
+     * time, returning the earliest completion among the VMs whose share changed.
+     */
+    public double reshare(double currentTime) {
+        return reshare(currentTime, null);
+    }
+
+    private double reshare(double currentTime, double[] events) {
+        List<Vm> vms = getVmList();
+        double demand = 0;
+        for (Vm vm : vms) {
+            if (isBusy(vm)) {
+                demand += getVmScheduler().getTotalAllocatedMipsForVm(vm);
+            }
+        }
+        double busyScale = demand > capacity ? capacity / demand : 1.0;
+
+        double smallest = Double.MAX_VALUE;
+        for (int i = 0; i < vms.size(); i++) {
+            Vm vm = vms.get(i);
+            double scale = isBusy(vm) ? busyScale : 1.0;
+            if (scale == scales.getOrDefault(vm, 1.0)) {
+                continue;
+            }
+            if (scale == 1.0) {
+                scales.remove(vm);
+            } else {
+                scales.put(vm, scale);
+            }
+            // No time passes, so this only re-estimates the VM's completions at its new speed
+            double next = vm.updateVmProcessing(currentTime, share(vm, scale));
+            if (events != null) {
+                events[i] = next;
+            } else if (next > 0.0 && next < smallest) {
+                smallest = next;
+            }
+        }
+        return smallest;
+    }
+
+    @Override
+    protected void vmDeallocate(Vm vm) {
+        scales.remove(vm);
+        super.vmDeallocate(vm);
+    }
+
+    @Override
+    protected void vmDeallocateAll() {
+        scales.clear();
+        super.vmDeallocateAll();
+    }
+
+    private List<Double> share(Vm vm, double scale) {
+        List<Double> requested = getVmScheduler().getAllocatedMipsForVm(vm);
+        if (scale == 1.0 || requested == null) {
+            return requested;
+        }
+        List<Double> share = new ArrayList<>(requested.size());
+        for (double mips : requested) {
+            share.add(mips * scale);
+        }
+        return share;
+    }
+
+    private static boolean isBusy(Vm vm) {
+        return vm.getCloudletScheduler().runningCloudlets() > 0;
+    }
+}
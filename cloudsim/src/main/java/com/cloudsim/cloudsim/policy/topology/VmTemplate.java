@@ -0,0 +1,56 @@
+package com.cloudsim.cloudsim.policy.topology;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cloudbus.cloudsim.Vm;
+
+/**
+ * Immutable description of the VMs a policy asks for. RAM comes from the request,
+ * everything else is fixed per policy.
+ */
+public final class VmTemplate {
+
+    private final double mips;
+    private final int pes;
+    private final long bw;
+    private final long size;
+    private final String vmm;
+
+    public VmTemplate(double mips, int pes, long bw, long size, String vmm) {
+        this.mips = mips;
+        this.pes = pes;
+        this.bw = bw;
+        this.size = size;
+        this.vmm = vmm;
+    }
+
+    public double getMips() {
+        return mips;
+    }
+
+    public int getPes() {
+        return pes;
+    }
+
+    public long getBw() {
+        return bw;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public List<Vm> create(int count, int brokerId, int ram) {
+        List<Vm> vms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            vms.add(createVm(i, brokerId, ram));
+        }
+        return vms;
+    }
+
+    public Vm createVm(int id, int brokerId, int ram) {
+        // Schedulers hold per-VM state, so each VM gets its own
+        return new Vm(id, brokerId, mips, pes, ram, bw, size, vmm, new MeteredCloudletScheduler());
+    }
+}
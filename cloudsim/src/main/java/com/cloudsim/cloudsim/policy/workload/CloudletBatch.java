@@ -0,0 +1,62 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+/**
+ * A reusable window of not-yet-submitted cloudlets. Their metadata lives in
+ * parallel primitive arrays, so a pending cloudlet costs a few bytes instead of a
+ * {@code Cloudlet} object; objects are only created when the broker submits them.
+ */
+public class CloudletBatch {
+
+    private final int[] ids;
+    private final long[] lengths;
+    private final double[] arrivalTimes;
+    private final int[] pes;
+    private int size;
+
+    public CloudletBatch(int capacity) {
+        this.ids = new int[capacity];
+        this.lengths = new long[capacity];
+        this.arrivalTimes = new double[capacity];
+        this.pes = new int[capacity];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isFull() {
+        return size == ids.length;
+    }
+
+    public void add(int id, long length, double arrivalTime, int pesNumber) {
+        ids[size] = id;
+        lengths[size] = length;
+        arrivalTimes[size] = arrivalTime;
+        pes[size] = pesNumber;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return ids.length;
+    }
+
+    public int id(int index) {
+        return ids[index];
+    }
+
+    public long length(int index) {
+        return lengths[index];
+    }
+
+    public double arrivalTime(int index) {
+        return arrivalTimes[index];
+    }
+
+    public int pes(int index) {
+        return pes[index];
+    }
+}
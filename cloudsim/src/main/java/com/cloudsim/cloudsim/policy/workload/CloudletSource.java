@@ -0,0 +1,22 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Produces the cloudlets of a run incrementally, in non-decreasing arrival order.
+ */
+public interface CloudletSource extends Closeable {
+
+    /**
+     * Replaces the contents of {@code batch} with the next cloudlets.
+     *
+     * @return false once the source is exhausted and the batch was left empty
+     */
+    boolean next(CloudletBatch batch);
+
+    /** Releases whatever the source reads from; generated workloads hold nothing. */
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,278 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import com.cloudsim.cloudsim.model.TraceFormat;
+import com.cloudsim.cloudsim.model.TraceSpec;
+
+/**
+ * Replays an uploaded job trace as cloudlets, reading it a buffer at a time so only
+ * the current batch is ever on the heap. Numbers are parsed straight from the
+ * bytes, without a String per line.
+ *
+ * <p>SWF records use the submit time (field 2), run time (field 4) and allocated
+ * processors (field 5, or the requested ones in field 8 when unknown); records
+ * without a positive run time are skipped, as CloudSim's own reader does. CSV
+ * traces need a header with an {@code arrival} (or {@code submit}) column and
+ * either {@code length} in MI or {@code runtime} in seconds, plus optionally
+ * {@code pes}. Run times become lengths at the spec's reference MIPS.
+ *
+ * <p>Traces are expected in submit order: the replay stops at the first record past
+ * the window, and a record submitted before its predecessor arrives with it.
+ */
+public class TraceCloudletSource implements CloudletSource {
+
+    private static final int SWF_SUBMIT = 1;
+    private static final int SWF_RUN_TIME = 3;
+    private static final int SWF_ALLOCATED = 4;
+    private static final int SWF_REQUESTED = 7;
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final TraceLineReader reader;
+    private final TraceFormat format;
+    private final TraceSpec spec;
+    private final int limit;
+    private final SplittableRandom random;
+    private final int[] fieldStarts;
+    private final int[] fieldEnds;
+    private int fields;
+
+    // CSV columns, found in the header
+    private boolean headerRead;
+    private int arrivalColumn = -1;
+    private int lengthColumn = -1;
+    private int runTimeColumn = -1;
+    private int pesColumn = -1;
+
+    private int emitted;
+    private double origin = Double.NaN;
+    private double lastArrival;
+    private boolean done;
+
+    /**
+     * @param limit the most cloudlets to replay, or 0 for the whole window
+     */
+    public TraceCloudletSource(TraceSpec spec, int limit) throws IOException {
+        if (spec.getPath() == null) {
+            throw new IllegalStateException("Trace " + spec.getId() + " was not resolved to a file");
+        }
+        Path path = Path.of(spec.getPath());
+        this.spec = spec;
+        this.format = TraceFormat.ofFile(path.getFileName().toString());
+        this.limit = limit;
+        this.random = new SplittableRandom(spec.getSeed());
+        // SWF has 18 fields but only the first 8 are needed; CSV rows are cut at the last used column
+        int maxFields = format == TraceFormat.SWF ? SWF_REQUESTED + 1 : 256;
+        this.fieldStarts = new int[maxFields];
+        this.fieldEnds = new int[maxFields];
+        this.reader = new TraceLineReader(path);
+    }
+
+    @Override
+    public boolean next(CloudletBatch batch) {
+        batch.clear();
+        try {
+            while (!done && !batch.isFull()) {
+                if ((limit > 0 && emitted >= limit) || !reader.next()) {
+                    done = true;
+                } else {
+                    readRecord(batch);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read trace " + spec.getId(), e);
+        }
+        return batch.size() > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readRecord(CloudletBatch batch) {
+        byte[] data = reader.data();
+        int start = skipBlanks(data, reader.start(), reader.end());
+        int end = reader.end();
+        if (start == end || data[start] == ';' || data[start] == '#') {
+            return;
+        }
+
+        double submit;
+        double length;
+        double pes;
+        if (format == TraceFormat.SWF) {
+            split(data, start, end, false);
+            submit = field(data, SWF_SUBMIT);
+            double runTime = field(data, SWF_RUN_TIME);
+            double allocated = field(data, SWF_ALLOCATED);
+            double requested = field(data, SWF_REQUESTED);
+            length = runTime > 0 ? runTime * spec.getReferenceMips() : Double.NaN;
+            pes = allocated > 0 ? allocated : requested;
+        } else {
+            if (!headerRead) {
+                readHeader(data, start, end);
+                return;
+            }
+            split(data, start, end, true);
+            submit = field(data, arrivalColumn);
+            length = lengthColumn >= 0 ? field(data, lengthColumn)
+                : field(data, runTimeColumn) * spec.getReferenceMips();
+            pes = pesColumn >= 0 ? field(data, pesColumn) : 1;
+        }
+        if (!(submit >= 0 && length > 0)) {
+            return;
+        }
+
+        if (spec.getStartTime() != null && submit < spec.getStartTime()) {
+            return;
+        }
+        if (spec.getEndTime() != null && submit >= spec.getEndTime()) {
+            done = true;
+            return;
+        }
+        if (spec.getSamplingRate() < 1 && random.nextDouble() >= spec.getSamplingRate()) {
+            return;
+        }
+        if (Double.isNaN(origin)) {
+            origin = spec.getStartTime() != null ? spec.getStartTime() : submit;
+        }
+        lastArrival = Math.max(lastArrival, submit - origin);
+        batch.add(emitted++, Math.max(1, Math.round(length)), lastArrival, pes >= 1 ? (int) pes : 1);
+    }
+
+    private void readHeader(byte[] data, int start, int end) {
+        headerRead = true;
+        String[] columns = new String(data, start, end - start, StandardCharsets.UTF_8).split(",");
+        for (int i = 0; i < columns.length; i++) {
+            String column = columns[i].replace("\uFEFF", "").replace("\"", "").trim().toLowerCase(Locale.ROOT);
+            switch (column) {
+                case "arrival", "arrival_time", "submit", "submit_time" -> arrivalColumn = i;
+                case "length" -> lengthColumn = i;
+                case "runtime", "run_time" -> runTimeColumn = i;
+                case "pes", "processors" -> pesColumn = i;
+                default -> {
+                }
+            }
+        }
+        if (arrivalColumn < 0 || (lengthColumn < 0 && runTimeColumn < 0)) {
+            throw new IllegalArgumentException(
+                "CSV trace " + spec.getId() + " needs an arrival column and a length or runtime column");
+        }
+        if (Math.max(Math.max(arrivalColumn, lengthColumn), Math.max(runTimeColumn, pesColumn)) >= fieldStarts.length) {
+            throw new IllegalArgumentException("CSV trace " + spec.getId() + " has too many columns");
+        }
+    }
+
+    private void split(byte[] data, int start, int end, boolean comma) {
+        fields = 0;
+        int i = start;
+        if (comma) {
+            while (fields < fieldStarts.length) {
+                int fieldStart = i;
+                while (i < end && data[i] != ',') {
+                    i++;
+                }
+                fieldStarts[fields] = fieldStart;
+                fieldEnds[fields++] = i;
+                if (i == end) {
+                    break;
+                }
+                i++;
+            }
+        } else {
+            while (fields < fieldStarts.length && (i = skipBlanks(data, i, end)) < end) {
+                int fieldStart = i;
+                while (i < end && !isBlank(data[i])) {
+                    i++;
+                }
+                fieldStarts[fields] = fieldStart;
+                fieldEnds[fields++] = i;
+            }
+        }
+    }
+
+    private double field(byte[] data, int index) {
+        return index < fields ? parseNumber(data, fieldStarts[index], fieldEnds[index]) : Double.NaN;
+    }
+
+    /** Parses a decimal number, allowing surrounding blanks and quotes; NaN if there is none. */
+    static double parseNumber(byte[] data, int start, int end) {
+        while (start < end && (isBlank(data[start]) || data[start] == '"')) {
+            start++;
+        }
+        while (end > start && (isBlank(data[end - 1]) || data[end - 1] == '"')) {
+            end--;
+        }
+        int i = start;
+        boolean negative = false;
+        if (i < end && (data[i] == '-' || data[i] == '+')) {
+            negative = data[i++] == '-';
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        boolean anyDigit = false;
+        for (; i < end; i++) {
+            byte b = data[i];
+            if (b >= '0' && b <= '9') {
+                anyDigit = true;
+                if (digits == MAX_MANTISSA_DIGITS) {
+                    return Double.parseDouble(new String(data, start, end - start, StandardCharsets.US_ASCII));
+                }
+                if (mantissa > 0 || b != '0') {
+                    digits++;
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (fraction) {
+                    scale--;
+                }
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (!anyDigit) {
+            return Double.NaN;
+        }
+        if (i < end) {
+            // Only an exponent may follow the digits
+            if (data[i] != 'e' && data[i] != 'E') {
+                return Double.NaN;
+            }
+            try {
+                return Double.parseDouble(new String(data, start, end - start, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+        double value = -scale < POWERS_OF_TEN.length ? mantissa / POWERS_OF_TEN[-scale] : mantissa * Math.pow(10, scale);
+        return negative ? -value : value;
+    }
+
+    private static int skipBlanks(byte[] data, int start, int end) {
+        while (start < end && isBlank(data[start])) {
+            start++;
+        }
+        return start;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t';
+    }
+}
@@ -0,0 +1,87 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file line by line through one reused buffer, so a trace of any size
+ * costs a fixed amount of memory. Lines are exposed as ranges of {@link #data()}
+ * rather than Strings and stay valid until the next call to {@link #next()}.
+ */
+final class TraceLineReader implements Closeable {
+
+    static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    // Kept in read mode: position is the first unconsumed byte, limit the end of the data
+    private final ByteBuffer buffer;
+    private boolean eof;
+    private int start;
+    private int end;
+
+    TraceLineReader(Path path) throws IOException {
+        this(path, BUFFER_SIZE);
+    }
+
+    TraceLineReader(Path path, int bufferSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        buffer.flip();
+    }
+
+    /** Advances to the next line, without its terminator; false at the end of the file. */
+    boolean next() throws IOException {
+        while (true) {
+            byte[] data = buffer.array();
+            int from = buffer.position();
+            int to = buffer.limit();
+            for (int i = from; i < to; i++) {
+                if (data[i] == '\n') {
+                    buffer.position(i + 1);
+                    return line(from, i);
+                }
+            }
+            if (eof) {
+                if (from == to) {
+                    return false;
+                }
+                buffer.position(to);
+                return line(from, to);
+            }
+            if (from == 0 && to == data.length) {
+                throw new IOException("Trace line longer than " + data.length + " bytes");
+            }
+            // Keep the partial line and fill up the rest of the buffer
+            buffer.compact();
+            eof = channel.read(buffer) < 0;
+            buffer.flip();
+        }
+    }
+
+    byte[] data() {
+        return buffer.array();
+    }
+
+    int start() {
+        return start;
+    }
+
+    int end() {
+        return end;
+    }
+
+    private boolean line(int from, int to) {
+        start = from;
+        end = to > from && buffer.array()[to - 1] == '\r' ? to - 1 : to;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
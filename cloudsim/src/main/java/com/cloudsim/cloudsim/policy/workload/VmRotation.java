@@ -0,0 +1,70 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+import java.util.List;
+
+import org.cloudbus.cloudsim.Vm;
+
+/**
+ * Weighted round-robin over a fixed list of VMs, each VM getting a share of the
+ * picks proportional to its total MIPS. This is stride scheduling: every VM has a
+ * pass that advances by the inverse of its weight when it is picked, and the VM
+ * with the lowest pass goes next, ties to the earlier VM. VMs of equal weight
+ * therefore come up in plain cyclic order. The passes live in a binary heap, so a
+ * pick is O(log n) however many VMs there are.
+ */
+class VmRotation {
+
+    private final List<Vm> vms;
+    private final double[] pass;
+    private final double[] stride;
+    // Indexes into vms, ordered by (pass, index)
+    private final int[] heap;
+
+    VmRotation(List<Vm> vms) {
+        this.vms = vms;
+        int n = vms.size();
+        this.pass = new double[n];
+        this.stride = new double[n];
+        this.heap = new int[n];
+        for (int i = 0; i < n; i++) {
+            Vm vm = vms.get(i);
+            stride[i] = 1 / Math.max(vm.getMips() * vm.getNumberOfPes(), Double.MIN_NORMAL);
+            pass[i] = stride[i];
+            heap[i] = i;
+        }
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    Vm next() {
+        int vm = heap[0];
+        pass[vm] += stride[vm];
+        siftDown(0);
+        return vms.get(vm);
+    }
+
+    private void siftDown(int position) {
+        int n = heap.length;
+        int vm = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], vm)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = vm;
+    }
+
+    private boolean before(int a, int b) {
+        return pass[a] < pass[b] || (pass[a] == pass[b] && a < b);
+    }
+}
@@ -0,0 +1,395 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.DatacenterBroker;
+import org.cloudbus.cloudsim.UtilizationModel;
+import org.cloudbus.cloudsim.UtilizationModelFull;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEvent;
+import org.cloudbus.cloudsim.lists.VmList;
+
+import com.cloudsim.cloudsim.policy.topology.BatchDatacenter;
+
+/**
+ * Broker that pulls cloudlets from a {@link CloudletSource} one batch at a time and
+ * submits each one when it arrives, instead of taking a fully built list up front.
+ * At most {@code maxInFlightPerVm} cloudlets per created VM are in the datacenter
+ * at once (time-shared schedulers are quadratic in that number); later arrivals
+ * wait in the batch arrays. Finished cloudlets are handed to the given consumer
+ * and then dropped, so neither the pending nor the finished side of a run grows
+ * with the number of cloudlets.
+ *
+ * <p>Cloudlets go to the created VMs in weighted round-robin order by MIPS (see
+ * {@link VmRotation}). Everything that can be submitted at one point in simulated
+ * time travels to a {@link BatchDatacenter} as a single event, and finished
+ * cloudlets come back the same way, so the event queue grows with the number of
+ * distinct arrival and completion times rather than with the number of cloudlets.
+ *
+ * <p>One broker can also stand in for many tenants, each with its own source and
+ * its own block of {@code vmsPerTenant} consecutive VMs. Tenants keep separate
+ * cursors, in-flight limits and rotations, so each is dealt with exactly as a
+ * broker of its own would be, but they share this entity, its event traffic and a
+ * single pending wake-up: a queue ordered by next arrival says which tenants to
+ * serve when it fires. Thousands of tenants therefore cost thousands of small
+ * records rather than thousands of simulation entities.
+ *
+ * <p>A run that is to be paused part way gets a no-op event at the pause time from
+ * {@link #markPause}, and a paused run can change every tenant's VM count with
+ * {@link #rescale} before it carries on.
+ */
+public class WorkloadBroker extends DatacenterBroker {
+
+    // Self-addressed event that wakes the broker up for the next arrival
+    private static final int SUBMIT_NEXT = 8_701;
+    // Self-addressed event that does nothing but make the clock stop at a pause
+    private static final int PAUSE = 8_704;
+
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+    // Smallest batch a tenant gets when the batch size is split between many
+    private static final int MIN_TENANT_BATCH_SIZE = 64;
+
+    /** One tenant's share of the broker: its workload, where it is in it and its VMs. */
+    private static final class Tenant {
+        final int index;
+        final CloudletSource source;
+        final CloudletBatch batch;
+        int cursor;
+        boolean exhausted;
+        int inFlight;
+        int vmsCreated;
+        // The VMs in the rotation, which drops the surplus ones of a tenant that was scaled in
+        List<Vm> vms;
+        VmRotation rotation;
+        // Set while the tenant sits in the arrivals queue
+        boolean waiting;
+        double nextArrival;
+        // Set while a returned batch has cloudlets of this tenant
+        boolean touched;
+
+        Tenant(int index, CloudletSource source, int batchSize) {
+            this.index = index;
+            this.source = source;
+            this.batch = new CloudletBatch(batchSize);
+        }
+    }
+
+    private final Tenant[] tenants;
+    private final int vmsPerTenant;
+    private final int maxInFlightPerVm;
+    private final Consumer<? super Cloudlet> finishedCloudlets;
+    // Stateless, so every cloudlet can share it
+    private final UtilizationModel utilizationModel = new UtilizationModelFull();
+    // Tenants whose next cloudlet arrives in the future, earliest first
+    private final PriorityQueue<Tenant> arrivals = new PriorityQueue<>(
+        Comparator.<Tenant>comparingDouble(tenant -> tenant.nextArrival).thenComparingInt(tenant -> tenant.index));
+
+    private boolean finished;
+    private int inFlight;
+    private int exhaustedCount;
+    private double wakeupAt = -1;
+    private long submittedCount;
+    private long submittedLength;
+    private long finishedCount;
+    private int vmsCreatedCount;
+    // VMs a rescale asked for that are not up yet, and whose they are
+    private final Map<Integer, Tenant> scalingOut = new HashMap<>();
+
+    public WorkloadBroker(String name, CloudletSource source, int batchSize, int maxInFlightPerVm,
+            Consumer<? super Cloudlet> finishedCloudlets) throws Exception {
+        this(name, List.of(source), Integer.MAX_VALUE, batchSize, maxInFlightPerVm, finishedCloudlets);
+    }
+
+    /**
+     * @param sources one per tenant, in tenant order
+     * @param vmsPerTenant VMs in each tenant's block of VM ids; tenant t owns ids
+     *            {@code t * vmsPerTenant} up to {@code (t + 1) * vmsPerTenant - 1}
+     * @param batchSize cloudlets read ahead, shared out between the tenants
+     */
+    public WorkloadBroker(String name, List<? extends CloudletSource> sources, int vmsPerTenant, int batchSize,
+            int maxInFlightPerVm, Consumer<? super Cloudlet> finishedCloudlets) throws Exception {
+        super(name);
+        this.tenants = new Tenant[sources.size()];
+        int tenantBatchSize = tenants.length == 1 ? batchSize
+            : Math.min(batchSize, Math.max(MIN_TENANT_BATCH_SIZE, batchSize / tenants.length));
+        for (int t = 0; t < tenants.length; t++) {
+            tenants[t] = new Tenant(t, sources.get(t), tenantBatchSize);
+        }
+        this.vmsPerTenant = Math.max(1, vmsPerTenant);
+        this.maxInFlightPerVm = maxInFlightPerVm;
+        this.finishedCloudlets = finishedCloudlets;
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount;
+    }
+
+    public long getSubmittedLength() {
+        return submittedLength;
+    }
+
+    public long getFinishedCount() {
+        return finishedCount;
+    }
+
+    /** True once every tenant's workload has run and the VMs are being destroyed. */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /** VMs that were up when cloudlets started flowing; the created list is emptied at shutdown. */
+    public int getVmsCreatedCount() {
+        return vmsCreatedCount;
+    }
+
+    /** As {@link #getVmsCreatedCount()}, per tenant in tenant order. */
+    public int[] getTenantVmsCreatedCounts() {
+        int[] counts = new int[tenants.length];
+        for (Tenant tenant : tenants) {
+            counts[tenant.index] = tenant.vmsCreated;
+        }
+        return counts;
+    }
+
+    /** Called once VMs exist; from here on cloudlets are submitted as they arrive. */
+    @Override
+    protected void submitCloudlets() {
+        List<Vm> created = getVmsCreatedList();
+        vmsCreatedCount = created.size();
+        List<List<Vm>> tenantVms = new ArrayList<>(tenants.length);
+        for (int t = 0; t < tenants.length; t++) {
+            tenantVms.add(new ArrayList<>());
+        }
+        for (Vm vm : created) {
+            tenantVms.get(tenantOf(vm.getId()).index).add(vm);
+        }
+
+        Map<Integer, List<Cloudlet>> batches = new LinkedHashMap<>(2);
+        for (Tenant tenant : tenants) {
+            List<Vm> vms = tenantVms.get(tenant.index);
+            tenant.vmsCreated = vms.size();
+            tenant.vms = vms;
+            tenant.rotation = new VmRotation(vms);
+            // A tenant none of whose VMs came up has nowhere to run its cloudlets
+            if (vms.isEmpty()) {
+                tenant.exhausted = true;
+                exhaustedCount++;
+            }
+            dispatch(tenant, batches);
+        }
+        send(batches);
+    }
+
+    /**
+     * Schedules an event that does nothing at {@code time}, so that a simulation run
+     * up to that time has its clock stop there even if nothing else happens then.
+     */
+    public void markPause(double time) {
+        // Straight into the queue: entities drop what they schedule before the simulation starts
+        CloudSim.send(getId(), getId(), time - CloudSim.clock(), PAUSE, null);
+    }
+
+    /**
+     * Gives every tenant that has VMs {@code vmsPerTenant} of them from now on. A
+     * tenant with more takes its last ones out of its rotation, and they only finish
+     * the cloudlets they already have. One with fewer gets new VMs, made by
+     * {@code newVm} from the next free VM id and created in the datacenter its
+     * others are in; they join the rotation once they are all up.
+     *
+     * @throws IllegalStateException if cloudlets have not started flowing yet
+     */
+    public void rescale(int vmsPerTenant, IntFunction<Vm> newVm) {
+        if (tenants[0].rotation == null) {
+            throw new IllegalStateException("The tenants' VMs are not up yet");
+        }
+        int nextVmId = 0;
+        for (Vm vm : getVmList()) {
+            nextVmId = Math.max(nextVmId, vm.getId() + 1);
+        }
+        for (Tenant tenant : tenants) {
+            if (tenant.vms.isEmpty()) {
+                continue;
+            }
+            if (vmsPerTenant < tenant.vms.size()) {
+                tenant.vms = new ArrayList<>(tenant.vms.subList(0, Math.max(1, vmsPerTenant)));
+                tenant.vmsCreated = tenant.vms.size();
+                tenant.rotation = new VmRotation(tenant.vms);
+                continue;
+            }
+            int datacenterId = getVmsToDatacentersMap().get(tenant.vms.get(0).getId());
+            for (int i = tenant.vms.size(); i < vmsPerTenant; i++) {
+                Vm vm = newVm.apply(nextVmId++);
+                getVmList().add(vm);
+                scalingOut.put(vm.getId(), tenant);
+                sendNow(datacenterId, CloudSimTags.VM_CREATE_ACK, vm);
+            }
+        }
+    }
+
+    @Override
+    protected void processVmCreate(SimEvent ev) {
+        int[] data = (int[]) ev.getData();
+        Tenant tenant = scalingOut.remove(data[1]);
+        if (tenant == null) {
+            super.processVmCreate(ev);
+            return;
+        }
+        if (data[2] == CloudSimTags.TRUE) {
+            Vm vm = VmList.getById(getVmList(), data[1]);
+            getVmsToDatacentersMap().put(vm.getId(), data[0]);
+            getVmsCreatedList().add(vm);
+            tenant.vms.add(vm);
+        }
+        if (!scalingOut.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<Cloudlet>> batches = new LinkedHashMap<>(2);
+        for (Tenant grown : tenants) {
+            if (grown.vms.size() > grown.vmsCreated) {
+                grown.vmsCreated = grown.vms.size();
+                grown.rotation = new VmRotation(grown.vms);
+                dispatch(grown, batches);
+            }
+        }
+        send(batches);
+    }
+
+    @Override
+    protected void processOtherEvent(SimEvent ev) {
+        if (ev != null && ev.getTag() == PAUSE) {
+            return;
+        }
+        if (ev != null && ev.getTag() == SUBMIT_NEXT) {
+            wakeupAt = -1;
+            Map<Integer, List<Cloudlet>> batches = new LinkedHashMap<>(2);
+            while (!arrivals.isEmpty() && arrivals.peek().nextArrival <= CloudSim.clock()) {
+                Tenant tenant = arrivals.poll();
+                tenant.waiting = false;
+                dispatch(tenant, batches);
+            }
+            send(batches);
+            return;
+        }
+        if (ev != null && ev.getTag() == BatchDatacenter.CLOUDLET_RETURN_BATCH) {
+            @SuppressWarnings("unchecked")
+            List<Cloudlet> cloudlets = (List<Cloudlet>) ev.getData();
+            List<Tenant> touched = new ArrayList<>(Math.min(tenants.length, cloudlets.size()));
+            for (Cloudlet cloudlet : cloudlets) {
+                Tenant tenant = finished(cloudlet);
+                if (!tenant.touched) {
+                    tenant.touched = true;
+                    touched.add(tenant);
+                }
+            }
+            Map<Integer, List<Cloudlet>> batches = new LinkedHashMap<>(2);
+            for (Tenant tenant : touched) {
+                tenant.touched = false;
+                dispatch(tenant, batches);
+            }
+            send(batches);
+            return;
+        }
+        super.processOtherEvent(ev);
+    }
+
+    @Override
+    protected void processCloudletReturn(SimEvent ev) {
+        Tenant tenant = finished((Cloudlet) ev.getData());
+        Map<Integer, List<Cloudlet>> batches = new LinkedHashMap<>(2);
+        dispatch(tenant, batches);
+        send(batches);
+    }
+
+    private Tenant tenantOf(int vmId) {
+        return tenants[Math.min(vmId / vmsPerTenant, tenants.length - 1)];
+    }
+
+    private Tenant finished(Cloudlet cloudlet) {
+        Tenant tenant = tenants[((WorkloadCloudlet) cloudlet).getTenant()];
+        tenant.inFlight--;
+        inFlight--;
+        finishedCount++;
+        finishedCloudlets.accept(cloudlet);
+        return tenant;
+    }
+
+    // Adds whatever the tenant can submit now to the per-datacenter batches
+    private void dispatch(Tenant tenant, Map<Integer, List<Cloudlet>> batches) {
+        CloudletBatch batch = tenant.batch;
+        while (tenant.inFlight < maxInFlightPerVm * tenant.vmsCreated) {
+            if (tenant.cursor == batch.size()) {
+                if (tenant.exhausted) {
+                    break;
+                }
+                tenant.cursor = 0;
+                if (!tenant.source.next(batch)) {
+                    tenant.exhausted = true;
+                    exhaustedCount++;
+                    break;
+                }
+            }
+            double arrival = batch.arrivalTime(tenant.cursor);
+            if (arrival > CloudSim.clock()) {
+                if (!tenant.waiting) {
+                    tenant.waiting = true;
+                    tenant.nextArrival = arrival;
+                    arrivals.add(tenant);
+                }
+                break;
+            }
+            submit(tenant, tenant.cursor++, batches);
+        }
+    }
+
+    // One event per datacenter, then the next wake-up, or the end of the run
+    private void send(Map<Integer, List<Cloudlet>> batches) {
+        batches.forEach((datacenter, cloudlets) ->
+            sendNow(datacenter, BatchDatacenter.CLOUDLET_SUBMIT_BATCH, cloudlets));
+        if (!arrivals.isEmpty()) {
+            wakeUpAt(arrivals.peek().nextArrival);
+        }
+
+        if (exhaustedCount == tenants.length && inFlight == 0 && !finished) {
+            finished = true;
+            clearDatacenters();
+            finishExecution();
+        }
+    }
+
+    private void submit(Tenant tenant, int index, Map<Integer, List<Cloudlet>> batches) {
+        CloudletBatch batch = tenant.batch;
+        Vm vm = tenant.rotation.next();
+
+        WorkloadCloudlet cloudlet = new WorkloadCloudlet(batch.id(index), batch.length(index), batch.pes(index),
+            batch.arrivalTime(index), tenant.index, utilizationModel);
+        cloudlet.setUserId(getId());
+        cloudlet.setVmId(vm.getId());
+        batches.computeIfAbsent(getVmsToDatacentersMap().get(vm.getId()), datacenter -> new ArrayList<>())
+            .add(cloudlet);
+
+        tenant.inFlight++;
+        inFlight++;
+        submittedCount++;
+        submittedLength += cloudlet.getCloudletLength();
+    }
+
+    // Only one wake-up is ever pending, so the event queue does not grow with the workload
+    private void wakeUpAt(double time) {
+        if (wakeupAt >= 0 && wakeupAt <= time) {
+            return;
+        }
+        wakeupAt = time;
+        schedule(getId(), time - CloudSim.clock(), SUBMIT_NEXT);
+    }
+}
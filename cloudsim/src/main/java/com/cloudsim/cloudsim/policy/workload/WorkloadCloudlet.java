@@ -0,0 +1,30 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.UtilizationModel;
+
+/**
+ * A cloudlet that remembers when it arrived at the broker, which can be earlier
+ * than its submission to the datacenter if the broker had to hold it back, and
+ * which of the broker's tenants it belongs to.
+ */
+public class WorkloadCloudlet extends Cloudlet {
+
+    private final double arrivalTime;
+    private final int tenant;
+
+    public WorkloadCloudlet(int cloudletId, long length, int pesNumber, double arrivalTime, int tenant,
+            UtilizationModel utilizationModel) {
+        super(cloudletId, length, pesNumber, 300, 300, utilizationModel, utilizationModel, utilizationModel, false);
+        this.arrivalTime = arrivalTime;
+        this.tenant = tenant;
+    }
+
+    public double getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public int getTenant() {
+        return tenant;
+    }
+}
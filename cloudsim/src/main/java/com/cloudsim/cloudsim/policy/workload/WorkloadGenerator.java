@@ -0,0 +1,75 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+import com.cloudsim.cloudsim.policy.SplitMixRandom;
+
+/**
+ * Synthetic workload drawn from the distributions of a {@link WorkloadSpec}. Lengths
+ * and arrivals come from two independent streams split off the spec's seed, so
+ * the workload is identical for a given seed however it is batched.
+ */
+public class WorkloadGenerator implements CloudletSource {
+
+    private final WorkloadSpec spec;
+    private final int count;
+    private final SplitMixRandom lengthRandom;
+    private final SplitMixRandom arrivalRandom;
+    private int generated;
+    private double clock;
+
+    public WorkloadGenerator(WorkloadSpec spec, int count) {
+        this.spec = spec != null ? spec : new WorkloadSpec();
+        this.count = count;
+        SplitMixRandom root = new SplitMixRandom(this.spec.getSeed());
+        this.lengthRandom = root.split();
+        this.arrivalRandom = root.split();
+    }
+
+    @Override
+    public boolean next(CloudletBatch batch) {
+        batch.clear();
+        while (generated < count && !batch.isFull()) {
+            double arrival = nextArrival();
+            batch.add(generated++, nextLength(), arrival, spec.getPesPerCloudlet());
+        }
+        return batch.size() > 0;
+    }
+
+    private long nextLength() {
+        double mean = spec.getMeanLength();
+        double length;
+        switch (spec.getLengthDistribution()) {
+            case UNIFORM:
+                length = mean * (1 + spec.getLengthSpread() * (2 * lengthRandom.nextDouble() - 1));
+                break;
+            case EXPONENTIAL:
+                length = -mean * Math.log(1 - lengthRandom.nextDouble());
+                break;
+            case PARETO:
+                // Scale chosen so the distribution has the requested mean
+                double shape = spec.getParetoShape();
+                double scale = mean * (shape - 1) / shape;
+                length = scale / Math.pow(1 - lengthRandom.nextDouble(), 1 / shape);
+                break;
+            default:
+                length = mean;
+                break;
+        }
+        return Math.max(1, Math.round(length));
+    }
+
+    private double nextArrival() {
+        double arrival = clock;
+        switch (spec.getArrivalProcess()) {
+            case POISSON:
+                clock += -Math.log(1 - arrivalRandom.nextDouble()) / spec.getArrivalRate();
+                break;
+            case UNIFORM:
+                clock += 1 / spec.getArrivalRate();
+                break;
+            default:
+                break;
+        }
+        return arrival;
+    }
+}
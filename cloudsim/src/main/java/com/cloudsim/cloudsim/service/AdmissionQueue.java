@@ -0,0 +1,346 @@
+package com.cloudsim.cloudsim.service;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control in front of the kernels. Every request carries an estimated
+ * cost and may start while fewer than {@code maxRunning} requests are running and
+ * the costs of those leave room for it under {@code maxCost}; a request that costs
+ * more than the whole budget runs alone rather than never.
+ *
+ * <p>Requests that cannot start wait in one of two lanes: {@link Lane#INTERACTIVE}
+ * for those costing at most {@code interactiveCost}, which always start before any
+ * {@link Lane#BATCH} request, and {@code BATCH} for the rest. Each lane is first in,
+ * first out, and a lane's head is never overtaken by a cheaper request behind it,
+ * so a large request cannot be starved by a stream of small ones in its own lane.
+ * The lanes share {@code capacity} places; when they are full, an interactive
+ * arrival sheds the newest batch request instead of being turned away.
+ *
+ * <p>Rejection is meant to be quick: a request is refused on arrival when its
+ * client already has {@code clientMaxRequests} requests or {@code clientMaxCost} of
+ * cost running or waiting, when the queue is full, or when the work ahead of it
+ * would take longer than {@code maxWait} to drain at the rate recent requests ran.
+ * Only a request that was expected to start in time but did not waits the full
+ * {@code maxWait}.
+ */
+public class AdmissionQueue {
+
+    public enum Lane {
+        INTERACTIVE, BATCH
+    }
+
+    // Weight of the latest run in the moving average of run time per unit of cost
+    private static final double SMOOTHING = 0.2;
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+    private final int maxRunning;
+    private final long maxCost;
+    private final int capacity;
+    private final long maxWaitNanos;
+    private final long interactiveCost;
+    private final int clientMaxRequests;
+    private final long clientMaxCost;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<Lane, ArrayDeque<Waiter>> lanes = new EnumMap<>(Lane.class);
+    private final long[] queuedCost = new long[Lane.values().length];
+    private final Map<String, Usage> clients = new HashMap<>();
+    private int running;
+    private long runningCost;
+    private double nanosPerCost;
+
+    public AdmissionQueue(int maxRunning, long maxCost, int capacity, long maxWaitMs, long interactiveCost,
+            int clientMaxRequests, long clientMaxCost) {
+        if (maxRunning < 1 || maxCost < 1 || capacity < 0 || maxWaitMs < 0 || clientMaxRequests < 1
+                || clientMaxCost < 1) {
+            throw new IllegalArgumentException("Admission limits must be positive");
+        }
+        this.maxRunning = maxRunning;
+        this.maxCost = maxCost;
+        this.capacity = capacity;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.interactiveCost = interactiveCost;
+        this.clientMaxRequests = clientMaxRequests;
+        this.clientMaxCost = clientMaxCost;
+        for (Lane lane : Lane.values()) {
+            lanes.put(lane, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Waits until a request of the given cost may start, and returns the permit it
+     * runs under; closing the permit makes room for the next one.
+     *
+     * @throws AdmissionRejectedException if it may not start, now or within the maximum wait
+     */
+    public Permit acquire(String client, long cost) throws InterruptedException {
+        long weight = Math.max(1, Math.min(cost, maxCost));
+        Lane lane = cost <= interactiveCost ? Lane.INTERACTIVE : Lane.BATCH;
+        long arrived = System.nanoTime();
+        lock.lock();
+        try {
+            Usage usage = clients.get(client);
+            if (usage != null && (usage.requests >= clientMaxRequests || usage.cost + weight > clientMaxCost)) {
+                throw reject(AdmissionRejectedException.Reason.CLIENT_QUOTA);
+            }
+            if (isFirstInLine(lane) && fits(weight)) {
+                start(client, weight);
+                return new Permit(this, client, lane, weight, 0);
+            }
+            if (drainNanos(lane) > maxWaitNanos) {
+                throw reject(AdmissionRejectedException.Reason.OVERLOADED);
+            }
+            if (queued() >= capacity && !shedBatch(lane)) {
+                throw reject(AdmissionRejectedException.Reason.QUEUE_FULL);
+            }
+
+            Waiter waiter = new Waiter(client, lane, weight);
+            enqueue(waiter);
+            long deadline = arrived + maxWaitNanos;
+            try {
+                while (waiter.state == Waiter.WAITING) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) {
+                        dequeue(waiter);
+                        throw reject(AdmissionRejectedException.Reason.WAIT_TIMEOUT);
+                    }
+                    changed.awaitNanos(left);
+                }
+            } catch (InterruptedException e) {
+                if (waiter.state == Waiter.STARTED) {
+                    release(client, weight, 0);
+                } else if (waiter.state == Waiter.WAITING) {
+                    dequeue(waiter);
+                }
+                throw e;
+            }
+            if (waiter.state == Waiter.SHED) {
+                throw reject(AdmissionRejectedException.Reason.SHED);
+            }
+            return new Permit(this, client, lane, weight, System.nanoTime() - arrived);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getRunning() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRunningCost() {
+        lock.lock();
+        try {
+            return runningCost;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued(Lane lane) {
+        lock.lock();
+        try {
+            return lanes.get(lane).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Only ever called with the lock held
+
+    private boolean isFirstInLine(Lane lane) {
+        for (Lane ahead : Lane.values()) {
+            if (!lanes.get(ahead).isEmpty()) {
+                return false;
+            }
+            if (ahead == lane) {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    private boolean fits(long weight) {
+        return running == 0 || (running < maxRunning && runningCost + weight <= maxCost);
+    }
+
+    private int queued() {
+        int queued = 0;
+        for (ArrayDeque<Waiter> waiters : lanes.values()) {
+            queued += waiters.size();
+        }
+        return queued;
+    }
+
+    private boolean shedBatch(Lane lane) {
+        if (lane != Lane.INTERACTIVE) {
+            return false;
+        }
+        Waiter newest = lanes.get(Lane.BATCH).peekLast();
+        if (newest == null) {
+            return false;
+        }
+        dequeue(newest);
+        newest.state = Waiter.SHED;
+        changed.signalAll();
+        return true;
+    }
+
+    // Time for what is running and waiting ahead of a new request in this lane to drain, 0 if unknown yet
+    private long drainNanos(Lane lane) {
+        long ahead = runningCost;
+        for (Lane earlier : Lane.values()) {
+            ahead += queuedCost[earlier.ordinal()];
+            if (earlier == lane) {
+                break;
+            }
+        }
+        return (long) (ahead * nanosPerCost / maxRunning);
+    }
+
+    private void start(String client, long weight) {
+        running++;
+        runningCost += weight;
+        Usage usage = clients.computeIfAbsent(client, key -> new Usage());
+        usage.requests++;
+        usage.cost += weight;
+    }
+
+    private void enqueue(Waiter waiter) {
+        lanes.get(waiter.lane).add(waiter);
+        queuedCost[waiter.lane.ordinal()] += waiter.weight;
+        Usage usage = clients.computeIfAbsent(waiter.client, key -> new Usage());
+        usage.requests++;
+        usage.cost += waiter.weight;
+    }
+
+    private void dequeue(Waiter waiter) {
+        lanes.get(waiter.lane).remove(waiter);
+        queuedCost[waiter.lane.ordinal()] -= waiter.weight;
+        forget(waiter.client, waiter.weight);
+        // The head of a lane may have gone, letting the next lane through
+        dispatch();
+    }
+
+    private void release(String client, long weight, long runNanos) {
+        running--;
+        runningCost -= weight;
+        forget(client, weight);
+        if (runNanos > 0) {
+            double sample = (double) runNanos / weight;
+            nanosPerCost = nanosPerCost == 0 ? sample : nanosPerCost + SMOOTHING * (sample - nanosPerCost);
+        }
+        dispatch();
+    }
+
+    private void forget(String client, long weight) {
+        Usage usage = clients.get(client);
+        usage.requests--;
+        usage.cost -= weight;
+        if (usage.requests == 0) {
+            clients.remove(client);
+        }
+    }
+
+    // Starts waiting requests in lane order for as long as the head of the first non-empty lane fits
+    private void dispatch() {
+        boolean started = false;
+        for (Lane lane : Lane.values()) {
+            ArrayDeque<Waiter> waiters = lanes.get(lane);
+            Waiter head;
+            while ((head = waiters.peek()) != null && fits(head.weight)) {
+                waiters.poll();
+                queuedCost[lane.ordinal()] -= head.weight;
+                // Already counted against its client while it waited
+                running++;
+                runningCost += head.weight;
+                head.state = Waiter.STARTED;
+                started = true;
+            }
+            if (head != null) {
+                break;
+            }
+        }
+        if (started) {
+            changed.signalAll();
+        }
+    }
+
+    private AdmissionRejectedException reject(AdmissionRejectedException.Reason reason) {
+        long ahead = runningCost;
+        for (long cost : queuedCost) {
+            ahead += cost;
+        }
+        long seconds = (long) Math.ceil(ahead * nanosPerCost / maxRunning / TimeUnit.SECONDS.toNanos(1));
+        return new AdmissionRejectedException(reason, Math.max(1, Math.min(MAX_RETRY_AFTER_SECONDS, seconds)));
+    }
+
+    /** A started request; closing it, once, frees its share of the budget. */
+    public static final class Permit implements AutoCloseable {
+
+        private final AdmissionQueue queue;
+        private final String client;
+        private final Lane lane;
+        private final long weight;
+        private final long waitNanos;
+        private final long started = System.nanoTime();
+        private boolean closed;
+
+        private Permit(AdmissionQueue queue, String client, Lane lane, long weight, long waitNanos) {
+            this.queue = queue;
+            this.client = client;
+            this.lane = lane;
+            this.weight = weight;
+            this.waitNanos = waitNanos;
+        }
+
+        public Lane getLane() { return lane; }
+        public long getWaitNanos() { return waitNanos; }
+
+        @Override
+        public void close() {
+            queue.lock.lock();
+            try {
+                if (!closed) {
+                    closed = true;
+                    queue.release(client, weight, Math.max(1, System.nanoTime() - started));
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+    }
+
+    private static final class Waiter {
+        static final int WAITING = 0;
+        static final int STARTED = 1;
+        static final int SHED = 2;
+
+        final String client;
+        final Lane lane;
+        final long weight;
+        int state = WAITING;
+
+        Waiter(String client, Lane lane, long weight) {
+            this.client = client;
+            this.lane = lane;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Usage {
+        int requests;
+        long cost;
+    }
+}
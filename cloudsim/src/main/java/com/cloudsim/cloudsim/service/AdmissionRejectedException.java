@@ -0,0 +1,43 @@
+package com.cloudsim.cloudsim.service;
+
+/** A request turned away by the {@link AdmissionQueue}, with how long to wait before trying again. */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        /** The client already has as many requests, or as much cost, running or waiting as it may. */
+        CLIENT_QUOTA("Too many requests from this client are running or waiting"),
+        /** Every place in the queue was taken. */
+        QUEUE_FULL("The simulation queue is full"),
+        /** The work already admitted would not drain within the maximum wait. */
+        OVERLOADED("Simulations are backed up beyond the maximum wait"),
+        /** The request waited the maximum time without starting. */
+        WAIT_TIMEOUT("No simulation capacity freed up within the maximum wait"),
+        /** The request was waiting in the batch lane and gave its place to an interactive one. */
+        SHED("Queued request was shed to make room for a cheaper one");
+
+        private final String message;
+
+        Reason(String message) {
+            this.message = message;
+        }
+    }
+
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(Reason reason, long retryAfterSeconds) {
+        super(reason.message);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
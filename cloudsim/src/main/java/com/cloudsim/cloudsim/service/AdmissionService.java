@@ -0,0 +1,168 @@
+package com.cloudsim.cloudsim.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.model.ExecutionMode;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.TraceSpec;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Decides whether a {@code /api/simulate} request may run now, later or not at all,
+ * through an {@link AdmissionQueue} sized from {@code simulation.admission.*}, and
+ * publishes what it decides:
+ * <ul>
+ *   <li>{@code simulation.admission.running} and {@code simulation.admission.cost} gauges
+ *       for the requests running and their summed cost</li>
+ *   <li>{@code simulation.admission.queued} gauges, tagged by lane</li>
+ *   <li>{@code simulation.admission.wait} timers, tagged by lane, for the time admitted
+ *       requests spent queued</li>
+ *   <li>{@code simulation.admission.rejected} counters, tagged by reason</li>
+ * </ul>
+ */
+@Service
+public class AdmissionService {
+
+    // VMs whose host updates add about as much work per cloudlet as one more competing tenant
+    private static final double VMS_PER_TENANT_EQUIVALENT = 64;
+    // Building one VM and its share of a host, in cloudlets' worth of kernel work
+    private static final double VM_SETUP_COST = 16;
+    // Roughly one line of an SWF or CSV trace
+    private static final double BYTES_PER_TRACE_RECORD = 64;
+
+    @Autowired
+    private SimulationEngine simulationEngine;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${simulation.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${simulation.admission.max-running:0}")
+    private int maxRunning;
+
+    @Value("${simulation.admission.max-cost:20000000}")
+    private long maxCost;
+
+    @Value("${simulation.admission.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${simulation.admission.max-wait-ms:10000}")
+    private long maxWaitMs;
+
+    @Value("${simulation.admission.interactive-cost:1000000}")
+    private long interactiveCost;
+
+    @Value("${simulation.admission.client-max-requests:16}")
+    private int clientMaxRequests;
+
+    @Value("${simulation.admission.client-max-cost:10000000}")
+    private long clientMaxCost;
+
+    private AdmissionQueue queue;
+    private final Map<AdmissionQueue.Lane, Timer> waits = new ConcurrentHashMap<>();
+    private final Map<AdmissionRejectedException.Reason, Counter> rejections = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        int running = maxRunning > 0 ? maxRunning : simulationEngine.getMaxKernels();
+        queue = new AdmissionQueue(running, maxCost, queueCapacity, maxWaitMs, interactiveCost, clientMaxRequests,
+            clientMaxCost);
+
+        Gauge.builder("simulation.admission.running", queue, AdmissionQueue::getRunning)
+            .description("Admitted /api/simulate requests that are running")
+            .register(registry);
+        Gauge.builder("simulation.admission.cost", queue, AdmissionQueue::getRunningCost)
+            .description("Estimated cost of the admitted requests that are running")
+            .register(registry);
+        for (AdmissionQueue.Lane lane : AdmissionQueue.Lane.values()) {
+            String tag = lane.name().toLowerCase();
+            Gauge.builder("simulation.admission.queued", queue, admission -> admission.getQueued(lane))
+                .description("Requests waiting to be admitted")
+                .tag("lane", tag)
+                .register(registry);
+            waits.put(lane, Timer.builder("simulation.admission.wait")
+                .description("Time admitted requests spent waiting")
+                .tag("lane", tag)
+                .publishPercentileHistogram()
+                .register(registry));
+        }
+        for (AdmissionRejectedException.Reason reason : AdmissionRejectedException.Reason.values()) {
+            rejections.put(reason, Counter.builder("simulation.admission.rejected")
+                .description("Requests turned away by admission control")
+                .tag("reason", reason.name().toLowerCase())
+                .register(registry));
+        }
+    }
+
+    /**
+     * Waits for the request's turn and returns the permit it runs under, to be closed
+     * when it is done. Estimates never touch a kernel and are let straight through.
+     *
+     * @throws AdmissionRejectedException if the request should be retried later
+     */
+    public AdmissionQueue.Permit admit(String client, SimulationRequest request) {
+        if (!enabled || request.getMode() == ExecutionMode.ESTIMATE) {
+            return null;
+        }
+        try {
+            AdmissionQueue.Permit permit = queue.acquire(client, cost(request));
+            waits.get(permit.getLane()).record(permit.getWaitNanos(), TimeUnit.NANOSECONDS);
+            return permit;
+        } catch (AdmissionRejectedException e) {
+            rejections.get(e.getReason()).increment();
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting to be admitted");
+        }
+    }
+
+    /**
+     * Estimated cost of simulating a validated request, in units of roughly one
+     * cloudlet's worth of kernel work. Each tenant's cloudlets are scheduled against
+     * every other tenant's on the shared hosts, and every host update visits all the
+     * VMs, so the cost grows with the square of the users and with cloudlets times VMs.
+     * Building every tenant's VMs and their hosts costs on top of that, whether or not
+     * any cloudlet runs on them. Replicas and strategies multiply it, and a trace counts as many cloudlets as its
+     * file has records of typical size. Only the ratios between requests matter; the
+     * queue learns how long a unit takes from the runs it admits.
+     */
+    public static long cost(SimulationRequest request) {
+        int users = Math.max(1, request.getNumberOfUsers());
+        double cloudlets = request.getTrace() != null
+            ? traceRecords(request.getTrace()) * request.getTrace().getSamplingRate()
+            : (double) Math.max(0, request.getNumberOfCloudlets()) * users;
+        double perCloudlet = users + Math.max(0, request.getNumberOfVms()) / VMS_PER_TENANT_EQUIVALENT;
+        int strategies = request.getStrategies() != null ? request.getStrategies().size() : 1;
+        double setup = (double) users * Math.max(0, request.getNumberOfVms()) * VM_SETUP_COST;
+        double cost = (cloudlets * perCloudlet + setup) * request.getReplicas() * strategies;
+        return (long) Math.min(Long.MAX_VALUE, Math.ceil(cost));
+    }
+
+    private static double traceRecords(TraceSpec trace) {
+        try {
+            return trace.getPath() != null ? Files.size(Path.of(trace.getPath())) / BYTES_PER_TRACE_RECORD : 0;
+        } catch (IOException e) {
+            // Fails in the simulation itself, with a proper message
+            return 0;
+        }
+    }
+}
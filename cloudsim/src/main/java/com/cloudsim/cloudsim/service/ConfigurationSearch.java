@@ -0,0 +1,324 @@
+package com.cloudsim.cloudsim.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import com.cloudsim.cloudsim.model.OptimizationCandidate;
+import com.cloudsim.cloudsim.model.OptimizationRequest;
+import com.cloudsim.cloudsim.model.OptimizationResult;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+/**
+ * One evolutionary search over strategies, VM counts and VM sizes. Each generation
+ * is first simulated on a short horizon, a fraction of the workload's cloudlets; only
+ * the better half goes on to a full simulation, so a poor candidate costs a screening
+ * run rather than a whole one (successive halving with two rungs). The next generation
+ * is bred from the fully simulated candidates by tournament selection, crossover and
+ * mutation, with a few random newcomers to keep it from settling too early.
+ *
+ * <p>Every configuration is simulated at most once per rung: results are kept by
+ * configuration, and a bred child that was already simulated is dropped rather than
+ * run again. Candidates of a generation run side by side, at most {@code parallelism}
+ * at a time, and results are used in candidate order, so the search and what it finds
+ * depend only on the request and its seed.
+ */
+class ConfigurationSearch {
+
+    // Screening on fewer cloudlets says too little about a configuration
+    static final int MIN_SCREENING_CLOUDLETS = 10;
+
+    private static final double IMMIGRANT_RATE = 0.1;
+    private static final double MUTATE_VMS_RATE = 0.6;
+    private static final double MUTATE_RAM_RATE = 0.3;
+    private static final double MUTATE_STRATEGY_RATE = 0.2;
+    // Breeding gives up on a generation after this many children per place were already simulated
+    private static final int ATTEMPTS_PER_CHILD = 20;
+
+    private final SimulationRequest base;
+    private final List<String> strategies;
+    private final int[] vms;
+    private final int[] vmRam;
+    private final double maxSlaViolationRate;
+    private final int populationSize;
+    private final int maxEvaluations;
+    private final int screeningCloudlets;
+    private final BiFunction<String, SimulationRequest, SimulationResult> evaluator;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final SplittableRandom random;
+
+    // Results by configuration, in the order they were asked for
+    private final Map<Point, SimulationResult> screened = new LinkedHashMap<>();
+    private final Map<Point, SimulationResult> evaluated = new LinkedHashMap<>();
+    private int generations;
+    private int pruned;
+    private int memoHits;
+
+    ConfigurationSearch(OptimizationRequest request, int[] vms, int[] vmRam,
+            BiFunction<String, SimulationRequest, SimulationResult> evaluator, ExecutorService executor,
+            int parallelism) {
+        this.base = request.getBase();
+        this.strategies = List.copyOf(base.getStrategies());
+        this.vms = vms;
+        this.vmRam = vmRam;
+        this.maxSlaViolationRate = request.getMaxSlaViolationRate();
+        this.populationSize = request.getPopulationSize();
+        this.maxEvaluations = request.getMaxEvaluations();
+        this.screeningCloudlets = screeningCloudlets(base.getNumberOfCloudlets(), request.getScreeningFraction());
+        this.evaluator = evaluator;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+        this.random = new SplittableRandom(request.getSeed());
+    }
+
+    /** Cloudlets per user on the screening horizon, or 0 where screening would not save anything. */
+    static int screeningCloudlets(int cloudlets, double fraction) {
+        int screening = Math.max(MIN_SCREENING_CLOUDLETS, (int) Math.round(cloudlets * fraction));
+        return screening < cloudlets ? screening : 0;
+    }
+
+    OptimizationResult run() {
+        long start = System.nanoTime();
+        List<Point> population = breed();
+        while (!population.isEmpty() && evaluated.size() < maxEvaluations) {
+            generations++;
+            // The last generation only screens as many as the budget can promote
+            int remaining = maxEvaluations - evaluated.size();
+            int screenable = screeningCloudlets > 0 ? 2 * remaining : remaining;
+            population = population.subList(0, Math.min(population.size(), screenable));
+            evaluated.putAll(simulate(screen(population), false));
+            population = breed();
+        }
+
+        OptimizationResult result = new OptimizationResult();
+        for (Point point : front(new ArrayList<>(evaluated.keySet()), evaluated)) {
+            OptimizationCandidate candidate = candidate(point, evaluated.get(point));
+            result.getParetoFront().add(candidate);
+            if (result.getBest() == null && candidate.isFeasible()) {
+                result.setBest(candidate);
+            }
+        }
+        result.setGenerations(generations);
+        result.setEvaluations(evaluated.size());
+        result.setScreenings(screened.size());
+        result.setPruned(pruned);
+        result.setMemoHits(memoHits);
+        result.setElapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    /** The half of a generation that goes on to a full simulation, best first. */
+    private List<Point> screen(List<Point> population) {
+        if (screeningCloudlets == 0) {
+            return population;
+        }
+        Map<Point, SimulationResult> results = simulate(population, true);
+        screened.putAll(results);
+        List<Point> ranked = rank(population, results);
+        int promoted = (ranked.size() + 1) / 2;
+        pruned += ranked.size() - promoted;
+        return ranked.subList(0, promoted);
+    }
+
+    private List<Point> breed() {
+        List<Point> parents = rank(new ArrayList<>(evaluated.keySet()), evaluated);
+        List<Point> children = new ArrayList<>(populationSize);
+        Set<Point> brood = new HashSet<>();
+        for (int attempt = 0; children.size() < populationSize && attempt < populationSize * ATTEMPTS_PER_CHILD;
+                attempt++) {
+            Point child = parents.isEmpty() || random.nextDouble() < IMMIGRANT_RATE
+                ? randomPoint()
+                : mutate(crossover(select(parents), select(parents)));
+            if (evaluated.containsKey(child) || screened.containsKey(child)) {
+                memoHits++;
+            } else if (brood.add(child)) {
+                children.add(child);
+            }
+        }
+        return children;
+    }
+
+    // Binary tournament over parents ranked best first
+    private Point select(List<Point> parents) {
+        return parents.get(Math.min(random.nextInt(parents.size()), random.nextInt(parents.size())));
+    }
+
+    private Point crossover(Point a, Point b) {
+        return new Point(random.nextBoolean() ? a.strategy() : b.strategy(),
+            random.nextBoolean() ? a.vms() : b.vms(),
+            random.nextBoolean() ? a.vmRam() : b.vmRam());
+    }
+
+    private Point mutate(Point point) {
+        int strategy = random.nextDouble() < MUTATE_STRATEGY_RATE
+            ? random.nextInt(strategies.size())
+            : point.strategy();
+        int vmsIndex = point.vms();
+        if (random.nextDouble() < MUTATE_VMS_RATE) {
+            // Mostly small steps, now and then a jump of up to an eighth of the range
+            vmsIndex = step(vmsIndex, 1 + random.nextInt(Math.max(1, vms.length / 8)), vms.length);
+        }
+        int ramIndex = random.nextDouble() < MUTATE_RAM_RATE ? step(point.vmRam(), 1, vmRam.length) : point.vmRam();
+        return new Point(strategy, vmsIndex, ramIndex);
+    }
+
+    private int step(int index, int distance, int length) {
+        int stepped = random.nextBoolean() ? index + distance : index - distance;
+        return Math.max(0, Math.min(length - 1, stepped));
+    }
+
+    private Point randomPoint() {
+        return new Point(random.nextInt(strategies.size()), random.nextInt(vms.length), random.nextInt(vmRam.length));
+    }
+
+    /**
+     * Points ordered best first: feasible ones, then completed ones over the SLA, then
+     * failed ones; within each, those dominated by fewer of the others first, then the
+     * cheaper. The sort is stable, so ties keep the order they were simulated in.
+     */
+    private List<Point> rank(List<Point> points, Map<Point, SimulationResult> results) {
+        Map<Point, Integer> dominatedBy = new LinkedHashMap<>();
+        for (Point point : points) {
+            int count = 0;
+            for (Point other : points) {
+                if (dominates(results.get(other), results.get(point))) {
+                    count++;
+                }
+            }
+            dominatedBy.put(point, count);
+        }
+        List<Point> ranked = new ArrayList<>(points);
+        ranked.sort(Comparator.<Point>comparingInt(point -> standing(results.get(point)))
+            .thenComparingInt(dominatedBy::get)
+            .thenComparingDouble(point -> results.get(point).getCost()));
+        return ranked;
+    }
+
+    // Completed points no other completed point dominates, cheapest first
+    private static List<Point> front(List<Point> points, Map<Point, SimulationResult> results) {
+        List<Point> front = new ArrayList<>();
+        for (Point point : points) {
+            SimulationResult result = results.get(point);
+            if (result.getStatus() != ResultStatus.COMPLETED) {
+                continue;
+            }
+            boolean dominated = false;
+            for (Point other : points) {
+                if (dominates(results.get(other), result)) {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) {
+                front.add(point);
+            }
+        }
+        front.sort(Comparator.<Point>comparingDouble(point -> results.get(point).getCost())
+            .thenComparingDouble(point -> results.get(point).getEnergyConsumption()));
+        return front;
+    }
+
+    /** Whether {@code a} is no worse than {@code b} on cost, energy and SLA violations, and better on one. */
+    static boolean dominates(SimulationResult a, SimulationResult b) {
+        if (a.getStatus() != ResultStatus.COMPLETED || b.getStatus() != ResultStatus.COMPLETED) {
+            return false;
+        }
+        double[] x = {a.getCost(), a.getEnergyConsumption(), a.getSlaViolationRate()};
+        double[] y = {b.getCost(), b.getEnergyConsumption(), b.getSlaViolationRate()};
+        boolean better = false;
+        for (int i = 0; i < x.length; i++) {
+            if (x[i] > y[i]) {
+                return false;
+            }
+            better |= x[i] < y[i];
+        }
+        return better;
+    }
+
+    private int standing(SimulationResult result) {
+        if (result.getStatus() != ResultStatus.COMPLETED) {
+            return 2;
+        }
+        return feasible(result) ? 0 : 1;
+    }
+
+    private boolean feasible(SimulationResult result) {
+        return result.getStatus() == ResultStatus.COMPLETED && result.getSlaViolationRate() <= maxSlaViolationRate;
+    }
+
+    private OptimizationCandidate candidate(Point point, SimulationResult result) {
+        return new OptimizationCandidate(strategies.get(point.strategy()), vms[point.vms()], vmRam[point.vmRam()],
+            feasible(result), result);
+    }
+
+    /** Simulates the points side by side and returns their results in the points' order. */
+    private Map<Point, SimulationResult> simulate(List<Point> points, boolean screening) {
+        CompletionService<Simulated> completion = new ExecutorCompletionService<>(executor);
+        Set<Future<Simulated>> running = new HashSet<>();
+        SimulationResult[] results = new SimulationResult[points.size()];
+        int next = 0;
+        try {
+            while (next < points.size() || !running.isEmpty()) {
+                while (running.size() < parallelism && next < points.size()) {
+                    int index = next++;
+                    running.add(completion.submit(() -> new Simulated(index, simulate(points.get(index), screening))));
+                }
+                Future<Simulated> done = completion.take();
+                running.remove(done);
+                Simulated simulated = done.get();
+                results[simulated.index()] = simulated.result();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while simulating candidates");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Candidate failed unexpectedly", e.getCause());
+        } finally {
+            for (Future<Simulated> future : running) {
+                future.cancel(true);
+            }
+        }
+        Map<Point, SimulationResult> simulated = new LinkedHashMap<>();
+        for (int i = 0; i < results.length; i++) {
+            simulated.put(points.get(i), results[i]);
+        }
+        return simulated;
+    }
+
+    private SimulationResult simulate(Point point, boolean screening) {
+        String strategy = strategies.get(point.strategy());
+        SimulationRequest request = base.copy();
+        request.setStrategies(List.of(strategy));
+        request.setNumberOfVms(vms[point.vms()]);
+        request.setVmRam(vmRam[point.vmRam()]);
+        if (screening) {
+            request.setNumberOfCloudlets(screeningCloudlets);
+        }
+        try {
+            return evaluator.apply(strategy, request);
+        } catch (RuntimeException e) {
+            return SimulationResult.partial(strategy, ResultStatus.FAILED, e.getMessage());
+        }
+    }
+
+    // A configuration as indices into the strategies and the value arrays
+    private record Point(int strategy, int vms, int vmRam) {}
+
+    private record Simulated(int index, SimulationResult result) {}
+}
@@ -1,16 +0,0 @@
-/*
- * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
- * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
- */
-
-package com.cloudsim.cloudsim.service;
-
-import org.cloudbus.cloudsim.core.CloudSim;
-
-
-public class DatacenterBrokerSimple {
-
-    public DatacenterBrokerSimple(CloudSim simulation) {
-    }
-
-}
@@ -0,0 +1,237 @@
+package com.cloudsim.cloudsim.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.model.EstimateAccuracy;
+import com.cloudsim.cloudsim.model.ExecutionMode;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+/**
+ * Checks estimates against the real thing. The most recent distinct estimate
+ * requests are kept as samples (up to {@code simulation.estimate.validation.samples},
+ * and only those small enough to simulate in the background); each validation
+ * round simulates them, or takes the result from the {@link ResultCache}, and
+ * folds the relative errors into per-strategy {@link EstimateAccuracy}.
+ * Simulated results go into the cache, so a follow-up full request is free.
+ * Rounds run on the {@code validationExecutor}, one at a time, and each sample
+ * is admitted through the {@link AdmissionService} like any other simulation and
+ * given up on after {@code simulation.strategies.timeout-ms}.
+ */
+@Component
+public class EstimateValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(EstimateValidator.class);
+
+    // Admission client the background runs are accounted to
+    static final String CLIENT = "estimate-validation";
+
+    private static final class Sample {
+        final String strategy;
+        final SimulationRequest request;
+        final SimulationResult estimate;
+
+        Sample(String strategy, SimulationRequest request, SimulationResult estimate) {
+            this.strategy = strategy;
+            this.request = request;
+            this.estimate = estimate;
+        }
+    }
+
+    // Running sums behind one strategy's EstimateAccuracy
+    private static final class Errors {
+        long samples;
+        double makespan;
+        double maxMakespan;
+        double meanResponseTime;
+        double p95ResponseTime;
+        long lastValidatedAt;
+    }
+
+    @Autowired
+    private SimulationEngine simulationEngine;
+
+    @Autowired
+    private ResultCache resultCache;
+
+    @Autowired
+    private AdmissionService admissionService;
+
+    @Autowired
+    @Qualifier("strategyExecutor")
+    private ExecutorService strategyExecutor;
+
+    @Autowired
+    @Qualifier("validationExecutor")
+    private ExecutorService validationExecutor;
+
+    @Value("${simulation.strategies.timeout-ms:60000}")
+    private long strategyTimeoutMs;
+
+    @Value("${simulation.estimate.validation.samples:4}")
+    private int maxSamples;
+
+    @Value("${simulation.estimate.validation.max-cloudlets:100000}")
+    private int maxCloudlets;
+
+    // Keyed like the cache, newest last
+    private final LinkedHashMap<String, Sample> samples = new LinkedHashMap<>();
+    private final Map<String, Errors> errors = new ConcurrentHashMap<>();
+    // Set while a round runs, so a slow one is skipped over rather than queued behind
+    private final AtomicBoolean validating = new AtomicBoolean();
+
+    public void sample(String strategy, SimulationRequest request, SimulationResult estimate) {
+        // Every user submits numberOfCloudlets of their own
+        long cloudlets = (long) request.getNumberOfCloudlets() * Math.max(1, request.getNumberOfUsers());
+        if (maxSamples <= 0 || cloudlets > maxCloudlets) {
+            return;
+        }
+        String key = SimulationKey.of(request, strategy);
+        synchronized (samples) {
+            samples.remove(key);
+            samples.put(key, new Sample(strategy, request.copy(), estimate));
+            Iterator<String> eldest = samples.keySet().iterator();
+            while (samples.size() > maxSamples) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${simulation.estimate.validation.interval-ms:300000}")
+    public void validate() {
+        if (!validating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            validationExecutor.execute(() -> {
+                try {
+                    validateSamples();
+                } finally {
+                    validating.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            validating.set(false);
+        }
+    }
+
+    // One round, on the calling thread
+    void validateSamples() {
+        List<Map.Entry<String, Sample>> round;
+        synchronized (samples) {
+            round = new ArrayList<>(samples.entrySet());
+            samples.clear();
+        }
+        for (Map.Entry<String, Sample> entry : round) {
+            Sample sample = entry.getValue();
+            try {
+                SimulationResult simulated = resultCache.get(entry.getKey());
+                if (simulated == null) {
+                    simulated = simulate(sample);
+                    resultCache.put(entry.getKey(), simulated);
+                }
+                record(sample.strategy, sample.estimate, simulated);
+            } catch (CancellationException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Could not validate a {} estimate: {}", sample.strategy, e.getMessage());
+            }
+        }
+    }
+
+    private SimulationResult simulate(Sample sample) {
+        SimulationRequest request = sample.request.copy();
+        request.setMode(ExecutionMode.SIMULATE);
+        request.setStrategies(List.of(sample.strategy));
+        AdmissionQueue.Permit permit = admissionService.admit(CLIENT, request);
+        try {
+            return await(strategyExecutor.submit(() -> simulationEngine.run(sample.strategy, request)));
+        } finally {
+            if (permit != null) {
+                permit.close();
+            }
+        }
+    }
+
+    private SimulationResult await(Future<SimulationResult> future) {
+        try {
+            SimulationResult simulated = future.get(strategyTimeoutMs, TimeUnit.MILLISECONDS);
+            if (simulated.getStatus() != ResultStatus.COMPLETED) {
+                throw new IllegalStateException(simulated.getError());
+            }
+            return simulated;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IllegalStateException("No result within " + strategyTimeoutMs + " ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted");
+        }
+    }
+
+    public List<EstimateAccuracy> getAccuracy() {
+        List<EstimateAccuracy> accuracy = new ArrayList<>();
+        errors.forEach((strategy, sums) -> {
+            synchronized (sums) {
+                EstimateAccuracy entry = new EstimateAccuracy(strategy);
+                entry.setSamples(sums.samples);
+                entry.setMeanMakespanError(sums.makespan / sums.samples);
+                entry.setMaxMakespanError(sums.maxMakespan);
+                entry.setMeanResponseTimeError(sums.meanResponseTime / sums.samples);
+                entry.setP95ResponseTimeError(sums.p95ResponseTime / sums.samples);
+                entry.setLastValidatedAt(sums.lastValidatedAt);
+                accuracy.add(entry);
+            }
+        });
+        accuracy.sort((a, b) -> a.getStrategy().compareTo(b.getStrategy()));
+        return accuracy;
+    }
+
+    private void record(String strategy, SimulationResult estimate, SimulationResult simulated) {
+        double makespan = relativeError(estimate.getMakespan(), simulated.getMakespan());
+        Errors sums = errors.computeIfAbsent(strategy, s -> new Errors());
+        synchronized (sums) {
+            sums.samples++;
+            sums.makespan += makespan;
+            sums.maxMakespan = Math.max(sums.maxMakespan, makespan);
+            sums.meanResponseTime += relativeError(estimate.getMeanResponseTime(), simulated.getMeanResponseTime());
+            sums.p95ResponseTime += relativeError(estimate.getP95ResponseTime(), simulated.getP95ResponseTime());
+            sums.lastValidatedAt = System.currentTimeMillis();
+        }
+    }
+
+    private static double relativeError(double estimate, double actual) {
+        if (actual == 0) {
+            return estimate == 0 ? 0 : 1;
+        }
+        return Math.abs(estimate - actual) / Math.abs(actual);
+    }
+}
@@ -0,0 +1,90 @@
+package com.cloudsim.cloudsim.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cloudsim.cloudsim.model.OptimizationRequest;
+import com.cloudsim.cloudsim.model.OptimizationResult;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SweepRange;
+
+/**
+ * Finds the cheapest strategy, VM count and VM size that keep a workload within its
+ * SLA, through a {@link ConfigurationSearch} whose candidates run on the
+ * {@code optimizerExecutor}, at most {@code simulation.optimizer.parallelism} per
+ * search. Candidates are ordinary single-strategy runs, so they are cached and
+ * coalesced like any other, and a search repeated with the same workload is mostly
+ * answered from the cache.
+ */
+@Service
+public class OptimizerService {
+
+    private static final int MAX_VALUES_PER_PARAMETER = 10_000;
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @Autowired
+    @Qualifier("optimizerExecutor")
+    private ExecutorService optimizerExecutor;
+
+    @Value("${simulation.optimizer.parallelism:8}")
+    private int parallelism;
+
+    @Value("${simulation.optimizer.max-evaluations:1000}")
+    private int maxEvaluations;
+
+    public OptimizationResult optimize(OptimizationRequest request) {
+        SimulationRequest base = request.getBase();
+        if (base == null) {
+            throw new IllegalArgumentException("A base request is required");
+        }
+        simulationService.validate(base);
+        if (!(base.getSlaThreshold() > 0)) {
+            throw new IllegalArgumentException("The base request needs a positive slaThreshold to optimize against");
+        }
+        if (request.getNumberOfVms() == null) {
+            throw new IllegalArgumentException("A numberOfVms range to search is required");
+        }
+        if (!(request.getMaxSlaViolationRate() >= 0 && request.getMaxSlaViolationRate() <= 1)) {
+            throw new IllegalArgumentException("maxSlaViolationRate must be between 0 and 1");
+        }
+        if (request.getPopulationSize() < 2 || request.getPopulationSize() > maxEvaluations) {
+            throw new IllegalArgumentException("populationSize must be between 2 and " + maxEvaluations);
+        }
+        if (request.getMaxEvaluations() < 1 || request.getMaxEvaluations() > maxEvaluations) {
+            throw new IllegalArgumentException("maxEvaluations must be between 1 and " + maxEvaluations);
+        }
+        if (!(request.getScreeningFraction() > 0 && request.getScreeningFraction() <= 1)) {
+            throw new IllegalArgumentException("screeningFraction must be above 0 and at most 1");
+        }
+        int[] vms = values("numberOfVms", request.getNumberOfVms());
+        simulationService.validateVms(base.getNumberOfUsers(), vms[vms.length - 1]);
+        int[] vmRam = values("vmRam", request.getVmRam() != null ? request.getVmRam() : SweepRange.of(base.getVmRam()));
+        simulationService.validateVmRam(base.getNumberOfUsers(), vms[vms.length - 1], vmRam[vmRam.length - 1]);
+        return new ConfigurationSearch(request, vms, vmRam, simulationService::runSimulation, optimizerExecutor,
+            parallelism).run();
+    }
+
+    // Distinct positive whole values, ascending, so that mutation steps between neighbours
+    private static int[] values(String name, SweepRange range) {
+        double[] expanded = range.expand(MAX_VALUES_PER_PARAMETER);
+        int[] values = new int[expanded.length];
+        for (int i = 0; i < expanded.length; i++) {
+            if (!(expanded[i] >= 1 && expanded[i] <= Integer.MAX_VALUE) || expanded[i] != Math.rint(expanded[i])) {
+                throw new IllegalArgumentException(name + " values must be positive whole numbers");
+            }
+            values[i] = (int) expanded[i];
+        }
+        values = Arrays.stream(values).distinct().sorted().toArray();
+        if (values.length == 0) {
+            throw new IllegalArgumentException("The " + name + " range must contain at least one value");
+        }
+        return values;
+    }
+}
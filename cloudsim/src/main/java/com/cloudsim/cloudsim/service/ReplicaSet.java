@@ -0,0 +1,202 @@
+package com.cloudsim.cloudsim.service;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.cloudsim.cloudsim.model.ReplicationSummary;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.TraceSpec;
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+
+/**
+ * The replicas of one strategy run. Up to {@code window} of them are in flight at
+ * a time; their results are folded into running statistics strictly in replica
+ * order, so where early stopping kicks in, and with it the result, depends only on
+ * the request and not on which replica happened to finish first. Memory does not
+ * grow with the number of replicas.
+ */
+class ReplicaSet {
+
+    // Fewer replicas say too little about the variance to stop on
+    static final int MIN_REPLICAS_TO_STOP = 3;
+
+    private final String strategy;
+    private final SimulationRequest request;
+    private final int window;
+    private final long baseSeed;
+    private final Function<SimulationRequest, Future<SimulationResult>> submitter;
+    private final BiFunction<Future<SimulationResult>, Long, SimulationResult> awaiter;
+    private final ArrayDeque<Future<SimulationResult>> inFlight = new ArrayDeque<>();
+
+    private final RunningStatistics executionTime = new RunningStatistics();
+    private final RunningStatistics cost = new RunningStatistics();
+    private final RunningStatistics energyConsumption = new RunningStatistics();
+    private final RunningStatistics slaViolation = new RunningStatistics();
+    // Secondary metrics only need their means
+    private final RunningStatistics processed = new RunningStatistics();
+    private final RunningStatistics averageExecutionTime = new RunningStatistics();
+    private final RunningStatistics makespan = new RunningStatistics();
+    private final RunningStatistics meanResponseTime = new RunningStatistics();
+    private final RunningStatistics p50ResponseTime = new RunningStatistics();
+    private final RunningStatistics p95ResponseTime = new RunningStatistics();
+    private final RunningStatistics p99ResponseTime = new RunningStatistics();
+    private final RunningStatistics meanWaitTime = new RunningStatistics();
+    private final RunningStatistics slaViolationRate = new RunningStatistics();
+    private double[] vmUtilization;
+
+    private int submitted;
+    private int completed;
+    private boolean done;
+    private ResultStatus status = ResultStatus.COMPLETED;
+    private String error;
+
+    ReplicaSet(String strategy, SimulationRequest request, int window,
+            Function<SimulationRequest, Future<SimulationResult>> submitter,
+            BiFunction<Future<SimulationResult>, Long, SimulationResult> awaiter) {
+        this.strategy = strategy;
+        this.request = request;
+        this.window = Math.max(1, window);
+        this.baseSeed = baseSeed(request);
+        this.submitter = submitter;
+        this.awaiter = awaiter;
+        fill();
+    }
+
+    /** The seed replica 0 runs with, so that it is the same run as the request without replicas. */
+    static long baseSeed(SimulationRequest request) {
+        if (request.getBaseSeed() != null) {
+            return request.getBaseSeed();
+        }
+        if (request.getTrace() != null) {
+            return request.getTrace().getSeed();
+        }
+        return request.getWorkload() != null ? request.getWorkload().getSeed() : new WorkloadSpec().getSeed();
+    }
+
+    /** What one replica runs: the request as an ordinary single run with its own seed. */
+    static SimulationRequest replica(SimulationRequest request, long seed) {
+        SimulationRequest replica = request.copy();
+        replica.setReplicas(1);
+        replica.setBaseSeed(null);
+        replica.setCiTolerance(0);
+        if (request.getTrace() != null) {
+            TraceSpec trace = request.getTrace().copy();
+            trace.setSeed(seed);
+            replica.setTrace(trace);
+        } else {
+            WorkloadSpec workload = request.getWorkload() != null ? request.getWorkload().copy() : new WorkloadSpec();
+            workload.setSeed(seed);
+            replica.setWorkload(workload);
+        }
+        return replica;
+    }
+
+    boolean isDone() {
+        return done;
+    }
+
+    /** Waits for the next replica in order and folds it in; false once the set is done. */
+    boolean advance(long deadline) {
+        if (done) {
+            return false;
+        }
+        SimulationResult result = awaiter.apply(inFlight.poll(), deadline);
+        if (result.getStatus() != ResultStatus.COMPLETED) {
+            status = result.getStatus();
+            error = "Replica " + completed + ": " + result.getError();
+            finish();
+            return false;
+        }
+        add(result);
+        if (completed == request.getReplicas() || converged()) {
+            finish();
+            return false;
+        }
+        fill();
+        return true;
+    }
+
+    SimulationResult toResult() {
+        SimulationResult result = new SimulationResult(strategy, executionTime.getMean(), cost.getMean(),
+            energyConsumption.getMean(), slaViolation.getMean());
+        result.setTotalCloudletsProcessed((int) Math.round(processed.getMean()));
+        result.setAverageExecutionTime(averageExecutionTime.getMean());
+        result.setMakespan(makespan.getMean());
+        result.setMeanResponseTime(meanResponseTime.getMean());
+        result.setP50ResponseTime(p50ResponseTime.getMean());
+        result.setP95ResponseTime(p95ResponseTime.getMean());
+        result.setP99ResponseTime(p99ResponseTime.getMean());
+        result.setMeanWaitTime(meanWaitTime.getMean());
+        result.setSlaViolationRate(slaViolationRate.getMean());
+        if (vmUtilization != null) {
+            result.setVmUtilization(vmUtilization);
+        }
+        result.setStatus(status);
+        result.setError(error);
+
+        ReplicationSummary summary = new ReplicationSummary();
+        summary.setRequested(request.getReplicas());
+        summary.setCompleted(completed);
+        summary.setBaseSeed(baseSeed);
+        summary.setStoppedEarly(status == ResultStatus.COMPLETED && completed < request.getReplicas());
+        summary.setExecutionTime(executionTime.toStatistics());
+        summary.setCost(cost.toStatistics());
+        summary.setEnergyConsumption(energyConsumption.toStatistics());
+        summary.setSlaViolation(slaViolation.toStatistics());
+        result.setReplication(summary);
+        return result;
+    }
+
+    private void fill() {
+        while (inFlight.size() < window && submitted < request.getReplicas()) {
+            inFlight.add(submitter.apply(replica(request, baseSeed + submitted++)));
+        }
+    }
+
+    private void add(SimulationResult result) {
+        completed++;
+        executionTime.add(result.getExecutionTime());
+        cost.add(result.getCost());
+        energyConsumption.add(result.getEnergyConsumption());
+        slaViolation.add(result.getSlaViolation());
+        processed.add(result.getTotalCloudletsProcessed());
+        averageExecutionTime.add(result.getAverageExecutionTime());
+        makespan.add(result.getMakespan());
+        meanResponseTime.add(result.getMeanResponseTime());
+        p50ResponseTime.add(result.getP50ResponseTime());
+        p95ResponseTime.add(result.getP95ResponseTime());
+        p99ResponseTime.add(result.getP99ResponseTime());
+        meanWaitTime.add(result.getMeanWaitTime());
+        slaViolationRate.add(result.getSlaViolationRate());
+
+        // Running mean per VM; every replica has the same VMs
+        double[] utilization = result.getVmUtilization();
+        if (vmUtilization == null) {
+            vmUtilization = utilization.clone();
+        } else {
+            for (int i = 0; i < Math.min(vmUtilization.length, utilization.length); i++) {
+                vmUtilization[i] += (utilization[i] - vmUtilization[i]) / completed;
+            }
+        }
+    }
+
+    private boolean converged() {
+        double tolerance = request.getCiTolerance();
+        return tolerance > 0 && completed >= MIN_REPLICAS_TO_STOP
+            && executionTime.isWithin(tolerance) && cost.isWithin(tolerance)
+            && energyConsumption.isWithin(tolerance) && slaViolation.isWithin(tolerance);
+    }
+
+    // Replicas submitted beyond the stopping point are not needed any more
+    private void finish() {
+        done = true;
+        for (Future<SimulationResult> future : inFlight) {
+            future.cancel(true);
+        }
+        inFlight.clear();
+    }
+}
@@ -0,0 +1,300 @@
+package com.cloudsim.cloudsim.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cloudsim.cloudsim.model.CacheStats;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Cache of completed strategy results keyed by {@link SimulationKey}. Entries live
+ * in an LRU memory tier bounded by {@code simulation.cache.max-entries}; when
+ * {@code simulation.cache.disk-dir} is set, entries pushed out of memory spill to
+ * that directory and are promoted back on their next hit. Both tiers honour the
+ * same TTL. Results are stored serialized, so every hit hands out a fresh copy.
+ * The number of spilled entries is counted as files come and go rather than by
+ * listing the directory, which only {@link #cleanup} does.
+ */
+@Component
+public class ResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultCache.class);
+
+    private static final class Entry {
+        final byte[] json;
+        final long expiresAt;
+
+        Entry(byte[] json, long expiresAt) {
+            this.json = json;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${simulation.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${simulation.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${simulation.cache.ttl-ms:3600000}")
+    private long ttlMs;
+
+    @Value("${simulation.cache.disk-dir:}")
+    private String diskDir;
+
+    @Value("${simulation.cache.disk-max-entries:100000}")
+    private int diskMaxEntries;
+
+    private final LinkedHashMap<String, Entry> memory = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    // Files in the disk tier; cleanup corrects any drift from concurrent spills of one key
+    private final AtomicInteger diskEntries = new AtomicInteger();
+
+    // Picks up entries spilled before a restart
+    @PostConstruct
+    void init() {
+        cleanup();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public SimulationResult get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        Entry entry;
+        synchronized (memory) {
+            entry = memory.get(key);
+            if (entry != null && entry.expiresAt <= now) {
+                memory.remove(key);
+                expirations.incrementAndGet();
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            hits.incrementAndGet();
+            return read(entry.json);
+        }
+
+        entry = readFromDisk(key, now);
+        if (entry != null) {
+            diskHits.incrementAndGet();
+            store(key, entry);
+            return read(entry.json);
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(String key, SimulationResult result) {
+        // Only complete results are worth serving again
+        if (!enabled || result == null || result.getStatus() != ResultStatus.COMPLETED) {
+            return;
+        }
+        try {
+            store(key, new Entry(objectMapper.writeValueAsBytes(result), System.currentTimeMillis() + ttlMs));
+        } catch (IOException e) {
+            log.warn("Could not cache result {}: {}", key, e.getMessage());
+        }
+    }
+
+    public CacheStats getStats() {
+        int memoryEntries;
+        synchronized (memory) {
+            memoryEntries = memory.size();
+        }
+        return new CacheStats(hits.get(), diskHits.get(), misses.get(), evictions.get(), expirations.get(),
+            memoryEntries, diskEntries.get());
+    }
+
+    public void clear() {
+        synchronized (memory) {
+            memory.clear();
+        }
+        forEachDiskFile(this::deleteFromDisk);
+    }
+
+    private void store(String key, Entry entry) {
+        List<Map.Entry<String, Entry>> spilled = new ArrayList<>();
+        synchronized (memory) {
+            memory.put(key, entry);
+            Iterator<Map.Entry<String, Entry>> eldest = memory.entrySet().iterator();
+            while (memory.size() > maxEntries && eldest.hasNext()) {
+                spilled.add(eldest.next());
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+        // Disk writes happen outside the lock
+        for (Map.Entry<String, Entry> evicted : spilled) {
+            writeToDisk(evicted.getKey(), evicted.getValue());
+        }
+    }
+
+    private SimulationResult read(byte[] json) {
+        try {
+            return objectMapper.readValue(json, SimulationResult.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupt cache entry", e);
+        }
+    }
+
+    private Path diskFile(String key) {
+        return Path.of(diskDir, key + ".json");
+    }
+
+    private boolean diskEnabled() {
+        return diskDir != null && !diskDir.isBlank();
+    }
+
+    private void writeToDisk(String key, Entry entry) {
+        if (!diskEnabled() || entry.expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        try {
+            Path target = diskFile(key);
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), key, ".tmp");
+            Files.write(tmp, entry.json);
+            // The modification time carries the expiry
+            Files.setLastModifiedTime(tmp, FileTime.fromMillis(entry.expiresAt));
+            boolean replacing = Files.exists(target);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (!replacing) {
+                diskEntries.incrementAndGet();
+            }
+        } catch (IOException e) {
+            log.warn("Could not spill cache entry {} to disk: {}", key, e.getMessage());
+        }
+    }
+
+    private Entry readFromDisk(String key, long now) {
+        if (!diskEnabled()) {
+            return null;
+        }
+        Path file = diskFile(key);
+        try {
+            if (!Files.exists(file)) {
+                return null;
+            }
+            long expiresAt = Files.getLastModifiedTime(file).toMillis();
+            if (expiresAt <= now) {
+                deleteFromDisk(file);
+                expirations.incrementAndGet();
+                return null;
+            }
+            byte[] json = Files.readAllBytes(file);
+            deleteFromDisk(file);
+            return new Entry(json, expiresAt);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Drops expired entries from both tiers and trims the disk tier to its limit.
+     */
+    @Scheduled(fixedDelayString = "${simulation.cache.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+        synchronized (memory) {
+            Iterator<Entry> it = memory.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().expiresAt <= now) {
+                    it.remove();
+                    expirations.incrementAndGet();
+                }
+            }
+        }
+        if (!diskEnabled() || !Files.isDirectory(Path.of(diskDir))) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(Path.of(diskDir))) {
+            List<Path> live = new ArrayList<>();
+            files.filter(file -> file.toString().endsWith(".json")).forEach(file -> {
+                if (expiresAt(file) <= now) {
+                    deleteFromDisk(file);
+                    expirations.incrementAndGet();
+                } else {
+                    live.add(file);
+                }
+            });
+            if (live.size() > diskMaxEntries) {
+                // Soonest-to-expire entries go first
+                live.sort(Comparator.comparingLong(ResultCache::expiresAt));
+                for (Path file : live.subList(0, live.size() - diskMaxEntries)) {
+                    deleteFromDisk(file);
+                    evictions.incrementAndGet();
+                }
+            }
+            diskEntries.set(Math.min(live.size(), diskMaxEntries));
+        } catch (IOException e) {
+            log.warn("Could not clean up the disk cache: {}", e.getMessage());
+        }
+    }
+
+    private void forEachDiskFile(Consumer<Path> action) {
+        if (!diskEnabled() || !Files.isDirectory(Path.of(diskDir))) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(Path.of(diskDir))) {
+            files.filter(file -> file.toString().endsWith(".json")).forEach(action);
+        } catch (IOException e) {
+            log.warn("Could not list the disk cache: {}", e.getMessage());
+        }
+    }
+
+    private static long expiresAt(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void deleteFromDisk(Path file) {
+        try {
+            if (Files.deleteIfExists(file)) {
+                diskEntries.decrementAndGet();
+            }
+        } catch (IOException e) {
+            // Already gone or not ours to delete
+        }
+    }
+}
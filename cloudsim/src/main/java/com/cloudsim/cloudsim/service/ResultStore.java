@@ -0,0 +1,697 @@
+package com.cloudsim.cloudsim.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cloudsim.cloudsim.model.ExecutionMode;
+import com.cloudsim.cloudsim.model.ResultGroup;
+import com.cloudsim.cloudsim.model.ResultQuery;
+import com.cloudsim.cloudsim.model.ResultQueryResponse;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Append-only history of completed results under {@code simulation.results.dir}.
+ * Each result is one fixed-size binary record holding the request's parameters and
+ * the result's headline metrics, so a query is a scan over memory-mapped files that
+ * reads a handful of primitives per record and never parses or allocates. Records
+ * go into numbered segment files of up to {@code simulation.results.segment-records}
+ * records; strategies are stored as indexes into {@code strategies.txt}. Segments
+ * are scanned in order and skipped outright when their time span misses the
+ * query's window.
+ *
+ * <p>Records older than {@code simulation.results.retention-ms} are dropped by
+ * compaction, which also packs sealed segments that are no longer full. It rewrites
+ * them into new files and swaps them in, so queries already running keep reading
+ * the old mappings. A crash may leave a partial record at the end of the last
+ * segment, which is cut off when the store is opened again.
+ */
+@Component
+public class ResultStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultStore.class);
+
+    private static final int MAGIC = 0x43535253; // "CSRS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 128;
+
+    // Record layout: byte offsets of the fields
+    private static final int RECORDED_AT = 0;
+    private static final int STRATEGY = 8;
+    private static final int FLAGS = 12;
+    private static final int USERS = 16;
+    private static final int VMS = 20;
+    private static final int CLOUDLETS = 24;
+    private static final int VM_RAM = 28;
+    private static final int SLA_THRESHOLD = 32;
+    private static final int CLOUDLETS_PROCESSED = 40;
+    private static final int REPLICAS = 44;
+    private static final int EXECUTION_TIME = 48;
+    private static final int COST = 56;
+    private static final int ENERGY = 64;
+    private static final int MAKESPAN = 72;
+    private static final int MEAN_RESPONSE_TIME = 80;
+    private static final int P50_RESPONSE_TIME = 88;
+    private static final int P95_RESPONSE_TIME = 96;
+    private static final int P99_RESPONSE_TIME = 104;
+    private static final int MEAN_WAIT_TIME = 112;
+    private static final int SLA_VIOLATION_RATE = 120;
+
+    private static final int FLAG_ESTIMATE = 1;
+    private static final int FLAG_TRACE = 2;
+    private static final int FLAG_WORKLOAD = 4;
+
+    private static final Pattern SEGMENT = Pattern.compile("segment-(\\d{16})\\.bin");
+    private static final String STRATEGIES = "strategies.txt";
+    private static final int COPY_BUFFER_RECORDS = 8192;
+
+    private static final class Segment {
+        final long number;
+        final Path file;
+        int count;
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+        // Sealed segments are mapped once, on their first read
+        ByteBuffer map;
+
+        Segment(long number, Path file) {
+            this.number = number;
+            this.file = file;
+        }
+
+        void recorded(long time) {
+            count++;
+            minTime = Math.min(minTime, time);
+            maxTime = Math.max(maxTime, time);
+        }
+    }
+
+    // Open-addressing table of groups by key, so that grouping boxes nothing
+    private static final class Groups {
+        private Group[] table = new Group[16];
+        private int size;
+
+        Group get(long key) {
+            int mask = table.length - 1;
+            int slot = hash(key) & mask;
+            Group group;
+            while ((group = table[slot]) != null) {
+                if (group.key == key) {
+                    return group;
+                }
+                slot = (slot + 1) & mask;
+            }
+            group = new Group(key);
+            table[slot] = group;
+            if (++size * 2 > table.length) {
+                Group[] old = table;
+                table = new Group[old.length * 2];
+                size = 0;
+                for (Group entry : old) {
+                    if (entry != null) {
+                        insert(entry);
+                    }
+                }
+            }
+            return group;
+        }
+
+        private void insert(Group group) {
+            int mask = table.length - 1;
+            int slot = hash(group.key) & mask;
+            while (table[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = group;
+            size++;
+        }
+
+        private static int hash(long key) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+        }
+
+        List<Group> values() {
+            List<Group> values = new ArrayList<>(size);
+            for (Group group : table) {
+                if (group != null) {
+                    values.add(group);
+                }
+            }
+            return values;
+        }
+    }
+
+    // What a query reads of one segment, taken under the lock and scanned outside it
+    private record View(ByteBuffer records, int count, long minTime, long maxTime) {}
+
+    // Running sums behind one ResultGroup
+    private static final class Group {
+        final long key;
+        long count;
+        long firstRecordedAt = Long.MAX_VALUE;
+        long lastRecordedAt = Long.MIN_VALUE;
+        double makespan;
+        double minMakespan = Double.POSITIVE_INFINITY;
+        double maxMakespan = Double.NEGATIVE_INFINITY;
+        double cost;
+        double energy;
+        double meanResponseTime;
+        double p95ResponseTime;
+        double maxP99ResponseTime;
+        double slaViolationRate;
+
+        Group(long key) {
+            this.key = key;
+        }
+    }
+
+    private final boolean enabled;
+    private final Path dir;
+    private final int segmentRecords;
+    private final long retentionMs;
+
+    private final List<Segment> sealed = new ArrayList<>();
+    private final Map<String, Integer> strategyIds = new HashMap<>();
+    private final List<String> strategyNames = new ArrayList<>();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private Segment active;
+    private FileChannel channel;
+    private boolean open;
+
+    public ResultStore(@Value("${simulation.results.enabled:true}") boolean enabled,
+            @Value("${simulation.results.dir:${java.io.tmpdir}/cloudsim-results}") String dir,
+            @Value("${simulation.results.segment-records:1000000}") int segmentRecords,
+            @Value("${simulation.results.retention-ms:2592000000}") long retentionMs) {
+        this.enabled = enabled;
+        this.dir = Path.of(dir);
+        this.segmentRecords = segmentRecords;
+        this.retentionMs = retentionMs;
+    }
+
+    /** Records the completed results of a request; failures to write are logged, never thrown. */
+    public void append(SimulationRequest request, List<SimulationResult> results) {
+        append(request, results, System.currentTimeMillis());
+    }
+
+    synchronized void append(SimulationRequest request, List<SimulationResult> results, long recordedAt) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            ensureOpen();
+            for (SimulationResult result : results) {
+                if (result.getStatus() == ResultStatus.COMPLETED) {
+                    write(request, result, recordedAt);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not store results: {}", e.getMessage());
+        }
+    }
+
+    public ResultQueryResponse query(ResultQuery query) {
+        long started = System.nanoTime();
+        ResultQuery.GroupBy groupBy = query.getGroupBy() != null ? query.getGroupBy() : ResultQuery.GroupBy.NONE;
+        long from = query.getFrom() != null ? query.getFrom() : Long.MIN_VALUE;
+        long to = query.getTo() != null ? query.getTo() : Long.MAX_VALUE;
+        if (query.getWithinMs() != null) {
+            from = Math.max(from, System.currentTimeMillis() - query.getWithinMs());
+        }
+        int minUsers = lower(query.getNumberOfUsers());
+        int maxUsers = upper(query.getNumberOfUsers());
+        int minVms = lower(query.getNumberOfVms());
+        int maxVms = upper(query.getNumberOfVms());
+        int minCloudlets = lower(query.getNumberOfCloudlets());
+        int maxCloudlets = upper(query.getNumberOfCloudlets());
+        int minRam = lower(query.getVmRam());
+        int maxRam = upper(query.getVmRam());
+        double minSla = query.getSlaThreshold() != null && query.getSlaThreshold().getMin() != null
+            ? query.getSlaThreshold().getMin() : Double.NEGATIVE_INFINITY;
+        double maxSla = query.getSlaThreshold() != null && query.getSlaThreshold().getMax() != null
+            ? query.getSlaThreshold().getMax() : Double.POSITIVE_INFINITY;
+        int modeMask = query.getMode() == null ? 0 : FLAG_ESTIMATE;
+        int modeFlags = query.getMode() == ExecutionMode.ESTIMATE ? FLAG_ESTIMATE : 0;
+
+        List<View> views;
+        List<String> names;
+        int strategy = -1;
+        synchronized (this) {
+            if (!enabled) {
+                return new ResultQueryResponse(0, 0, 0, List.of());
+            }
+            try {
+                ensureOpen();
+                views = views();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read the result store", e);
+            }
+            names = List.copyOf(strategyNames);
+            if (query.getStrategy() != null) {
+                Integer id = strategyIds.get(query.getStrategy());
+                if (id == null) {
+                    return new ResultQueryResponse(0, 0, elapsedMs(started), List.of());
+                }
+                strategy = id;
+            }
+        }
+
+        long scanned = 0;
+        long matched = 0;
+        Groups groups = new Groups();
+        for (View view : views) {
+            if (view.count() == 0 || view.maxTime() < from || view.minTime() > to) {
+                continue;
+            }
+            ByteBuffer records = view.records();
+            scanned += view.count();
+            for (int i = 0, base = HEADER_SIZE; i < view.count(); i++, base += RECORD_SIZE) {
+                long recordedAt = records.getLong(base + RECORDED_AT);
+                if (recordedAt < from || recordedAt > to
+                        || (strategy >= 0 && records.getInt(base + STRATEGY) != strategy)
+                        || (records.getInt(base + FLAGS) & modeMask) != modeFlags) {
+                    continue;
+                }
+                int users = records.getInt(base + USERS);
+                int vms = records.getInt(base + VMS);
+                int cloudlets = records.getInt(base + CLOUDLETS);
+                int ram = records.getInt(base + VM_RAM);
+                double sla = records.getDouble(base + SLA_THRESHOLD);
+                if (users < minUsers || users > maxUsers || vms < minVms || vms > maxVms
+                        || cloudlets < minCloudlets || cloudlets > maxCloudlets || ram < minRam || ram > maxRam
+                        || sla < minSla || sla > maxSla) {
+                    continue;
+                }
+                matched++;
+                long key = switch (groupBy) {
+                    case NONE -> 0;
+                    case STRATEGY -> records.getInt(base + STRATEGY);
+                    case NUMBER_OF_USERS -> users;
+                    case NUMBER_OF_VMS -> vms;
+                    case NUMBER_OF_CLOUDLETS -> cloudlets;
+                    case VM_RAM -> ram;
+                    case SLA_THRESHOLD -> Double.doubleToLongBits(sla);
+                    case DAY -> Math.floorDiv(recordedAt, TimeUnit.DAYS.toMillis(1));
+                };
+                add(groups.get(key), records, base, recordedAt);
+            }
+        }
+        return new ResultQueryResponse(scanned, matched, elapsedMs(started), toGroups(groups, groupBy, names));
+    }
+
+    /**
+     * Drops records past retention and packs sealed segments into as few as will hold
+     * them. The segment being appended to is left alone until it fills up.
+     */
+    @Scheduled(fixedDelayString = "${simulation.results.compaction-interval-ms:3600000}")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - retentionMs;
+        List<Segment> inputs;
+        List<View> views;
+        synchronized (this) {
+            if (!open) {
+                return;
+            }
+            inputs = new ArrayList<>(sealed);
+            try {
+                views = new ArrayList<>();
+                for (Segment segment : inputs) {
+                    views.add(view(segment));
+                }
+            } catch (IOException e) {
+                log.warn("Could not compact the result store: {}", e.getMessage());
+                return;
+            }
+        }
+        long total = 0;
+        boolean expired = false;
+        for (Segment segment : inputs) {
+            total += segment.count;
+            expired |= segment.count > 0 && segment.minTime < cutoff;
+        }
+        if (!expired && inputs.size() <= (total + segmentRecords - 1) / segmentRecords) {
+            return;
+        }
+
+        // Outputs take the numbers of the first inputs, of which there are at least as many
+        List<Segment> outputs = new ArrayList<>();
+        List<Path> written = new ArrayList<>();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_RECORDS * RECORD_SIZE);
+            FileChannel out = null;
+            Segment output = null;
+            try {
+                for (View view : views) {
+                    for (int i = 0, base = HEADER_SIZE; i < view.count(); i++, base += RECORD_SIZE) {
+                        long recordedAt = view.records().getLong(base + RECORDED_AT);
+                        if (recordedAt < cutoff) {
+                            continue;
+                        }
+                        if (output == null || output.count == segmentRecords) {
+                            if (out != null) {
+                                flush(out, buffer);
+                                out.close();
+                            }
+                            Segment input = inputs.get(outputs.size());
+                            output = new Segment(input.number, input.file);
+                            outputs.add(output);
+                            Path tmp = tmpFile(output);
+                            written.add(tmp);
+                            out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                StandardOpenOption.TRUNCATE_EXISTING);
+                            writeHeader(out);
+                        }
+                        if (!buffer.hasRemaining()) {
+                            flush(out, buffer);
+                        }
+                        buffer.put(buffer.position(), view.records(), base, RECORD_SIZE);
+                        buffer.position(buffer.position() + RECORD_SIZE);
+                        output.recorded(recordedAt);
+                    }
+                }
+            } finally {
+                if (out != null) {
+                    flush(out, buffer);
+                    out.force(true);
+                    out.close();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not compact the result store: {}", e.getMessage());
+            written.forEach(ResultStore::deleteQuietly);
+            return;
+        }
+
+        synchronized (this) {
+            try {
+                for (Segment output : outputs) {
+                    Files.move(tmpFile(output), output.file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                }
+            } catch (IOException e) {
+                // Some segments may now hold records twice; better than losing them
+                log.warn("Could not swap in compacted result segments: {}", e.getMessage());
+                written.forEach(ResultStore::deleteQuietly);
+                return;
+            }
+            for (Segment input : inputs.subList(outputs.size(), inputs.size())) {
+                deleteQuietly(input.file);
+            }
+            // Segments sealed while compacting stay as they are
+            sealed.removeAll(inputs);
+            sealed.addAll(0, outputs);
+        }
+        log.info("Compacted {} result segments into {}", inputs.size(), outputs.size());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (channel != null) {
+            try {
+                channel.force(true);
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Could not close the result store: {}", e.getMessage());
+            }
+            channel = null;
+        }
+        open = false;
+        sealed.clear();
+        active = null;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (open) {
+            return;
+        }
+        Files.createDirectories(dir);
+        Path strategies = dir.resolve(STRATEGIES);
+        strategyIds.clear();
+        strategyNames.clear();
+        if (Files.exists(strategies)) {
+            for (String name : Files.readAllLines(strategies, StandardCharsets.UTF_8)) {
+                strategyIds.put(name, strategyNames.size());
+                strategyNames.add(name);
+            }
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        long nextNumber = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                Matcher matcher = SEGMENT.matcher(name);
+                if (matcher.matches()) {
+                    Segment segment = new Segment(Long.parseLong(matcher.group(1)), file);
+                    segments.add(segment);
+                    nextNumber = Math.max(nextNumber, segment.number + 1);
+                } else if (name.endsWith(".tmp")) {
+                    // Left over from a compaction that never finished
+                    deleteQuietly(file);
+                }
+            }
+        }
+        segments.sort(Comparator.comparingLong(segment -> segment.number));
+        sealed.clear();
+        for (Segment segment : segments) {
+            if (load(segment)) {
+                sealed.add(segment);
+            }
+        }
+
+        Segment last = sealed.isEmpty() ? null : sealed.get(sealed.size() - 1);
+        if (last != null && last.count < segmentRecords) {
+            sealed.remove(sealed.size() - 1);
+            last.map = null;
+            channel = FileChannel.open(last.file, StandardOpenOption.WRITE, StandardOpenOption.READ);
+            // A partial record from a crash is cut off
+            channel.truncate(HEADER_SIZE + (long) last.count * RECORD_SIZE);
+            active = last;
+        } else {
+            startSegment(nextNumber);
+        }
+        open = true;
+    }
+
+    // Reads a segment's header and time span; false if it is not a segment this store wrote
+    private boolean load(Segment segment) throws IOException {
+        try (FileChannel file = FileChannel.open(segment.file, StandardOpenOption.READ)) {
+            long size = file.size();
+            if (size < HEADER_SIZE) {
+                log.warn("Ignoring truncated result segment {}", segment.file);
+                return false;
+            }
+            ByteBuffer map = file.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (map.getInt(0) != MAGIC || map.getInt(4) != FORMAT_VERSION || map.getInt(8) != RECORD_SIZE) {
+                log.warn("Ignoring result segment {} in an unknown format", segment.file);
+                return false;
+            }
+            int count = (int) ((size - HEADER_SIZE) / RECORD_SIZE);
+            for (int i = 0, base = HEADER_SIZE; i < count; i++, base += RECORD_SIZE) {
+                segment.recorded(map.getLong(base + RECORDED_AT));
+            }
+            segment.map = map;
+        }
+        return true;
+    }
+
+    private void startSegment(long number) throws IOException {
+        Segment segment = new Segment(number, dir.resolve(String.format("segment-%016d.bin", number)));
+        channel = FileChannel.open(segment.file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+            StandardOpenOption.READ);
+        writeHeader(channel);
+        active = segment;
+    }
+
+    private static void writeHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(RECORD_SIZE).putInt(0).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    private void write(SimulationRequest request, SimulationResult result, long recordedAt) throws IOException {
+        if (active.count == segmentRecords) {
+            channel.force(true);
+            channel.close();
+            sealed.add(active);
+            startSegment(active.number + 1);
+        }
+        int flags = (request.getMode() == ExecutionMode.ESTIMATE ? FLAG_ESTIMATE : 0)
+            | (request.getTrace() != null ? FLAG_TRACE : 0)
+            | (request.getWorkload() != null ? FLAG_WORKLOAD : 0);
+        record.clear();
+        record.putLong(RECORDED_AT, recordedAt)
+            .putInt(STRATEGY, strategyId(result.getStrategy()))
+            .putInt(FLAGS, flags)
+            .putInt(USERS, request.getNumberOfUsers())
+            .putInt(VMS, request.getNumberOfVms())
+            .putInt(CLOUDLETS, request.getNumberOfCloudlets())
+            .putInt(VM_RAM, request.getVmRam())
+            .putDouble(SLA_THRESHOLD, request.getSlaThreshold())
+            .putInt(CLOUDLETS_PROCESSED, result.getTotalCloudletsProcessed())
+            .putInt(REPLICAS, request.getReplicas())
+            .putDouble(EXECUTION_TIME, result.getExecutionTime())
+            .putDouble(COST, result.getCost())
+            .putDouble(ENERGY, result.getEnergyConsumption())
+            .putDouble(MAKESPAN, result.getMakespan())
+            .putDouble(MEAN_RESPONSE_TIME, result.getMeanResponseTime())
+            .putDouble(P50_RESPONSE_TIME, result.getP50ResponseTime())
+            .putDouble(P95_RESPONSE_TIME, result.getP95ResponseTime())
+            .putDouble(P99_RESPONSE_TIME, result.getP99ResponseTime())
+            .putDouble(MEAN_WAIT_TIME, result.getMeanWaitTime())
+            .putDouble(SLA_VIOLATION_RATE, result.getSlaViolationRate());
+        long position = HEADER_SIZE + (long) active.count * RECORD_SIZE;
+        while (record.hasRemaining()) {
+            position += channel.write(record, position);
+        }
+        active.recorded(recordedAt);
+    }
+
+    private int strategyId(String strategy) throws IOException {
+        Integer id = strategyIds.get(strategy);
+        if (id == null) {
+            Files.writeString(dir.resolve(STRATEGIES), strategy + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+            id = strategyNames.size();
+            strategyIds.put(strategy, id);
+            strategyNames.add(strategy);
+        }
+        return id;
+    }
+
+    private List<View> views() throws IOException {
+        List<View> views = new ArrayList<>(sealed.size() + 1);
+        for (Segment segment : sealed) {
+            views.add(view(segment));
+        }
+        // The active segment is mapped as far as it is written
+        long size = HEADER_SIZE + (long) active.count * RECORD_SIZE;
+        views.add(new View(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), active.count, active.minTime,
+            active.maxTime));
+        return views;
+    }
+
+    private static View view(Segment segment) throws IOException {
+        if (segment.map == null) {
+            try (FileChannel file = FileChannel.open(segment.file, StandardOpenOption.READ)) {
+                segment.map = file.map(FileChannel.MapMode.READ_ONLY, 0,
+                    HEADER_SIZE + (long) segment.count * RECORD_SIZE);
+            }
+        }
+        return new View(segment.map, segment.count, segment.minTime, segment.maxTime);
+    }
+
+    private static Path tmpFile(Segment segment) {
+        return segment.file.resolveSibling(segment.file.getFileName() + ".tmp");
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void add(Group group, ByteBuffer records, int base, long recordedAt) {
+        double makespan = records.getDouble(base + MAKESPAN);
+        group.count++;
+        group.firstRecordedAt = Math.min(group.firstRecordedAt, recordedAt);
+        group.lastRecordedAt = Math.max(group.lastRecordedAt, recordedAt);
+        group.makespan += makespan;
+        group.minMakespan = Math.min(group.minMakespan, makespan);
+        group.maxMakespan = Math.max(group.maxMakespan, makespan);
+        group.cost += records.getDouble(base + COST);
+        group.energy += records.getDouble(base + ENERGY);
+        group.meanResponseTime += records.getDouble(base + MEAN_RESPONSE_TIME);
+        group.p95ResponseTime += records.getDouble(base + P95_RESPONSE_TIME);
+        group.maxP99ResponseTime = Math.max(group.maxP99ResponseTime, records.getDouble(base + P99_RESPONSE_TIME));
+        group.slaViolationRate += records.getDouble(base + SLA_VIOLATION_RATE);
+    }
+
+    private static List<ResultGroup> toGroups(Groups groups, ResultQuery.GroupBy groupBy,
+            List<String> strategyNames) {
+        List<Group> sorted = groups.values();
+        switch (groupBy) {
+            case STRATEGY -> sorted.sort(Comparator.comparing(group -> strategyNames.get((int) group.key)));
+            case SLA_THRESHOLD -> sorted.sort(Comparator.comparingDouble(group -> Double.longBitsToDouble(group.key)));
+            default -> sorted.sort(Comparator.comparingLong(group -> group.key));
+        }
+        List<ResultGroup> result = new ArrayList<>(sorted.size());
+        for (Group group : sorted) {
+            Object key = switch (groupBy) {
+                case NONE -> null;
+                case STRATEGY -> strategyNames.get((int) group.key);
+                case SLA_THRESHOLD -> Double.longBitsToDouble(group.key);
+                case DAY -> group.key * TimeUnit.DAYS.toMillis(1);
+                default -> (int) group.key;
+            };
+            ResultGroup entry = new ResultGroup(key);
+            entry.setCount(group.count);
+            entry.setFirstRecordedAt(group.firstRecordedAt);
+            entry.setLastRecordedAt(group.lastRecordedAt);
+            entry.setMeanMakespan(group.makespan / group.count);
+            entry.setMinMakespan(group.minMakespan);
+            entry.setMaxMakespan(group.maxMakespan);
+            entry.setMeanCost(group.cost / group.count);
+            entry.setMeanEnergyConsumption(group.energy / group.count);
+            entry.setMeanResponseTime(group.meanResponseTime / group.count);
+            entry.setMeanP95ResponseTime(group.p95ResponseTime / group.count);
+            entry.setMaxP99ResponseTime(group.maxP99ResponseTime);
+            entry.setMeanSlaViolationRate(group.slaViolationRate / group.count);
+            result.add(entry);
+        }
+        return result;
+    }
+
+    private static int lower(ResultQuery.Range range) {
+        return range == null || range.getMin() == null ? Integer.MIN_VALUE
+            : (int) Math.max(Integer.MIN_VALUE, Math.ceil(range.getMin()));
+    }
+
+    private static int upper(ResultQuery.Range range) {
+        return range == null || range.getMax() == null ? Integer.MAX_VALUE
+            : (int) Math.min(Integer.MAX_VALUE, Math.floor(range.getMax()));
+    }
+
+    private static double elapsedMs(long started) {
+        return (System.nanoTime() - started) / 1e6;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Retried on the next compaction or open
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.cloudsim.cloudsim.service;
+
+import com.cloudsim.cloudsim.model.MetricStatistics;
+
+/**
+ * Mean and variance of a stream of samples in constant memory (Welford's method,
+ * which stays accurate where summing squares would cancel out).
+ */
+public class RunningStatistics {
+
+    // Two-sided 95% Student-t critical values for 1..30 degrees of freedom
+    private static final double[] T_95 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double Z_975 = 1.959964;
+
+    private long count;
+    private double mean;
+    private double m2;
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getVariance() {
+        return count > 1 ? m2 / (count - 1) : 0;
+    }
+
+    /** Half-width of the 95% confidence interval for the mean; unbounded below two samples. */
+    public double getHalfWidth() {
+        return count > 1 ? tCritical(count - 1) * Math.sqrt(getVariance() / count) : Double.POSITIVE_INFINITY;
+    }
+
+    /** Whether the confidence interval is within {@code tolerance} of the mean, relative to its size. */
+    public boolean isWithin(double tolerance) {
+        double halfWidth = getHalfWidth();
+        return halfWidth == 0 || halfWidth <= tolerance * Math.abs(mean);
+    }
+
+    public MetricStatistics toStatistics() {
+        return new MetricStatistics(mean, getVariance(), count > 1 ? getHalfWidth() : 0);
+    }
+
+    static double tCritical(long degreesOfFreedom) {
+        if (degreesOfFreedom <= T_95.length) {
+            return T_95[(int) degreesOfFreedom - 1];
+        }
+        // Cornish-Fisher expansion around the normal quantile, within 1e-4 beyond 30
+        double z = Z_975;
+        double df = degreesOfFreedom;
+        return z + (z * z * z + z) / (4 * df) + (5 * Math.pow(z, 5) + 16 * z * z * z + 3 * z) / (96 * df * df);
+    }
+}
@@ -0,0 +1,92 @@
+package com.cloudsim.cloudsim.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import com.cloudsim.cloudsim.model.JobState;
+import com.cloudsim.cloudsim.model.JobStatus;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+/**
+ * An asynchronous simulation run. State transitions are synchronized so a job that
+ * is cancelled while its worker is finishing ends up in exactly one final state.
+ */
+public class SimulationJob {
+
+    private final String id;
+    private final Instant submittedAt = Instant.now();
+    private JobState state = JobState.QUEUED;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private List<SimulationResult> results;
+    private String error;
+    private Future<?> future;
+
+    SimulationJob(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public synchronized JobState getState() {
+        return state;
+    }
+
+    public synchronized List<SimulationResult> getResults() {
+        return results;
+    }
+
+    synchronized Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    synchronized Future<?> getFuture() {
+        return future;
+    }
+
+    synchronized void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    synchronized boolean start() {
+        if (state != JobState.QUEUED) {
+            return false;
+        }
+        state = JobState.RUNNING;
+        startedAt = Instant.now();
+        return true;
+    }
+
+    synchronized boolean complete(List<SimulationResult> results) {
+        if (!finish(JobState.COMPLETED, null)) {
+            return false;
+        }
+        this.results = results;
+        return true;
+    }
+
+    synchronized boolean fail(String error) {
+        return finish(JobState.FAILED, error);
+    }
+
+    synchronized boolean cancel() {
+        return finish(JobState.CANCELLED, null);
+    }
+
+    private boolean finish(JobState finalState, String error) {
+        if (state.isFinished()) {
+            return false;
+        }
+        this.state = finalState;
+        this.error = error;
+        this.finishedAt = Instant.now();
+        return true;
+    }
+
+    public synchronized JobStatus toStatus() {
+        return new JobStatus(id, state, submittedAt, startedAt, finishedAt, error);
+    }
+}
@@ -0,0 +1,139 @@
+package com.cloudsim.cloudsim.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.cloudsim.cloudsim.model.JobStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+/**
+ * Runs simulations as background jobs on the bounded {@code jobExecutor}, which is
+ * sized independently of the web server's request threads. Finished jobs are kept
+ * for {@code simulation.jobs.retention-ms} and at most
+ * {@code simulation.jobs.max-retained} of them are held at once, oldest evicted first.
+ */
+@Service
+public class SimulationJobService {
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @Autowired
+    @Qualifier("jobExecutor")
+    private ThreadPoolExecutor jobExecutor;
+
+    @Value("${simulation.jobs.retention-ms:600000}")
+    private long retentionMs;
+
+    @Value("${simulation.jobs.max-retained:1000}")
+    private int maxRetained;
+
+    private final Map<String, SimulationJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<SimulationJob> finishedJobs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+
+    /**
+     * Queues a simulation and returns immediately.
+     *
+     * @throws RejectedExecutionException if the work queue is full
+     */
+    public JobStatus submit(SimulationRequest request) {
+        simulationService.validate(request);
+
+        SimulationJob job = new SimulationJob(UUID.randomUUID().toString());
+        jobs.put(job.getId(), job);
+        try {
+            job.setFuture(jobExecutor.submit(() -> execute(job, request)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job.toStatus();
+    }
+
+    public Optional<SimulationJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public Optional<JobStatus> cancel(String jobId) {
+        SimulationJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (job.cancel()) {
+            Future<?> future = job.getFuture();
+            if (future != null) {
+                future.cancel(true);
+                // Give the queue slot back instead of waiting for a worker to skip it
+                if (future instanceof Runnable) {
+                    jobExecutor.remove((Runnable) future);
+                }
+            }
+            retire(job);
+        }
+        return Optional.of(job.toStatus());
+    }
+
+    private void execute(SimulationJob job, SimulationRequest request) {
+        if (!job.start()) {
+            return;
+        }
+        boolean finished;
+        try {
+            List<SimulationResult> results = simulationService.runSimulations(request);
+            finished = job.complete(results);
+        } catch (RuntimeException e) {
+            finished = job.fail(e.getMessage());
+        }
+        if (finished) {
+            retire(job);
+        }
+    }
+
+    private void retire(SimulationJob job) {
+        finishedJobs.add(job);
+        if (finishedCount.incrementAndGet() > maxRetained) {
+            evictOldest();
+        }
+    }
+
+    private void evictOldest() {
+        SimulationJob oldest = finishedJobs.peek();
+        if (oldest != null) {
+            evict(oldest);
+        }
+    }
+
+    private void evict(SimulationJob job) {
+        if (finishedJobs.remove(job)) {
+            finishedCount.decrementAndGet();
+            jobs.remove(job.getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${simulation.jobs.eviction-interval-ms:30000}")
+    public void evictExpired() {
+        Instant cutoff = Instant.now().minusMillis(retentionMs);
+        SimulationJob oldest;
+        while ((oldest = finishedJobs.peek()) != null && oldest.getFinishedAt().isBefore(cutoff)) {
+            evict(oldest);
+        }
+    }
+}
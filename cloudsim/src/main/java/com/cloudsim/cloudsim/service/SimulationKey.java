@@ -0,0 +1,58 @@
+package com.cloudsim.cloudsim.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+
+/**
+ * Canonical, content-addressed identity of one strategy run. Two requests that
+ * would produce the same result for a strategy map to the same key; the strategy
+ * list itself is left out because every strategy is keyed on its own.
+ */
+public final class SimulationKey {
+
+    private SimulationKey() {
+    }
+
+    public static String of(SimulationRequest request, String strategy) {
+        return sha256(canonical(request, strategy));
+    }
+
+    static String canonical(SimulationRequest request, String strategy) {
+        return new StringBuilder()
+            .append("engine=").append(SimulationEngine.VERSION)
+            .append("|strategy=").append(strategy)
+            .append("|users=").append(request.getNumberOfUsers())
+            .append("|vms=").append(request.getNumberOfVms())
+            .append("|cloudlets=").append(request.getNumberOfCloudlets())
+            .append("|vmRam=").append(request.getVmRam())
+            .append("|sla=").append(Double.doubleToLongBits(request.getSlaThreshold() + 0.0))
+            .append("|workload=").append(workload(request).canonical())
+            .append(trace(request))
+            .toString();
+    }
+
+    // A missing workload means the defaults, so both spellings share a key
+    private static WorkloadSpec workload(SimulationRequest request) {
+        return request.getWorkload() != null ? request.getWorkload() : new WorkloadSpec();
+    }
+
+    // Only trace replays carry a trace part, so keys of synthetic runs are unchanged
+    private static String trace(SimulationRequest request) {
+        return request.getTrace() != null ? "|trace=" + request.getTrace().canonical() : "";
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
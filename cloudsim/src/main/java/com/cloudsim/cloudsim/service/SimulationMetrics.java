@@ -0,0 +1,110 @@
+package com.cloudsim.cloudsim.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.engine.SimulationListener;
+import com.cloudsim.cloudsim.engine.SimulationPhase;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Publishes simulation measurements to Micrometer, and from there to
+ * {@code /actuator/prometheus}:
+ * <ul>
+ *   <li>{@code simulation.phase} timers, tagged by strategy and phase</li>
+ *   <li>{@code simulation.events} and {@code simulation.cloudlets.completed} counters, tagged by strategy</li>
+ *   <li>{@code simulation.active} and {@code simulation.queued} gauges for the kernels, and
+ *       {@code simulation.jobs.active} and {@code simulation.jobs.queued} for background jobs</li>
+ * </ul>
+ * Meters are looked up once per strategy, so a run costs a few map reads and
+ * timer updates.
+ */
+@Component
+public class SimulationMetrics implements SimulationListener {
+
+    private static final class StrategyMeters {
+        final Timer[] phases = new Timer[SimulationPhase.values().length];
+        final Counter events;
+        final Counter cloudlets;
+
+        StrategyMeters(MeterRegistry registry, String strategy) {
+            for (SimulationPhase phase : SimulationPhase.values()) {
+                phases[phase.ordinal()] = Timer.builder("simulation.phase")
+                    .description("Time spent in one phase of a policy run")
+                    .tag("strategy", strategy)
+                    .tag("phase", phase.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(registry);
+            }
+            events = Counter.builder("simulation.events")
+                .description("Simulation events processed")
+                .tag("strategy", strategy)
+                .register(registry);
+            cloudlets = Counter.builder("simulation.cloudlets.completed")
+                .description("Cloudlets that finished successfully")
+                .tag("strategy", strategy)
+                .register(registry);
+        }
+    }
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private SimulationEngine simulationEngine;
+
+    @Autowired
+    @Qualifier("jobExecutor")
+    private ThreadPoolExecutor jobExecutor;
+
+    private final Map<String, StrategyMeters> meters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void register() {
+        for (String strategy : simulationEngine.getPolicyNames()) {
+            meters(strategy);
+        }
+        Gauge.builder("simulation.active", simulationEngine, SimulationEngine::getActiveCount)
+            .description("Simulations running on a kernel")
+            .register(registry);
+        Gauge.builder("simulation.queued", simulationEngine, SimulationEngine::getQueuedCount)
+            .description("Simulations waiting for a free kernel")
+            .register(registry);
+        Gauge.builder("simulation.jobs.active", jobExecutor, ThreadPoolExecutor::getActiveCount)
+            .description("Background jobs being worked on")
+            .register(registry);
+        Gauge.builder("simulation.jobs.queued", jobExecutor, executor -> executor.getQueue().size())
+            .description("Background jobs waiting for a worker")
+            .register(registry);
+
+        simulationEngine.setListener(this);
+    }
+
+    @Override
+    public void phaseCompleted(String strategy, SimulationPhase phase, long nanos) {
+        meters(strategy).phases[phase.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void simulationCompleted(String strategy, long eventsProcessed, long cloudletsCompleted) {
+        StrategyMeters strategyMeters = meters(strategy);
+        strategyMeters.events.increment(eventsProcessed);
+        strategyMeters.cloudlets.increment(cloudletsCompleted);
+    }
+
+    private StrategyMeters meters(String strategy) {
+        return meters.computeIfAbsent(strategy, name -> new StrategyMeters(registry, name));
+    }
+}
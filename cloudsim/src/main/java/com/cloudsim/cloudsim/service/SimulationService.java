@@ -2,39 +2,243 @@ package com.cloudsim.cloudsim.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.cloudsim.cloudsim.engine.QueueingModel;
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.model.ExecutionMode;
+import com.cloudsim.cloudsim.model.ResultStatus;
 import com.cloudsim.cloudsim.model.SimulationRequest;
 import com.cloudsim.cloudsim.model.SimulationResult;
-import com.cloudsim.cloudsim.policy.BestFitSimulation;
-import com.cloudsim.cloudsim.policy.RoundRobinSimulation;
-import com.cloudsim.cloudsim.policy.TimeSharedSimulation;
 
 @Service
 public class SimulationService {
 
-    public List<SimulationResult> runSimulations(SimulationRequest request) {
-        List<SimulationResult> results = new ArrayList<>();
+    @Autowired
+    private SimulationEngine simulationEngine;
+
+    @Autowired
+    private ResultCache resultCache;
+
+    @Autowired
+    private EstimateValidator estimateValidator;
+
+    @Autowired
+    private TraceStore traceStore;
+
+    @Autowired
+    private ResultStore resultStore;
+
+    @Autowired
+    @Qualifier("strategyExecutor")
+    private ExecutorService strategyExecutor;
+
+    @Value("${simulation.strategies.timeout-ms:60000}")
+    private long strategyTimeoutMs;
+
+    @Value("${simulation.replicas.max:10000}")
+    private int maxReplicas;
 
-        // Loop through each strategy and run the corresponding simulation
+    @Value("${simulation.users.max:10000}")
+    private int maxUsers;
+
+    @Value("${simulation.vms.max:100000}")
+    private int maxVms;
+
+    @Value("${simulation.vm-ram.max:1048576}")
+    private int maxVmRam;
+
+    // Identical strategy runs that are already in flight are shared instead of repeated
+    private final SingleFlight<String, SimulationResult> inFlight = new SingleFlight<>();
+
+    public void validate(SimulationRequest request) {
+        if (request.getStrategies() == null || request.getStrategies().isEmpty()) {
+            throw new IllegalArgumentException("At least one strategy is required");
+        }
         for (String strategy : request.getStrategies()) {
-            switch (strategy) {
-                case "BestFit":
-                    results.add(new BestFitSimulation().run(request));
-                    break;
-                case "RoundRobin":
-                    results.add(new RoundRobinSimulation().run(request));
-                    break;
-                case "TimeShared":
-                    results.add(new TimeSharedSimulation().run(request));
-                    break;
-                // Add more strategies here if needed
-                default:
-                    throw new IllegalArgumentException("Unknown strategy: " + strategy);
+            validateStrategy(strategy);
+        }
+        if (request.getNumberOfCloudlets() < 0) {
+            throw new IllegalArgumentException("numberOfCloudlets must not be negative");
+        }
+        validateUsers(request.getNumberOfUsers());
+        validateVms(request.getNumberOfUsers(), request.getNumberOfVms());
+        validateVmRam(request.getNumberOfUsers(), request.getNumberOfVms(), request.getVmRam());
+        if (request.getWorkload() != null) {
+            request.getWorkload().validate();
+        }
+        if (request.getTrace() != null) {
+            if (request.getMode() == ExecutionMode.ESTIMATE) {
+                throw new IllegalArgumentException("Estimates need a synthetic workload; simulate traces instead");
             }
+            if (request.getNumberOfUsers() > 1) {
+                throw new IllegalArgumentException("A trace is a single tenant's workload; use one user");
+            }
+            request.getTrace().validate();
+            request.getTrace().setPath(traceStore.resolve(request.getTrace().getId()).toString());
+        }
+        if (request.getReplicas() < 1 || request.getReplicas() > maxReplicas) {
+            throw new IllegalArgumentException("replicas must be between 1 and " + maxReplicas);
+        }
+        if (request.getCiTolerance() < 0) {
+            throw new IllegalArgumentException("ciTolerance must not be negative");
+        }
+        if (request.getReplicas() > 1) {
+            if (request.getMode() == ExecutionMode.ESTIMATE) {
+                throw new IllegalArgumentException("Estimates are deterministic; replicas need SIMULATE mode");
+            }
+            if (request.getTrace() != null && request.getTrace().getSamplingRate() == 1) {
+                throw new IllegalArgumentException("Replicas of a trace only differ when it is sampled");
+            }
+        }
+    }
+
+    public void validateStrategy(String strategy) {
+        if (!simulationEngine.hasPolicy(strategy)) {
+            throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+    }
+
+    public void validateUsers(int numberOfUsers) {
+        if (numberOfUsers < 0 || numberOfUsers > maxUsers) {
+            throw new IllegalArgumentException("numberOfUsers must be between 0 and " + maxUsers);
+        }
+    }
+
+    // Every user gets numberOfVms VMs of their own, so the limit is on the total
+    public void validateVms(int numberOfUsers, int numberOfVms) {
+        if (numberOfVms < 0 || (long) Math.max(1, numberOfUsers) * numberOfVms > maxVms) {
+            throw new IllegalArgumentException(
+                "numberOfVms must not be negative, nor more than " + maxVms + " across all users");
+        }
+    }
+
+    // Hosts are sized in whole MB of RAM for the VMs of every user they hold
+    public void validateVmRam(int numberOfUsers, int numberOfVms, int vmRam) {
+        if (vmRam < 0 || vmRam > maxVmRam) {
+            throw new IllegalArgumentException("vmRam must be between 0 and " + maxVmRam + " MB");
+        }
+        if ((long) Math.max(1, numberOfUsers) * Math.max(0, numberOfVms) * vmRam > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "vmRam across all VMs of all users must be at most " + Integer.MAX_VALUE + " MB");
+        }
+    }
+
+    public List<SimulationResult> runSimulations(SimulationRequest request) {
+        validate(request);
+        List<String> strategies = request.getStrategies();
+        if (request.getReplicas() > 1) {
+            List<SimulationResult> results = replicate(strategies, request);
+            resultStore.append(request, results);
+            return results;
         }
 
+        // Fan the strategies out, each on its own isolated kernel, then join in request order
+        List<Future<SimulationResult>> futures = new ArrayList<>(strategies.size());
+        for (String strategy : strategies) {
+            futures.add(submit(strategy, request));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(strategyTimeoutMs);
+        List<SimulationResult> results = new ArrayList<>(strategies.size());
+        for (int i = 0; i < strategies.size(); i++) {
+            results.add(await(strategies.get(i), futures.get(i), deadline));
+        }
+
+        resultStore.append(request, results);
         return results;
     }
+
+    /**
+     * Runs a single strategy and waits for it, with the same timeout and partial-result
+     * handling as {@link #runSimulations}.
+     */
+    public SimulationResult runSimulation(String strategy, SimulationRequest request) {
+        validateStrategy(strategy);
+        if (request.getReplicas() > 1) {
+            return replicate(List.of(strategy), request).get(0);
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(strategyTimeoutMs);
+        return await(strategy, submit(strategy, request), deadline);
+    }
+
+    /**
+     * Runs every strategy's replicas side by side, sharing the kernels between the
+     * strategies. Each replica is an ordinary run, cached and coalesced like any other,
+     * and the strategy timeout applies to each replica rather than to all of them.
+     */
+    private List<SimulationResult> replicate(List<String> strategies, SimulationRequest request) {
+        int window = Math.max(1, simulationEngine.getMaxKernels() / strategies.size());
+        List<ReplicaSet> sets = new ArrayList<>(strategies.size());
+        for (String strategy : strategies) {
+            sets.add(new ReplicaSet(strategy, request, window, replica -> submit(strategy, replica),
+                (future, until) -> await(strategy, future, until)));
+        }
+        boolean running = true;
+        while (running) {
+            running = false;
+            for (ReplicaSet set : sets) {
+                running |= set.advance(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(strategyTimeoutMs));
+            }
+        }
+        List<SimulationResult> results = new ArrayList<>(sets.size());
+        for (ReplicaSet set : sets) {
+            results.add(set.toResult());
+        }
+        return results;
+    }
+
+    public SingleFlight<String, SimulationResult> getInFlight() {
+        return inFlight;
+    }
+
+    // Estimates and cache hits are answered directly and never touch a kernel; a run
+    // identical to one already in flight attaches to it
+    private Future<SimulationResult> submit(String strategy, SimulationRequest request) {
+        if (request.getMode() == ExecutionMode.ESTIMATE) {
+            SimulationResult estimate = QueueingModel.estimate(simulationEngine.getProfile(strategy), request);
+            estimateValidator.sample(strategy, request, estimate);
+            return CompletableFuture.completedFuture(estimate);
+        }
+        String key = SimulationKey.of(request, strategy);
+        SimulationResult cached = resultCache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return inFlight.join(key, () -> {
+            SimulationResult result = simulationEngine.run(strategy, request);
+            resultCache.put(key, result);
+            return result;
+        }, strategyExecutor);
+    }
+
+    private SimulationResult await(String strategy, Future<SimulationResult> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return SimulationResult.partial(strategy, ResultStatus.TIMED_OUT,
+                "No result within " + strategyTimeoutMs + " ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return SimulationResult.partial(strategy, ResultStatus.FAILED, String.valueOf(cause.getMessage()));
+        } catch (CancellationException e) {
+            return SimulationResult.partial(strategy, ResultStatus.FAILED, "Cancelled");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return SimulationResult.partial(strategy, ResultStatus.FAILED, "Interrupted");
+        }
+    }
 }
@@ -0,0 +1,159 @@
+package com.cloudsim.cloudsim.service;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collapses concurrent calls for the same key onto one computation. The first
+ * caller starts it on the given executor; later callers attach to it while it is
+ * in flight and all of them receive the same value or failure.
+ *
+ * <p>Every caller gets its own {@link Future}. Cancelling it (for example after a
+ * caller-side timeout) only detaches that caller; the shared computation is
+ * cancelled once the last caller has detached, so one impatient client cannot
+ * take a result away from the others.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public Future<V> join(K key, Callable<V> computation, ExecutorService executor) {
+        while (true) {
+            Flight flight = flights.computeIfAbsent(key, Flight::new);
+            if (!flight.attach()) {
+                // Abandoned between lookup and attach; it removes itself, so try again
+                flights.remove(key, flight);
+                continue;
+            }
+            if (!flight.start(computation, executor)) {
+                coalesced.incrementAndGet();
+            }
+            return new Caller(flight);
+        }
+    }
+
+    /** Number of calls that attached to a computation started by another caller. */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    private final class Flight {
+        private final K key;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private int callers;
+        private boolean started;
+        private boolean abandoned;
+        private Future<?> task;
+
+        Flight(K key) {
+            this.key = key;
+        }
+
+        synchronized boolean attach() {
+            if (abandoned) {
+                return false;
+            }
+            callers++;
+            return true;
+        }
+
+        // Only the first caller actually submits the computation
+        synchronized boolean start(Callable<V> computation, ExecutorService executor) {
+            if (started) {
+                return false;
+            }
+            started = true;
+            try {
+                // Leave the map before completing, so no caller sees a finished flight as in flight
+                task = executor.submit(() -> {
+                    try {
+                        V value = computation.call();
+                        flights.remove(key, this);
+                        result.complete(value);
+                    } catch (Throwable t) {
+                        flights.remove(key, this);
+                        result.completeExceptionally(t);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                flights.remove(key, this);
+                result.completeExceptionally(e);
+            }
+            return true;
+        }
+
+        synchronized void detach() {
+            callers--;
+            if (callers == 0 && !result.isDone()) {
+                abandoned = true;
+                flights.remove(key, this);
+                if (task != null) {
+                    task.cancel(true);
+                }
+                result.cancel(false);
+            }
+        }
+    }
+
+    private final class Caller implements Future<V> {
+        private final Flight flight;
+        private boolean cancelled;
+
+        Caller(Flight flight) {
+            this.flight = flight;
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            if (cancelled || flight.result.isDone()) {
+                return false;
+            }
+            cancelled = true;
+            flight.detach();
+            return true;
+        }
+
+        @Override
+        public synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return isCancelled() || flight.result.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            checkCancelled();
+            return flight.result.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            checkCancelled();
+            return flight.result.get(timeout, unit);
+        }
+
+        private void checkCancelled() {
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+        }
+    }
+}
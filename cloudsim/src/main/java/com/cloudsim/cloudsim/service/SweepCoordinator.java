@@ -0,0 +1,324 @@
+package com.cloudsim.cloudsim.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.SweepPoint;
+import com.cloudsim.cloudsim.model.SweepRequest;
+import com.cloudsim.cloudsim.worker.SweepWorker;
+import com.cloudsim.cloudsim.worker.WorkerMessage;
+import com.cloudsim.cloudsim.worker.WorkerProcess;
+
+/**
+ * Runs a sweep on {@code simulation.sweeps.workers} child JVMs (see {@link SweepWorker}),
+ * each with its own kernels and heap. The grid is cut into shards of consecutive
+ * indexes and every worker holds at most two at a time, so one is always queued
+ * behind the one it is running. Once no shard is left to hand out, an idle worker
+ * makes the coordinator steal the back half of the unfinished shard with the most
+ * points left. When a worker dies, the points of its shards that never came back
+ * are queued again as new shards, up to {@code simulation.sweeps.worker-retries}
+ * times, after which they are reported as FAILED, and a replacement is started.
+ * Points reach the sink as they arrive, each exactly once, and completed results
+ * go into the {@link ResultCache}.
+ */
+@Component
+public class SweepCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(SweepCoordinator.class);
+
+    // Each worker runs one shard and has the next one queued
+    private static final int SHARDS_PER_WORKER = 2;
+    private static final int MAX_SHARD_SIZE = 256;
+
+    private static final class Shard {
+        final long id;
+        final long start;
+        long end;
+        final int attempt;
+        long reported;
+        WorkerState owner;
+        boolean stealing;
+        // Set once a steal came back empty: every point left is already running
+        boolean claimed;
+
+        Shard(long id, long start, long end, int attempt) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.attempt = attempt;
+        }
+
+        long remaining() {
+            return end - start - reported;
+        }
+    }
+
+    private static final class WorkerState {
+        final WorkerProcess process;
+        final List<Shard> shards = new ArrayList<>();
+        boolean ready;
+        boolean dead;
+
+        WorkerState(WorkerProcess process) {
+            this.process = process;
+        }
+    }
+
+    private record Event(WorkerProcess worker, WorkerMessage message) {}
+
+    @Autowired
+    private ResultCache resultCache;
+
+    @Value("${simulation.sweeps.workers:0}")
+    private int workers;
+
+    @Value("${simulation.sweeps.worker-kernels:0}")
+    private int workerKernels;
+
+    @Value("${simulation.sweeps.worker-jvm-options:}")
+    private String workerJvmOptions;
+
+    @Value("${simulation.sweeps.worker-retries:2}")
+    private int retries;
+
+    @Value("${simulation.engine.event-queue:HEAP}")
+    private String eventQueue;
+
+    @Value("${simulation.strategies.timeout-ms:60000}")
+    private long pointTimeoutMs;
+
+    public boolean isEnabled() {
+        return workers > 0;
+    }
+
+    /** Streams every point of the grid to the sink, unless {@code cancelled} turns true first. */
+    public void run(SweepRequest request, SweepGrid grid, BooleanSupplier cancelled, SweepService.PointSink sink)
+            throws IOException {
+        if (grid.size() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Sweeps on workers are limited to " + Integer.MAX_VALUE + " points");
+        }
+        new Run(request, grid, cancelled, sink).execute();
+    }
+
+    // The state of one sweep; only the calling thread touches it, the workers' readers just queue events
+    private final class Run {
+        final SweepRequest request;
+        final SweepGrid grid;
+        final BooleanSupplier cancelled;
+        final SweepService.PointSink sink;
+        final BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+        final Map<WorkerProcess, WorkerState> states = new HashMap<>();
+        final Map<Long, Shard> assigned = new HashMap<>();
+        final Deque<Shard> pending = new ArrayDeque<>();
+        final BitSet reported = new BitSet();
+        long completed;
+        long nextShardId;
+        int nextWorkerId;
+        int replacements;
+
+        Run(SweepRequest request, SweepGrid grid, BooleanSupplier cancelled, SweepService.PointSink sink) {
+            this.request = request;
+            this.grid = grid;
+            this.cancelled = cancelled;
+            this.sink = sink;
+        }
+
+        void execute() throws IOException {
+            long size = grid.size();
+            long shardSize = Math.max(1, Math.min(MAX_SHARD_SIZE, size / (workers * 8L)));
+            for (long start = 0; start < size; start += shardSize) {
+                pending.add(new Shard(nextShardId++, start, Math.min(size, start + shardSize), 0));
+            }
+            try {
+                for (int i = 0; i < workers; i++) {
+                    startWorker();
+                }
+                while (completed < size && !cancelled.getAsBoolean()) {
+                    dispatch();
+                    // Poll so a cancellation is noticed even while every worker is busy
+                    Event event = events.poll(200, TimeUnit.MILLISECONDS);
+                    if (event != null) {
+                        handle(event);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                for (WorkerState state : states.values()) {
+                    state.process.close();
+                }
+            }
+        }
+
+        void startWorker() throws IOException {
+            int kernels = workerKernels > 0 ? workerKernels
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / workers);
+            List<String> jvmOptions = workerJvmOptions.isBlank() ? List.of()
+                : Arrays.asList(workerJvmOptions.trim().split("\\s+"));
+            WorkerProcess process = WorkerProcess.start(nextWorkerId++, jvmOptions,
+                List.of("simulation.engine.kernels=" + kernels, "simulation.engine.event-queue=" + eventQueue),
+                (worker, message) -> events.add(new Event(worker, message)));
+            states.put(process, new WorkerState(process));
+            process.send(WorkerMessage.sweep(request, pointTimeoutMs));
+        }
+
+        void dispatch() {
+            int idle = 0;
+            for (WorkerState state : states.values()) {
+                if (!state.ready || state.dead) {
+                    continue;
+                }
+                while (state.shards.size() < SHARDS_PER_WORKER && !pending.isEmpty()) {
+                    Shard shard = pending.poll();
+                    shard.owner = state;
+                    state.shards.add(shard);
+                    assigned.put(shard.id, shard);
+                    state.process.send(WorkerMessage.shard(shard.id, shard.start, shard.end));
+                }
+                if (state.shards.isEmpty()) {
+                    idle++;
+                }
+            }
+            long stealing = assigned.values().stream().filter(shard -> shard.stealing).count();
+            while (stealing < idle) {
+                Shard victim = null;
+                for (Shard shard : assigned.values()) {
+                    if (!shard.stealing && !shard.claimed && shard.remaining() > 1
+                            && (victim == null || shard.remaining() > victim.remaining())) {
+                        victim = shard;
+                    }
+                }
+                if (victim == null) {
+                    break;
+                }
+                victim.stealing = true;
+                victim.owner.process.send(WorkerMessage.steal(victim.id));
+                stealing++;
+            }
+        }
+
+        void handle(Event event) throws IOException {
+            WorkerState state = states.get(event.worker());
+            WorkerMessage message = event.message();
+            if (message == null) {
+                workerDied(state);
+                return;
+            }
+            switch (message.getType()) {
+                case READY -> state.ready = true;
+                case POINT -> {
+                    Shard shard = assigned.get(message.getShard());
+                    if (shard != null) {
+                        shard.reported++;
+                    }
+                    report(message.getIndex(), message.getResult());
+                }
+                case STOLEN -> {
+                    Shard shard = message.getShard() != null ? assigned.get(message.getShard()) : null;
+                    if (shard == null) {
+                        // The shard finished before the steal reached it
+                        return;
+                    }
+                    shard.stealing = false;
+                    if (message.getEnd() < shard.end) {
+                        pending.addFirst(new Shard(nextShardId++, message.getEnd(), shard.end, shard.attempt));
+                        shard.end = message.getEnd();
+                    } else {
+                        shard.claimed = true;
+                    }
+                }
+                case SHARD_DONE -> {
+                    Shard shard = assigned.remove(message.getShard());
+                    if (shard != null) {
+                        state.shards.remove(shard);
+                    }
+                }
+                default -> throw new IllegalStateException("Unexpected message " + message.getType());
+            }
+        }
+
+        void report(long index, SimulationResult result) throws IOException {
+            if (reported.get((int) index)) {
+                return;
+            }
+            reported.set((int) index);
+            completed++;
+            SimulationRequest point = grid.pointAt(index);
+            if (result.getStatus() == ResultStatus.COMPLETED) {
+                resultCache.put(SimulationKey.of(point, point.getStrategies().get(0)), result);
+            }
+            sink.accept(new SweepPoint(index, point, result));
+        }
+
+        void workerDied(WorkerState state) throws IOException {
+            if (state.dead) {
+                return;
+            }
+            state.dead = true;
+            state.process.close();
+            for (Shard shard : state.shards) {
+                assigned.remove(shard.id);
+                requeue(shard);
+            }
+            state.shards.clear();
+            if (completed == grid.size() || cancelled.getAsBoolean()) {
+                return;
+            }
+            if (replacements < workers * retries) {
+                replacements++;
+                log.warn("Sweep worker {} died; starting a replacement", state.process.getId());
+                startWorker();
+            } else if (states.values().stream().allMatch(s -> s.dead)) {
+                // Nobody left to run the rest
+                for (int index = reported.nextClearBit(0); index < grid.size(); index = reported.nextClearBit(index)) {
+                    fail(index, "No sweep worker left");
+                }
+            }
+        }
+
+        // Points of the shard that never came back run again as shards of their own
+        void requeue(Shard shard) throws IOException {
+            long start = -1;
+            for (long index = shard.start; index <= shard.end; index++) {
+                boolean open = index < shard.end && !reported.get((int) index);
+                if (open && start < 0) {
+                    start = index;
+                } else if (!open && start >= 0) {
+                    if (shard.attempt < retries) {
+                        pending.addFirst(new Shard(nextShardId++, start, index, shard.attempt + 1));
+                    } else {
+                        for (long failed = start; failed < index; failed++) {
+                            fail(failed, "Sweep worker died " + (shard.attempt + 1) + " times running this point");
+                        }
+                    }
+                    start = -1;
+                }
+            }
+        }
+
+        void fail(long index, String message) throws IOException {
+            String strategy = grid.getStrategies().get((int) (index % grid.getStrategies().size()));
+            report(index, SimulationResult.partial(strategy, ResultStatus.FAILED, message));
+        }
+    }
+}
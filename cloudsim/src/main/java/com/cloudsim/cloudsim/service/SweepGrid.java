@@ -0,0 +1,136 @@
+package com.cloudsim.cloudsim.service;
+
+import java.util.List;
+
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SweepRange;
+import com.cloudsim.cloudsim.model.SweepRequest;
+
+/**
+ * The cross product described by a {@link SweepRequest}. Only the per-parameter
+ * value arrays are kept; individual points are decoded from their index on demand,
+ * so a grid of millions of points costs no more memory than a handful.
+ */
+public class SweepGrid {
+
+    // Values used for parameters a sweep does not mention
+    private static final double DEFAULT_USERS = 1;
+    private static final double DEFAULT_VMS = 1;
+    private static final double DEFAULT_CLOUDLETS = 10;
+    private static final double DEFAULT_VM_RAM = 1024;
+    private static final double DEFAULT_SLA_THRESHOLD = 10;
+
+    private static final int MAX_VALUES_PER_PARAMETER = 1_000_000;
+
+    private final double[] users;
+    private final double[] vms;
+    private final double[] cloudlets;
+    private final double[] vmRam;
+    private final double[] slaThreshold;
+    private final List<String> strategies;
+    private final long size;
+
+    public SweepGrid(SweepRequest request, long maxPoints) {
+        if (request.getStrategies() == null || request.getStrategies().isEmpty()) {
+            throw new IllegalArgumentException("At least one strategy is required");
+        }
+        this.users = counts("numberOfUsers", expand(request.getNumberOfUsers(), DEFAULT_USERS));
+        this.vms = counts("numberOfVms", expand(request.getNumberOfVms(), DEFAULT_VMS));
+        this.cloudlets = counts("numberOfCloudlets", expand(request.getNumberOfCloudlets(), DEFAULT_CLOUDLETS));
+        this.vmRam = counts("vmRam", expand(request.getVmRam(), DEFAULT_VM_RAM));
+        this.slaThreshold = expand(request.getSlaThreshold(), DEFAULT_SLA_THRESHOLD);
+        for (double sla : slaThreshold) {
+            if (!(sla >= 0) || Double.isInfinite(sla)) {
+                throw new IllegalArgumentException("slaThreshold values must be non-negative numbers, not " + sla);
+            }
+        }
+        this.strategies = List.copyOf(request.getStrategies());
+
+        long points = strategies.size();
+        for (double[] values : new double[][] {users, vms, cloudlets, vmRam, slaThreshold}) {
+            points = Math.multiplyExact(points, values.length);
+            if (points > maxPoints) {
+                throw new IllegalArgumentException("Sweep exceeds the limit of " + maxPoints + " points");
+            }
+        }
+        this.size = points;
+    }
+
+    private static double[] expand(SweepRange range, double defaultValue) {
+        double[] values = (range != null ? range : SweepRange.of(defaultValue)).expand(MAX_VALUES_PER_PARAMETER);
+        if (values.length == 0) {
+            throw new IllegalArgumentException("A sweep range must contain at least one value");
+        }
+        return values;
+    }
+
+    // Points are decoded into int fields, so anything else would be silently truncated
+    private static double[] counts(String name, double[] values) {
+        for (double value : values) {
+            if (!(value >= 0 && value <= Integer.MAX_VALUE) || value != Math.rint(value)) {
+                throw new IllegalArgumentException(name + " values must be non-negative whole numbers, not " + value);
+            }
+        }
+        return values;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public List<String> getStrategies() {
+        return strategies;
+    }
+
+    /** The largest number of users of any point. */
+    public int getMaxUsers() {
+        int max = 0;
+        for (double userCount : users) {
+            max = Math.max(max, (int) userCount);
+        }
+        return max;
+    }
+
+    /** The largest number of VMs per user of any point. */
+    public int getMaxVms() {
+        int max = 0;
+        for (double vmCount : vms) {
+            max = Math.max(max, (int) vmCount);
+        }
+        return max;
+    }
+
+    /** The largest vmRam of any point. */
+    public int getMaxVmRam() {
+        int max = 0;
+        for (double ram : vmRam) {
+            max = Math.max(max, (int) ram);
+        }
+        return max;
+    }
+
+    /** Decodes a point; the strategy varies fastest, the number of users slowest. */
+    public SimulationRequest pointAt(long index) {
+        long rest = index;
+        String strategy = strategies.get((int) (rest % strategies.size()));
+        rest /= strategies.size();
+        double sla = slaThreshold[(int) (rest % slaThreshold.length)];
+        rest /= slaThreshold.length;
+        double ram = vmRam[(int) (rest % vmRam.length)];
+        rest /= vmRam.length;
+        double cloudletCount = cloudlets[(int) (rest % cloudlets.length)];
+        rest /= cloudlets.length;
+        double vmCount = vms[(int) (rest % vms.length)];
+        rest /= vms.length;
+        double userCount = users[(int) rest];
+
+        SimulationRequest point = new SimulationRequest();
+        point.setNumberOfUsers((int) userCount);
+        point.setNumberOfVms((int) vmCount);
+        point.setNumberOfCloudlets((int) cloudletCount);
+        point.setVmRam((int) ram);
+        point.setSlaThreshold(sla);
+        point.setStrategies(List.of(strategy));
+        return point;
+    }
+}
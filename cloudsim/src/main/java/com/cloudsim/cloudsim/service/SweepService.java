@@ -0,0 +1,157 @@
+package com.cloudsim.cloudsim.service;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.SweepPoint;
+import com.cloudsim.cloudsim.model.SweepRequest;
+
+/**
+ * Runs parameter sweeps on the shared {@code sweepExecutor}. Each sweep keeps at most
+ * {@code simulation.sweeps.parallelism} points in flight and hands every point to
+ * its sink the moment it finishes, so neither side ever holds the whole grid. With
+ * {@code simulation.sweeps.workers} set, sweeps run on worker JVMs through the
+ * {@link SweepCoordinator} instead.
+ */
+@Service
+public class SweepService {
+
+    /** Receives finished points; an {@link IOException} (client gone) stops the sweep. */
+    public interface PointSink {
+        void accept(SweepPoint point) throws IOException;
+    }
+
+    public static class Sweep {
+        private final String id = UUID.randomUUID().toString();
+        private final SweepRequest request;
+        private final SweepGrid grid;
+        private volatile boolean cancelled;
+
+        Sweep(SweepRequest request, SweepGrid grid) {
+            this.request = request;
+            this.grid = grid;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public long getSize() {
+            return grid.size();
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @Autowired
+    private SweepCoordinator sweepCoordinator;
+
+    @Autowired
+    @Qualifier("sweepExecutor")
+    private ExecutorService sweepExecutor;
+
+    @Value("${simulation.sweeps.parallelism:8}")
+    private int parallelism;
+
+    @Value("${simulation.sweeps.max-points:1000000}")
+    private long maxPoints;
+
+    private final Map<String, Sweep> sweeps = new ConcurrentHashMap<>();
+
+    public Sweep create(SweepRequest request) {
+        SweepGrid grid = new SweepGrid(request, maxPoints);
+        grid.getStrategies().forEach(simulationService::validateStrategy);
+        simulationService.validateUsers(grid.getMaxUsers());
+        simulationService.validateVms(grid.getMaxUsers(), grid.getMaxVms());
+        simulationService.validateVmRam(grid.getMaxUsers(), grid.getMaxVms(), grid.getMaxVmRam());
+        Sweep sweep = new Sweep(request, grid);
+        sweeps.put(sweep.getId(), sweep);
+        return sweep;
+    }
+
+    public boolean cancel(String sweepId) {
+        Sweep sweep = sweeps.get(sweepId);
+        if (sweep == null) {
+            return false;
+        }
+        sweep.cancelled = true;
+        return true;
+    }
+
+    public void stream(Sweep sweep, PointSink sink) throws IOException {
+        if (sweepCoordinator.isEnabled()) {
+            try {
+                sweepCoordinator.run(sweep.request, sweep.grid, sweep::isCancelled, sink);
+            } finally {
+                sweeps.remove(sweep.getId());
+            }
+            return;
+        }
+        CompletionService<SweepPoint> completion = new ExecutorCompletionService<>(sweepExecutor);
+        Set<Future<SweepPoint>> running = new HashSet<>();
+        long next = 0;
+        try {
+            while (!sweep.isCancelled()) {
+                while (running.size() < parallelism && next < sweep.grid.size()) {
+                    running.add(completion.submit(pointTask(next++, sweep.grid)));
+                }
+                if (running.isEmpty()) {
+                    break;
+                }
+                // Poll so a cancellation is noticed even while every point is still running
+                Future<SweepPoint> done = completion.poll(200, TimeUnit.MILLISECONDS);
+                if (done != null) {
+                    running.remove(done);
+                    sink.accept(done.get());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Sweep point failed unexpectedly", e.getCause());
+        } finally {
+            for (Future<SweepPoint> future : running) {
+                future.cancel(true);
+            }
+            sweeps.remove(sweep.getId());
+        }
+    }
+
+    private Callable<SweepPoint> pointTask(long index, SweepGrid grid) {
+        return () -> {
+            SimulationRequest point = grid.pointAt(index);
+            String strategy = point.getStrategies().get(0);
+            SimulationResult result;
+            try {
+                result = simulationService.runSimulation(strategy, point);
+            } catch (RuntimeException e) {
+                result = SimulationResult.partial(strategy, ResultStatus.FAILED, e.getMessage());
+            }
+            return new SweepPoint(index, point, result);
+        };
+    }
+}
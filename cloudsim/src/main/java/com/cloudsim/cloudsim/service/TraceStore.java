@@ -0,0 +1,141 @@
+package com.cloudsim.cloudsim.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.cloudsim.cloudsim.model.TraceFormat;
+import com.cloudsim.cloudsim.model.TraceInfo;
+
+/**
+ * Uploaded workload traces, kept as files under {@code simulation.traces.dir}.
+ * Uploads are streamed to disk, never buffered on the heap, and named after the
+ * SHA-256 of their content: the same trace uploaded twice is stored once, and a
+ * trace id in a request identifies its content exactly, which keeps cached results
+ * for it valid.
+ */
+@Component
+public class TraceStore {
+
+    private static final Pattern ID = Pattern.compile("[0-9a-f]{64}");
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    @Value("${simulation.traces.dir:${java.io.tmpdir}/cloudsim-traces}")
+    private String dir;
+
+    @Value("${simulation.traces.max-bytes:17179869184}")
+    private long maxBytes;
+
+    public TraceInfo store(InputStream body, TraceFormat format) throws IOException {
+        Path directory = Files.createDirectories(Path.of(dir));
+        MessageDigest digest = sha256();
+        Path upload = Files.createTempFile(directory, "upload-", ".tmp");
+        try {
+            long size = 0;
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            try (OutputStream out = Files.newOutputStream(upload)) {
+                int read;
+                while ((read = body.read(buffer)) >= 0) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new IllegalArgumentException("Traces are limited to " + maxBytes + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("The trace is empty");
+            }
+            String id = HexFormat.of().formatHex(digest.digest());
+            Path file = directory.resolve(id + format.extension());
+            Files.move(upload, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return info(file);
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    public Optional<TraceInfo> find(String id) {
+        return file(id).map(file -> {
+            try {
+                return info(file);
+            } catch (IOException e) {
+                return null;
+            }
+        });
+    }
+
+    /** The file behind a trace id, for a simulation to read. */
+    public Path resolve(String id) {
+        return file(id).orElseThrow(() -> new IllegalArgumentException("Unknown trace: " + id));
+    }
+
+    public List<TraceInfo> list() throws IOException {
+        Path directory = Path.of(dir);
+        List<TraceInfo> traces = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return traces;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{swf,csv}")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (ID.matcher(name.substring(0, name.lastIndexOf('.'))).matches()) {
+                    traces.add(info(file));
+                }
+            }
+        }
+        traces.sort(Comparator.comparingLong(TraceInfo::getUploadedAt));
+        return traces;
+    }
+
+    public boolean delete(String id) throws IOException {
+        Optional<Path> file = file(id);
+        return file.isPresent() && Files.deleteIfExists(file.get());
+    }
+
+    // Only well-formed ids reach the file system, so an id can never name a path elsewhere
+    private Optional<Path> file(String id) {
+        if (id == null || !ID.matcher(id).matches()) {
+            return Optional.empty();
+        }
+        for (TraceFormat format : TraceFormat.values()) {
+            Path file = Path.of(dir, id + format.extension());
+            if (Files.isRegularFile(file)) {
+                return Optional.of(file);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static TraceInfo info(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new TraceInfo(name.substring(0, name.lastIndexOf('.')), TraceFormat.ofFile(name), attributes.size(),
+            attributes.lastModifiedTime().toMillis());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
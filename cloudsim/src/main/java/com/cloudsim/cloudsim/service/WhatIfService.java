@@ -0,0 +1,135 @@
+package com.cloudsim.cloudsim.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.model.ExecutionMode;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.WhatIfBranch;
+import com.cloudsim.cloudsim.model.WhatIfRequest;
+import com.cloudsim.cloudsim.model.WhatIfResult;
+
+/**
+ * What-if runs: every strategy of the base request is simulated up to the fork
+ * once, on one kernel, and each branch carries on from a copy of that point. The
+ * strategies run side by side on the {@code strategyExecutor}; each gets the
+ * strategy timeout once per branch, and one that fails or runs out of time reports
+ * a partial result for every branch.
+ */
+@Service
+public class WhatIfService {
+
+    @Autowired
+    private SimulationEngine simulationEngine;
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @Autowired
+    @Qualifier("strategyExecutor")
+    private ExecutorService strategyExecutor;
+
+    @Value("${simulation.strategies.timeout-ms:60000}")
+    private long strategyTimeoutMs;
+
+    @Value("${simulation.whatif.max-branches:64}")
+    private int maxBranches;
+
+    public void validate(WhatIfRequest request) {
+        SimulationRequest base = request.getBase();
+        if (base == null) {
+            throw new IllegalArgumentException("A base request is required");
+        }
+        simulationService.validate(base);
+        if (base.getMode() != ExecutionMode.SIMULATE || base.getReplicas() > 1) {
+            throw new IllegalArgumentException("What-if runs fork a single simulation; use SIMULATE mode and one replica");
+        }
+        if (base.getTrace() != null) {
+            throw new IllegalArgumentException("Traces cannot be forked; use a synthetic workload");
+        }
+        if (!(request.getForkAt() > 0) || Double.isInfinite(request.getForkAt())) {
+            throw new IllegalArgumentException("forkAt must be a positive number of simulated seconds");
+        }
+        List<WhatIfBranch> branches = request.getBranches();
+        if (branches == null || branches.isEmpty() || branches.size() > maxBranches) {
+            throw new IllegalArgumentException("Between 1 and " + maxBranches + " branches are required");
+        }
+        Set<String> names = new HashSet<>();
+        for (WhatIfBranch branch : branches) {
+            if (branch.getName() == null || branch.getName().isBlank() || !names.add(branch.getName())) {
+                throw new IllegalArgumentException("Every branch needs a name of its own");
+            }
+            if (branch.getNumberOfVms() != null && branch.getNumberOfVms() < 1) {
+                throw new IllegalArgumentException("numberOfVms of branch " + branch.getName() + " must be positive");
+            }
+            if (branch.getNumberOfVms() != null) {
+                simulationService.validateVms(base.getNumberOfUsers(), branch.getNumberOfVms());
+                simulationService.validateVmRam(base.getNumberOfUsers(), branch.getNumberOfVms(), base.getVmRam());
+            }
+        }
+    }
+
+    public List<WhatIfResult> run(WhatIfRequest request) {
+        validate(request);
+        SimulationRequest base = request.getBase();
+        List<WhatIfBranch> branches = request.getBranches();
+        List<String> strategies = base.getStrategies();
+
+        List<Future<WhatIfResult>> futures = new ArrayList<>(strategies.size());
+        for (String strategy : strategies) {
+            futures.add(strategyExecutor.submit(
+                () -> simulationEngine.fork(strategy, base, request.getForkAt(), branches)));
+        }
+
+        long timeoutMs = strategyTimeoutMs * branches.size();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        List<WhatIfResult> results = new ArrayList<>(strategies.size());
+        for (int i = 0; i < strategies.size(); i++) {
+            results.add(await(strategies.get(i), request, futures.get(i), deadline, timeoutMs));
+        }
+        return results;
+    }
+
+    private static WhatIfResult await(String strategy, WhatIfRequest request, Future<WhatIfResult> future,
+            long deadline, long timeoutMs) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return failed(strategy, request, ResultStatus.TIMED_OUT, "No result within " + timeoutMs + " ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return failed(strategy, request, ResultStatus.FAILED, String.valueOf(cause.getMessage()));
+        } catch (CancellationException e) {
+            return failed(strategy, request, ResultStatus.FAILED, "Cancelled");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return failed(strategy, request, ResultStatus.FAILED, "Interrupted");
+        }
+    }
+
+    private static WhatIfResult failed(String strategy, WhatIfRequest request, ResultStatus status, String error) {
+        WhatIfResult result = new WhatIfResult(strategy, request.getForkAt());
+        for (WhatIfBranch branch : request.getBranches()) {
+            result.getBranches().put(branch.getName(), SimulationResult.partial(strategy, status, error));
+        }
+        return result;
+    }
+}
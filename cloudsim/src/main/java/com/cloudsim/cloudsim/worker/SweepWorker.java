@@ -0,0 +1,220 @@
+package com.cloudsim.cloudsim.worker;
+
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.model.EventQueueType;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.service.SweepGrid;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A sweep worker process, started by the coordinator as a plain JVM without Spring.
+ * It reads {@link WorkerMessage}s from stdin, one per line, and writes its own to
+ * stdout; anything else that would go to stdout goes to stderr instead. The grid
+ * arrives once, then shards of it; one thread per kernel claims points from the
+ * oldest shard that still has any, so a shard's points run side by side and a
+ * STEAL only ever gives up points nobody has claimed. The worker exits when stdin
+ * closes.
+ *
+ * <p>Kernels and the event queue come from {@code simulation.engine.kernels} and
+ * {@code simulation.engine.event-queue}, passed as system properties.
+ */
+public final class SweepWorker {
+
+    private static final class Shard {
+        final long id;
+        long next;
+        long end;
+        int running;
+
+        Shard(long id, long start, long end) {
+            this.id = id;
+            this.next = start;
+            this.end = end;
+        }
+
+        boolean finished() {
+            return next >= end && running == 0;
+        }
+    }
+
+    private final ObjectMapper mapper = newMapper();
+    private final Writer out;
+    private final SimulationEngine engine;
+    private final ExecutorService simulations;
+    private final Deque<Shard> shards = new ArrayDeque<>();
+    private final Map<Long, Shard> shardsById = new HashMap<>();
+    private SweepGrid grid;
+    private long timeoutMs;
+    private boolean closed;
+
+    private SweepWorker(Writer out, int kernels, EventQueueType eventQueue) {
+        this.out = out;
+        this.engine = new SimulationEngine(kernels, eventQueue);
+        this.simulations = Executors.newFixedThreadPool(engine.getMaxKernels(), runnable -> {
+            Thread thread = new Thread(runnable, "sweep-worker-simulation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static void main(String[] args) throws IOException {
+        // Stdout carries the protocol; keep stray prints off it
+        Writer out = new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8);
+        System.setOut(new PrintStream(new FileOutputStream(FileDescriptor.err), true, StandardCharsets.UTF_8));
+
+        SweepWorker worker = new SweepWorker(out, Integer.getInteger("simulation.engine.kernels", 0),
+            EventQueueType.valueOf(System.getProperty("simulation.engine.event-queue", "HEAP")));
+        worker.run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+    }
+
+    /** Plain Jackson on both ends: results carry derived getters a reader has to skip. */
+    public static ObjectMapper newMapper() {
+        return new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    private void run(BufferedReader in) throws IOException {
+        for (int i = 0; i < engine.getMaxKernels(); i++) {
+            Thread runner = new Thread(this::claimPoints, "sweep-worker-" + i);
+            runner.setDaemon(true);
+            runner.start();
+        }
+        send(new WorkerMessage(WorkerMessage.Type.READY));
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (!line.isBlank()) {
+                handle(mapper.readValue(line, WorkerMessage.class));
+            }
+        }
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        simulations.shutdownNow();
+    }
+
+    private synchronized void handle(WorkerMessage message) throws IOException {
+        switch (message.getType()) {
+            case SWEEP -> {
+                grid = new SweepGrid(message.getSweep(), Long.MAX_VALUE);
+                timeoutMs = message.getTimeoutMs();
+            }
+            case SHARD -> {
+                Shard shard = new Shard(message.getShard(), message.getStart(), message.getEnd());
+                shards.add(shard);
+                shardsById.put(shard.id, shard);
+                notifyAll();
+            }
+            case STEAL -> {
+                Shard shard = shardsById.get(message.getShard());
+                if (shard == null) {
+                    // Already done; the coordinator learns that from SHARD_DONE
+                    send(new WorkerMessage(WorkerMessage.Type.STOLEN));
+                    return;
+                }
+                // Rounded in the thief's favour: unclaimed points only wait here while every runner is busy
+                shard.end -= (shard.end - shard.next + 1) / 2;
+                send(WorkerMessage.stolen(shard.id, shard.end));
+                finishIfDone(shard);
+            }
+            default -> throw new IllegalArgumentException("Unexpected message " + message.getType());
+        }
+    }
+
+    private void claimPoints() {
+        while (true) {
+            Shard shard;
+            long index;
+            synchronized (this) {
+                Shard open = null;
+                while (!closed && (open = firstOpenShard()) == null) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (closed) {
+                    return;
+                }
+                shard = open;
+                index = shard.next++;
+                shard.running++;
+            }
+            SimulationResult result = runPoint(grid.pointAt(index));
+            synchronized (this) {
+                shard.running--;
+                try {
+                    send(WorkerMessage.point(shard.id, index, result));
+                    finishIfDone(shard);
+                } catch (IOException e) {
+                    // The coordinator is gone; stdin closes next
+                    return;
+                }
+            }
+        }
+    }
+
+    private Shard firstOpenShard() {
+        for (Shard shard : shards) {
+            if (shard.next < shard.end) {
+                return shard;
+            }
+        }
+        return null;
+    }
+
+    private void finishIfDone(Shard shard) throws IOException {
+        if (shard.finished() && shardsById.remove(shard.id) != null) {
+            shards.remove(shard);
+            send(WorkerMessage.shardDone(shard.id));
+        }
+    }
+
+    // Same outcome as an in-process sweep point: the result, or a partial one saying why not
+    private SimulationResult runPoint(SimulationRequest point) {
+        String strategy = point.getStrategies().get(0);
+        Future<SimulationResult> future = simulations.submit(() -> engine.run(strategy, point));
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return SimulationResult.partial(strategy, ResultStatus.TIMED_OUT, "No result within " + timeoutMs + " ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return SimulationResult.partial(strategy, ResultStatus.FAILED, String.valueOf(cause.getMessage()));
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return SimulationResult.partial(strategy, ResultStatus.FAILED, "Interrupted");
+        }
+    }
+
+    private synchronized void send(WorkerMessage message) throws IOException {
+        out.write(mapper.writeValueAsString(message));
+        out.write('\n');
+        out.flush();
+    }
+}
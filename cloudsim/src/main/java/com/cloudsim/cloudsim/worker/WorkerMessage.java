@@ -0,0 +1,112 @@
+package com.cloudsim.cloudsim.worker;
+
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.SweepRequest;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of the protocol between a sweep coordinator and its worker processes,
+ * written as JSON to the worker's stdin or read from its stdout. Shards are ranges
+ * of grid indexes, {@code start} inclusive and {@code end} exclusive.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkerMessage {
+
+    public enum Type {
+        // Coordinator to worker: the grid and the per-point timeout, sent once
+        SWEEP,
+        // Coordinator to worker: run points start..end of a shard
+        SHARD,
+        // Coordinator to worker: give up the back half of what is left of a shard
+        STEAL,
+        // Worker to coordinator: the worker's kernels are up and it takes shards
+        READY,
+        // Worker to coordinator: one finished point
+        POINT,
+        // Worker to coordinator: the shard now ends at end, which is unchanged if nothing was left to steal
+        STOLEN,
+        // Worker to coordinator: every point of the shard has been reported
+        SHARD_DONE
+    }
+
+    private Type type;
+    private SweepRequest sweep;
+    private Long timeoutMs;
+    private Long shard;
+    private Long start;
+    private Long end;
+    private Long index;
+    private SimulationResult result;
+
+    public WorkerMessage() {}
+
+    public WorkerMessage(Type type) {
+        this.type = type;
+    }
+
+    public static WorkerMessage sweep(SweepRequest sweep, long timeoutMs) {
+        WorkerMessage message = new WorkerMessage(Type.SWEEP);
+        message.sweep = sweep;
+        message.timeoutMs = timeoutMs;
+        return message;
+    }
+
+    public static WorkerMessage shard(long shard, long start, long end) {
+        WorkerMessage message = new WorkerMessage(Type.SHARD);
+        message.shard = shard;
+        message.start = start;
+        message.end = end;
+        return message;
+    }
+
+    public static WorkerMessage steal(long shard) {
+        WorkerMessage message = new WorkerMessage(Type.STEAL);
+        message.shard = shard;
+        return message;
+    }
+
+    public static WorkerMessage point(long shard, long index, SimulationResult result) {
+        WorkerMessage message = new WorkerMessage(Type.POINT);
+        message.shard = shard;
+        message.index = index;
+        message.result = result;
+        return message;
+    }
+
+    public static WorkerMessage stolen(long shard, long end) {
+        WorkerMessage message = new WorkerMessage(Type.STOLEN);
+        message.shard = shard;
+        message.end = end;
+        return message;
+    }
+
+    public static WorkerMessage shardDone(long shard) {
+        WorkerMessage message = new WorkerMessage(Type.SHARD_DONE);
+        message.shard = shard;
+        return message;
+    }
+
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+
+    public SweepRequest getSweep() { return sweep; }
+    public void setSweep(SweepRequest sweep) { this.sweep = sweep; }
+
+    public Long getTimeoutMs() { return timeoutMs; }
+    public void setTimeoutMs(Long timeoutMs) { this.timeoutMs = timeoutMs; }
+
+    public Long getShard() { return shard; }
+    public void setShard(Long shard) { this.shard = shard; }
+
+    public Long getStart() { return start; }
+    public void setStart(Long start) { this.start = start; }
+
+    public Long getEnd() { return end; }
+    public void setEnd(Long end) { this.end = end; }
+
+    public Long getIndex() { return index; }
+    public void setIndex(Long index) { this.index = index; }
+
+    public SimulationResult getResult() { return result; }
+    public void setResult(SimulationResult result) { this.result = result; }
+}
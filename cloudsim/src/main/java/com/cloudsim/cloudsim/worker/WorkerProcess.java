@@ -0,0 +1,117 @@
+package com.cloudsim.cloudsim.worker;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The coordinator's end of one {@link SweepWorker} child process. The child runs on
+ * this JVM's own class path, or through Spring Boot's launcher when this JVM was
+ * started from the executable jar. A daemon thread reads the child's messages and
+ * hands each one to the listener, followed by {@code null} once the child's stdout
+ * closes, which is how a dead worker shows up.
+ */
+public final class WorkerProcess implements AutoCloseable {
+
+    private static final String BOOT_LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+
+    private final int id;
+    private final Process process;
+    private final Writer in;
+    private final ObjectMapper mapper = SweepWorker.newMapper();
+
+    private WorkerProcess(int id, Process process) {
+        this.id = id;
+        this.process = process;
+        this.in = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Starts a worker. {@code systemProperties} are passed on as {@code -D} options,
+     * after the JVM options.
+     */
+    public static WorkerProcess start(int id, List<String> jvmOptions, List<String> systemProperties,
+            BiConsumer<WorkerProcess, WorkerMessage> listener) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        for (String property : systemProperties) {
+            command.add("-D" + property);
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        if (WorkerProcess.class.getClassLoader().getClass().getName().startsWith("org.springframework.boot.loader")) {
+            // Running from the executable jar: the classes are nested inside it
+            command.add("-Dloader.main=" + SweepWorker.class.getName());
+            command.add(BOOT_LAUNCHER);
+        } else {
+            command.add(SweepWorker.class.getName());
+        }
+
+        Process process = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+        WorkerProcess worker = new WorkerProcess(id, process);
+        Thread reader = new Thread(() -> worker.read(listener), "sweep-worker-reader-" + id);
+        reader.setDaemon(true);
+        reader.start();
+        return worker;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public ProcessHandle getHandle() {
+        return process.toHandle();
+    }
+
+    /** Sends a message; false if the worker is gone, which its reader reports separately. */
+    public synchronized boolean send(WorkerMessage message) {
+        try {
+            in.write(mapper.writeValueAsString(message));
+            in.write('\n');
+            in.flush();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void read(BiConsumer<WorkerProcess, WorkerMessage> listener) {
+        try (BufferedReader out = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = out.readLine()) != null) {
+                if (!line.isBlank()) {
+                    listener.accept(this, mapper.readValue(line, WorkerMessage.class));
+                }
+            }
+        } catch (IOException e) {
+            // Garbled or cut off; either way the worker is treated as dead
+        } finally {
+            process.destroyForcibly();
+            listener.accept(this, null);
+        }
+    }
+
+    /** Stops the worker; it may be in the middle of a point, which nobody wants any more. */
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            // Already gone
+        }
+        process.destroy();
+    }
+}
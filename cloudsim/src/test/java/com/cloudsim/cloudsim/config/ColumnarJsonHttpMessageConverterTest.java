@@ -0,0 +1,69 @@
+package com.cloudsim.cloudsim.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.TenantResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ColumnarJsonHttpMessageConverterTest {
+
+    private static final Type RESULTS = new ParameterizedTypeReference<List<SimulationResult>>() {}.getType();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ColumnarJsonHttpMessageConverter converter = new ColumnarJsonHttpMessageConverter(objectMapper);
+
+    @Test
+    void writesOneArrayPerPropertyAndNestsTenantsTheSameWay() throws Exception {
+        SimulationResult first = new SimulationResult("TimeShared", 10, 30, 2, 0);
+        first.setVmUtilization(new double[] {0.5, 1});
+        TenantResult tenant = new TenantResult(1);
+        tenant.setCost(12.5);
+        first.setTenants(List.of(new TenantResult(0), tenant));
+        SimulationResult second = new SimulationResult("BestFit", 20, 60, 4, 0.5);
+        List<SimulationResult> results = List.of(first, second);
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(results, RESULTS, ColumnarJsonHttpMessageConverter.COLUMNAR_JSON, output);
+        JsonNode columns = objectMapper.readTree(output.getBodyAsBytes());
+        JsonNode rows = objectMapper.valueToTree(results);
+
+        // Every property the row layout has, with the same values in the same order
+        assertEquals(rows.get(0).size(), columns.size());
+        rows.get(0).fieldNames().forEachRemaining(field -> {
+            if (!field.equals("tenants")) {
+                for (int i = 0; i < rows.size(); i++) {
+                    assertEquals(rows.get(i).get(field), columns.get(field).get(i), field);
+                }
+            }
+        });
+        JsonNode tenants = columns.get("tenants");
+        assertEquals("[0,1]", tenants.get(0).get("tenant").toString());
+        assertEquals("[0.0,12.5]", tenants.get(0).get("cost").toString());
+        assertTrue(tenants.get(1).isNull());
+    }
+
+    @Test
+    void isNeverTheDefault() {
+        MediaType columnar = ColumnarJsonHttpMessageConverter.COLUMNAR_JSON;
+        assertTrue(converter.canWrite(RESULTS, List.class, columnar));
+        assertFalse(converter.canWrite(RESULTS, List.class, null));
+        assertFalse(converter.canWrite(RESULTS, List.class, MediaType.ALL));
+        assertFalse(converter.canWrite(RESULTS, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(SimulationResult.class, SimulationResult.class, columnar));
+        assertFalse(converter.canWrite(new ParameterizedTypeReference<List<String>>() {}.getType(), List.class,
+            columnar));
+        assertFalse(converter.canRead(RESULTS, null, columnar));
+    }
+}
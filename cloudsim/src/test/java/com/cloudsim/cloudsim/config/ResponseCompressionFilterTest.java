@@ -0,0 +1,83 @@
+package com.cloudsim.cloudsim.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.github.luben.zstd.ZstdInputStream;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ResponseCompressionFilterTest {
+
+    private final ResponseCompressionFilter filter = new ResponseCompressionFilter(3);
+
+    @Test
+    void picksTheCodingTheClientPrefers() {
+        assertEquals("zstd", filter.negotiate("gzip, deflate, br, zstd"));
+        assertEquals("gzip", filter.negotiate("zstd;q=0.5, gzip"));
+        assertEquals("gzip", filter.negotiate("zstd;q=0, *"));
+        assertEquals("zstd", filter.negotiate("*;q=0.1"));
+        assertNull(filter.negotiate("gzip;q=0, identity"));
+        assertNull(filter.negotiate(null));
+    }
+
+    @Test
+    void compressesWhatIsWrittenAndLeavesErrorsAlone() throws Exception {
+        byte[] body = "[{\"strategy\":\"TimeShared\"}]".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+        MockHttpServletResponse zstd = serve("zstd", body, false);
+        assertEquals("zstd", zstd.getHeader("Content-Encoding"));
+        assertNull(zstd.getHeader("Content-Length"));
+        assertArrayEquals(body, decompress(new ZstdInputStream(
+            new ByteArrayInputStream(zstd.getContentAsByteArray()))));
+
+        MockHttpServletResponse gzip = serve("gzip", body, false);
+        assertEquals("gzip", gzip.getHeader("Content-Encoding"));
+        assertArrayEquals(body, decompress(new GZIPInputStream(
+            new ByteArrayInputStream(gzip.getContentAsByteArray()))));
+
+        MockHttpServletResponse error = serve("gzip", body, true);
+        assertEquals(400, error.getStatus());
+        assertNull(error.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", error.getHeader("Vary"));
+    }
+
+    private MockHttpServletResponse serve(String acceptEncoding, byte[] body, boolean fail) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/simulate");
+        request.addHeader("Accept-Encoding", acceptEncoding);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                if (fail) {
+                    resp.sendError(400, "Bad Request");
+                    return;
+                }
+                resp.setContentLength(body.length);
+                resp.getOutputStream().write(body);
+                resp.flushBuffer();
+            }
+        }));
+        return response;
+    }
+
+    private static byte[] decompress(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+}
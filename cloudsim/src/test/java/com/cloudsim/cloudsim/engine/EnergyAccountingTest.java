@@ -0,0 +1,68 @@
+package com.cloudsim.cloudsim.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+
+class EnergyAccountingTest {
+
+    private static final SimulationEngine ENGINE = new SimulationEngine(1);
+
+    @Test
+    void busyHostsDrawTheirFullPower() {
+        // Eight VMs fill one host, which is flat out until the last cloudlet finishes
+        SimulationResult result = ENGINE.run("TimeShared", request(8, 800, new WorkloadSpec()));
+        PolicyProfile profile = ENGINE.getProfile("TimeShared");
+
+        double fullPower = profile.getPower(1) * result.getMakespan() / 3600;
+        assertEquals(fullPower, result.getEnergyConsumption(), fullPower * 0.01);
+        assertTrue(profile.getPower(0) < profile.getPower(1));
+    }
+
+    @Test
+    void idleTimeDrawsLessThanLoad() {
+        WorkloadSpec light = new WorkloadSpec();
+        light.setArrivalProcess(WorkloadSpec.ArrivalProcess.POISSON);
+        light.setArrivalRate(2);
+        PolicyProfile profile = ENGINE.getProfile("BestFit");
+
+        SimulationResult busy = ENGINE.run("BestFit", request(16, 400, new WorkloadSpec()));
+        SimulationResult idle = ENGINE.run("BestFit", request(16, 400, light));
+
+        // Two hosts, between idle and full power throughout
+        double busyWatts = busy.getEnergyConsumption() * 3600 / busy.getMakespan() / 2;
+        double idleWatts = idle.getEnergyConsumption() * 3600 / idle.getMakespan() / 2;
+        assertTrue(idleWatts < busyWatts, idleWatts + " W vs " + busyWatts + " W");
+        assertTrue(idleWatts > profile.getPower(0) && busyWatts <= profile.getPower(1) * 1.01);
+
+        // Energy is priced into the cost, on top of the VM time
+        double vmTime = busy.getMakespan() * profile.getCostPerSec() * 16;
+        assertEquals(vmTime + busy.getEnergyConsumption() / 1000 * profile.getCostPerKwh(), busy.getCost(),
+            vmTime * 1e-9);
+    }
+
+    @Test
+    void estimateTracksTheMeteredEnergy() {
+        SimulationRequest request = request(20, 4000, new WorkloadSpec());
+        SimulationResult simulated = ENGINE.run("RoundRobin", request);
+        SimulationResult estimated = QueueingModel.estimate(ENGINE.getProfile("RoundRobin"), request);
+
+        assertEquals(simulated.getEnergyConsumption(), estimated.getEnergyConsumption(),
+            simulated.getEnergyConsumption() * 0.05);
+    }
+
+    private static SimulationRequest request(int vms, int cloudlets, WorkloadSpec workload) {
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfUsers(1);
+        request.setNumberOfVms(vms);
+        request.setNumberOfCloudlets(cloudlets);
+        request.setVmRam(512);
+        request.setWorkload(workload);
+        return request;
+    }
+}
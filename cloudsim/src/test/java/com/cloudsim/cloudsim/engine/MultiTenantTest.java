@@ -0,0 +1,71 @@
+package com.cloudsim.cloudsim.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.TenantResult;
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+
+class MultiTenantTest {
+
+    private static final SimulationEngine ENGINE = new SimulationEngine(1);
+
+    @Test
+    void everyTenantRunsItsOwnWorkload() {
+        SimulationResult result = ENGINE.run("TimeShared", request(8));
+
+        List<TenantResult> tenants = result.getTenants();
+        assertEquals(8, tenants.size());
+        assertEquals(8 * 200, result.getTotalCloudletsProcessed());
+        assertEquals(8 * 4, result.getVmUtilization().length);
+        double cost = 0;
+        for (int t = 0; t < tenants.size(); t++) {
+            TenantResult tenant = tenants.get(t);
+            assertEquals(t, tenant.getTenant());
+            assertEquals(200, tenant.getCloudletsProcessed());
+            assertTrue(tenant.getMakespan() > 0 && tenant.getMakespan() <= result.getMakespan());
+            cost += tenant.getCost();
+        }
+        assertTrue(cost <= result.getCost());
+        // Tenants draw from different seeds
+        assertTrue(tenants.get(0).getMeanResponseTime() != tenants.get(1).getMeanResponseTime());
+    }
+
+    @Test
+    void tenantsContendForTheSameHosts() {
+        double previous = 0;
+        for (int users : new int[] {1, 4, 16}) {
+            SimulationResult result = ENGINE.run("TimeShared", request(users));
+            assertTrue(result.getMeanResponseTime() > previous, users + " users");
+            previous = result.getMeanResponseTime();
+        }
+    }
+
+    @Test
+    void aSingleUserHasNoTenantBreakdown() {
+        assertNull(ENGINE.run("BestFit", request(1)).getTenants());
+        assertNull(ENGINE.run("BestFit", request(0)).getTenants());
+    }
+
+    private static SimulationRequest request(int users) {
+        WorkloadSpec workload = new WorkloadSpec();
+        workload.setArrivalProcess(WorkloadSpec.ArrivalProcess.POISSON);
+        workload.setArrivalRate(2);
+
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfUsers(users);
+        request.setNumberOfVms(4);
+        request.setNumberOfCloudlets(200);
+        request.setVmRam(512);
+        request.setSlaThreshold(2);
+        request.setWorkload(workload);
+        return request;
+    }
+}
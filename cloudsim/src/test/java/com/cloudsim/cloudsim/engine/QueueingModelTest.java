@@ -0,0 +1,94 @@
+package com.cloudsim.cloudsim.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.model.ExecutionMode;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+
+class QueueingModelTest {
+
+    private static SimulationEngine engine;
+
+    @BeforeAll
+    static void startEngine() {
+        engine = new SimulationEngine(1);
+    }
+
+    @Test
+    void batchOfEqualCloudletsMatchesTheSimulation() {
+        SimulationRequest request = request(4, 1000, new WorkloadSpec());
+
+        SimulationResult simulated = engine.run("TimeShared", request);
+        SimulationResult estimated = QueueingModel.estimate(engine.getProfile("TimeShared"), request);
+
+        assertEquals(ExecutionMode.ESTIMATE, estimated.getMode());
+        assertEquals(1000, estimated.getTotalCloudletsProcessed());
+        assertEquals(simulated.getMakespan(), estimated.getMakespan(), simulated.getMakespan() * 0.01);
+        assertEquals(simulated.getMeanResponseTime(), estimated.getMeanResponseTime(),
+            simulated.getMeanResponseTime() * 0.01);
+        assertEquals(simulated.getMeanWaitTime(), estimated.getMeanWaitTime(), simulated.getMeanWaitTime() * 0.01);
+        assertEquals(simulated.getCost(), estimated.getCost(), simulated.getCost() * 0.01);
+    }
+
+    @Test
+    void lightlyLoadedPoissonStreamIsClose() {
+        WorkloadSpec workload = new WorkloadSpec();
+        workload.setArrivalProcess(WorkloadSpec.ArrivalProcess.POISSON);
+        workload.setLengthDistribution(WorkloadSpec.LengthDistribution.EXPONENTIAL);
+        workload.setArrivalRate(10);
+        SimulationRequest request = request(20, 4000, workload);
+
+        SimulationResult simulated = engine.run("BestFit", request);
+        SimulationResult estimated = QueueingModel.estimate(engine.getProfile("BestFit"), request);
+
+        assertEquals(simulated.getMakespan(), estimated.getMakespan(), simulated.getMakespan() * 0.05);
+        assertEquals(simulated.getMeanResponseTime(), estimated.getMeanResponseTime(),
+            simulated.getMeanResponseTime() * 0.2);
+        assertEquals(0, estimated.getMeanWaitTime());
+    }
+
+    @Test
+    void nothingToRunEstimatesNothing() {
+        SimulationResult estimated = QueueingModel.estimate(engine.getProfile("RoundRobin"),
+            request(3, 0, new WorkloadSpec()));
+
+        assertEquals(0, estimated.getMakespan());
+        assertEquals(0, estimated.getTotalCloudletsProcessed());
+        assertEquals(3, estimated.getVmUtilization().length);
+    }
+
+    @Test
+    void countsCloudletsAndVmsOfManyUsersWithoutOverflow() {
+        SimulationRequest request = request(10, 1_000_000, new WorkloadSpec());
+        request.setNumberOfUsers(10_000);
+        SimulationResult estimated = QueueingModel.estimate(engine.getProfile("TimeShared"), request);
+
+        // Ten billion cloudlets in all, more than an int holds
+        assertEquals(Integer.MAX_VALUE, estimated.getTotalCloudletsProcessed());
+        assertEquals(100_000, estimated.getVmUtilization().length);
+        // Every tenant's VMs are filled in, the last as much as the first
+        assertEquals(estimated.getVmUtilization()[0], estimated.getVmUtilization()[99_999]);
+
+        // Too many VMs to hold fails instead of wrapping around to a negative size
+        request.setNumberOfVms(300_000);
+        assertThrows(ArithmeticException.class,
+            () -> QueueingModel.estimate(engine.getProfile("TimeShared"), request));
+    }
+
+    private static SimulationRequest request(int vms, int cloudlets, WorkloadSpec workload) {
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfUsers(1);
+        request.setNumberOfVms(vms);
+        request.setNumberOfCloudlets(cloudlets);
+        request.setVmRam(512);
+        request.setSlaThreshold(2);
+        request.setWorkload(workload);
+        return request;
+    }
+}
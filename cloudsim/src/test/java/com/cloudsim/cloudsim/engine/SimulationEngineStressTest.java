@@ -0,0 +1,130 @@
+package com.cloudsim.cloudsim.engine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.model.EventQueueType;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+
+class SimulationEngineStressTest {
+
+    private static final List<String> STRATEGIES = List.of("BestFit", "RoundRobin", "TimeShared");
+
+    @Test
+    void kernelsDoNotShareCloudSimState() throws Exception {
+        SimulationKernel first = new SimulationKernel(getClass().getClassLoader());
+        SimulationKernel second = new SimulationKernel(getClass().getClassLoader());
+        Class<?> firstCloudSim = Class.forName("org.cloudbus.cloudsim.core.CloudSim", false, kernelLoader(first));
+        Class<?> secondCloudSim = Class.forName("org.cloudbus.cloudsim.core.CloudSim", false, kernelLoader(second));
+
+        assertNotSame(firstCloudSim, secondCloudSim);
+        assertEquals(SimulationResult.class, Class.forName(SimulationResult.class.getName(), false, kernelLoader(first)));
+    }
+
+    @Test
+    void everyKernelDiscoversItsOwnPolicies() throws Exception {
+        SimulationKernel first = new SimulationKernel(getClass().getClassLoader());
+        SimulationKernel second = new SimulationKernel(getClass().getClassLoader());
+
+        assertEquals(Set.copyOf(STRATEGIES), first.getPolicyNames());
+        assertEquals(Set.copyOf(STRATEGIES), new SimulationEngine(1).getPolicyNames());
+        assertNotSame(policy(first, "BestFit").getClass(), policy(second, "BestFit").getClass());
+    }
+
+    @Test
+    void parallelRunsMatchSerialRuns() throws Exception {
+        List<SimulationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 48; i++) {
+            requests.add(request(1 + i % 7, 1 + i % 5, 10 + 25 * i, 512 << (i % 3), 5.0 + i));
+        }
+
+        SimulationEngine serialEngine = new SimulationEngine(1);
+        List<SimulationResult> expected = new ArrayList<>();
+        for (SimulationRequest request : requests) {
+            for (String strategy : STRATEGIES) {
+                expected.add(serialEngine.run(strategy, request));
+            }
+        }
+
+        SimulationEngine parallelEngine = new SimulationEngine(8);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<SimulationResult>> futures = new ArrayList<>();
+            for (SimulationRequest request : requests) {
+                for (String strategy : STRATEGIES) {
+                    futures.add(executor.submit(() -> parallelEngine.run(strategy, request)));
+                }
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertSameResult(expected.get(i), futures.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void everyEventQueueGivesTheSameResults() {
+        SimulationEngine treeSet = new SimulationEngine(1, EventQueueType.TREE_SET);
+        SimulationEngine heap = new SimulationEngine(1, EventQueueType.HEAP);
+        for (int i = 0; i < 6; i++) {
+            SimulationRequest request = request(1 + i % 3, 2 + i, 300 + 200 * i, 512, 2.0);
+            WorkloadSpec workload = new WorkloadSpec();
+            workload.setArrivalProcess(WorkloadSpec.ArrivalProcess.POISSON);
+            workload.setArrivalRate(5 + i);
+            workload.setSeed(i);
+            request.setWorkload(workload);
+            for (String strategy : STRATEGIES) {
+                assertSameResult(treeSet.run(strategy, request), heap.run(strategy, request));
+            }
+        }
+    }
+
+    private static ClassLoader kernelLoader(SimulationKernel kernel) throws Exception {
+        var field = SimulationKernel.class.getDeclaredField("classLoader");
+        field.setAccessible(true);
+        return (ClassLoader) field.get(kernel);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SimulationPolicy policy(SimulationKernel kernel, String name) throws Exception {
+        var field = SimulationKernel.class.getDeclaredField("policies");
+        field.setAccessible(true);
+        return ((Map<String, SimulationPolicy>) field.get(kernel)).get(name);
+    }
+
+    private static void assertSameResult(SimulationResult expected, SimulationResult actual) {
+        assertEquals(expected.getStrategy(), actual.getStrategy());
+        assertEquals(expected.getExecutionTime(), actual.getExecutionTime());
+        assertEquals(expected.getCost(), actual.getCost());
+        assertEquals(expected.getEnergyConsumption(), actual.getEnergyConsumption());
+        assertEquals(expected.getSlaViolation(), actual.getSlaViolation());
+        assertEquals(expected.getTotalCloudletsProcessed(), actual.getTotalCloudletsProcessed());
+        assertEquals(expected.getP99ResponseTime(), actual.getP99ResponseTime());
+        assertArrayEquals(expected.getVmUtilization(), actual.getVmUtilization());
+    }
+
+    private static SimulationRequest request(int users, int vms, int cloudlets, int vmRam, double slaThreshold) {
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfUsers(users);
+        request.setNumberOfVms(vms);
+        request.setNumberOfCloudlets(cloudlets);
+        request.setVmRam(vmRam);
+        request.setSlaThreshold(slaThreshold);
+        request.setStrategies(STRATEGIES);
+        return request;
+    }
+}
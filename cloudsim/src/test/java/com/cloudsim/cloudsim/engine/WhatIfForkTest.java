@@ -0,0 +1,128 @@
+package com.cloudsim.cloudsim.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.TenantResult;
+import com.cloudsim.cloudsim.model.TraceSpec;
+import com.cloudsim.cloudsim.model.WhatIfBranch;
+import com.cloudsim.cloudsim.model.WhatIfResult;
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+
+class WhatIfForkTest {
+
+    private static final SimulationEngine ENGINE = new SimulationEngine(1);
+
+    @Test
+    void unchangedBranchesMatchARunFromTheStart() {
+        for (String strategy : List.of("TimeShared", "RoundRobin", "BestFit")) {
+            for (int users : new int[] {1, 3}) {
+                SimulationRequest request = request(users);
+                SimulationResult expected = ENGINE.run(strategy, request);
+                // Unchanged first, in the middle and last: on the paused run, on a copy and on the snapshot itself
+                WhatIfResult forked = ENGINE.fork(strategy, request, 40,
+                    List.of(branch("first", null), branch("out", 8), branch("middle", null), branch("in", 2),
+                        branch("last", null)));
+
+                assertEquals(40, forked.getForkAt());
+                for (String name : List.of("first", "middle", "last")) {
+                    assertSameResult(expected, forked.getBranches().get(name), strategy + "/" + users + "/" + name);
+                }
+            }
+        }
+    }
+
+    @Test
+    void scalingChangesOnlyWhatComesAfterTheFork() {
+        SimulationRequest request = request(1);
+        SimulationResult base = ENGINE.run("TimeShared", request);
+        WhatIfResult forked = ENGINE.fork("TimeShared", request, 40,
+            List.of(branch("out", 8), branch("in", 1)));
+        SimulationResult out = forked.getBranches().get("out");
+        SimulationResult in = forked.getBranches().get("in");
+
+        assertEquals(base.getTotalCloudletsProcessed(), out.getTotalCloudletsProcessed());
+        assertEquals(base.getTotalCloudletsProcessed(), in.getTotalCloudletsProcessed());
+        assertTrue(out.getMeanResponseTime() < base.getMeanResponseTime());
+        assertTrue(in.getMeanResponseTime() > base.getMeanResponseTime());
+        // The extra VMs show up, and are paid for from the fork on only
+        assertEquals(8, out.getVmUtilization().length);
+        assertTrue(out.getCost() < out.getMakespan() * 3.0 * 8);
+        assertTrue(out.getCost() > out.getMakespan() * 3.0 * 4);
+
+        // A fork after the end changes nothing
+        WhatIfResult late = ENGINE.fork("TimeShared", request, 1e6, List.of(branch("out", 8)));
+        assertSameResult(base, late.getBranches().get("out"), "late");
+    }
+
+    @Test
+    void tenantsScaleTogether() {
+        SimulationRequest request = request(3);
+        WhatIfResult forked = ENGINE.fork("BestFit", request, 40, List.of(branch("same", null), branch("out", 6)));
+        List<TenantResult> same = forked.getBranches().get("same").getTenants();
+        List<TenantResult> out = forked.getBranches().get("out").getTenants();
+        assertEquals(3, out.size());
+        for (int t = 0; t < 3; t++) {
+            assertEquals(same.get(t).getCloudletsProcessed(), out.get(t).getCloudletsProcessed());
+            assertTrue(out.get(t).getMeanResponseTime() < same.get(t).getMeanResponseTime(), "tenant " + t);
+        }
+    }
+
+    @Test
+    void tracesCannotBeForked() {
+        SimulationRequest request = request(1);
+        request.setTrace(new TraceSpec());
+        assertThrows(IllegalArgumentException.class,
+            () -> ENGINE.fork("TimeShared", request, 40, List.of(branch("a", null))));
+    }
+
+    private static void assertSameResult(SimulationResult expected, SimulationResult actual, String message) {
+        assertEquals(expected.getTotalCloudletsProcessed(), actual.getTotalCloudletsProcessed(), message);
+        assertEquals(expected.getMakespan(), actual.getMakespan(), message);
+        assertEquals(expected.getCost(), actual.getCost(), message);
+        assertEquals(expected.getMeanResponseTime(), actual.getMeanResponseTime(), message);
+        assertEquals(expected.getP95ResponseTime(), actual.getP95ResponseTime(), message);
+        assertEquals(expected.getMeanWaitTime(), actual.getMeanWaitTime(), message);
+        assertEquals(expected.getSlaViolationRate(), actual.getSlaViolationRate(), message);
+        List<Double> expectedUtilization = new ArrayList<>();
+        List<Double> actualUtilization = new ArrayList<>();
+        for (double utilization : expected.getVmUtilization()) {
+            expectedUtilization.add(utilization);
+        }
+        for (double utilization : actual.getVmUtilization()) {
+            actualUtilization.add(utilization);
+        }
+        assertEquals(expectedUtilization, actualUtilization, message);
+    }
+
+    private static WhatIfBranch branch(String name, Integer numberOfVms) {
+        WhatIfBranch branch = new WhatIfBranch();
+        branch.setName(name);
+        branch.setNumberOfVms(numberOfVms);
+        return branch;
+    }
+
+    // Arrivals outpace four VMs, so a queue builds up before the fork
+    private static SimulationRequest request(int users) {
+        WorkloadSpec workload = new WorkloadSpec();
+        workload.setArrivalProcess(WorkloadSpec.ArrivalProcess.POISSON);
+        workload.setArrivalRate(10);
+
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfUsers(users);
+        request.setNumberOfVms(4);
+        request.setNumberOfCloudlets(1000);
+        request.setVmRam(512);
+        request.setSlaThreshold(2);
+        request.setWorkload(workload);
+        return request;
+    }
+}
@@ -0,0 +1,58 @@
+package com.cloudsim.cloudsim.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SweepRangeTest {
+
+    @Test
+    void stepsFromOneEndToTheOther() {
+        assertArrayEquals(new double[] {1, 1.5, 2, 2.5, 3}, range(1.0, 3.0, 0.5, null).expand(100));
+        // A step of one unless given, and just the start without an end
+        assertArrayEquals(new double[] {4, 5, 6}, range(4.0, 6.0, null, null).expand(100));
+        assertArrayEquals(new double[] {7}, range(7.0, null, 2.0, null).expand(100));
+        // The end is only included when a step lands on it
+        assertArrayEquals(new double[] {0, 4, 8}, range(0.0, 10.0, 4.0, null).expand(100));
+        assertArrayEquals(new double[0], range(5.0, 1.0, null, null).expand(100));
+    }
+
+    @Test
+    void multipliesForGeometricGrids() {
+        assertArrayEquals(new double[] {512, 1024, 2048, 4096, 8192}, range(512.0, 8192.0, null, 2.0).expand(100));
+        // A factor wins over a step
+        assertArrayEquals(new double[] {1, 10, 100}, range(1.0, 100.0, 5.0, 10.0).expand(100));
+    }
+
+    @Test
+    void takesExplicitValuesAsGiven() {
+        SweepRange range = range(1.0, 100.0, null, null);
+        range.setValues(List.of(8.0, 2.0, 8.0));
+        assertArrayEquals(new double[] {8, 2, 8}, range.expand(3));
+        assertArrayEquals(new double[] {42}, SweepRange.of(42).expand(1));
+        assertThrows(IllegalArgumentException.class, () -> range.expand(2));
+    }
+
+    @Test
+    void rejectsRangesThatDoNotAdvance() {
+        assertThrows(IllegalArgumentException.class, () -> range(1.0, 10.0, 0.0, null).expand(100));
+        assertThrows(IllegalArgumentException.class, () -> range(1.0, 10.0, -1.0, null).expand(100));
+        assertThrows(IllegalArgumentException.class, () -> range(1.0, 10.0, null, 1.0).expand(100));
+        assertThrows(IllegalArgumentException.class, () -> range(0.0, 10.0, null, 2.0).expand(100));
+        assertThrows(IllegalArgumentException.class, () -> range(null, 10.0, 1.0, null).expand(100));
+        // Or that advance too far
+        assertThrows(IllegalArgumentException.class, () -> range(1.0, 1e6, null, null).expand(1000));
+    }
+
+    private static SweepRange range(Double from, Double to, Double step, Double factor) {
+        SweepRange range = new SweepRange();
+        range.setFrom(from);
+        range.setTo(to);
+        range.setStep(step);
+        range.setFactor(factor);
+        return range;
+    }
+}
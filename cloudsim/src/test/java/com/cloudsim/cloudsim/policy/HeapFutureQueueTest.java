@@ -0,0 +1,133 @@
+package com.cloudsim.cloudsim.policy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.cloudbus.cloudsim.core.FutureQueue;
+import org.cloudbus.cloudsim.core.SimEvent;
+import org.junit.jupiter.api.Test;
+
+class HeapFutureQueueTest {
+
+    private static final Constructor<SimEvent> NEW_EVENT;
+
+    static {
+        try {
+            NEW_EVENT = SimEvent.class.getDeclaredConstructor(int.class, double.class, int.class, int.class,
+                int.class, Object.class);
+            NEW_EVENT.setAccessible(true);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Test
+    void drainsInTheStockOrder() {
+        SplittableRandom random = new SplittableRandom(7);
+        FutureQueue stock = new FutureQueue();
+        HeapFutureQueue heap = new HeapFutureQueue();
+        double now = 0;
+        // Serial 0 goes to the first event and to every addEventFirst. The stock queue's
+        // comparator cannot tell two of them at one time apart, so keep those unique
+        Set<Double> serialZero = new HashSet<>(Set.of(now));
+
+        for (int round = 0; round < 20_000; round++) {
+            // Coarse times, so that many events share one
+            int added = random.nextInt(4);
+            for (int i = 0; i < added; i++) {
+                SimEvent event = event(round == 0 && i == 0 ? now : now + random.nextInt(5));
+                if (random.nextInt(10) == 0 && serialZero.add(event.eventTime())) {
+                    stock.addEventFirst(event);
+                    heap.addEventFirst(event);
+                } else {
+                    stock.addEvent(event);
+                    heap.addEvent(event);
+                }
+            }
+            if (stock.size() > 0) {
+                now = tick(stock, heap);
+            }
+            assertEquals(stock.size(), heap.size());
+        }
+        while (stock.size() > 0) {
+            tick(stock, heap);
+        }
+        assertEquals(0, heap.size());
+    }
+
+    @Test
+    void iteratorRemovalMatchesTheStockQueue() {
+        SplittableRandom random = new SplittableRandom(11);
+        FutureQueue stock = new FutureQueue();
+        HeapFutureQueue heap = new HeapFutureQueue();
+        for (int i = 0; i < 500; i++) {
+            SimEvent event = event(random.nextInt(50));
+            stock.addEvent(event);
+            heap.addEvent(event);
+        }
+
+        // Cancel every third event in a full pass, then compare what is left
+        cancelEveryThird(stock.iterator());
+        cancelEveryThird(heap.iterator());
+        SimEvent late = event(0);
+        stock.addEvent(late);
+        heap.addEvent(late);
+        assertEquals(stock.size(), heap.size());
+
+        Iterator<SimEvent> expected = stock.iterator();
+        Iterator<SimEvent> actual = heap.iterator();
+        while (expected.hasNext()) {
+            assertSame(expected.next(), actual.next());
+        }
+        assertFalse(actual.hasNext());
+    }
+
+    // What CloudSim.runClockTick does with the queue
+    private static double tick(FutureQueue stock, HeapFutureQueue heap) {
+        SimEvent first = stock.iterator().next();
+        assertSame(first, heap.iterator().next());
+        stock.remove(first);
+        heap.remove(first);
+
+        List<SimEvent> sameTime = new ArrayList<>();
+        Iterator<SimEvent> expected = stock.iterator();
+        Iterator<SimEvent> actual = heap.iterator();
+        while (expected.hasNext()) {
+            SimEvent next = expected.next();
+            if (next.eventTime() != first.eventTime()) {
+                break;
+            }
+            assertSame(next, actual.next());
+            sameTime.add(next);
+        }
+        stock.removeAll(sameTime);
+        heap.removeAll(sameTime);
+        return first.eventTime();
+    }
+
+    private static void cancelEveryThird(Iterator<SimEvent> events) {
+        for (int i = 0; events.hasNext(); i++) {
+            events.next();
+            if (i % 3 == 0) {
+                events.remove();
+            }
+        }
+    }
+
+    private static SimEvent event(double time) {
+        try {
+            return NEW_EVENT.newInstance(SimEvent.SEND, time, 0, 1, 0, new Object());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
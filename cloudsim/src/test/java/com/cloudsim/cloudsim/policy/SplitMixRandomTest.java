@@ -0,0 +1,24 @@
+package com.cloudsim.cloudsim.policy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class SplitMixRandomTest {
+
+    @Test
+    void drawsWhatSplittableRandomDraws() {
+        for (long seed : new long[] {0, 42, -7, Long.MAX_VALUE}) {
+            SplittableRandom expected = new SplittableRandom(seed);
+            SplitMixRandom actual = new SplitMixRandom(seed);
+            SplittableRandom expectedChild = expected.split();
+            SplitMixRandom actualChild = actual.split();
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(expected.nextLong(), actual.nextLong());
+                assertEquals(expectedChild.nextDouble(), actualChild.nextDouble());
+            }
+        }
+    }
+}
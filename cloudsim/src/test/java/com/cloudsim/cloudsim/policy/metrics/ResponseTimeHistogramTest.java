@@ -0,0 +1,60 @@
+package com.cloudsim.cloudsim.policy.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class ResponseTimeHistogramTest {
+
+    @Test
+    void percentilesStayWithinHalfABucketOfExactValues() {
+        SplittableRandom random = new SplittableRandom(7);
+        double[] samples = new double[200_000];
+        ResponseTimeHistogram histogram = new ResponseTimeHistogram();
+        for (int i = 0; i < samples.length; i++) {
+            // Heavy-tailed, spanning several orders of magnitude
+            samples[i] = 0.01 / Math.pow(1 - random.nextDouble(), 1 / 1.5);
+            histogram.record(samples[i]);
+        }
+        Arrays.sort(samples);
+
+        for (double percentile : new double[] {50, 95, 99, 99.9}) {
+            double exact = samples[(int) Math.ceil(percentile / 100 * samples.length) - 1];
+            assertEquals(exact, histogram.getPercentile(percentile), exact * 0.006, "p" + percentile);
+        }
+        assertEquals(Arrays.stream(samples).average().getAsDouble(), histogram.getMean(), 1e-9);
+        assertEquals(samples[samples.length - 1], histogram.getPercentile(100));
+    }
+
+    @Test
+    void bucketsAreAddedOnEitherSide() {
+        ResponseTimeHistogram histogram = new ResponseTimeHistogram();
+        // Descending from a year to a microsecond, then back up past the first value
+        for (double value = 3e7; value > 1e-6; value /= 1.5) {
+            histogram.record(value);
+        }
+        assertEquals(1e-6, histogram.getPercentile(0.1), 1e-6 * 1.5);
+        assertEquals(3e7, histogram.getPercentile(100), 3e7 * 0.006);
+
+        histogram.record(1e9);
+        assertEquals(1e9, histogram.getPercentile(100), 1e9 * 0.006);
+        assertEquals(1e-6, histogram.getPercentile(0.1), 1e-6 * 1.5);
+    }
+
+    @Test
+    void emptyAndDegenerateHistograms() {
+        ResponseTimeHistogram histogram = new ResponseTimeHistogram();
+        assertEquals(0, histogram.getPercentile(99));
+
+        histogram.record(0);
+        histogram.record(0);
+        assertEquals(0, histogram.getPercentile(50));
+
+        histogram.record(5);
+        assertEquals(5, histogram.getPercentile(100));
+        assertEquals(3, histogram.getCount());
+    }
+}
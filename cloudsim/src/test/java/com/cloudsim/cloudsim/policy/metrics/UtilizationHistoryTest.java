@@ -0,0 +1,38 @@
+package com.cloudsim.cloudsim.policy.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class UtilizationHistoryTest {
+
+    @Test
+    void averagesEachWindowOverItsWholeLength() {
+        UtilizationHistory history = new UtilizationHistory(4, 10);
+        history.add(0, 5, 1.0);
+        history.add(5, 8, 0.5);
+        // The first window is not complete until time moves past it
+        assertEquals(0, history.getUtilizationHistory().length);
+
+        // Spans the rest of the first window, all of the second and half the third
+        history.add(8, 25, 0.2);
+        assertArrayEquals(new double[] {0.2, (5 + 1.5 + 0.4) / 10}, history.getUtilizationHistory(), 1e-12);
+
+        // Nothing recorded from 25 to 40 counts as idle
+        history.add(40, 41, 1.0);
+        assertArrayEquals(new double[] {0, 0.1, 0.2, 0.69}, history.getUtilizationHistory(), 1e-12);
+    }
+
+    @Test
+    void keepsOnlyTheLastWindowsOfALongRun() {
+        UtilizationHistory history = new UtilizationHistory(3, 1);
+        for (int second = 0; second < 1_000_000; second++) {
+            history.add(second, second + 1, second % 10 / 10.0);
+        }
+        // A stretch far longer than the ring costs no more than the ring
+        history.add(1_000_000, 1e12, 0.5);
+        history.add(1e12, 1e12 + 0.5, 0);
+        assertArrayEquals(new double[] {0.5, 0.5, 0.5}, history.getUtilizationHistory(), 1e-12);
+    }
+}
@@ -0,0 +1,138 @@
+package com.cloudsim.cloudsim.policy.placement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.cloudbus.cloudsim.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.Host;
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.Pe;
+import org.cloudbus.cloudsim.Vm;
+import org.cloudbus.cloudsim.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.provisioners.BwProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.RamProvisionerSimple;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class BestFitVmAllocationPolicyTest {
+
+    @BeforeAll
+    static void quiet() {
+        Log.setDisabled(true);
+    }
+
+    @Test
+    void placesEachVmOnTheTightestHostThatFits() {
+        Host roomy = host(0, 4, 1000, 8192, 100000);
+        Host tight = host(1, 2, 1000, 8192, 100000);
+        BestFitVmAllocationPolicy policy = new BestFitVmAllocationPolicy(List.of(roomy, tight));
+
+        Vm first = vm(0, 1000, 1, 1024, 1000);
+        assertTrue(policy.allocateHostForVm(first));
+        assertSame(tight, policy.getHost(first));
+        assertSame(tight, policy.getHost(0, 0));
+
+        // The tight host now has less free MIPS left, so it keeps winning until it is full
+        Vm second = vm(1, 1000, 1, 1024, 1000);
+        assertTrue(policy.allocateHostForVm(second));
+        assertSame(tight, policy.getHost(second));
+
+        Vm third = vm(2, 1000, 1, 1024, 1000);
+        assertTrue(policy.allocateHostForVm(third));
+        assertSame(roomy, policy.getHost(third));
+    }
+
+    @Test
+    void skipsHostsShortOfRamPeSpeedOrBandwidth() {
+        Host lowRam = host(0, 1, 2000, 512, 100000);
+        Host slowPes = host(1, 1, 500, 8192, 100000);
+        Host lowBw = host(2, 1, 2000, 8192, 10);
+        Host fits = host(3, 4, 2000, 8192, 100000);
+        BestFitVmAllocationPolicy policy = new BestFitVmAllocationPolicy(List.of(lowRam, slowPes, lowBw, fits));
+
+        Vm vm = vm(0, 1000, 1, 1024, 1000);
+        assertTrue(policy.allocateHostForVm(vm));
+        assertSame(fits, policy.getHost(vm));
+
+        // The host passed over for bandwidth is still a candidate for VMs that fit it
+        Vm small = vm(1, 1000, 1, 1024, 5);
+        assertTrue(policy.allocateHostForVm(small));
+        assertSame(lowBw, policy.getHost(small));
+
+        assertFalse(policy.allocateHostForVm(vm(2, 3000, 1, 1024, 1000)));
+        assertFalse(policy.allocateHostForVm(vm(3, 1000, 1, 16384, 1000)));
+    }
+
+    @Test
+    void releasedCapacityIsReused() {
+        Host host = host(0, 1, 1000, 2048, 100000);
+        BestFitVmAllocationPolicy policy = new BestFitVmAllocationPolicy(List.of(host));
+
+        Vm first = vm(0, 1000, 1, 1024, 1000);
+        assertTrue(policy.allocateHostForVm(first));
+        assertFalse(policy.allocateHostForVm(vm(1, 1000, 1, 1024, 1000)));
+
+        policy.deallocateHostForVm(first);
+        assertNull(policy.getHost(first));
+        Vm second = vm(1, 1000, 1, 1024, 1000);
+        assertTrue(policy.allocateHostForVm(second));
+        assertSame(host, policy.getHost(second));
+    }
+
+    @Test
+    void matchesALinearScanOnRandomHeterogeneousHosts() {
+        SplittableRandom random = new SplittableRandom(11);
+        List<Host> hosts = new ArrayList<>();
+        for (int id = 0; id < 300; id++) {
+            hosts.add(host(id, 1 + random.nextInt(8), 500 + 500 * random.nextInt(4),
+                1024 * (1 + random.nextInt(16)), 100000));
+        }
+        BestFitVmAllocationPolicy policy = new BestFitVmAllocationPolicy(hosts);
+
+        List<Vm> placed = new ArrayList<>();
+        for (int id = 0; id < 3000; id++) {
+            if (!placed.isEmpty() && random.nextInt(4) == 0) {
+                policy.deallocateHostForVm(placed.remove(random.nextInt(placed.size())));
+            }
+            Vm vm = vm(id, 250 + 250 * random.nextInt(8), 1 + random.nextInt(2), 256 * (1 + random.nextInt(8)), 100);
+            Host expected = linearBestFit(hosts, vm);
+            assertEquals(expected != null, policy.allocateHostForVm(vm), "vm " + id);
+            if (expected != null) {
+                assertSame(expected, policy.getHost(vm), "vm " + id);
+                placed.add(vm);
+            }
+        }
+    }
+
+    private static Host linearBestFit(List<Host> hosts, Vm vm) {
+        return hosts.stream()
+            .filter(host -> host.getVmScheduler().getPeCapacity() >= vm.getCurrentRequestedMaxMips())
+            .filter(host -> host.getVmScheduler().getAvailableMips() >= vm.getCurrentRequestedTotalMips())
+            .filter(host -> host.getRamProvisioner().getAvailableRam() >= vm.getCurrentRequestedRam())
+            .min(Comparator.comparingDouble((Host host) -> host.getVmScheduler().getAvailableMips())
+                .thenComparingInt(Host::getId))
+            .orElse(null);
+    }
+
+    private static Host host(int id, int pes, double peMips, int ram, long bw) {
+        List<Pe> peList = new ArrayList<>(pes);
+        for (int pe = 0; pe < pes; pe++) {
+            peList.add(new Pe(pe, new PeProvisionerSimple(peMips)));
+        }
+        return new Host(id, new RamProvisionerSimple(ram), new BwProvisionerSimple(bw), 1000000, peList,
+            new VmSchedulerTimeShared(peList));
+    }
+
+    private static Vm vm(int id, double mips, int pes, int ram, long bw) {
+        return new Vm(id, 0, mips, pes, ram, bw, 10000, "Xen", new CloudletSchedulerTimeShared());
+    }
+}
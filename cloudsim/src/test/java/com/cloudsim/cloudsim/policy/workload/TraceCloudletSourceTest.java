@@ -0,0 +1,150 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cloudsim.cloudsim.model.TraceSpec;
+
+class TraceCloudletSourceTest {
+
+    private static final String SWF = String.join("\n",
+        "; Version: 2.2",
+        "; Computer: test",
+        "1  0    5  100  4  -1 -1  4  -1 -1 1 1 1 -1 1 -1 -1 -1",
+        "2  10   0  50   -1 -1 -1 2  -1 -1 1 1 1 -1 1 -1 -1 -1",
+        "3  20   0  -1   1  -1 -1 1  -1 -1 0 1 1 -1 1 -1 -1 -1",
+        "4  30.5 0  2.5  1  -1 -1 1  -1 -1 1 1 1 -1 1 -1 -1 -1",
+        "5  40   0  10   8  -1 -1 8  -1 -1 1 1 1 -1 1 -1 -1 -1",
+        "");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsSwfRecordsAsCloudlets() throws IOException {
+        List<double[]> cloudlets = replay(spec(write("a.swf", SWF)), 0);
+
+        // Job 3 has no run time; job 2's allocated processors are unknown, so the requested ones count
+        assertEquals(4, cloudlets.size());
+        assertCloudlet(cloudlets.get(0), 0, 100_000, 0, 4);
+        assertCloudlet(cloudlets.get(1), 1, 50_000, 10, 2);
+        assertCloudlet(cloudlets.get(2), 2, 2_500, 30.5, 1);
+        assertCloudlet(cloudlets.get(3), 3, 10_000, 40, 8);
+    }
+
+    @Test
+    void windowLimitAndSamplingSelectRecords() throws IOException {
+        TraceSpec spec = spec(write("a.swf", SWF));
+        spec.setStartTime(10.0);
+        spec.setEndTime(40.0);
+        List<double[]> window = replay(spec, 0);
+        assertEquals(2, window.size());
+        // Arrivals count from the window start
+        assertEquals(0, window.get(0)[2]);
+        assertEquals(20.5, window.get(1)[2]);
+
+        assertEquals(1, replay(spec, 1).size());
+
+        StringBuilder trace = new StringBuilder("arrival,length\n");
+        for (int i = 0; i < 10_000; i++) {
+            trace.append(i).append(",1000\n");
+        }
+        TraceSpec sampled = spec(write("b.csv", trace.toString()));
+        sampled.setSamplingRate(0.25);
+        int kept = replay(sampled, 0).size();
+        assertTrue(kept > 2300 && kept < 2700, "kept " + kept);
+        assertEquals(kept, replay(sampled, 0).size());
+    }
+
+    @Test
+    void readsCsvByHeaderNames() throws IOException {
+        String csv = "\"id\",PES,Submit_Time,RunTime\r\n7,2,1.5,3\r\n8,,\"4\",1e1\r\nbad,1,x,1\r\n9,1,6,0.0005";
+        List<double[]> cloudlets = replay(spec(write("a.csv", csv)), 0);
+
+        assertEquals(3, cloudlets.size());
+        assertCloudlet(cloudlets.get(0), 0, 3_000, 0, 2);
+        assertCloudlet(cloudlets.get(1), 1, 10_000, 2.5, 1);
+        // Lengths are at least 1 MI
+        assertCloudlet(cloudlets.get(2), 2, 1, 4.5, 1);
+    }
+
+    @Test
+    void linesMaySpanBufferRefills() throws IOException {
+        StringBuilder text = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String line = "line " + i + " " + "x".repeat(i % 13);
+            expected.add(line);
+            text.append(line).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        List<String> lines = new ArrayList<>();
+        try (TraceLineReader reader = new TraceLineReader(write("lines.txt", text.toString()), 32)) {
+            while (reader.next()) {
+                lines.add(new String(reader.data(), reader.start(), reader.end() - reader.start(),
+                    StandardCharsets.US_ASCII));
+            }
+            assertFalse(reader.next());
+        }
+        assertEquals(expected, lines);
+    }
+
+    @Test
+    void parsesNumbersFromBytes() {
+        for (String number : new String[] { "0", "42", "-1", "+3.25", "0.001", "123456789.125", "1e3", "2.5E-2",
+            "12345678901234567890" }) {
+            assertEquals(Double.parseDouble(number), parse(number), number);
+        }
+        assertEquals(7.5, parse(" \"7.5\" "));
+        for (String bad : new String[] { "", "-", ".", "abc", "1.2.3", "3x" }) {
+            assertTrue(Double.isNaN(parse(bad)), bad);
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content);
+    }
+
+    private static TraceSpec spec(Path path) {
+        TraceSpec spec = new TraceSpec();
+        spec.setId("test");
+        spec.setPath(path.toString());
+        return spec;
+    }
+
+    // Each cloudlet as {id, length, arrival, pes}
+    private static List<double[]> replay(TraceSpec spec, int limit) throws IOException {
+        List<double[]> cloudlets = new ArrayList<>();
+        CloudletBatch batch = new CloudletBatch(3);
+        try (TraceCloudletSource source = new TraceCloudletSource(spec, limit)) {
+            while (source.next(batch)) {
+                for (int i = 0; i < batch.size(); i++) {
+                    cloudlets.add(new double[] { batch.id(i), batch.length(i), batch.arrivalTime(i), batch.pes(i) });
+                }
+            }
+        }
+        return cloudlets;
+    }
+
+    private static void assertCloudlet(double[] cloudlet, int id, long length, double arrival, int pes) {
+        assertEquals(id, (int) cloudlet[0]);
+        assertEquals(length, (long) cloudlet[1]);
+        assertEquals(arrival, cloudlet[2]);
+        assertEquals(pes, (int) cloudlet[3]);
+    }
+
+    private static double parse(String number) {
+        byte[] bytes = number.getBytes(StandardCharsets.US_ASCII);
+        return TraceCloudletSource.parseNumber(bytes, 0, bytes.length);
+    }
+}
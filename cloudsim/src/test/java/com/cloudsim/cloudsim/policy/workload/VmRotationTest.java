@@ -0,0 +1,62 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cloudbus.cloudsim.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.Vm;
+import org.junit.jupiter.api.Test;
+
+class VmRotationTest {
+
+    @Test
+    void equalVmsComeUpInCyclicOrder() {
+        List<Vm> vms = vms(1000, 1000, 1000, 1000, 1000);
+        VmRotation rotation = new VmRotation(vms);
+        for (int round = 0; round < 1000; round++) {
+            for (Vm vm : vms) {
+                assertSame(vm, rotation.next());
+            }
+        }
+    }
+
+    @Test
+    void picksAreProportionalToMips() {
+        List<Vm> vms = vms(500, 1000, 1500, 3000);
+        VmRotation rotation = new VmRotation(vms);
+        int[] picks = new int[vms.size()];
+        // One full stride cycle is 12 picks: 1 + 2 + 3 + 6
+        for (int i = 0; i < 1200; i++) {
+            picks[rotation.next().getId()]++;
+        }
+        assertEquals(100, picks[0]);
+        assertEquals(200, picks[1]);
+        assertEquals(300, picks[2]);
+        assertEquals(600, picks[3]);
+    }
+
+    @Test
+    void weightsCountEveryPe() {
+        List<Vm> vms = new ArrayList<>();
+        vms.add(new Vm(0, 0, 1000, 4, 512, 1000, 10000, "Xen", new CloudletSchedulerTimeShared()));
+        vms.add(new Vm(1, 0, 1000, 1, 512, 1000, 10000, "Xen", new CloudletSchedulerTimeShared()));
+        VmRotation rotation = new VmRotation(vms);
+        int[] picks = new int[2];
+        for (int i = 0; i < 500; i++) {
+            picks[rotation.next().getId()]++;
+        }
+        assertEquals(400, picks[0]);
+        assertEquals(100, picks[1]);
+    }
+
+    private static List<Vm> vms(double... mips) {
+        List<Vm> vms = new ArrayList<>();
+        for (int id = 0; id < mips.length; id++) {
+            vms.add(new Vm(id, 0, mips[id], 1, 512, 1000, 10000, "Xen", new CloudletSchedulerTimeShared()));
+        }
+        return vms;
+    }
+}
@@ -0,0 +1,167 @@
+package com.cloudsim.cloudsim.policy.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.model.WorkloadSpec;
+import com.cloudsim.cloudsim.model.WorkloadSpec.ArrivalProcess;
+import com.cloudsim.cloudsim.model.WorkloadSpec.LengthDistribution;
+
+class WorkloadGeneratorTest {
+
+    private static final int COUNT = 100_000;
+
+    @Test
+    void theSameSeedGivesTheSameWorkloadHoweverItIsBatched() {
+        WorkloadSpec spec = spec(LengthDistribution.PARETO, ArrivalProcess.POISSON);
+        List<String> small = generate(spec, 1000, 7);
+        List<String> large = generate(spec, 1000, 256);
+        assertEquals(1000, small.size());
+        assertEquals(small, large);
+        assertEquals(small, generate(spec, 1000, 7));
+
+        spec.setSeed(spec.getSeed() + 1);
+        assertNotEquals(small, generate(spec, 1000, 7));
+    }
+
+    @Test
+    void numbersCloudletsInOrderAndStopsAtTheCount() {
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setPesPerCloudlet(2);
+        WorkloadGenerator generator = new WorkloadGenerator(spec, 10);
+        CloudletBatch batch = new CloudletBatch(4);
+        int expectedId = 0;
+        while (generator.next(batch)) {
+            for (int i = 0; i < batch.size(); i++) {
+                assertEquals(expectedId++, batch.id(i));
+                assertEquals(2, batch.pes(i));
+                // The defaults: 1000 MI, all at time zero
+                assertEquals(1000, batch.length(i));
+                assertEquals(0, batch.arrivalTime(i));
+            }
+        }
+        assertEquals(10, expectedId);
+        assertFalse(generator.next(batch));
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    void drawsLengthsFromTheRequestedDistribution() {
+        long[] constant = lengths(spec(LengthDistribution.CONSTANT, ArrivalProcess.BATCH));
+        assertEquals(1000, constant[0]);
+        assertEquals(1000, constant[COUNT - 1]);
+
+        // Within mean * (1 +- spread)
+        long[] uniform = lengths(spec(LengthDistribution.UNIFORM, ArrivalProcess.BATCH));
+        assertTrue(uniform[0] >= 500 && uniform[COUNT - 1] <= 1500);
+        assertEquals(1000, mean(uniform), 10);
+
+        // Standard deviation equal to the mean
+        long[] exponential = lengths(spec(LengthDistribution.EXPONENTIAL, ArrivalProcess.BATCH));
+        assertEquals(1000, mean(exponential), 20);
+        assertEquals(1000, standardDeviation(exponential), 30);
+        assertEquals(1000 * Math.log(2), exponential[COUNT / 2], 20);
+
+        // Nothing below the scale mean * (shape - 1) / shape, and a median of scale * 2^(1 / shape)
+        long[] pareto = lengths(spec(LengthDistribution.PARETO, ArrivalProcess.BATCH));
+        double scale = 1000 * 1.5 / 2.5;
+        assertEquals(Math.round(scale), pareto[0], 1);
+        assertEquals(scale * Math.pow(2, 1 / 2.5), pareto[COUNT / 2], 10);
+        assertEquals(1000, mean(pareto), 50);
+    }
+
+    @Test
+    void spacesArrivalsByTheRequestedProcess() {
+        double[] batch = arrivals(spec(LengthDistribution.CONSTANT, ArrivalProcess.BATCH));
+        assertEquals(0, batch[COUNT - 1]);
+
+        // arrivalRate 100: exactly one every 10 ms
+        double[] uniform = arrivals(spec(LengthDistribution.CONSTANT, ArrivalProcess.UNIFORM));
+        assertEquals(0, uniform[0]);
+        assertEquals(0.01, uniform[1], 1e-12);
+        assertEquals((COUNT - 1) * 0.01, uniform[COUNT - 1], 1e-6);
+
+        // Exponential gaps with a mean of 10 ms, and so a coefficient of variation of one
+        double[] poisson = arrivals(spec(LengthDistribution.CONSTANT, ArrivalProcess.POISSON));
+        assertEquals(0, poisson[0]);
+        double[] gaps = new double[COUNT - 1];
+        for (int i = 1; i < COUNT; i++) {
+            gaps[i - 1] = poisson[i] - poisson[i - 1];
+            assertTrue(gaps[i - 1] >= 0);
+        }
+        double meanGap = Arrays.stream(gaps).average().orElseThrow();
+        assertEquals(0.01, meanGap, 0.0002);
+        double variance = Arrays.stream(gaps).map(gap -> (gap - meanGap) * (gap - meanGap)).sum() / (gaps.length - 1);
+        assertEquals(1, Math.sqrt(variance) / meanGap, 0.02);
+    }
+
+    private static WorkloadSpec spec(LengthDistribution lengths, ArrivalProcess arrivals) {
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setLengthDistribution(lengths);
+        spec.setArrivalProcess(arrivals);
+        spec.setSeed(7);
+        return spec;
+    }
+
+    private static List<String> generate(WorkloadSpec spec, int count, int batchSize) {
+        WorkloadGenerator generator = new WorkloadGenerator(spec, count);
+        CloudletBatch batch = new CloudletBatch(batchSize);
+        List<String> cloudlets = new ArrayList<>();
+        while (generator.next(batch)) {
+            for (int i = 0; i < batch.size(); i++) {
+                cloudlets.add(batch.id(i) + "/" + batch.length(i) + "/" + batch.arrivalTime(i));
+            }
+        }
+        return cloudlets;
+    }
+
+    // Sorted, for order statistics
+    private static long[] lengths(WorkloadSpec spec) {
+        long[] lengths = new long[COUNT];
+        WorkloadGenerator generator = new WorkloadGenerator(spec, COUNT);
+        CloudletBatch batch = new CloudletBatch(1024);
+        int n = 0;
+        while (generator.next(batch)) {
+            for (int i = 0; i < batch.size(); i++) {
+                lengths[n++] = batch.length(i);
+            }
+        }
+        Arrays.sort(lengths);
+        return lengths;
+    }
+
+    // In arrival order
+    private static double[] arrivals(WorkloadSpec spec) {
+        double[] arrivals = new double[COUNT];
+        WorkloadGenerator generator = new WorkloadGenerator(spec, COUNT);
+        CloudletBatch batch = new CloudletBatch(1024);
+        int n = 0;
+        while (generator.next(batch)) {
+            for (int i = 0; i < batch.size(); i++) {
+                arrivals[n++] = batch.arrivalTime(i);
+            }
+        }
+        return arrivals;
+    }
+
+    private static double mean(long[] values) {
+        return Arrays.stream(values).average().orElseThrow();
+    }
+
+    private static double standardDeviation(long[] values) {
+        double mean = mean(values);
+        double sum = 0;
+        for (long value : values) {
+            sum += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(sum / (values.length - 1));
+    }
+}
@@ -0,0 +1,128 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.service.AdmissionQueue.Lane;
+import com.cloudsim.cloudsim.service.AdmissionRejectedException.Reason;
+
+class AdmissionQueueTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void cheapRequestsStartBeforeQueuedExpensiveOnes() throws Exception {
+        AdmissionQueue queue = new AdmissionQueue(1, 100, 10, 5000, 10, 16, 1000);
+        // Over budget, but a request that costs more than all of it still runs alone
+        queue.acquire("a", 1_000_000).close();
+        AdmissionQueue.Permit first = queue.acquire("a", 60);
+        assertEquals(60, queue.getRunningCost());
+
+        List<String> started = new CopyOnWriteArrayList<>();
+        Future<?> batch = executor.submit(() -> run(queue, "batch", 60, started));
+        awaitUntil(() -> queue.getQueued(Lane.BATCH) == 1);
+        Future<?> interactive = executor.submit(() -> run(queue, "interactive", 5, started));
+        awaitUntil(() -> queue.getQueued(Lane.INTERACTIVE) == 1);
+
+        first.close();
+        // Idempotent
+        first.close();
+        batch.get(5, TimeUnit.SECONDS);
+        interactive.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("interactive", "batch"), started);
+        assertEquals(0, queue.getRunning());
+        assertEquals(0, queue.getRunningCost());
+    }
+
+    @Test
+    void turnsAwayWhatCannotBeQueued() throws Exception {
+        AdmissionQueue queue = new AdmissionQueue(1, 100, 1, 5000, 10, 1, 1000);
+        AdmissionQueue.Permit running = queue.acquire("a", 50);
+        assertEquals(Reason.CLIENT_QUOTA, rejection(() -> queue.acquire("a", 1)));
+
+        Future<AdmissionQueue.Permit> batch = executor.submit(() -> queue.acquire("b", 50));
+        awaitUntil(() -> queue.getQueued(Lane.BATCH) == 1);
+        assertEquals(Reason.QUEUE_FULL, rejection(() -> queue.acquire("c", 50)));
+
+        // An interactive request takes the batch request's place
+        Future<AdmissionQueue.Permit> interactive = executor.submit(() -> queue.acquire("c", 5));
+        ExecutionException shed = assertThrows(ExecutionException.class, () -> batch.get(5, TimeUnit.SECONDS));
+        assertEquals(Reason.SHED, ((AdmissionRejectedException) shed.getCause()).getReason());
+        assertEquals(1, queue.getQueued(Lane.INTERACTIVE));
+        assertEquals(0, queue.getQueued(Lane.BATCH));
+
+        running.close();
+        interactive.get(5, TimeUnit.SECONDS).close();
+        // Quotas are given back
+        queue.acquire("a", 1).close();
+        queue.acquire("b", 1).close();
+    }
+
+    @Test
+    void rejectsBacklogsThatWouldNotDrainInTime() throws Exception {
+        AdmissionQueue queue = new AdmissionQueue(1, 100, 10, 200, 10, 16, 1000);
+        // Teaches the queue that a unit of cost takes about 10 ms
+        AdmissionQueue.Permit measured = queue.acquire("a", 10);
+        Thread.sleep(100);
+        measured.close();
+
+        AdmissionQueue.Permit running = queue.acquire("a", 50);
+        long start = System.nanoTime();
+        AdmissionRejectedException overloaded = assertThrows(AdmissionRejectedException.class,
+            () -> queue.acquire("b", 1));
+        assertEquals(Reason.OVERLOADED, overloaded.getReason());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(overloaded.getRetryAfterSeconds() >= 1);
+        running.close();
+
+        // With no history to go by, a request waits the full time before giving up
+        AdmissionQueue fresh = new AdmissionQueue(1, 100, 10, 200, 10, 16, 1000);
+        AdmissionQueue.Permit held = fresh.acquire("a", 50);
+        start = System.nanoTime();
+        assertEquals(Reason.WAIT_TIMEOUT, rejection(() -> fresh.acquire("b", 50)));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(0, fresh.getQueued(Lane.BATCH));
+        held.close();
+    }
+
+    private static Void run(AdmissionQueue queue, String name, long cost, List<String> started) throws Exception {
+        try (AdmissionQueue.Permit permit = queue.acquire(name, cost)) {
+            started.add(name);
+        }
+        return null;
+    }
+
+    private static Reason rejection(Acquisition acquisition) {
+        return assertThrows(AdmissionRejectedException.class, acquisition::acquire).getReason();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    private interface Acquisition {
+        void acquire() throws Exception;
+    }
+}
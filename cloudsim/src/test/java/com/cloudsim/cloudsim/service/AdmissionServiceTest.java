@@ -0,0 +1,44 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.model.SimulationRequest;
+
+class AdmissionServiceTest {
+
+    @Test
+    void vmsCostTheirSetupEvenWithoutCloudlets() {
+        long empty = AdmissionService.cost(request(1, 0, 0));
+        long vmsOnly = AdmissionService.cost(request(1, 1000, 0));
+        assertEquals(0, empty);
+        assertTrue(vmsOnly >= 1000);
+        // Every tenant's VMs are built
+        assertEquals(10 * vmsOnly, AdmissionService.cost(request(10, 1000, 0)));
+        // Cloudlets cost on top of the setup
+        assertTrue(AdmissionService.cost(request(1, 1000, 100)) > vmsOnly);
+    }
+
+    @Test
+    void replicasAndStrategiesMultiplyTheWholeCost() {
+        SimulationRequest request = request(2, 100, 50);
+        long single = AdmissionService.cost(request);
+        request.setReplicas(3);
+        request.setStrategies(List.of("TimeShared", "RoundRobin"));
+        // Within the rounding up of each
+        assertEquals(6.0 * single, AdmissionService.cost(request), 6);
+    }
+
+    private static SimulationRequest request(int users, int vms, int cloudlets) {
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfUsers(users);
+        request.setNumberOfVms(vms);
+        request.setNumberOfCloudlets(cloudlets);
+        request.setStrategies(List.of("TimeShared"));
+        return request;
+    }
+}
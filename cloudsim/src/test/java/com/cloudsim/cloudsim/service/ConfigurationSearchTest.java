@@ -0,0 +1,159 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.model.OptimizationCandidate;
+import com.cloudsim.cloudsim.model.OptimizationRequest;
+import com.cloudsim.cloudsim.model.OptimizationResult;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+class ConfigurationSearchTest {
+
+    private static final int CLOUDLETS = 200;
+    private static final int[] VMS = IntStream.rangeClosed(1, 40).toArray();
+    private static final int[] VM_RAM = {512, 1024};
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findsTheCheapestConfigurationThatKeepsTheSla() {
+        Map<String, AtomicInteger> runs = new ConcurrentHashMap<>();
+        OptimizationResult result = search(request(16, 80, 0.1), (strategy, request) -> {
+            runs.computeIfAbsent(strategy + "/" + request.getNumberOfVms() + "/" + request.getVmRam() + "/"
+                + request.getNumberOfCloudlets(), key -> new AtomicInteger()).incrementAndGet();
+            return model(strategy, request);
+        });
+
+        // B with 512 MB needs 22 VMs and is 10% cheaper than A, which needs 20
+        OptimizationCandidate best = result.getBest();
+        assertNotNull(best);
+        assertEquals("B", best.getStrategy());
+        assertEquals(22, best.getNumberOfVms());
+        assertEquals(512, best.getVmRam());
+        assertTrue(best.isFeasible());
+
+        // Nothing was simulated twice on the same horizon, and half of what was screened went no further
+        runs.values().forEach(count -> assertEquals(1, count.get()));
+        assertEquals(result.getScreenings() + result.getEvaluations(), runs.size());
+        assertEquals(result.getScreenings() - result.getEvaluations(), result.getPruned());
+        assertTrue(result.getPruned() > 0);
+        assertTrue(result.getEvaluations() <= 80);
+        assertTrue(result.getMemoHits() > 0);
+
+        List<OptimizationCandidate> front = result.getParetoFront();
+        for (OptimizationCandidate a : front) {
+            for (OptimizationCandidate b : front) {
+                assertFalse(ConfigurationSearch.dominates(a.getResult(), b.getResult()));
+            }
+        }
+        for (int i = 1; i < front.size(); i++) {
+            assertTrue(front.get(i - 1).getResult().getCost() <= front.get(i).getResult().getCost());
+        }
+    }
+
+    @Test
+    void isTheSameSearchForTheSameSeed() {
+        OptimizationResult first = search(request(8, 24, 0.1), ConfigurationSearchTest::model);
+        OptimizationResult second = search(request(8, 24, 0.1), ConfigurationSearchTest::model);
+        assertEquals(describe(first), describe(second));
+        assertEquals(first.getMemoHits(), second.getMemoHits());
+    }
+
+    @Test
+    void leavesFailedCandidatesOffTheFront() {
+        // Without screening every candidate is simulated in full, and only A ever completes
+        OptimizationResult result = search(request(8, 16, 1), (strategy, request) -> {
+            if (strategy.equals("B")) {
+                throw new IllegalStateException("kernel crashed");
+            }
+            SimulationResult model = model(strategy, request);
+            model.setSlaViolationRate(0.5);
+            return model;
+        });
+        assertEquals(0, result.getScreenings());
+        assertEquals(16, result.getEvaluations());
+        assertNull(result.getBest());
+        assertFalse(result.getParetoFront().isEmpty());
+        result.getParetoFront().forEach(candidate -> {
+            assertEquals("A", candidate.getStrategy());
+            assertFalse(candidate.isFeasible());
+        });
+    }
+
+    @Test
+    void screensOnAFractionOfTheCloudlets() {
+        assertEquals(20, ConfigurationSearch.screeningCloudlets(200, 0.1));
+        assertEquals(ConfigurationSearch.MIN_SCREENING_CLOUDLETS, ConfigurationSearch.screeningCloudlets(50, 0.01));
+        // Too few to save anything, or an uncapped trace
+        assertEquals(0, ConfigurationSearch.screeningCloudlets(10, 0.5));
+        assertEquals(0, ConfigurationSearch.screeningCloudlets(0, 0.1));
+        assertEquals(0, ConfigurationSearch.screeningCloudlets(200, 1));
+    }
+
+    /**
+     * A stand-in for the simulator: cost grows with VMs and their RAM, B is 10% cheaper
+     * but needs two more VMs than A to keep up, and larger VMs need fewer. A short
+     * horizon sees half the violations a full one does.
+     */
+    private static SimulationResult model(String strategy, SimulationRequest request) {
+        int vms = request.getNumberOfVms();
+        double ramFactor = request.getVmRam() / 512.0;
+        double needed = (request.getVmRam() == 512 ? 20 : 16) + (strategy.equals("B") ? 2 : 0);
+        double horizon = request.getNumberOfCloudlets() == CLOUDLETS ? 1 : 0.5;
+        SimulationResult result = new SimulationResult(strategy, 0, vms * ramFactor * (strategy.equals("B") ? 0.9 : 1),
+            vms * 10 + ramFactor, 0);
+        result.setSlaViolationRate(Math.max(0, 1 - vms / needed) * horizon);
+        result.setStatus(ResultStatus.COMPLETED);
+        return result;
+    }
+
+    private OptimizationResult search(OptimizationRequest request,
+            BiFunction<String, SimulationRequest, SimulationResult> evaluator) {
+        return new ConfigurationSearch(request, VMS, VM_RAM, evaluator, executor, 4).run();
+    }
+
+    private static OptimizationRequest request(int populationSize, int maxEvaluations, double screeningFraction) {
+        SimulationRequest base = new SimulationRequest();
+        base.setNumberOfUsers(1);
+        base.setNumberOfCloudlets(CLOUDLETS);
+        base.setVmRam(512);
+        base.setSlaThreshold(10);
+        base.setStrategies(List.of("A", "B"));
+        OptimizationRequest request = new OptimizationRequest();
+        request.setBase(base);
+        request.setPopulationSize(populationSize);
+        request.setMaxEvaluations(maxEvaluations);
+        request.setScreeningFraction(screeningFraction);
+        request.setSeed(7);
+        return request;
+    }
+
+    private static List<String> describe(OptimizationResult result) {
+        return result.getParetoFront().stream()
+            .map(candidate -> candidate.getStrategy() + "/" + candidate.getNumberOfVms() + "/" + candidate.getVmRam())
+            .toList();
+    }
+}
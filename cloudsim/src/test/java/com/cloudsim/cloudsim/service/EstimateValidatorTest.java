@@ -0,0 +1,199 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.model.EstimateAccuracy;
+import com.cloudsim.cloudsim.model.ExecutionMode;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EstimateValidatorTest {
+
+    private final ExecutorService strategyExecutor = Executors.newFixedThreadPool(2);
+    private final ThreadPoolExecutor validationExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>());
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger runs = new AtomicInteger();
+    // Admitted runs in flight, as seen from inside each run
+    private final AtomicInteger admittedDuringRun = new AtomicInteger();
+    private final Semaphore release = new Semaphore(0);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    /** Simulates a makespan of 100 and response times of 10 and 20; RoundRobin hangs and BestFit waits. */
+    private final SimulationEngine engine = new SimulationEngine(1) {
+        @Override
+        public SimulationResult run(String strategy, SimulationRequest request) {
+            runs.incrementAndGet();
+            admittedDuringRun.set((int) registry.get("simulation.admission.running").gauge().value());
+            try {
+                if (strategy.equals("RoundRobin")) {
+                    Thread.sleep(60_000);
+                }
+                if (strategy.equals("BestFit")) {
+                    release.acquire();
+                }
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException("Interrupted");
+            }
+            return result(strategy, 100, 10, 20);
+        }
+    };
+
+    @AfterEach
+    void shutdown() {
+        release.release(100);
+        strategyExecutor.shutdownNow();
+        validationExecutor.shutdownNow();
+    }
+
+    @Test
+    void comparesSampledEstimatesWithAdmittedSimulations() {
+        EstimateValidator validator = validator(2, 1000, 60_000);
+        // 300 cloudlets for each of 5 users is more than max-cloudlets in total
+        validator.sample("TimeShared", request(5, 300, 1), result("TimeShared", 50, 5, 10));
+        validator.validateSamples();
+        assertEquals(0, runs.get());
+        assertTrue(validator.getAccuracy().isEmpty());
+
+        validator.sample("TimeShared", request(1, 100, 3), result("TimeShared", 999, 99, 99));
+        validator.sample("TimeShared", request(5, 100, 1), result("TimeShared", 999, 99, 99));
+        // The eldest beyond two goes, and the same request again replaces its older sample
+        validator.sample("TimeShared", request(1, 100, 2), result("TimeShared", 110, 12, 20));
+        validator.sample("TimeShared", request(5, 100, 1), result("TimeShared", 80, 10, 15));
+        validator.validateSamples();
+        assertEquals(2, runs.get());
+        assertEquals(1, admittedDuringRun.get());
+
+        EstimateAccuracy accuracy = validator.getAccuracy().get(0);
+        assertEquals("TimeShared", accuracy.getStrategy());
+        assertEquals(2, accuracy.getSamples());
+        assertEquals(0.15, accuracy.getMeanMakespanError(), 1e-9);
+        assertEquals(0.2, accuracy.getMaxMakespanError(), 1e-9);
+        assertEquals(0.1, accuracy.getMeanResponseTimeError(), 1e-9);
+        assertEquals(0.125, accuracy.getP95ResponseTimeError(), 1e-9);
+        assertTrue(accuracy.getLastValidatedAt() > 0);
+
+        // A sample whose simulation is already cached costs no run
+        validator.sample("TimeShared", request(1, 100, 2), result("TimeShared", 100, 10, 20));
+        validator.validateSamples();
+        assertEquals(2, runs.get());
+        assertEquals(3, validator.getAccuracy().get(0).getSamples());
+        assertEquals(0, registry.get("simulation.admission.running").gauge().value());
+    }
+
+    @Test
+    void givesUpOnASimulationPastTheTimeout() throws Exception {
+        EstimateValidator validator = validator(4, 1000, 200);
+        validator.sample("RoundRobin", request(1, 100, 1), result("RoundRobin", 100, 10, 20));
+        validator.sample("TimeShared", request(1, 100, 1), result("TimeShared", 100, 10, 20));
+        validator.validateSamples();
+
+        // The hung run is interrupted and its permit returned; the rest of the round goes on
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("TimeShared"),
+            validator.getAccuracy().stream().map(EstimateAccuracy::getStrategy).toList());
+        assertEquals(0, registry.get("simulation.admission.running").gauge().value());
+    }
+
+    @Test
+    void runsRoundsOnTheValidationExecutorOneAtATime() throws Exception {
+        EstimateValidator validator = validator(4, 1000, 60_000);
+        validator.sample("BestFit", request(1, 100, 1), result("BestFit", 100, 10, 20));
+        validator.validate();
+        awaitUntil(() -> runs.get() == 1);
+
+        // The scheduler thread is not held up, and a tick during a round adds no second one
+        validator.sample("BestFit", request(1, 100, 2), result("BestFit", 100, 10, 20));
+        validator.validate();
+        assertTrue(validationExecutor.getQueue().isEmpty());
+
+        release.release();
+        awaitUntil(() -> !validator.getAccuracy().isEmpty());
+        assertEquals(1, runs.get());
+        awaitUntil(() -> validationExecutor.getActiveCount() == 0);
+
+        release.release();
+        validator.validate();
+        awaitUntil(() -> validator.getAccuracy().get(0).getSamples() == 2);
+    }
+
+    private EstimateValidator validator(int maxSamples, int maxCloudlets, long timeoutMs) {
+        AdmissionService admissionService = new AdmissionService();
+        ReflectionTestUtils.setField(admissionService, "simulationEngine", engine);
+        ReflectionTestUtils.setField(admissionService, "registry", registry);
+        ReflectionTestUtils.setField(admissionService, "enabled", true);
+        ReflectionTestUtils.setField(admissionService, "maxCost", Long.MAX_VALUE);
+        ReflectionTestUtils.setField(admissionService, "queueCapacity", 10);
+        ReflectionTestUtils.setField(admissionService, "maxWaitMs", 1000L);
+        ReflectionTestUtils.setField(admissionService, "clientMaxRequests", 10);
+        ReflectionTestUtils.setField(admissionService, "clientMaxCost", Long.MAX_VALUE);
+        admissionService.init();
+
+        ResultCache resultCache = new ResultCache();
+        ReflectionTestUtils.setField(resultCache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(resultCache, "enabled", true);
+        ReflectionTestUtils.setField(resultCache, "maxEntries", 100);
+        ReflectionTestUtils.setField(resultCache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(resultCache, "diskDir", "");
+
+        EstimateValidator validator = new EstimateValidator();
+        ReflectionTestUtils.setField(validator, "simulationEngine", engine);
+        ReflectionTestUtils.setField(validator, "resultCache", resultCache);
+        ReflectionTestUtils.setField(validator, "admissionService", admissionService);
+        ReflectionTestUtils.setField(validator, "strategyExecutor", strategyExecutor);
+        ReflectionTestUtils.setField(validator, "validationExecutor", validationExecutor);
+        ReflectionTestUtils.setField(validator, "strategyTimeoutMs", timeoutMs);
+        ReflectionTestUtils.setField(validator, "maxSamples", maxSamples);
+        ReflectionTestUtils.setField(validator, "maxCloudlets", maxCloudlets);
+        return validator;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    private static SimulationRequest request(int users, int cloudlets, int vms) {
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfUsers(users);
+        request.setNumberOfVms(vms);
+        request.setNumberOfCloudlets(cloudlets);
+        request.setVmRam(512);
+        request.setSlaThreshold(10);
+        request.setMode(ExecutionMode.ESTIMATE);
+        return request;
+    }
+
+    private static SimulationResult result(String strategy, double makespan, double meanResponseTime,
+            double p95ResponseTime) {
+        SimulationResult result = new SimulationResult(strategy, 1, 1, 1, 0);
+        result.setMakespan(makespan);
+        result.setMeanResponseTime(meanResponseTime);
+        result.setP95ResponseTime(p95ResponseTime);
+        return result;
+    }
+}
@@ -0,0 +1,101 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+class ReplicaSetTest {
+
+    @Test
+    void foldsEveryReplicaWithConsecutiveSeeds() {
+        List<Long> seeds = new ArrayList<>();
+        SimulationResult result = run(request(5, null, 0), 2, seeds);
+
+        assertEquals(List.of(42L, 43L, 44L, 45L, 46L), seeds);
+        // Execution times are the seeds, so the mean is 44 and the sample variance 2.5
+        assertEquals(44, result.getExecutionTime());
+        assertEquals(44, result.getReplication().getExecutionTime().getMean());
+        assertEquals(2.5, result.getReplication().getExecutionTime().getVariance(), 1e-12);
+        assertEquals(44 - 2.776 * Math.sqrt(0.5), result.getReplication().getExecutionTime().getCiLower(), 1e-9);
+        assertEquals(5, result.getReplication().getCompleted());
+        assertFalse(result.getReplication().isStoppedEarly());
+    }
+
+    @Test
+    void stopsOnceTheIntervalsAreTightEnough() {
+        List<Long> seeds = new ArrayList<>();
+        // Relative half-width after n replicas of seeds 1000, 1001, ... is about 0.1% already at three
+        SimulationResult result = run(request(100, 1000L, 0.01), 4, seeds);
+
+        assertEquals(ReplicaSet.MIN_REPLICAS_TO_STOP, result.getReplication().getCompleted());
+        assertTrue(result.getReplication().isStoppedEarly());
+        assertEquals(1000, result.getReplication().getBaseSeed());
+        // The window was kept full, but what was folded is the same for any window
+        assertEquals(6, seeds.size());
+        assertEquals(1001, result.getExecutionTime());
+    }
+
+    @Test
+    void aFailedReplicaEndsTheRun() {
+        SimulationRequest request = request(10, null, 0);
+        ReplicaSet set = new ReplicaSet("Fake", request, 3,
+            replica -> CompletableFuture.completedFuture(replica.getWorkload().getSeed() == 44
+                ? SimulationResult.partial("Fake", ResultStatus.TIMED_OUT, "slow")
+                : result(replica.getWorkload().getSeed())),
+            (future, deadline) -> join(future));
+        while (set.advance(0)) {
+        }
+        SimulationResult result = set.toResult();
+
+        assertEquals(ResultStatus.TIMED_OUT, result.getStatus());
+        assertEquals("Replica 2: slow", result.getError());
+        assertEquals(2, result.getReplication().getCompleted());
+        assertEquals(42.5, result.getExecutionTime());
+    }
+
+    private static SimulationResult run(SimulationRequest request, int window, List<Long> seeds) {
+        ReplicaSet set = new ReplicaSet("Fake", request, window, replica -> {
+            long seed = replica.getWorkload().getSeed();
+            seeds.add(seed);
+            return CompletableFuture.completedFuture(result(seed));
+        }, (future, deadline) -> join(future));
+        while (set.advance(0)) {
+        }
+        return set.toResult();
+    }
+
+    private static SimulationResult join(Future<SimulationResult> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static SimulationResult result(long seed) {
+        SimulationResult result = new SimulationResult("Fake", seed, 2 * seed, 3 * seed, 0);
+        result.setVmUtilization(new double[] { seed / 100.0 });
+        return result;
+    }
+
+    private static SimulationRequest request(int replicas, Long baseSeed, double ciTolerance) {
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfVms(1);
+        request.setNumberOfCloudlets(10);
+        request.setReplicas(replicas);
+        request.setBaseSeed(baseSeed);
+        request.setCiTolerance(ciTolerance);
+        return request;
+    }
+}
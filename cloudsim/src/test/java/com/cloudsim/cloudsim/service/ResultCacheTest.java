@@ -0,0 +1,153 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cloudsim.cloudsim.model.CacheStats;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ResultCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryBeyondMaxEntries() {
+        ResultCache cache = cache(2, 60_000, null, 100);
+        cache.put("a", result(1));
+        cache.put("b", result(2));
+        // Reading a makes b the least recently used
+        assertEquals(1, cache.get("a").getMakespan());
+        cache.put("c", result(3));
+
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a").getMakespan());
+        assertEquals(3, cache.get("c").getMakespan());
+        // Partial results are never cached
+        cache.put("d", SimulationResult.partial("TimeShared", ResultStatus.TIMED_OUT, "slow"));
+        assertNull(cache.get("d"));
+
+        CacheStats stats = cache.getStats();
+        assertEquals(3, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(1, stats.getEvictions());
+        assertEquals(0, stats.getDiskHits());
+        assertEquals(2, stats.getMemoryEntries());
+        assertEquals(0, stats.getDiskEntries());
+    }
+
+    @Test
+    void spillsToDiskAndPromotesBackOnAHit() throws IOException {
+        ResultCache cache = cache(1, 60_000, dir, 100);
+        cache.put("a", result(1));
+        cache.put("b", result(2));
+        assertEquals(List.of("a.json"), diskFiles());
+        assertEquals(1, cache.getStats().getDiskEntries());
+
+        // a comes back into memory and pushes b out to disk in its place
+        assertEquals(1, cache.get("a").getMakespan());
+        assertEquals(List.of("b.json"), diskFiles());
+        assertEquals(2, cache.get("b").getMakespan());
+        assertEquals(List.of("a.json"), diskFiles());
+
+        CacheStats stats = cache.getStats();
+        assertEquals(2, stats.getDiskHits());
+        assertEquals(0, stats.getHits());
+        assertEquals(3, stats.getEvictions());
+        assertEquals(1, stats.getMemoryEntries());
+        assertEquals(1, stats.getDiskEntries());
+
+        cache.clear();
+        assertEquals(0, cache.getStats().getDiskEntries());
+        assertTrue(diskFiles().isEmpty());
+    }
+
+    @Test
+    void expiresEntriesInBothTiers() throws Exception {
+        ResultCache cache = cache(1, 200, dir, 100);
+        cache.put("a", result(1));
+        cache.put("b", result(2));
+        cache.put("c", result(3));
+        assertEquals(2, cache.getStats().getDiskEntries());
+        Thread.sleep(250);
+
+        // Found expired on a read, in memory and on disk
+        assertNull(cache.get("c"));
+        assertNull(cache.get("a"));
+        assertEquals(List.of("b.json"), diskFiles());
+        // The rest goes in the next cleanup
+        cache.cleanup();
+        assertTrue(diskFiles().isEmpty());
+
+        CacheStats stats = cache.getStats();
+        assertEquals(3, stats.getExpirations());
+        assertEquals(2, stats.getMisses());
+        assertEquals(0, stats.getMemoryEntries());
+        assertEquals(0, stats.getDiskEntries());
+    }
+
+    @Test
+    void trimsTheDiskTierToItsLimitSoonestToExpireFirst() throws Exception {
+        ResultCache cache = cache(1, 60_000, dir, 2);
+        for (String key : new String[] {"a", "b", "c", "d"}) {
+            cache.put(key, result(1));
+            // Spilled files tell their expiry apart by modification time
+            Thread.sleep(10);
+        }
+        assertEquals(3, cache.getStats().getDiskEntries());
+
+        cache.cleanup();
+        assertEquals(List.of("b.json", "c.json"), diskFiles());
+        CacheStats stats = cache.getStats();
+        assertEquals(2, stats.getDiskEntries());
+        // Three spills from memory and one file trimmed
+        assertEquals(4, stats.getEvictions());
+
+        // A new cache over the same directory counts what is already there
+        ResultCache reopened = cache(1, 60_000, dir, 2);
+        reopened.init();
+        assertEquals(2, reopened.getStats().getDiskEntries());
+        assertNotNull(reopened.get("b"));
+        assertFalse(Files.exists(dir.resolve("b.json")));
+        assertEquals(1, reopened.getStats().getDiskEntries());
+    }
+
+    private static ResultCache cache(int maxEntries, long ttlMs, Path diskDir, int diskMaxEntries) {
+        ResultCache cache = new ResultCache();
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", maxEntries);
+        ReflectionTestUtils.setField(cache, "ttlMs", ttlMs);
+        ReflectionTestUtils.setField(cache, "diskDir", diskDir != null ? diskDir.toString() : "");
+        ReflectionTestUtils.setField(cache, "diskMaxEntries", diskMaxEntries);
+        return cache;
+    }
+
+    private List<String> diskFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static SimulationResult result(double makespan) {
+        SimulationResult result = new SimulationResult("TimeShared", 1, 1, 1, 0);
+        result.setMakespan(makespan);
+        result.setStatus(ResultStatus.COMPLETED);
+        return result;
+    }
+}
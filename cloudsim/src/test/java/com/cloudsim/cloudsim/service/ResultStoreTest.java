@@ -0,0 +1,152 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cloudsim.cloudsim.model.ExecutionMode;
+import com.cloudsim.cloudsim.model.ResultGroup;
+import com.cloudsim.cloudsim.model.ResultQuery;
+import com.cloudsim.cloudsim.model.ResultQueryResponse;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+class ResultStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void filtersAndGroupsOnRequestParameters() {
+        ResultStore store = new ResultStore(true, dir.toString(), 1000, Long.MAX_VALUE);
+        long now = System.currentTimeMillis();
+        for (int vms = 1; vms <= 128; vms *= 2) {
+            for (int ram : new int[] {512, 1024}) {
+                store.append(request(vms, ram, ExecutionMode.SIMULATE),
+                    List.of(result("TimeShared", vms + ram), result("RoundRobin", 1), failed("BestFit")), now);
+            }
+        }
+        store.append(request(16, 512, ExecutionMode.ESTIMATE), List.of(result("TimeShared", 1)), now);
+
+        ResultQuery query = new ResultQuery();
+        query.setStrategy("TimeShared");
+        query.setMode(ExecutionMode.SIMULATE);
+        query.setNumberOfVms(new ResultQuery.Range(8.0, 64.0));
+        query.setGroupBy(ResultQuery.GroupBy.VM_RAM);
+        ResultQueryResponse response = store.query(query);
+
+        // 8, 16, 32 and 64 VMs at each RAM size; makespans are vms + ram
+        assertEquals(8, response.getMatched());
+        assertEquals(2, response.getGroups().size());
+        ResultGroup small = response.getGroups().get(0);
+        assertEquals(512, small.getKey());
+        assertEquals(4, small.getCount());
+        assertEquals(512 + 30, small.getMeanMakespan(), 1e-9);
+        assertEquals(512 + 8, small.getMinMakespan());
+        assertEquals(512 + 64, small.getMaxMakespan());
+        assertEquals(1024, response.getGroups().get(1).getKey());
+
+        ResultQuery byStrategy = new ResultQuery();
+        byStrategy.setGroupBy(ResultQuery.GroupBy.STRATEGY);
+        List<ResultGroup> strategies = store.query(byStrategy).getGroups();
+        // Failed results are not stored
+        assertEquals(List.of("RoundRobin", "TimeShared"), strategies.stream().map(ResultGroup::getKey).toList());
+        assertEquals(17, strategies.get(1).getCount());
+
+        ResultQuery unknown = new ResultQuery();
+        unknown.setStrategy("Nope");
+        assertEquals(0, store.query(unknown).getMatched());
+        store.close();
+    }
+
+    @Test
+    void reopensWhereItLeftOffAndCutsPartialRecords() throws IOException {
+        ResultStore store = new ResultStore(true, dir.toString(), 3, Long.MAX_VALUE);
+        for (int i = 0; i < 5; i++) {
+            store.append(request(i, 512, ExecutionMode.SIMULATE), List.of(result("TimeShared", i)), 1000 + i);
+        }
+        store.close();
+        // A crash in the middle of a write
+        Files.write(dir.resolve("segment-0000000000000001.bin"), new byte[50], StandardOpenOption.APPEND);
+
+        ResultStore reopened = new ResultStore(true, dir.toString(), 3, Long.MAX_VALUE);
+        reopened.append(request(5, 512, ExecutionMode.SIMULATE), List.of(result("RoundRobin", 5)), 2000);
+        ResultQueryResponse all = reopened.query(new ResultQuery());
+        assertEquals(6, all.getMatched());
+        assertEquals(2.5, all.getGroups().get(0).getMeanMakespan(), 1e-9);
+        assertEquals(2, segments());
+        reopened.close();
+    }
+
+    @Test
+    void compactionDropsExpiredRecordsAndPacksSegments() throws IOException {
+        long now = System.currentTimeMillis();
+        ResultStore store = new ResultStore(true, dir.toString(), 10, 60_000);
+        // 15 expired records, then 20 live ones: three full segments and a half-full one
+        for (int i = 0; i < 35; i++) {
+            long recordedAt = i < 15 ? now - 3_600_000 + i : now + i;
+            store.append(request(i, 512, ExecutionMode.SIMULATE), List.of(result("TimeShared", i)), recordedAt);
+        }
+        assertEquals(4, segments());
+
+        ResultQuery recent = new ResultQuery();
+        recent.setFrom(now);
+        ResultQueryResponse before = store.query(recent);
+        assertEquals(20, before.getMatched());
+        // The first segment lies entirely outside the window
+        assertEquals(25, before.getScanned());
+
+        store.compact();
+        // Records 15..29 go into two segments, followed by the one still being appended to
+        assertEquals(3, segments());
+        ResultQueryResponse all = store.query(new ResultQuery());
+        assertEquals(20, all.getMatched());
+        assertEquals(20, all.getScanned());
+        assertEquals(24.5, all.getGroups().get(0).getMeanMakespan(), 1e-9);
+        assertNull(all.getGroups().get(0).getKey());
+
+        // Still in order and appendable after a restart
+        store.close();
+        ResultStore reopened = new ResultStore(true, dir.toString(), 10, 60_000);
+        reopened.append(request(35, 512, ExecutionMode.SIMULATE), List.of(result("TimeShared", 35)), now + 35);
+        assertEquals(21, reopened.query(new ResultQuery()).getMatched());
+        reopened.close();
+    }
+
+    private long segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".bin")).count();
+        }
+    }
+
+    private static SimulationRequest request(int vms, int ram, ExecutionMode mode) {
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfUsers(1);
+        request.setNumberOfVms(vms);
+        request.setNumberOfCloudlets(100);
+        request.setVmRam(ram);
+        request.setSlaThreshold(10);
+        request.setMode(mode);
+        return request;
+    }
+
+    private static SimulationResult result(String strategy, double makespan) {
+        SimulationResult result = new SimulationResult(strategy, makespan, 1, 1, 0);
+        result.setMakespan(makespan);
+        return result;
+    }
+
+    private static SimulationResult failed(String strategy) {
+        return SimulationResult.partial(strategy, ResultStatus.FAILED, "boom");
+    }
+}
@@ -0,0 +1,54 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class RunningStatisticsTest {
+
+    @Test
+    void matchesTwoPassStatistics() {
+        SplittableRandom random = new SplittableRandom(7);
+        double[] samples = new double[1000];
+        RunningStatistics statistics = new RunningStatistics();
+        for (int i = 0; i < samples.length; i++) {
+            // A large offset is where summing squares loses all precision
+            samples[i] = 1e9 + random.nextGaussian();
+            statistics.add(samples[i]);
+        }
+
+        double mean = 0;
+        for (double sample : samples) {
+            mean += sample / samples.length;
+        }
+        double variance = 0;
+        for (double sample : samples) {
+            variance += (sample - mean) * (sample - mean) / (samples.length - 1);
+        }
+        assertEquals(mean, statistics.getMean(), 1e-6);
+        assertEquals(variance, statistics.getVariance(), 1e-6);
+        assertEquals(1.9623 * Math.sqrt(variance / samples.length), statistics.getHalfWidth(), 1e-4);
+    }
+
+    @Test
+    void criticalValuesApproachTheNormalQuantile() {
+        assertEquals(12.706, RunningStatistics.tCritical(1));
+        assertEquals(2.042, RunningStatistics.tCritical(30));
+        assertEquals(2.021, RunningStatistics.tCritical(40), 1e-3);
+        assertEquals(1.984, RunningStatistics.tCritical(100), 1e-3);
+        assertEquals(1.960, RunningStatistics.tCritical(100_000), 1e-3);
+    }
+
+    @Test
+    void toleranceNeedsTwoSamples() {
+        RunningStatistics statistics = new RunningStatistics();
+        statistics.add(5);
+        assertFalse(statistics.isWithin(0.5));
+        statistics.add(5);
+        assertTrue(statistics.isWithin(0));
+    }
+}
@@ -0,0 +1,208 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.cloudsim.cloudsim.controller.SimulationJobController;
+import com.cloudsim.cloudsim.model.JobState;
+import com.cloudsim.cloudsim.model.JobStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+class SimulationJobServiceTest {
+
+    private final FakeSimulationService simulationService = new FakeSimulationService();
+    // One worker and room for one more job, so a third is turned away
+    private final ThreadPoolExecutor jobExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+    private final SimulationJobService jobService = jobService(1000, 600_000);
+
+    @AfterEach
+    void shutdown() {
+        simulationService.release.release(100);
+        jobExecutor.shutdownNow();
+    }
+
+    @Test
+    void submittedJobsAreAcceptedAndServeTheirResultsOnceDone() throws Exception {
+        MockMvc mvc = mvc(jobService);
+        String body = mvc.perform(post("/api/jobs").contentType(MediaType.APPLICATION_JSON).content(json("Slow")))
+            .andExpect(status().isAccepted())
+            .andReturn().getResponse().getContentAsString();
+        String jobId = body.replaceAll(".*\"jobId\":\"([^\"]+)\".*", "$1");
+
+        awaitState(jobId, JobState.RUNNING);
+        mvc.perform(get("/api/jobs/" + jobId)).andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("RUNNING"));
+        mvc.perform(get("/api/jobs/" + jobId + "/results")).andExpect(status().isAccepted());
+
+        simulationService.release.release();
+        awaitState(jobId, JobState.COMPLETED);
+        mvc.perform(get("/api/jobs/" + jobId + "/results")).andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].strategy").value("Slow"));
+
+        // A job that failed will never have results
+        String failed = jobService.submit(request("Broken")).getJobId();
+        awaitState(failed, JobState.FAILED);
+        mvc.perform(get("/api/jobs/" + failed + "/results")).andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").value("kernel crashed"));
+
+        mvc.perform(post("/api/jobs").contentType(MediaType.APPLICATION_JSON).content("{\"numberOfVms\":-1}"))
+            .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/jobs/no-such-job")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void cancelsQueuedAndRunningJobs() throws Exception {
+        JobStatus running = jobService.submit(request("Slow"));
+        JobStatus queued = jobService.submit(request("Slow"));
+        awaitState(running.getJobId(), JobState.RUNNING);
+        assertEquals(JobState.QUEUED, state(queued.getJobId()));
+
+        mvc(jobService).perform(delete("/api/jobs/" + queued.getJobId())).andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("CANCELLED"));
+        // Its queue slot is given back at once
+        assertTrue(jobExecutor.getQueue().isEmpty());
+
+        assertEquals(JobState.CANCELLED, jobService.cancel(running.getJobId()).orElseThrow().getState());
+        assertTrue(simulationService.interrupted.await(5, TimeUnit.SECONDS));
+        // The worker finishing afterwards does not change the outcome
+        Thread.sleep(50);
+        assertEquals(JobState.CANCELLED, state(running.getJobId()));
+        assertTrue(jobService.cancel("no-such-job").isEmpty());
+    }
+
+    @Test
+    void turnsJobsAwayWhenTheQueueIsFull() throws Exception {
+        String running = jobService.submit(request("Slow")).getJobId();
+        awaitState(running, JobState.RUNNING);
+        jobService.submit(request("Slow"));
+
+        assertThrows(RejectedExecutionException.class, () -> jobService.submit(request("Slow")));
+        mvc(jobService).perform(post("/api/jobs").contentType(MediaType.APPLICATION_JSON).content(json("Slow")))
+            .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void evictsTheOldestFinishedJobsAndExpiredOnes() throws Exception {
+        SimulationJobService retaining = jobService(2, 600_000);
+        String first = runToCompletion(retaining);
+        String second = runToCompletion(retaining);
+        String third = runToCompletion(retaining);
+        // Retired by the worker just after it completes the third job
+        awaitUntil(() -> retaining.find(first).isEmpty());
+        assertTrue(retaining.find(second).isPresent());
+        assertTrue(retaining.find(third).isPresent());
+
+        // Still within the retention period
+        retaining.evictExpired();
+        assertTrue(retaining.find(third).isPresent());
+
+        ReflectionTestUtils.setField(retaining, "retentionMs", 0L);
+        Thread.sleep(5);
+        retaining.evictExpired();
+        assertTrue(retaining.find(second).isEmpty());
+        assertTrue(retaining.find(third).isEmpty());
+    }
+
+    private String runToCompletion(SimulationJobService service) throws Exception {
+        String jobId = service.submit(request("Fast")).getJobId();
+        awaitUntil(() -> service.find(jobId).map(job -> job.getState() == JobState.COMPLETED).orElse(true));
+        return jobId;
+    }
+
+    private SimulationJobService jobService(int maxRetained, long retentionMs) {
+        SimulationJobService service = new SimulationJobService();
+        ReflectionTestUtils.setField(service, "simulationService", simulationService);
+        ReflectionTestUtils.setField(service, "jobExecutor", jobExecutor);
+        ReflectionTestUtils.setField(service, "maxRetained", maxRetained);
+        ReflectionTestUtils.setField(service, "retentionMs", retentionMs);
+        return service;
+    }
+
+    private static MockMvc mvc(SimulationJobService service) {
+        SimulationJobController controller = new SimulationJobController();
+        ReflectionTestUtils.setField(controller, "simulationJobService", service);
+        return MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    private JobState state(String jobId) {
+        return jobService.find(jobId).orElseThrow().getState();
+    }
+
+    private void awaitState(String jobId, JobState expected) throws InterruptedException {
+        awaitUntil(() -> state(jobId) == expected);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    private static SimulationRequest request(String strategy) {
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfVms(1);
+        request.setStrategies(List.of(strategy));
+        return request;
+    }
+
+    private static String json(String strategy) {
+        return "{\"numberOfVms\":1,\"strategies\":[\"" + strategy + "\"]}";
+    }
+
+    /** Fast returns at once, Slow waits for a permit from {@code release}, Broken throws. */
+    private static class FakeSimulationService extends SimulationService {
+        final Semaphore release = new Semaphore(0);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Override
+        public void validate(SimulationRequest request) {
+            if (request.getNumberOfVms() < 0 || request.getStrategies() == null) {
+                throw new IllegalArgumentException("Invalid request");
+            }
+        }
+
+        @Override
+        public List<SimulationResult> runSimulations(SimulationRequest request) {
+            String strategy = request.getStrategies().get(0);
+            if (strategy.equals("Broken")) {
+                throw new IllegalStateException("kernel crashed");
+            }
+            if (strategy.equals("Slow")) {
+                try {
+                    release.acquire();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new CancellationException("Interrupted");
+                }
+            }
+            return List.of(new SimulationResult(strategy, 1, 1, 1, 0));
+        }
+    }
+}
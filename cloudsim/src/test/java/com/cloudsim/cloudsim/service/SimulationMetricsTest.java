@@ -0,0 +1,95 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.engine.SimulationPhase;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.WhatIfBranch;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SimulationMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SimulationEngine engine = new SimulationEngine(1);
+    private final ThreadPoolExecutor jobExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(1));
+
+    @AfterEach
+    void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    @Test
+    void recordsEveryPhaseAndCountsEventsAndCloudletsByStrategy() {
+        SimulationMetrics metrics = new SimulationMetrics();
+        ReflectionTestUtils.setField(metrics, "registry", registry);
+        ReflectionTestUtils.setField(metrics, "simulationEngine", engine);
+        ReflectionTestUtils.setField(metrics, "jobExecutor", jobExecutor);
+        metrics.register();
+
+        // Every strategy's meters exist before it first runs
+        for (String strategy : engine.getPolicyNames()) {
+            assertEquals(0, registry.get("simulation.events").tag("strategy", strategy).counter().count());
+        }
+
+        SimulationResult result = engine.run("TimeShared", request());
+        for (SimulationPhase phase : SimulationPhase.values()) {
+            // Only forks take snapshots
+            long expected = phase == SimulationPhase.SNAPSHOT ? 0 : 1;
+            Timer timer = phaseTimer("TimeShared", phase);
+            assertEquals(expected, timer.count(), phase.name());
+            assertEquals(expected > 0, timer.totalTime(TimeUnit.NANOSECONDS) > 0, phase.name());
+        }
+        assertTrue(registry.get("simulation.events").tag("strategy", "TimeShared").counter().count() > 0);
+        assertEquals(result.getTotalCloudletsProcessed(),
+            registry.get("simulation.cloudlets.completed").tag("strategy", "TimeShared").counter().count());
+        // Nothing is put down to a strategy that did not run
+        assertEquals(0, phaseTimer("RoundRobin", SimulationPhase.RUN).count());
+        assertEquals(0, registry.get("simulation.cloudlets.completed").tag("strategy", "RoundRobin").counter().count());
+
+        WhatIfBranch first = new WhatIfBranch();
+        first.setName("first");
+        WhatIfBranch second = new WhatIfBranch();
+        second.setName("second");
+        engine.fork("RoundRobin", request(), 10, List.of(first, second));
+        assertTrue(phaseTimer("RoundRobin", SimulationPhase.SNAPSHOT).count() > 0);
+        assertTrue(phaseTimer("RoundRobin", SimulationPhase.RUN).count() > 0);
+
+        // Nothing running or waiting once the runs are done
+        assertEquals(0, registry.get("simulation.active").gauge().value());
+        assertEquals(0, registry.get("simulation.queued").gauge().value());
+        assertEquals(0, registry.get("simulation.jobs.active").gauge().value());
+        assertEquals(0, registry.get("simulation.jobs.queued").gauge().value());
+    }
+
+    private Timer phaseTimer(String strategy, SimulationPhase phase) {
+        return registry.get("simulation.phase")
+            .tag("strategy", strategy)
+            .tag("phase", phase.name().toLowerCase())
+            .timer();
+    }
+
+    private static SimulationRequest request() {
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfUsers(1);
+        request.setNumberOfVms(4);
+        request.setNumberOfCloudlets(200);
+        request.setVmRam(512);
+        request.setSlaThreshold(10);
+        return request;
+    }
+}
@@ -0,0 +1,148 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+
+class SimulationServiceTest {
+
+    private static final long TIMEOUT_MS = 2000;
+
+    @TempDir
+    Path dir;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    // Counted down when the run that outlived the timeout is interrupted
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void aStrategyPastTheTimeoutIsReportedNextToItsFinishedSiblings() throws Exception {
+        List<SimulationResult> results = service().runSimulations(request("TimeShared", "RoundRobin"));
+
+        assertEquals(2, results.size());
+        assertEquals("TimeShared", results.get(0).getStrategy());
+        assertEquals(ResultStatus.COMPLETED, results.get(0).getStatus());
+        assertTrue(results.get(0).getMakespan() > 0);
+        assertEquals("RoundRobin", results.get(1).getStrategy());
+        assertEquals(ResultStatus.TIMED_OUT, results.get(1).getStatus());
+        assertEquals("No result within " + TIMEOUT_MS + " ms", results.get(1).getError());
+        // The run that was given up on does not keep its thread
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void aStrategyThatThrowsIsReportedAsFailed() {
+        SimulationService service = service();
+        List<SimulationResult> results = service.runSimulations(request("BestFit", "TimeShared"));
+
+        assertEquals(ResultStatus.FAILED, results.get(0).getStatus());
+        assertEquals("BestFit", results.get(0).getStrategy());
+        assertEquals("kernel crashed", results.get(0).getError());
+        assertEquals(ResultStatus.COMPLETED, results.get(1).getStatus());
+
+        // The single-strategy path reports failures the same way
+        SimulationResult single = service.runSimulation("BestFit", request("BestFit"));
+        assertEquals(ResultStatus.FAILED, single.getStatus());
+    }
+
+    @Test
+    void rejectsMoreVmsThanTheLimitAcrossAllUsers() {
+        SimulationService service = service();
+        SimulationRequest request = request("TimeShared");
+        request.setNumberOfUsers(10);
+        request.setNumberOfVms(10);
+        service.validate(request);
+
+        request.setNumberOfVms(11);
+        assertThrows(IllegalArgumentException.class, () -> service.validate(request));
+        request.setNumberOfVms(-1);
+        assertThrows(IllegalArgumentException.class, () -> service.validate(request));
+        // Large enough to wrap around as an int product
+        request.setNumberOfVms(Integer.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class, () -> service.validate(request));
+    }
+
+    @Test
+    void rejectsVmRamThatHostsCouldNotHold() {
+        SimulationService service = service();
+        SimulationRequest request = request("TimeShared");
+        request.setNumberOfUsers(10);
+        request.setNumberOfVms(10);
+        request.setVmRam(20_000_000);
+        service.validate(request);
+
+        request.setVmRam(-1);
+        assertThrows(IllegalArgumentException.class, () -> service.validate(request));
+        // 100 VMs of 100 TB each is more RAM than a host's size can express
+        request.setVmRam(100_000_000);
+        assertThrows(IllegalArgumentException.class, () -> service.validate(request));
+        ReflectionTestUtils.setField(service, "maxVmRam", 1_048_576);
+        request.setVmRam(2_000_000);
+        assertThrows(IllegalArgumentException.class, () -> service.validate(request));
+    }
+
+    /** A service whose engine hangs on RoundRobin and throws on BestFit; TimeShared runs for real. */
+    private SimulationService service() {
+        SimulationEngine engine = new SimulationEngine(2) {
+            @Override
+            public SimulationResult run(String strategy, SimulationRequest request) {
+                if (strategy.equals("RoundRobin")) {
+                    try {
+                        Thread.sleep(60_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return SimulationResult.partial(strategy, ResultStatus.FAILED, "Interrupted");
+                }
+                if (strategy.equals("BestFit")) {
+                    throw new IllegalStateException("kernel crashed");
+                }
+                return super.run(strategy, request);
+            }
+        };
+        SimulationService service = new SimulationService();
+        ReflectionTestUtils.setField(service, "simulationEngine", engine);
+        ReflectionTestUtils.setField(service, "resultCache", new ResultCache());
+        ReflectionTestUtils.setField(service, "resultStore", new ResultStore(false, dir.toString(), 1000, 60_000));
+        ReflectionTestUtils.setField(service, "strategyExecutor", executor);
+        ReflectionTestUtils.setField(service, "strategyTimeoutMs", TIMEOUT_MS);
+        ReflectionTestUtils.setField(service, "maxReplicas", 10);
+        ReflectionTestUtils.setField(service, "maxUsers", 10);
+        ReflectionTestUtils.setField(service, "maxVms", 100);
+        ReflectionTestUtils.setField(service, "maxVmRam", Integer.MAX_VALUE);
+        return service;
+    }
+
+    private static SimulationRequest request(String... strategies) {
+        SimulationRequest request = new SimulationRequest();
+        request.setNumberOfUsers(1);
+        request.setNumberOfVms(2);
+        request.setNumberOfCloudlets(10);
+        request.setVmRam(512);
+        request.setSlaThreshold(100);
+        request.setStrategies(List.of(strategies));
+        return request;
+    }
+}
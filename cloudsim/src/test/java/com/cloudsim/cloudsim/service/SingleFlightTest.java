@@ -0,0 +1,80 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void identicalConcurrentCallsShareOneComputation() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Integer>> callers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            callers.add(singleFlight.join("scenario", () -> {
+                computations.incrementAndGet();
+                release.await();
+                return 42;
+            }, executor));
+        }
+        release.countDown();
+
+        for (Future<Integer> caller : callers) {
+            assertEquals(42, caller.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+        assertEquals(99, singleFlight.getCoalescedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void computationSurvivesUntilTheLastCallerGivesUp() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Future<Integer> impatient = singleFlight.join("scenario", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return 1;
+        }, executor);
+        Future<Integer> patient = singleFlight.join("scenario", () -> 2, executor);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(TimeoutException.class, () -> impatient.get(10, TimeUnit.MILLISECONDS));
+        assertTrue(impatient.cancel(true));
+        assertEquals(1, interrupted.getCount(), "one caller left, the computation must keep running");
+
+        assertTrue(patient.cancel(true));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+}
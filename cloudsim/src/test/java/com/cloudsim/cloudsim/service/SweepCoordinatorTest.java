@@ -0,0 +1,121 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cloudsim.cloudsim.engine.SimulationEngine;
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.SweepPoint;
+import com.cloudsim.cloudsim.model.SweepRange;
+import com.cloudsim.cloudsim.model.SweepRequest;
+
+class SweepCoordinatorTest {
+
+    @Test
+    void workersGiveTheSameResultsAsThisJvm() throws Exception {
+        SweepRequest request = request();
+        SweepGrid grid = new SweepGrid(request, Long.MAX_VALUE);
+        Map<Long, SweepPoint> points = run(coordinator(2), request, grid, point -> {});
+
+        SimulationEngine engine = new SimulationEngine(1);
+        assertEquals(grid.size(), points.size());
+        for (long index = 0; index < grid.size(); index++) {
+            SimulationRequest expectedRequest = grid.pointAt(index);
+            SimulationResult expected = engine.run(expectedRequest.getStrategies().get(0), expectedRequest);
+            SimulationResult actual = points.get(index).getResult();
+            assertEquals(ResultStatus.COMPLETED, actual.getStatus());
+            assertEquals(expected.getStrategy(), actual.getStrategy());
+            assertEquals(expected.getMakespan(), actual.getMakespan());
+            assertEquals(expected.getCost(), actual.getCost());
+            assertEquals(expected.getP95ResponseTime(), actual.getP95ResponseTime());
+        }
+    }
+
+    @Test
+    void pointsOfAKilledWorkerRunAgain() throws Exception {
+        SweepRequest request = request();
+        SweepGrid grid = new SweepGrid(request, Long.MAX_VALUE);
+        boolean[] killed = {false};
+        Map<Long, SweepPoint> points = run(coordinator(2), request, grid, point -> {
+            if (!killed[0]) {
+                killed[0] = true;
+                ProcessHandle.current().children().findFirst().ifPresent(ProcessHandle::destroyForcibly);
+            }
+        });
+
+        assertEquals(grid.size(), points.size());
+        for (SweepPoint point : points.values()) {
+            assertEquals(ResultStatus.COMPLETED, point.getResult().getStatus(), point.getResult().getError());
+        }
+    }
+
+    @Test
+    void pointsFailOnceNoWorkerStarts() throws Exception {
+        SweepCoordinator coordinator = coordinator(1);
+        ReflectionTestUtils.setField(coordinator, "workerJvmOptions", "-XX:NoSuchOption");
+        SweepRequest request = request();
+        SweepGrid grid = new SweepGrid(request, Long.MAX_VALUE);
+        Map<Long, SweepPoint> points = run(coordinator, request, grid, point -> {});
+
+        assertEquals(grid.size(), points.size());
+        for (SweepPoint point : points.values()) {
+            assertEquals(ResultStatus.FAILED, point.getResult().getStatus());
+            assertNotNull(point.getResult().getError());
+        }
+    }
+
+    private interface Observer {
+        void seen(SweepPoint point);
+    }
+
+    private static Map<Long, SweepPoint> run(SweepCoordinator coordinator, SweepRequest request, SweepGrid grid,
+            Observer observer) throws Exception {
+        Map<Long, SweepPoint> points = new ConcurrentHashMap<>();
+        coordinator.run(request, grid, () -> false, point -> {
+            assertNull(points.put(point.getIndex(), point), "point " + point.getIndex() + " reported twice");
+            observer.seen(point);
+        });
+        assertFalse(Thread.currentThread().isInterrupted());
+        return points;
+    }
+
+    private static SweepCoordinator coordinator(int workers) {
+        SweepCoordinator coordinator = new SweepCoordinator();
+        ReflectionTestUtils.setField(coordinator, "resultCache", new ResultCache());
+        ReflectionTestUtils.setField(coordinator, "workers", workers);
+        ReflectionTestUtils.setField(coordinator, "workerKernels", 2);
+        ReflectionTestUtils.setField(coordinator, "workerJvmOptions", "-Xmx256m -XX:TieredStopAtLevel=1");
+        ReflectionTestUtils.setField(coordinator, "retries", 2);
+        ReflectionTestUtils.setField(coordinator, "eventQueue", "HEAP");
+        ReflectionTestUtils.setField(coordinator, "pointTimeoutMs", 60_000L);
+        return coordinator;
+    }
+
+    // 2 strategies x 8 VM counts x 3 cloudlet counts = 48 points, in shards of 3
+    private static SweepRequest request() {
+        SweepRange vms = new SweepRange();
+        vms.setFrom(1.0);
+        vms.setTo(8.0);
+        vms.setStep(1.0);
+        SweepRange cloudlets = new SweepRange();
+        cloudlets.setValues(new ArrayList<>(List.of(20.0, 50.0, 200.0)));
+
+        SweepRequest request = new SweepRequest();
+        request.setNumberOfVms(vms);
+        request.setNumberOfCloudlets(cloudlets);
+        request.setStrategies(List.of("TimeShared", "RoundRobin"));
+        return request;
+    }
+}
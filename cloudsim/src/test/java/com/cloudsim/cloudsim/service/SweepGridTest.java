@@ -0,0 +1,103 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SweepRange;
+import com.cloudsim.cloudsim.model.SweepRequest;
+
+class SweepGridTest {
+
+    @Test
+    void decodesPointsWithTheStrategyVaryingFastestAndUsersSlowest() {
+        SweepRequest request = new SweepRequest();
+        request.setNumberOfUsers(values(1, 2));
+        request.setNumberOfVms(values(4, 8));
+        request.setNumberOfCloudlets(values(100));
+        request.setVmRam(values(512, 1024));
+        request.setSlaThreshold(values(5, 10));
+        request.setStrategies(List.of("TimeShared", "BestFit"));
+        SweepGrid grid = new SweepGrid(request, 1000);
+        assertEquals(2 * 2 * 2 * 2 * 2, grid.size());
+        assertEquals(2, grid.getMaxUsers());
+
+        List<String> points = new ArrayList<>();
+        for (long i = 0; i < grid.size(); i++) {
+            points.add(describe(grid.pointAt(i)));
+        }
+        assertEquals("1/4/100/512/5.0/TimeShared", points.get(0));
+        assertEquals("1/4/100/512/5.0/BestFit", points.get(1));
+        assertEquals("1/4/100/512/10.0/TimeShared", points.get(2));
+        assertEquals("1/4/100/1024/5.0/TimeShared", points.get(4));
+        assertEquals("1/8/100/512/5.0/TimeShared", points.get(8));
+        assertEquals("2/4/100/512/5.0/TimeShared", points.get(16));
+        assertEquals("2/8/100/1024/10.0/BestFit", points.get(31));
+        assertEquals(32, points.stream().distinct().count());
+    }
+
+    @Test
+    void fillsInParametersTheSweepLeavesOut() {
+        SweepRequest request = new SweepRequest();
+        request.setStrategies(List.of("TimeShared"));
+        SweepGrid grid = new SweepGrid(request, 1);
+        assertEquals(1, grid.size());
+        assertEquals("1/1/10/1024/10.0/TimeShared", describe(grid.pointAt(0)));
+    }
+
+    @Test
+    void enforcesThePointLimit() {
+        SweepRequest request = new SweepRequest();
+        request.setNumberOfVms(range(1, 100));
+        request.setNumberOfCloudlets(range(1, 100));
+        request.setStrategies(List.of("TimeShared", "BestFit"));
+        assertEquals(20_000, new SweepGrid(request, 20_000).size());
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(request, 19_999));
+
+        request.setStrategies(List.of());
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(request, 20_000));
+    }
+
+    @Test
+    void rejectsValuesAPointCannotTake() {
+        assertRejected(grid -> grid.setNumberOfVms(values(-1, 2)));
+        assertRejected(grid -> grid.setNumberOfCloudlets(values(10.5)));
+        assertRejected(grid -> grid.setVmRam(values(3e9)));
+        assertRejected(grid -> grid.setNumberOfUsers(range(-2, 2)));
+        assertRejected(grid -> grid.setSlaThreshold(values(-0.5)));
+        // An empty range
+        assertRejected(grid -> grid.setNumberOfVms(range(5, 1)));
+    }
+
+    private static void assertRejected(Consumer<SweepRequest> change) {
+        SweepRequest request = new SweepRequest();
+        request.setStrategies(List.of("TimeShared"));
+        change.accept(request);
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(request, 1000));
+    }
+
+    private static String describe(SimulationRequest point) {
+        return point.getNumberOfUsers() + "/" + point.getNumberOfVms() + "/" + point.getNumberOfCloudlets() + "/"
+            + point.getVmRam() + "/" + point.getSlaThreshold() + "/" + point.getStrategies().get(0);
+    }
+
+    private static SweepRange values(double... values) {
+        SweepRange range = new SweepRange();
+        range.setValues(Arrays.stream(values).boxed().toList());
+        return range;
+    }
+
+    private static SweepRange range(double from, double to) {
+        SweepRange range = new SweepRange();
+        range.setFrom(from);
+        range.setTo(to);
+        return range;
+    }
+}
@@ -0,0 +1,158 @@
+package com.cloudsim.cloudsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cloudsim.cloudsim.model.ResultStatus;
+import com.cloudsim.cloudsim.model.SimulationRequest;
+import com.cloudsim.cloudsim.model.SimulationResult;
+import com.cloudsim.cloudsim.model.SweepPoint;
+import com.cloudsim.cloudsim.model.SweepRange;
+import com.cloudsim.cloudsim.model.SweepRequest;
+
+class SweepServiceTest {
+
+    private static final int PARALLELISM = 4;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger interrupted = new AtomicInteger();
+    // Points with more VMs than this run until they are interrupted
+    private volatile int blockAbove = Integer.MAX_VALUE;
+    private final SweepService sweepService = sweepService();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void streamsEveryPointOfTheGrid() throws IOException {
+        SweepService.Sweep sweep = sweepService.create(request(1, 12));
+        List<SweepPoint> points = new CopyOnWriteArrayList<>();
+        sweepService.stream(sweep, points::add);
+
+        assertEquals(12, sweep.getSize());
+        assertEquals(12, points.size());
+        assertEquals(12, points.stream().mapToLong(SweepPoint::getIndex).distinct().count());
+        points.forEach(point -> assertEquals(ResultStatus.COMPLETED, point.getResult().getStatus()));
+        // Finished sweeps are forgotten
+        assertFalse(sweepService.cancel(sweep.getId()));
+    }
+
+    @Test
+    void stopsACancelledSweepAndInterruptsItsRunningPoints() throws Exception {
+        blockAbove = 3;
+        SweepService.Sweep sweep = sweepService.create(request(1, 1000));
+        List<SweepPoint> points = new CopyOnWriteArrayList<>();
+        sweepService.stream(sweep, point -> {
+            points.add(point);
+            if (points.size() == 3) {
+                assertTrue(sweepService.cancel(sweep.getId()));
+            }
+        });
+
+        assertTrue(sweep.isCancelled());
+        // Nothing past the points in flight was started, and those were interrupted
+        assertEquals(3, points.size());
+        assertTrue(started.get() <= 3 + PARALLELISM);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(started.get() - 3, interrupted.get());
+        assertTrue(interrupted.get() > 0);
+        assertFalse(sweepService.cancel(sweep.getId()));
+    }
+
+    @Test
+    void stopsWhenTheClientGoesAway() throws Exception {
+        blockAbove = 1;
+        SweepService.Sweep sweep = sweepService.create(request(1, 1000));
+        assertThrows(IOException.class, () -> sweepService.stream(sweep, point -> {
+            throw new IOException("Broken pipe");
+        }));
+        assertTrue(started.get() <= PARALLELISM);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(started.get() - 1, interrupted.get());
+        assertFalse(sweepService.cancel(sweep.getId()));
+    }
+
+    @Test
+    void rejectsGridsWithMoreUsersVmsOrRamThanASimulationMayHave() {
+        assertThrows(IllegalArgumentException.class, () -> sweepService.create(request(1000, 1)));
+        // 100 users of 2000 VMs each is over the 100000 VMs in total
+        SweepRequest crowded = request(100, 1);
+        crowded.setNumberOfVms(SweepRange.of(2000));
+        assertThrows(IllegalArgumentException.class, () -> sweepService.create(crowded));
+        SweepRequest hungry = request(1, 1);
+        hungry.setVmRam(SweepRange.of(2_000_000));
+        assertThrows(IllegalArgumentException.class, () -> sweepService.create(hungry));
+        SweepRequest unknown = request(1, 1);
+        unknown.setStrategies(List.of("NoSuchStrategy"));
+        assertThrows(IllegalArgumentException.class, () -> sweepService.create(unknown));
+    }
+
+    private SweepService sweepService() {
+        SimulationService simulationService = new SimulationService() {
+            @Override
+            public void validateStrategy(String strategy) {
+                if (!strategy.equals("TimeShared")) {
+                    throw new IllegalArgumentException("Unknown strategy: " + strategy);
+                }
+            }
+
+            @Override
+            public SimulationResult runSimulation(String strategy, SimulationRequest request) {
+                started.incrementAndGet();
+                try {
+                    Thread.sleep(request.getNumberOfVms() > blockAbove ? 60_000 : 5);
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                    return SimulationResult.partial(strategy, ResultStatus.FAILED, "Interrupted");
+                }
+                SimulationResult result = new SimulationResult(strategy, 1, request.getNumberOfVms(), 1, 0);
+                result.setStatus(ResultStatus.COMPLETED);
+                return result;
+            }
+        };
+        ReflectionTestUtils.setField(simulationService, "maxUsers", 100);
+        ReflectionTestUtils.setField(simulationService, "maxVms", 100_000);
+        ReflectionTestUtils.setField(simulationService, "maxVmRam", 1_048_576);
+
+        SweepService service = new SweepService();
+        ReflectionTestUtils.setField(service, "simulationService", simulationService);
+        ReflectionTestUtils.setField(service, "sweepCoordinator", new SweepCoordinator());
+        ReflectionTestUtils.setField(service, "sweepExecutor", executor);
+        ReflectionTestUtils.setField(service, "parallelism", PARALLELISM);
+        ReflectionTestUtils.setField(service, "maxPoints", 10_000L);
+        return service;
+    }
+
+    private static SweepRequest request(int users, int vms) {
+        SweepRange userRange = new SweepRange();
+        userRange.setFrom(1.0);
+        userRange.setTo((double) users);
+        SweepRange vmRange = new SweepRange();
+        vmRange.setFrom(1.0);
+        vmRange.setTo((double) vms);
+        SweepRequest request = new SweepRequest();
+        request.setNumberOfUsers(userRange);
+        request.setNumberOfVms(vmRange);
+        request.setStrategies(List.of("TimeShared"));
+        return request;
+    }
+}